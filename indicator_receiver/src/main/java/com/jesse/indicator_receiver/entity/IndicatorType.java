@@ -16,5 +16,11 @@ public enum IndicatorType
     NetWorkTraffic,
 
     /** QPS 指标类型。*/
-    QPSResult
+    QPSResult,
+
+    /** 累计计数器速率指标类型。*/
+    CounterRates,
+
+    /** 语句摘要 Top-N 指标类型。*/
+    StatementDigestTopN
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.jesse.indicator_receiver.response_body;
+
+import com.jesse.indicator_receiver.response_body.base.ResponseBase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/** 数据库累计计数器速率监控数据响应。*/
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(
+    description = "数据库累计计数器（Com_select、Slow_queries 等）速率监控数据",
+    requiredProperties = {
+        "rates",
+        "timeDiffMs",
+        "resetDetected",
+        "error"
+    }
+)
+public class CounterRates extends ResponseBase<CounterRates>
+{
+    @Schema(description = "各计数器的速率，键为全局状态名（如 Com_select）")
+    private Map<String, CounterRate> rates;
+
+    @Schema(description = "与上一次快照的时间间隔（单位：毫秒）")
+    private long timeDiffMs;
+
+    @Schema(description = "服务器是否重启过（所有计数器被重置）？")
+    @lombok.Builder.Default
+    private boolean resetDetected = false;
+
+    @Schema(description = "在统计速率的过程中出错？")
+    @lombok.Builder.Default
+    private boolean error = false;
+
+    /** 单个计数器的速率。*/
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @Schema(description = "单个累计计数器的速率")
+    public static class CounterRate
+    {
+        @Schema(description = "每秒速率")
+        private BigDecimal perSecond;
+
+        @Schema(description = "计数器当前值")
+        private long current;
+
+        @Schema(description = "与上一次快照的差值")
+        private long diff;
+
+        @Schema(description = "本计数器是否被单独重置（如 FLUSH STATUS）？")
+        private boolean resetDetected;
+    }
+}
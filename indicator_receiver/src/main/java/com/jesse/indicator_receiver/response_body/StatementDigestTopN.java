@@ -0,0 +1,81 @@
+package com.jesse.indicator_receiver.response_body;
+
+import com.jesse.indicator_receiver.response_body.base.ResponseBase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/** 语句摘要 Top-N 监控数据响应（只包含本周期内发生变化的摘要）。*/
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(
+    description = "本周期内增长最多的语句摘要",
+    requiredProperties = {
+        "intervalMs",
+        "changedDigests",
+        "trackedDigests",
+        "topByLatency",
+        "topByRowsExamined",
+        "topByExecutions",
+        "error"
+    }
+)
+public class StatementDigestTopN extends ResponseBase<StatementDigestTopN>
+{
+    @Schema(description = "与上一次读取的时间间隔（单位：毫秒）")
+    private long intervalMs;
+
+    @Schema(description = "本周期内发生变化的摘要数")
+    private int changedDigests;
+
+    @Schema(description = "内存中跟踪的摘要总数")
+    private int trackedDigests;
+
+    @Schema(description = "按延迟增量排序的 Top-N")
+    private List<DigestDelta> topByLatency;
+
+    @Schema(description = "按扫描行数增量排序的 Top-N")
+    private List<DigestDelta> topByRowsExamined;
+
+    @Schema(description = "按执行次数增量排序的 Top-N")
+    private List<DigestDelta> topByExecutions;
+
+    @Schema(description = "在统计的过程中出错？")
+    @lombok.Builder.Default
+    private boolean error = false;
+
+    /** 单条语句摘要在本周期内的增量。*/
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @Schema(description = "单条语句摘要在本周期内的增量")
+    public static class DigestDelta
+    {
+        @Schema(description = "所属数据库（可能为 null）")
+        private String schemaName;
+
+        @Schema(description = "摘要哈希")
+        private String digest;
+
+        @Schema(description = "摘要文本（可能被截断）")
+        private String digestText;
+
+        @Schema(description = "执行次数增量")
+        private long executions;
+
+        @Schema(description = "总延迟增量（单位：毫秒）")
+        private double latencyMs;
+
+        @Schema(description = "平均每次执行的延迟（单位：毫秒）")
+        private double avgLatencyMs;
+
+        @Schema(description = "扫描行数增量")
+        private long rowsExamined;
+    }
+}
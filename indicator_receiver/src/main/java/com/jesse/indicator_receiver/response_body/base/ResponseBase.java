@@ -16,6 +16,8 @@ import lombok.*;
     @JsonSubTypes.Type(value = DatabaseSize.class,    name = "databaseSize"),
     @JsonSubTypes.Type(value = InnodbBufferCacheHitRate.class, name = "innodbBufferCacheHitRate"),
     @JsonSubTypes.Type(value = NetWorkTraffic.class, name = "networkTraffic"),
-    @JsonSubTypes.Type(value = QPSResult.class,      name = "qps")
+    @JsonSubTypes.Type(value = QPSResult.class,      name = "qps"),
+    @JsonSubTypes.Type(value = CounterRates.class,   name = "counterRates"),
+    @JsonSubTypes.Type(value = StatementDigestTopN.class, name = "statementDigestTopN")
 })
 public abstract class ResponseBase<T extends ResponseBase<T>> {}
\ No newline at end of file
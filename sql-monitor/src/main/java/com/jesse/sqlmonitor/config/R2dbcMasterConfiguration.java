@@ -1,6 +1,8 @@
 package com.jesse.sqlmonitor.config;
 
+import com.jesse.sqlmonitor.config.bulkhead.TimedConnectionFactory;
 import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.spi.*;
@@ -17,7 +19,16 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
-/** Spring Data R2DBC 主数据源配置类。*/
+/**
+ * Spring Data R2DBC 主数据源配置类。
+ *
+ * <p>
+ *     主数据库按用途分成两个隔舱，各自拥有独立的连接池：
+ *     采样隔舱（R2dbcMasterDatabaseClient）只服务后台采样器的轻量查询，
+ *     诊断隔舱（R2dbcMasterDiagnosticDatabaseClient）服务按需发起的重查询，
+ *     几个并发的库表大小请求占满诊断连接池，也不会让 QPS 采样等待 maxAcquireTime。
+ * </p>
+ */
 @Configuration
 @RequiredArgsConstructor
 public class R2dbcMasterConfiguration
@@ -25,10 +36,15 @@ public class R2dbcMasterConfiguration
     /** 来自配置文件的 R2DBC 主数据库属性类。*/
     private final R2dbcMasterProperties masterProperties;
 
-    /** R2DBC 连接工厂配置。*/
-    @Primary
-    @Bean(name = "R2dbcMasterConnectionFactory")
-    public @NotNull ConnectionFactory connectionFactory()
+    /** 指标注册表（记录每个隔舱获取连接的耗时）。*/
+    private final MeterRegistry meterRegistry;
+
+    /** 按隔舱配置构建一个带获取耗时统计的连接池。*/
+    private @NotNull ConnectionFactory
+    buildConnectionPool(
+        @NotNull String bulkheadName,
+        @NotNull R2dbcMasterProperties.Bulkhead bulkhead
+    )
     {
         final String coonectionURL
             = String.format(
@@ -49,20 +65,38 @@ public class R2dbcMasterConfiguration
         // 配置连接池
         ConnectionPoolConfiguration poolConfiguration
             = ConnectionPoolConfiguration.builder()
+                .name("master-" + bulkheadName)          // 连接池名（区分隔舱）
                 .connectionFactory(connectionFactory)
                 .validationQuery("SELECT 1")             // 连接验证查询语句
                 .validationDepth(ValidationDepth.REMOTE) // 连接验证深度（远程）
                 .initialSize(0)                          // 初始连接池大小
-                .maxSize(15)                             // 最大连接池大小
+                .maxSize(bulkhead.getMaxSize())          // 最大连接池大小
                 .backgroundEvictionInterval(Duration.ofMinutes(1L)) // 定期验证限制连接间隔
                 .maxIdleTime(Duration.ofMinutes(30))                // 连接最大闲置时间
                 .maxLifeTime(Duration.ofHours(1L))                  // 连接最大存活时间
-                .maxAcquireTime(Duration.ofSeconds(30L))            // 获取连接期限时间
+                .maxAcquireTime(bulkhead.getMaxAcquireTime())       // 获取连接期限时间
                 .acquireRetry(3)                      // 获取连接失败最多重试次数
                 .maxCreateConnectionTime(Duration.ofSeconds(10L))   // 建立单个连接期限时间
                 .build();
 
-        return new ConnectionPool(poolConfiguration);
+        return
+        new TimedConnectionFactory(
+            new ConnectionPool(poolConfiguration),
+            bulkheadName, this.meterRegistry
+        );
+    }
+
+    /** R2DBC 连接工厂配置（采样隔舱）。*/
+    @Primary
+    @Bean(name = "R2dbcMasterConnectionFactory")
+    public @NotNull ConnectionFactory connectionFactory() {
+        return this.buildConnectionPool("sampling", this.masterProperties.getSampling());
+    }
+
+    /** R2DBC 连接工厂配置（诊断隔舱）。*/
+    @Bean(name = "R2dbcMasterDiagnosticConnectionFactory")
+    public @NotNull ConnectionFactory diagnosticConnectionFactory() {
+        return this.buildConnectionPool("diagnostic", this.masterProperties.getDiagnostic());
     }
 
     @Primary
@@ -79,4 +113,18 @@ public class R2dbcMasterConfiguration
             .connectionFactory(connectionFactory)
             .build();
     }
-}
\ No newline at end of file
+
+    @Bean("R2dbcMasterDiagnosticDatabaseClient")
+    public @NotNull DatabaseClient
+    diagnosticDatabaseClient(
+        @Autowired
+        @Qualifier("R2dbcMasterDiagnosticConnectionFactory")
+        final ConnectionFactory connectionFactory
+    )
+    {
+        return
+        DatabaseClient.builder()
+            .connectionFactory(connectionFactory)
+            .build();
+    }
+}
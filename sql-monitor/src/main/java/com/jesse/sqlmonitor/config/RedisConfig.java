@@ -156,6 +156,25 @@ public class RedisConfig
         ReactiveRedisTemplate<>(factory, context);
     }
 
+    /** 值为原始字节的响应式 Redis 模板（存放二进制编码的指标缓存）。*/
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]>
+    redisBlobTemplate(ReactiveRedisConnectionFactory factory)
+    {
+        RedisSerializer<String> keySerializer = new StringRedisSerializer();
+
+        RedisSerializationContext<String, byte[]> context
+            = RedisSerializationContext.<String, byte[]>
+                newSerializationContext(keySerializer)
+                    .value(RedisSerializer.byteArray())
+                    .hashKey(keySerializer)
+                    .hashValue(RedisSerializer.byteArray())
+                    .build();
+
+        return new
+        ReactiveRedisTemplate<>(factory, context);
+    }
+
     /** Redisson 响应式客户端实例配置。*/
     @Bean
     @Primary
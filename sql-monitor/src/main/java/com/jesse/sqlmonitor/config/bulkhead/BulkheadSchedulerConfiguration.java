@@ -0,0 +1,46 @@
+package com.jesse.sqlmonitor.config.bulkhead;
+
+import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 与主数据库隔舱配套的调度器配置，
+ * 采样路径与诊断路径不再共用 {@link Schedulers#boundedElastic()}。
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BulkheadSchedulerConfiguration
+{
+    /** 每个调度器允许排队的任务数。*/
+    private static final int QUEUED_TASK_CAP = 1024;
+
+    /** 来自配置文件的 R2DBC 主数据库属性类。*/
+    private final R2dbcMasterProperties masterProperties;
+
+    /** 采样隔舱调度器。*/
+    @Bean(name = "SamplingScheduler", destroyMethod = "dispose")
+    public @NotNull Scheduler samplingScheduler()
+    {
+        return
+        Schedulers.newBoundedElastic(
+            this.masterProperties.getSampling().getSchedulerThreads(),
+            QUEUED_TASK_CAP, "master-sampling"
+        );
+    }
+
+    /** 诊断隔舱调度器。*/
+    @Bean(name = "DiagnosticScheduler", destroyMethod = "dispose")
+    public @NotNull Scheduler diagnosticScheduler()
+    {
+        return
+        Schedulers.newBoundedElastic(
+            this.masterProperties.getDiagnostic().getSchedulerThreads(),
+            QUEUED_TASK_CAP, "master-diagnostic"
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.jesse.sqlmonitor.config.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 记录从连接池获取连接耗时的连接工厂装饰器，
+ * 按隔舱打上 bulkhead 标签，区分获取成功与失败（比如超过 maxAcquireTime）。
+ *
+ * <p>实现了 {@link Wrapped}，Spring Boot 仍然能找到被包装的连接池并注册它的 r2dbc.pool.* 指标。</p>
+ */
+public class TimedConnectionFactory
+    implements ConnectionFactory, Wrapped<ConnectionFactory>
+{
+    /** 指标名。*/
+    public static final String ACQUIRE_METRIC = "sqlmonitor.master.pool.acquire";
+
+    /** 被包装的连接池。*/
+    private final ConnectionFactory delegate;
+
+    /** 获取成功的耗时。*/
+    private final Timer acquireSuccess;
+
+    /** 获取失败的耗时。*/
+    private final Timer acquireFailure;
+
+    public TimedConnectionFactory(
+        @NotNull ConnectionFactory delegate,
+        @NotNull String            bulkheadName,
+        @NotNull MeterRegistry     meterRegistry
+    )
+    {
+        this.delegate       = delegate;
+        this.acquireSuccess = buildTimer(bulkheadName, "success", meterRegistry);
+        this.acquireFailure = buildTimer(bulkheadName, "error", meterRegistry);
+    }
+
+    private static @NotNull Timer
+    buildTimer(String bulkheadName, String outcome, MeterRegistry meterRegistry)
+    {
+        return
+        Timer.builder(ACQUIRE_METRIC)
+             .description("Time spent waiting for a master database connection")
+             .tag("bulkhead", bulkheadName)
+             .tag("outcome", outcome)
+             .register(meterRegistry);
+    }
+
+    @Override
+    public @NotNull Publisher<? extends Connection> create()
+    {
+        return
+        Mono.defer(() -> {
+            final long start = System.nanoTime();
+
+            return
+            Mono.<Connection>from(this.delegate.create())
+                .doOnSuccess((connection) ->
+                    this.acquireSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .doOnError((exception) ->
+                    this.acquireFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public @NotNull ConnectionFactoryMetadata getMetadata() {
+        return this.delegate.getMetadata();
+    }
+
+    @Override
+    public @NotNull ConnectionFactory unwrap() {
+        return this.delegate;
+    }
+}
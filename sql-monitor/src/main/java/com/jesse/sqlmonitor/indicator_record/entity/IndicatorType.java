@@ -7,5 +7,7 @@ public enum IndicatorType
     DatabaseSize,
     InnodbBufferCacheHitRate,
     NetWorkTraffic,
-    QPSResult
+    QPSResult,
+    CounterRates,
+    StatementDigestTopN
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
 import com.jesse.sqlmonitor.response_body.base.ResponseBase;
 import com.jesse.sqlmonitor.response_body.qps_statistics.ExtremeQPS;
 import com.jesse.sqlmonitor.response_body.qps_statistics.StandingDeviationQPS;
+import com.jesse.sqlmonitor.utils.RateMath;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -446,14 +447,15 @@ public class MonitorLogRepositoryImpl implements MonitorLogRepository
                 BigDecimal averageReceive
                     = (BigDecimal) averageTraffic.get("average_receive");
 
+                // 虚拟列中统一是 B/s，对外仍然以 KB/s 返回
                 return
                 AverageNetworkTraffic.builder()
                     .averageSent(
                         (Objects.isNull(averageSent))
-                            ? -1.00 : averageSent.doubleValue())
+                            ? -1.00 : RateMath.convertUnit(averageSent.doubleValue(), SizeUnit.B, SizeUnit.KB))
                     .averageReceived(
                         (Objects.isNull(averageReceive))
-                            ? -1.00 : averageReceive.doubleValue())
+                            ? -1.00 : RateMath.convertUnit(averageReceive.doubleValue(), SizeUnit.B, SizeUnit.KB))
                     .unit(SizeUnit.KB)
                     .build();
             });
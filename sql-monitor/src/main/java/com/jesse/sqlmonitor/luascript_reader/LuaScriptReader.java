@@ -22,6 +22,18 @@ public interface LuaScriptReader
     @NotNull Mono<RedisScript<LuaOperatorResult>>
     read(LuaScriptOperatorType operatorType, String luaScriptName);
 
+    /**
+     * 读取 Lua 脚本并通过 SCRIPT LOAD 预先载入 Redis 服务器，
+     * 之后的 EVALSHA 调用不必再因为 NOSCRIPT 回退到 EVAL 传输整个脚本。
+     *
+     * @param operatorType  Lua 脚本类型
+     * @param luaScriptName Lua 脚本名
+     *
+     * @return Redis 服务器返回的脚本 SHA1 摘要
+     */
+    @NotNull Mono<String>
+    preload(LuaScriptOperatorType operatorType, String luaScriptName);
+
     /**
      * 清理所有缓存的 Lua 脚本。
      *
@@ -4,13 +4,14 @@ import com.jesse.sqlmonitor.luascript_reader.LuaScriptReader;
 import com.jesse.sqlmonitor.luascript_reader.impl.exception.LuaScriptLoadFailed;
 import com.jesse.sqlmonitor.luascript_reader.impl.exception.LuaScriptNotFound;
 import com.jesse.sqlmonitor.luascript_reader.impl.exception.LuaScriptSecurityException;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
@@ -18,6 +19,7 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -32,13 +34,17 @@ import static java.lang.String.format;
 /** Redis Lua 脚本读取器（实现脚本实例缓存功能）。*/
 @Slf4j
 @Component
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor
 final public class LuaScriptReaderImpl implements LuaScriptReader
 {
     /** 本项目 Lua 脚本根目录（从配置中读取）。*/
     @Value("${app.lua-root-classpath:lua-script}")
     private String LUA_SCRIPT_ROOT_CLASSPATH;
 
+    /** Redis 响应式连接工厂（预载脚本时使用）。*/
+    private final
+    ReactiveRedisConnectionFactory redisConnectionFactory;
+
     /** 合法的 Lua 脚本名构成。*/
     private static final
     Pattern LEGAL_SCRIPT_NAME = Pattern.compile("[a-zA-Z0-9_.-]+");
@@ -218,6 +224,39 @@ final public class LuaScriptReaderImpl implements LuaScriptReader
         this.getScriptFromCache(operatorType, luaScriptName);
     }
 
+    @Override
+    public @NotNull Mono<String>
+    preload(LuaScriptOperatorType operatorType, String luaScriptName)
+    {
+        return
+        this.read(operatorType, luaScriptName)
+            .flatMap((script) ->
+                Mono.usingWhen(
+                    Mono.fromSupplier(this.redisConnectionFactory::getReactiveConnection),
+                    (connection) ->
+                        connection.scriptingCommands()
+                            .scriptLoad(
+                                ByteBuffer.wrap(
+                                    script.getScriptAsString().getBytes(StandardCharsets.UTF_8)
+                                )
+                            ),
+                    ReactiveRedisConnection::closeLater
+                )
+                .doOnNext((sha1) -> {
+                    // 服务器计算出的摘要与 DefaultRedisScript 的不一致时，EVALSHA 总会回退到 EVAL
+                    if (!sha1.equals(script.getSha1()))
+                    {
+                        log.warn(
+                            "Preloaded lua script {} sha1 mismatch! (server: {}, local: {})",
+                            luaScriptName, sha1, script.getSha1()
+                        );
+                    }
+                    else {
+                        log.info("Lua script {} preloaded, sha1: {}", luaScriptName, sha1);
+                    }
+                }));
+    }
+
     /** 清理所有缓存的 Lua 脚本。*/
     @Override
     public Mono<Integer> cleanCache()
@@ -2,12 +2,14 @@ package com.jesse.sqlmonitor.monitor;
 
 import com.jesse.sqlmonitor.response_body.*;
 import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
 import com.jesse.sqlmonitor.constants.QueryOrder;
 import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
 import com.jesse.sqlmonitor.response_body.QPSResult;
 import org.jetbrains.annotations.NotNull;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -37,4 +39,20 @@ public interface MySQLIndicatorsRepository
 
     /** 查询 InnoDB 缓存命中率。*/
     Mono<InnodbBufferCacheHitRate> getInnodbBufferCacheHitRate();
+
+    /** 查询配置中各累计计数器的每秒速率。*/
+    Mono<CounterRates> getCounterRates();
+
+    /** 查询最近一个周期内增长最多的语句摘要。*/
+    Mono<StatementDigestTopN> getStatementDigestTopN();
+
+    /** 一次读取所有实时指标（QPS、网络流量、连接使用率、InnoDB 缓存命中率，允许部分缺失）。*/
+    Mono<LiveIndicators> getLiveIndicators(SizeUnit unit);
+
+    /** 查询后台采样器当前的状态（实际采样间隔等）。*/
+    Mono<SamplingState> getSamplingState();
+
+    /** 查询本节点内存中某个指标最近 window 时间内的历史数据。*/
+    Mono<IndicatorHistorySeries>
+    getIndicatorHistory(IndicatorKeyNames keyNames, Duration window);
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.jesse.sqlmonitor.monitor.cacher;
+
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * {@link IndicatorCacher#getIndicatorCaches(java.util.List)} 批量读取缓存时的单项请求与结果，
+ * 没有读到时 indicator 为 null。
+ *
+ * @param keyNames  指标数据键名
+ * @param type      指标数据实际类型
+ * @param indicator 读取到的指标数据（可以为 null）
+ * @param stale     读取到的指标数据是否已经陈旧（超过软有效期）
+ */
+public record CachedIndicator<T extends ResponseBase<T>>(
+    @NotNull  IndicatorKeyNames keyNames,
+    @NotNull  Class<T>          type,
+    @Nullable T                 indicator,
+    boolean stale
+)
+{
+    /** 构造一项还没有读取的请求。*/
+    @Contract("_, _ -> new")
+    public static <T extends ResponseBase<T>>
+    @NotNull CachedIndicator<T>
+    of(@NotNull IndicatorKeyNames keyNames, @NotNull Class<T> type) {
+        return new CachedIndicator<>(keyNames, type, null, false);
+    }
+
+    /** 读取到了数据。*/
+    @Contract("_, _ -> new")
+    public @NotNull CachedIndicator<T>
+    found(@NotNull T indicator, boolean stale) {
+        return new CachedIndicator<>(this.keyNames, this.type, indicator, stale);
+    }
+
+    /** 标记为陈旧（没有读到数据时保持不变）。*/
+    @Contract(" -> new")
+    public @NotNull CachedIndicator<T> asStale() {
+        return new CachedIndicator<>(this.keyNames, this.type, this.indicator, this.isPresent());
+    }
+
+    /** 是否读取到了数据？*/
+    public boolean isPresent() {
+        return Objects.nonNull(this.indicator);
+    }
+}
@@ -6,6 +6,8 @@ import com.jesse.sqlmonitor.response_body.base.ResponseBase;
 import org.jetbrains.annotations.NotNull;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface IndicatorCacher
 {
     /**
@@ -25,6 +27,38 @@ public interface IndicatorCacher
         Class<T> type
     );
 
+    /**
+     * 在一次脚本调用中原子地缓存同一轮采样的所有指标数据，并记录本轮的版本号，
+     * 读取方不会看到新旧两轮数据混在一起的情况，同时也把各指标数据发送到消息队列。
+     * 写入失败只记录日志，不会向下游发出错误。
+     *
+     * @param tickVersion 本轮版本号（采样快照的时间戳）
+     * @param indicators  本轮计算出的所有指标数据
+     */
+    @NotNull Mono<Void>
+    cacheTickIndicators(long tickVersion, @NotNull List<TickIndicator<?>> indicators);
+
+    /**
+     * 读取缓存中最近一轮采样的版本号，
+     * 同一轮写入的所有指标缓存都对应这一个版本号。
+     *
+     * @return 版本号，缓存中没有或者读取失败时返回 {@link Mono#empty()}
+     */
+    @NotNull Mono<Long> getCacheTickVersion();
+
+    /**
+     * 在一次 Redis 往返中只读地批量读取多个指标的缓存（不加锁，也不会触发指标计算）：
+     * 本地缓存命中的不访问 Redis，其余的在 blob 编码时为一次 MGET，
+     * hash 编码时各个 HGETALL 与新鲜标记的 MGET 在同一个连接上以流水线方式发出。
+     * Redis 不健康或者读取失败时，对应的指标视为缺失。
+     *
+     * @param requests 要读取的指标（由 {@link CachedIndicator#of(IndicatorKeyNames, Class)} 构造）
+     *
+     * @return 与 requests 顺序一致的读取结果，没有读到的指标 {@link CachedIndicator#isPresent()} 为 false
+     */
+    @NotNull Mono<List<CachedIndicator<?>>>
+    getIndicatorCaches(@NotNull List<CachedIndicator<?>> requests);
+
     /**
      * 尝试从 Redis 缓存中读取指标数据，
      * 如果读取不到则加锁去数据库获取并读取指标数据，并更新至缓存。
@@ -52,4 +86,32 @@ public interface IndicatorCacher
         Mono<T>  indicatorSupplier,
         Class<T> indicatorType
     );
+
+    /**
+     * 只读地从 Redis 缓存中读取指标数据（不加锁，也不会触发指标计算），
+     * Redis 不健康或者缓存中没有数据时，返回 fallback 的结果。
+     *
+     * @param keyNames      指标数据键名
+     * @param fallback      缓存读不到时的兜底数据（比如后台采样器在内存中保留的最新指标）
+     * @param indicatorType 指标数据类型，用于安全转换
+     *
+     * @return 最终读取到的指标类型
+     */
+    <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    getIndicatorCacheOrElse(
+        @NotNull IndicatorKeyNames keyNames,
+        Mono<T>  fallback,
+        Class<T> indicatorType
+    );
+
+    /**
+     * 删除指定指标在 Redis 中的缓存及其新鲜标记，以及本节点上的本地缓存与预渲染的响应
+     *（比如它依赖的系统变量发生了变化），
+     * 删除失败只记录日志，不会向下游发出错误。
+     *
+     * @param keyNames 指标数据键名
+     */
+    @NotNull Mono<Void>
+    evictIndicatorCache(@NotNull IndicatorKeyNames keyNames);
 }
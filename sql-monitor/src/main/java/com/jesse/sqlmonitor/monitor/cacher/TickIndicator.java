@@ -0,0 +1,19 @@
+package com.jesse.sqlmonitor.monitor.cacher;
+
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 同一轮采样中计算出的一项指标数据，
+ * 由 {@link IndicatorCacher#cacheTickIndicators(long, java.util.List)} 与同一轮的其他指标一起写入缓存。
+ *
+ * @param keyNames  指标数据键名
+ * @param indicator 指标数据实例
+ * @param type      指标数据实际类型
+ */
+public record TickIndicator<T extends ResponseBase<T>>(
+    @NotNull IndicatorKeyNames keyNames,
+    @NotNull ResponseBase<T>   indicator,
+    @NotNull Class<T>          type
+) {}
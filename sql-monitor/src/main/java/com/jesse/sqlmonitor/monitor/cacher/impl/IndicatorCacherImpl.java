@@ -1,33 +1,54 @@
 package com.jesse.sqlmonitor.monitor.cacher.impl;
 
 import cn.hutool.core.util.IdUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jesse.sqlmonitor.indicator_record.service.IndicatorSender;
 import com.jesse.sqlmonitor.luascript_reader.LuaScriptReader;
 import com.jesse.sqlmonitor.luascript_reader.impl.LuaOperatorResult;
 import com.jesse.sqlmonitor.luascript_reader.impl.LuaScriptOperatorType;
 import com.jesse.sqlmonitor.luascript_reader.impl.exception.LuaScriptExecuteFailed;
+import com.jesse.sqlmonitor.monitor.cacher.CachedIndicator;
 import com.jesse.sqlmonitor.monitor.cacher.IndicatorCacher;
+import com.jesse.sqlmonitor.monitor.cacher.TickIndicator;
+import com.jesse.sqlmonitor.monitor.cacher.impl.broadcast.IndicatorBroadcaster;
+import com.jesse.sqlmonitor.monitor.cacher.impl.breaker.RedisCircuitBreaker;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorBlobCodec;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorCodecRegistry;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.LocalIndicatorCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.RenderedResponseCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.metrics.IndicatorCacheMetrics;
+import com.jesse.sqlmonitor.monitor.cacher.impl.metrics.IndicatorCacheMetrics.FallbackReason;
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
 import com.jesse.sqlmonitor.monitor.cacher.impl.warm_up.health.RedisHealthChecker;
 import com.jesse.sqlmonitor.monitor.cacher.impl.util.CacheDataConverter;
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.SingleFlight;
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.StaleWhileRevalidate;
 import com.jesse.sqlmonitor.monitor.cacher.impl.warm_up.CacherWarmUpEventPublisher;
 import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
 import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
 import com.jesse.sqlmonitor.properties.RedisCacheProperties;
 import com.jesse.sqlmonitor.response_body.SentIndicator;
 import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.redisson.api.RLockReactive;
 import org.redisson.api.RedissonReactiveClient;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,8 +71,18 @@ public class IndicatorCacherImpl implements IndicatorCacher
     TimeoutException EMPTY_TIMEOUT_EXCEPTION
         = new TimeoutException();
 
-    /** Jackson 对象映射器。*/
-    private final ObjectMapper objectMapper;
+    /** 单个指标写入缓存的 Lua 脚本。*/
+    private final static
+    String SAVE_INDICATOR_SCRIPT = "saveIndicatorMapToCache.lua";
+
+    /** 同一轮采样所有指标一起写入缓存的 Lua 脚本。*/
+    private final static
+    String SAVE_TICK_SCRIPT = "saveTickIndicatorsToCache.lua";
+
+    /** 批量写入脚本的参数都已经是编码好的字节，原样传给 Redis。*/
+    private final static
+    RedisElementWriter<byte[]> RAW_ARGS_WRITER
+        = RedisElementWriter.from(RedisSerializer.byteArray());
 
     /** 主数据库连接属性。*/
     private final R2dbcMasterProperties properties;
@@ -84,6 +115,87 @@ public class IndicatorCacherImpl implements IndicatorCacher
     private final
     RedisHealthChecker redisHealthChecker;
 
+    /** 由真实缓存操作的耗时与失败率驱动的 Redis 熔断器。*/
+    private final
+    RedisCircuitBreaker redisCircuitBreaker;
+
+    /** 缓存层的 Micrometer 指标。*/
+    private final
+    IndicatorCacheMetrics cacheMetrics;
+
+    /** 值为原始字节的响应式 Redis 模板（二进制编码时使用）。*/
+    private final
+    ReactiveRedisTemplate<String, byte[]> redisBlobTemplate;
+
+    /** 指标数据的二进制缓存编码器。*/
+    private final
+    IndicatorBlobCodec indicatorBlobCodec;
+
+    /** 按类型预先构造好的指标数据 JSON 编解码器（hash 编码时使用）。*/
+    private final
+    IndicatorCodecRegistry indicatorCodecRegistry;
+
+    /** 节点本地（L1）指标缓存，Redis 作为各节点共享的 L2。*/
+    private final
+    LocalIndicatorCache localIndicatorCache;
+
+    /** 缓存当前实际使用的有效期（启用自适应采样时由采样器更新）。*/
+    private final
+    CacheTtlHolder cacheTtlHolder;
+
+    /** 预先渲染好的热点端点响应体缓存（删除缓存时一并删除）。*/
+    private final
+    RenderedResponseCache renderedResponseCache;
+
+    /** 指标数据的跨节点广播器。*/
+    private final
+    IndicatorBroadcaster indicatorBroadcaster;
+
+    /**
+     * 按缓存键（目标数据库 + 指标键名）合并本节点上的并发请求，
+     * 同一时刻只有一个请求会去争抢分布式锁、进入指标计算。
+     */
+    private final
+    SingleFlight<String> indicatorSingleFlight = new SingleFlight<>();
+
+    /**
+     * stale-while-revalidate 的读取与后台刷新流程，
+     * 通过 SET NX 占位保证所有节点中同一时刻只有一个调用者在刷新某个指标。
+     */
+    private final
+    StaleWhileRevalidate<IndicatorKeyNames> staleWhileRevalidate
+        = new StaleWhileRevalidate<>(
+            new RedisRevalidateGuard(),
+            (keyNames, outcome) -> this.cacheMetrics.recordRevalidation(keyNames, outcome)
+        );
+
+    /** 以 SET NX（有效期为等锁时间，占位者宕机也不会一直占着）实现的刷新占位。*/
+    private final class RedisRevalidateGuard
+        implements StaleWhileRevalidate.RevalidateGuard<IndicatorKeyNames>
+    {
+        @Override
+        public @NotNull Mono<Boolean>
+        tryAcquire(@NotNull IndicatorKeyNames keyNames)
+        {
+            return
+            redisTemplate
+                .opsForValue()
+                .setIfAbsent(getRevalidateKey(keyNames), "1", redisCacheProperties.getLockWaitTimeout())
+                .timeout(redisCacheProperties.getCacheOperatorTimeout());
+        }
+
+        @Override
+        public @NotNull Mono<Void>
+        release(@NotNull IndicatorKeyNames keyNames)
+        {
+            return
+            redisTemplate
+                .delete(getRevalidateKey(keyNames))
+                .timeout(redisCacheProperties.getCacheOperatorTimeout())
+                .then();
+        }
+    }
+
     /** 获取主数据的 IP + PORT 字符串。*/
     private @NotNull String
     getMasterBaseAddress() {
@@ -102,6 +214,27 @@ public class IndicatorCacherImpl implements IndicatorCacher
         keyNames.getKeyName();
     }
 
+    /** 拼接最近一轮采样版本号的键。*/
+    private @NotNull String
+    getTickKey()
+    {
+        return
+        redisCacheProperties.getKeyPrefix() +
+        this.properties.getHost() + ":tick";
+    }
+
+    /** 拼接指标缓存新鲜标记键（stale-while-revalidate 模式下使用）。*/
+    private @NotNull String
+    getFreshKey(@NotNull IndicatorKeyNames keyNames) {
+        return this.getCacheKey(keyNames) + ":fresh";
+    }
+
+    /** 拼接后台刷新占位键（保证各节点中只有一个调用者在刷新）。*/
+    private @NotNull String
+    getRevalidateKey(@NotNull IndicatorKeyNames keyNames) {
+        return this.getCacheKey(keyNames) + ":revalidating";
+    }
+
     /** 获取分布式锁键。*/
     private @NotNull String
     getLockKey(@NotNull IndicatorKeyNames keyNames)
@@ -110,38 +243,115 @@ public class IndicatorCacherImpl implements IndicatorCacher
         this.properties.getHost() + "-" + keyNames.getKeyName();
     }
 
-    /** 更新指标数据至 Redis 缓存。*/
+    /** 更新指标数据（已编码成 JSON）至 Redis 缓存。*/
     private @NotNull Mono<Void>
-    saveIndicatorMapToCache(
-        @NotNull IndicatorKeyNames   keyNames,
-        @NotNull Map<String, Object> indicatorMap
+    saveIndicatorJsonToCache(
+        @NotNull IndicatorKeyNames keyNames,
+        byte @NotNull []           indicatorJson
     )
     {
         final String cacheKey = this.getCacheKey(keyNames);
-        final long cacheTTL   = this.redisCacheProperties.getTtl().toMillis();
+        final long cacheTTL   = this.cacheTtlHolder.storedTtl().toMillis();
+        final long softTTL    = this.cacheTtlHolder.getTtl().toMillis();
         final Duration cacheOperatorTimeout
             = this.redisCacheProperties.getCacheOperatorTimeout();
 
         return
         this.luaScriptReader
-            .read(LuaScriptOperatorType.INDICATOR_CACHER, "saveIndicatorMapToCache.lua")
+            .read(LuaScriptOperatorType.INDICATOR_CACHER, SAVE_INDICATOR_SCRIPT)
             .flatMap((script) ->
                 this.redisLuaTemplate
-                    .execute(script, List.of(cacheKey), indicatorMap, cacheTTL)
+                    .execute(
+                        script, List.of(cacheKey, this.getFreshKey(keyNames)),
+                        List.of(
+                            indicatorJson,
+                            asArgument(cacheTTL),
+                            asArgument(this.isStaleWhileRevalidate() ? softTTL : -1L)
+                        ),
+                        RAW_ARGS_WRITER,
+                        this.redisLuaTemplate
+                            .getSerializationContext()
+                            .getValueSerializationPair()
+                            .getReader()
+                    )
                     .timeout(cacheOperatorTimeout)
                     .next()
-                    .flatMap((result) ->
-                        ("SUCCESS".equals(result.getStatus()))
-                            ? Mono.empty()
-                            : Mono.error(
-                                new LuaScriptExecuteFailed(
-                                    result.getStatus(), result.getMessage(), result.getTimestamp()
-                                )
-                            )
-                    )
+                    .transform(this.redisCircuitBreaker::measure)
+                    .transform((execution) ->
+                        this.cacheMetrics.timeScript(SAVE_INDICATOR_SCRIPT, execution))
+                    .flatMap(IndicatorCacherImpl::checkScriptResult)
+            );
+    }
+
+    /** Lua 脚本执行状态不为 SUCCESS 时转换成 {@link LuaScriptExecuteFailed}。*/
+    private static @NotNull Mono<Void>
+    checkScriptResult(@NotNull LuaOperatorResult result)
+    {
+        return
+        ("SUCCESS".equals(result.getStatus()))
+            ? Mono.empty()
+            : Mono.error(
+                new LuaScriptExecuteFailed(
+                    result.getStatus(), result.getMessage(), result.getTimestamp()
+                )
             );
     }
 
+    /**
+     * 启动时预先载入缓存写入脚本，之后每轮采样只需一次 EVALSHA，
+     * 预载失败（比如 Redis 尚未上线）也没关系，首次执行时会回退到 EVAL 并由服务器缓存脚本。
+     */
+    @PostConstruct
+    private void preloadScripts()
+    {
+        Flux.just(SAVE_INDICATOR_SCRIPT, SAVE_TICK_SCRIPT)
+            .flatMap((scriptName) ->
+                this.luaScriptReader
+                    .preload(LuaScriptOperatorType.INDICATOR_CACHER, scriptName)
+                    .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
+                    .onErrorResume((exception) -> {
+                        log.warn(
+                            "Preload lua script {} failed, fallback to EVAL on first use. Caused by: {}",
+                            scriptName, exception.getMessage()
+                        );
+
+                        return Mono.empty();
+                    }))
+            .subscribe();
+    }
+
+    /** 是否使用二进制编码存放缓存数据？*/
+    private boolean isBlobCodec() {
+        return this.redisCacheProperties.getCodec() == RedisCacheProperties.CacheCodec.BLOB;
+    }
+
+    /**
+     * 以二进制编码更新指标数据至 Redis 缓存（普通键 + PX 有效期），
+     * 启用 stale-while-revalidate 时同时写入新鲜标记。
+     */
+    private @NotNull Mono<Void>
+    saveIndicatorBlobToCache(
+        @NotNull IndicatorKeyNames keyNames,
+        @NotNull ResponseBase<?>   indicator
+    )
+    {
+        return
+        Mono.fromCallable(() -> this.indicatorBlobCodec.encode(indicator))
+            .flatMap((blob) ->
+                Mono.when(
+                    this.redisBlobTemplate
+                        .opsForValue()
+                        .set(this.getCacheKey(keyNames), blob, this.cacheTtlHolder.storedTtl()),
+                    (this.isStaleWhileRevalidate())
+                        ? this.redisBlobTemplate
+                              .opsForValue()
+                              .set(this.getFreshKey(keyNames), new byte[] { 1 }, this.cacheTtlHolder.getTtl())
+                        : Mono.empty()
+                ))
+            .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
+            .transform(this.redisCircuitBreaker::measure);
+    }
+
     /** 将最新的指标数据包装成 {@link SentIndicator} 后发往 RabbitMQ。*/
     private <T extends ResponseBase<T>>
     @NotNull Mono<Void>
@@ -190,26 +400,103 @@ public class IndicatorCacherImpl implements IndicatorCacher
         Class<T> type
     )
     {
-        final String cacheKey = this.getCacheKey(keyNames);
+        // 先查本地缓存，命中时不需要任何网络 I/O 和反序列化
+        final T localIndicator = this.localIndicatorCache.get(keyNames, type);
+
+        if (Objects.nonNull(localIndicator)) {
+            return Mono.just(localIndicator);
+        }
 
+        return
+        this.readRedisCacheIntoLocal(keyNames, type);
+    }
+
+    /**
+     * 从 Redis 中读取指标数据，读到后放入本地缓存。
+     * 与批量读取的规则相同：启用 stale-while-revalidate 时只有仍然新鲜的数据才放入本地缓存
+     *（新鲜标记与数据同时读取），否则陈旧数据会在本地缓存中再存活一个完整的有效期。
+     */
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    readRedisCacheIntoLocal(
+        @NotNull IndicatorKeyNames keyNames,
+        Class<T> type
+    )
+    {
+        if (!this.isStaleWhileRevalidate())
+        {
+            return
+            this.readRedisCache(keyNames, type)
+                .doOnNext((indicator) ->
+                    this.localIndicatorCache.put(keyNames, indicator));
+        }
+
+        return
+        Mono.zip(this.readRedisCache(keyNames, type), this.readFreshMarker(keyNames))
+            .map((tuple) -> {
+                if (tuple.getT2()) {
+                    this.localIndicatorCache.put(keyNames, tuple.getT1());
+                }
+
+                return tuple.getT1();
+            });
+    }
+
+    /** 读取指标数据的新鲜标记是否存在（出错时视为陈旧）。*/
+    private @NotNull Mono<Boolean>
+    readFreshMarker(@NotNull IndicatorKeyNames keyNames)
+    {
         return
         this.redisTemplate
-            .opsForHash()
-            .entries(cacheKey)
+            .hasKey(this.getFreshKey(keyNames))
             .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
-            .collectMap((entry) ->
-                (String) entry.getKey(), Map.Entry::getValue)
-            .flatMap((indicatorMap) -> {
-                // 若从缓存中没拿到数据，直接返回 Mono.empty() 即可。
-                if (indicatorMap.isEmpty()) {
-                    return Mono.empty();
-                }
+            .transform(this.redisCircuitBreaker::measure)
+            .onErrorReturn(Boolean.FALSE);
+    }
 
-                return
-                CacheDataConverter.restoreIndicatorMapToInstance(
-                    indicatorMap, type, this.objectMapper
-                );
-            })
+    /** 只从 Redis 中读取指标数据（不经过本地缓存），读取不到或者出错时返回 {@link Mono#empty()}。*/
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    readRedisCache(
+        @NotNull IndicatorKeyNames keyNames,
+        Class<T> type
+    )
+    {
+        final String cacheKey = this.getCacheKey(keyNames);
+
+        final Mono<T> cached
+            = (this.isBlobCodec())
+                // 一次 GET 之后直接解码
+                ? this.redisBlobTemplate
+                      .opsForValue()
+                      .get(cacheKey)
+                      .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
+                      .flatMap((blob) ->
+                          Mono.fromCallable(() -> this.indicatorBlobCodec.decode(blob, type)))
+                // 各字段取原始的 JSON 字节，交给该类型专用的编解码器还原
+                : this.redisBlobTemplate
+                      .<String, byte[]>opsForHash()
+                      .entries(cacheKey)
+                      .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
+                      .collectList()
+                      .flatMap((fields) -> {
+                          // 若从缓存中没拿到数据，直接返回 Mono.empty() 即可。
+                          if (fields.isEmpty()) {
+                              return Mono.empty();
+                          }
+
+                          return
+                          Mono.fromCallable(() ->
+                              this.indicatorCodecRegistry.codecFor(type).readHash(fields));
+                      });
+
+        return
+        cached
+            .transform(this.redisCircuitBreaker::measure)
+            .doOnSuccess((indicator) ->
+                this.cacheMetrics.recordLookup(keyNames, Objects.nonNull(indicator)))
+            .doOnError((exception) ->
+                this.cacheMetrics.recordLookupError(keyNames))
             .onErrorResume((exception) -> {
                 // 若从 Redis 缓存中获取失败（比如 Redis 服务重启、宕机等情况）
                 // 则直接视为缓存获取失败，后续的所有操作（加锁、更新缓存等）就没有意义了，
@@ -233,17 +520,25 @@ public class IndicatorCacherImpl implements IndicatorCacher
         Class<T>          type
     )
     {
+        final Mono<Void> saveToCache
+            = (this.isBlobCodec())
+                ? this.saveIndicatorBlobToCache(keyNames, indicator)
+                : Mono.fromCallable(() ->
+                          this.indicatorCodecRegistry.codecFor(type).write(indicator))
+                      .flatMap((indicatorJson) ->
+                          this.saveIndicatorJsonToCache(keyNames, indicatorJson));
+
         return
-        CacheDataConverter
-            .makeCacheDataFromIndicator(indicator, type, this.objectMapper)
-            .flatMap((indicatorMap) ->
-                Mono.when(
-                    this.saveIndicatorMapToCache(keyNames, indicatorMap),
-                    this.sendIndicatorToTaskQueue(indicator, type)
-                ))
+        Mono.when(saveToCache, this.sendIndicatorToTaskQueue(indicator, type))
+            // 本节点刚计算出的指标直接进入本地缓存
+            .doFirst(() -> this.localIndicatorCache.put(keyNames, indicator))
             // 更新缓存操作成功后，需要标记这一类的缓存数据预热成功
             .doOnSuccess((ignore) ->
                 this.cacherWarmUpEventPublisher.markAsWarnUp(keyNames))
+            // 写入成功后通知其他节点
+            .then(Mono.defer(() ->
+                this.indicatorBroadcaster
+                    .publish(System.currentTimeMillis(), Map.of(keyNames, indicator))))
             .thenReturn(indicator)
             // 若因为某些原因出错了，
             // 这一次的缓存操作算做失败，直接返回指标数据给下游即可
@@ -270,6 +565,423 @@ public class IndicatorCacherImpl implements IndicatorCacher
             });
     }
 
+    @Override
+    public @NotNull Mono<Void>
+    cacheTickIndicators(long tickVersion, @NotNull List<TickIndicator<?>> indicators)
+    {
+        if (indicators.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return
+        Mono.when(
+            this.saveTickIndicatorsToCache(tickVersion, indicators),
+            Flux.fromIterable(indicators)
+                .flatMap(this::sendTickIndicatorToTaskQueue)
+        )
+        // 本节点刚计算出的指标直接进入本地缓存
+        .doFirst(() ->
+            indicators.forEach((tick) ->
+                this.localIndicatorCache.put(tick.keyNames(), tick.indicator())))
+        // 更新缓存操作成功后，需要标记这一类的缓存数据预热成功
+        .doOnSuccess((ignore) ->
+            indicators.forEach((tick) ->
+                this.cacherWarmUpEventPublisher.markAsWarnUp(tick.keyNames())))
+        // 写入成功后把这一轮的指标推送给其他节点
+        .then(Mono.defer(() -> {
+            final Map<IndicatorKeyNames, ResponseBase<?>> broadcast = new LinkedHashMap<>();
+
+            indicators.forEach((tick) -> broadcast.put(tick.keyNames(), tick.indicator()));
+
+            return
+            this.indicatorBroadcaster.publish(tickVersion, broadcast);
+        }))
+        // 这一轮的缓存操作算做失败，下一轮会整体覆盖
+        .onErrorResume((exception) -> {
+            if (exception instanceof LuaScriptExecuteFailed scriptFailed)
+            {
+                log.error(
+                    "Cache tick {} to redis failed, error type: {}, message: {}, timestamp: {}",
+                    tickVersion, scriptFailed.getErrorType(),
+                    scriptFailed.getMessage(), scriptFailed.getTimestamp()
+                );
+            }
+            else
+            {
+                log.error(
+                    "Cache tick {} to redis failed, Caused by: {}",
+                    tickVersion, exception.getMessage()
+                );
+            }
+
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * 在一次 EVALSHA 中写入同一轮采样的所有指标数据与本轮版本号。
+     * 参数全部在客户端编码成字节（hash 编码时为 JSON，blob 编码时为 {@link IndicatorBlobCodec} 的输出）。
+     */
+    private @NotNull Mono<Void>
+    saveTickIndicatorsToCache(long tickVersion, @NotNull List<TickIndicator<?>> indicators)
+    {
+        final List<String> keys = new ArrayList<>(2 * indicators.size() + 1);
+
+        keys.add(this.getTickKey());
+        indicators.forEach((tick) -> keys.add(this.getCacheKey(tick.keyNames())));
+        indicators.forEach((tick) -> keys.add(this.getFreshKey(tick.keyNames())));
+
+        final long softTTL
+            = (this.isStaleWhileRevalidate())
+                ? this.cacheTtlHolder.getTtl().toMillis()
+                : -1L;
+
+        return
+        Mono.fromCallable(() -> {
+            final List<byte[]> args = new ArrayList<>(indicators.size() + 4);
+
+            args.add(asArgument(this.isBlobCodec() ? "blob" : "hash"));
+            args.add(asArgument(this.cacheTtlHolder.storedTtl().toMillis()));
+            args.add(asArgument(softTTL));
+            args.add(asArgument(tickVersion));
+
+            for (TickIndicator<?> tick : indicators) {
+                args.add(this.encodeTickIndicator(tick));
+            }
+
+            return args;
+        })
+        .flatMap((args) ->
+            this.luaScriptReader
+                .read(LuaScriptOperatorType.INDICATOR_CACHER, SAVE_TICK_SCRIPT)
+                .flatMap((script) ->
+                    this.redisLuaTemplate
+                        .execute(
+                            script, keys, args, RAW_ARGS_WRITER,
+                            this.redisLuaTemplate
+                                .getSerializationContext()
+                                .getValueSerializationPair()
+                                .getReader()
+                        )
+                        .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
+                        .next()
+                        .transform(this.redisCircuitBreaker::measure)
+                        .transform((execution) ->
+                            this.cacheMetrics.timeScript(SAVE_TICK_SCRIPT, execution))
+                        .flatMap(IndicatorCacherImpl::checkScriptResult)
+                ));
+    }
+
+    /** 按当前的编码方式，把一项指标数据编码成批量写入脚本的参数。*/
+    private byte[]
+    encodeTickIndicator(@NotNull TickIndicator<?> tick) throws IOException
+    {
+        return
+        (this.isBlobCodec())
+            ? this.indicatorBlobCodec.encode(tick.indicator())
+            : this.indicatorCodecRegistry.codecOf(tick.indicator()).write(tick.indicator());
+    }
+
+    private static byte[]
+    asArgument(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 类型捕获，便于复用 {@link #sendIndicatorToTaskQueue(ResponseBase, Class)}。*/
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<Void>
+    sendTickIndicatorToTaskQueue(@NotNull TickIndicator<T> tick) {
+        return this.sendIndicatorToTaskQueue(tick.indicator(), tick.type());
+    }
+
+    @Override
+    public @NotNull Mono<Long>
+    getCacheTickVersion()
+    {
+        return
+        this.redisBlobTemplate
+            .opsForValue()
+            .get(this.getTickKey())
+            .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
+            .map((version) ->
+                Long.parseLong(new String(version, StandardCharsets.UTF_8)))
+            .onErrorResume((exception) -> {
+                log.warn("Get cache tick version failed! Caused by {}.", exception.getMessage());
+
+                return Mono.empty();
+            });
+    }
+
+    @Override
+    public @NotNull Mono<List<CachedIndicator<?>>>
+    getIndicatorCaches(@NotNull List<CachedIndicator<?>> requests)
+    {
+        return
+        Mono.defer(() -> {
+            // 先查本地缓存，只有没命中的才需要访问 Redis
+            final List<CachedIndicator<?>> results     = new ArrayList<>(requests.size());
+            final List<Integer>            missIndexes = new ArrayList<>();
+
+            for (CachedIndicator<?> request : requests)
+            {
+                final CachedIndicator<?> local = this.readLocalCache(request);
+
+                if (!local.isPresent()) {
+                    missIndexes.add(results.size());
+                }
+
+                results.add(local);
+            }
+
+            // 全部命中本地缓存时不会访问 Redis，也就不占用熔断器的探测名额
+            if (missIndexes.isEmpty() || !this.acquireRedisPermit()) {
+                return Mono.just(results);
+            }
+
+            final List<CachedIndicator<?>> misses
+                = missIndexes.stream()
+                             .<CachedIndicator<?>>map(results::get)
+                             .toList();
+
+            return
+            this.readRedisCaches(misses)
+                .map((founds) -> {
+                    for (int index = 0; index < founds.size(); ++index)
+                    {
+                        final CachedIndicator<?> found = founds.get(index);
+
+                        results.set(missIndexes.get(index), found);
+
+                        if (found.isPresent() && !found.stale()) {
+                            this.localIndicatorCache.put(found.keyNames(), found.indicator());
+                        }
+                    }
+
+                    return results;
+                })
+                .onErrorResume((exception) -> {
+                    log.warn(
+                        "Get indicators {} from cache failed! Caused by {}.",
+                        misses.stream().map(CachedIndicator::keyNames).toList(),
+                        exception.getMessage()
+                    );
+
+                    return Mono.just(results);
+                });
+        });
+    }
+
+    /** 从本地缓存中读取一项指标，没有命中时原样返回请求。*/
+    private <T extends ResponseBase<T>>
+    @NotNull CachedIndicator<T>
+    readLocalCache(@NotNull CachedIndicator<T> request)
+    {
+        final T local
+            = this.localIndicatorCache.get(request.keyNames(), request.type());
+
+        return
+        Objects.nonNull(local) ? request.found(local, false) : request;
+    }
+
+    /**
+     * 在一次往返中从 Redis 批量读取指标数据及其新鲜标记：
+     * blob 编码时数据与新鲜标记合并为一次 MGET，
+     * hash 编码时各个 HGETALL 与新鲜标记的 MGET 同时发出，由 Lettuce 在共享连接上流水线发送。
+     */
+    private @NotNull Mono<List<CachedIndicator<?>>>
+    readRedisCaches(@NotNull List<CachedIndicator<?>> misses)
+    {
+        final List<String> freshKeys
+            = misses.stream()
+                    .map((request) -> this.getFreshKey(request.keyNames()))
+                    .toList();
+
+        final Duration cacheOperatorTimeout
+            = this.redisCacheProperties.getCacheOperatorTimeout();
+
+        if (this.isBlobCodec())
+        {
+            final List<String> keys = new ArrayList<>(2 * misses.size());
+
+            misses.forEach((request) -> keys.add(this.getCacheKey(request.keyNames())));
+            keys.addAll(freshKeys);
+
+            return
+            this.redisBlobTemplate
+                .opsForValue()
+                .multiGet(keys)
+                .timeout(cacheOperatorTimeout)
+                .transform(this.redisCircuitBreaker::measure)
+                .map((values) -> {
+                    final List<CachedIndicator<?>> founds = new ArrayList<>(misses.size());
+
+                    for (int index = 0; index < misses.size(); ++index)
+                    {
+                        final CachedIndicator<?> found
+                            = this.decodeCachedIndicator(misses.get(index), values.get(index));
+
+                        founds.add(
+                            this.isStaleMarker(values.get(index + misses.size()))
+                                ? found.asStale()
+                                : found
+                        );
+                    }
+
+                    return founds;
+                });
+        }
+
+        final Mono<List<byte[]>> freshMarkers
+            = (this.isStaleWhileRevalidate())
+                ? this.redisBlobTemplate
+                      .opsForValue()
+                      .multiGet(freshKeys)
+                      .timeout(cacheOperatorTimeout)
+                      .transform(this.redisCircuitBreaker::measure)
+                : Mono.just(List.of());
+
+        return
+        Mono.zip(
+            Flux.fromIterable(misses)
+                .flatMapSequential((request) -> this.readCachedIndicator(request))
+                .collectList(),
+            freshMarkers
+        )
+        .map((tuple) -> {
+            final List<CachedIndicator<?>> founds = new ArrayList<>(tuple.getT1());
+
+            for (int index = 0; index < tuple.getT2().size(); ++index)
+            {
+                if (this.isStaleMarker(tuple.getT2().get(index))) {
+                    founds.set(index, founds.get(index).asStale());
+                }
+            }
+
+            return founds;
+        });
+    }
+
+    /** 从 Redis 的 Hash 中读取一项指标，没有读到时原样返回请求。*/
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<CachedIndicator<?>>
+    readCachedIndicator(@NotNull CachedIndicator<T> request)
+    {
+        return
+        this.readRedisCache(request.keyNames(), request.type())
+            .<CachedIndicator<?>>map((indicator) -> request.found(indicator, false))
+            .defaultIfEmpty(request);
+    }
+
+    /** 解码一项二进制缓存数据，没有数据或者解码失败时原样返回请求。*/
+    private <T extends ResponseBase<T>>
+    @NotNull CachedIndicator<?>
+    decodeCachedIndicator(@NotNull CachedIndicator<T> request, byte @Nullable [] blob)
+    {
+        if (Objects.isNull(blob))
+        {
+            this.cacheMetrics.recordLookup(request.keyNames(), false);
+            return request;
+        }
+
+        try
+        {
+            final CachedIndicator<?> found
+                = request.found(this.indicatorBlobCodec.decode(blob, request.type()), false);
+
+            this.cacheMetrics.recordLookup(request.keyNames(), true);
+
+            return found;
+        }
+        catch (IOException exception)
+        {
+            this.cacheMetrics.recordLookupError(request.keyNames());
+
+            log.warn(
+                "Decode indicator {} from cache failed! Caused by {}.",
+                this.getCacheKey(request.keyNames()), exception.getMessage()
+            );
+
+            return request;
+        }
+    }
+
+    /** 启用 stale-while-revalidate 时，新鲜标记不存在即视为陈旧。*/
+    private boolean isStaleMarker(byte @Nullable [] freshMarker) {
+        return this.isStaleWhileRevalidate() && Objects.isNull(freshMarker);
+    }
+
+    @Override
+    public @NotNull Mono<Void>
+    evictIndicatorCache(@NotNull IndicatorKeyNames keyNames)
+    {
+        final String cacheKey = this.getCacheKey(keyNames);
+
+        this.localIndicatorCache.evict(keyNames);
+        this.renderedResponseCache.evict(keyNames);
+
+        // 新鲜标记描述的是被删除的那份数据，一并删除（不让它继续为之后写入的数据作保）
+        return
+        this.redisTemplate
+            .delete(cacheKey, this.getFreshKey(keyNames))
+            .timeout(this.redisCacheProperties.getCacheOperatorTimeout())
+            .doOnNext((deleted) ->
+                log.info("Indicator cache {} evicted. (deleted keys: {})", cacheKey, deleted))
+            .onErrorResume((exception) -> {
+                log.warn(
+                    "Evict indicator cache {} failed! Caused by {}.",
+                    cacheKey, exception.getMessage()
+                );
+
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    @Override
+    public <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    getIndicatorCacheOrElse(
+        @NotNull IndicatorKeyNames keyNames,
+        Mono<T>  fallback,
+        Class<T> indicatorType
+    )
+    {
+        // 先查本地缓存（Redis 不健康或者熔断时本地缓存依然可用）
+        final T localIndicator
+            = this.localIndicatorCache.get(keyNames, indicatorType);
+
+        if (Objects.nonNull(localIndicator)) {
+            return Mono.just(localIndicator);
+        }
+
+        if (!this.acquireRedisPermit()) {
+            return this.fallbackTo(keyNames, FallbackReason.UNAVAILABLE, fallback);
+        }
+
+        return
+        this.readRedisCacheIntoLocal(keyNames, indicatorType)
+            .flatMap((indicator) ->
+                CacheDataConverter.safeIndicatorTypeCast(indicator, indicatorType))
+            .switchIfEmpty(this.fallbackTo(keyNames, FallbackReason.MISS, fallback))
+            .onErrorResume((exception) ->
+                this.fallbackTo(keyNames, FallbackReason.ERROR, fallback));
+    }
+
+    /** 回退到数据库（订阅时记录一次回退及其原因）。*/
+    private <T> @NotNull Mono<T>
+    fallbackTo(
+        @NotNull IndicatorKeyNames keyNames,
+        @NotNull FallbackReason    reason,
+        @NotNull Mono<T>           fallback
+    )
+    {
+        return
+        Mono.defer(() -> {
+            this.cacheMetrics.recordFallback(keyNames, reason);
+            return fallback;
+        });
+    }
+
     @Override
     public <T extends ResponseBase<T>>
     @NotNull Mono<T>
@@ -279,9 +991,116 @@ public class IndicatorCacherImpl implements IndicatorCacher
         Class<T> indicatorType
     )
     {
-        // 先检查 Redis 的健康状态
+        return
+        this.indicatorSingleFlight.execute(
+            this.getCacheKey(keyNames),
+            () ->
+                (this.isStaleWhileRevalidate())
+                    ? this.loadIndicatorStaleWhileRevalidate(keyNames, indicatorSupplier, indicatorType)
+                    : this.loadIndicatorWithLock(keyNames, indicatorSupplier, indicatorType)
+        );
+    }
+
+    /**
+     * 本次请求能否访问 Redis？
+     * PING 健康检查只能发现宕机，熔断器则在 Redis 变慢时同样让请求直接跳过它。
+     *
+     * <p>
+     *     半开状态下熔断器每放行一次就消耗一个探测名额，
+     *     因此每个请求只在本地缓存没有命中、确定要发出 Redis 命令之前调用一次，
+     *     之后同一个请求的所有 Redis 操作（读取、加锁、二次检查）都不再重复调用。
+     * </p>
+     */
+    private boolean acquireRedisPermit()
+    {
+        return
+        this.redisHealthChecker.isHealthy() &&
+        this.redisCircuitBreaker.allowRequest();
+    }
+
+    /** 是否启用了 stale-while-revalidate 模式？*/
+    private boolean isStaleWhileRevalidate() {
+        return this.redisCacheProperties.getStaleWhileRevalidate().isEnabled();
+    }
+
+    /**
+     * stale-while-revalidate 模式下读取指标数据：
+     *
+     * <ol>
+     *     <li>缓存数据仍然新鲜（新鲜标记未过期），直接返回；</li>
+     *     <li>缓存数据已经陈旧（超过软有效期但未超过硬有效期），立即返回陈旧数据，同时触发一次后台刷新；</li>
+     *     <li>缓存中没有任何数据，才走加锁等待的逻辑。</li>
+     * </ol>
+     *
+     * 因此只要缓存中有数据，调用者的延迟就只有一次 Redis 往返。
+     */
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    loadIndicatorStaleWhileRevalidate(
+        @NotNull IndicatorKeyNames keyNames,
+        Mono<T>  indicatorSupplier,
+        Class<T> indicatorType
+    )
+    {
+        final T localIndicator
+            = this.localIndicatorCache.get(keyNames, indicatorType);
+
+        if (Objects.nonNull(localIndicator)) {
+            return Mono.just(localIndicator);
+        }
+
+        // Redis 不健康或者尚未预热，交给原来的逻辑处理
+        if (!this.redisHealthChecker.isHealthy() ||
+            !this.cacherWarmUpEventPublisher.isWarmUp(keyNames))
+        {
+            return
+            this.loadIndicatorWithLock(keyNames, indicatorSupplier, indicatorType);
+        }
+
+        if (!this.acquireRedisPermit()) {
+            return this.fallbackTo(keyNames, FallbackReason.UNAVAILABLE, indicatorSupplier);
+        }
+
+        return
+        this.staleWhileRevalidate.read(
+            keyNames,
+            this.readRedisCache(keyNames, indicatorType),
+            this.readFreshMarker(keyNames),
+            (indicator) -> this.localIndicatorCache.put(keyNames, indicator),
+            // 后台刷新：重新计算并写入缓存（失败由 StaleWhileRevalidate 记录，不影响调用者）
+            indicatorSupplier
+                .flatMap((indicator) ->
+                    this.cacheIndicatorData(keyNames, indicator, indicatorType))
+                .then(),
+            // 缓存中没有数据，沿用本次请求已经拿到的许可加锁读取
+            Mono.defer(() ->
+                this.loadIndicatorFromRedis(keyNames, indicatorSupplier, indicatorType))
+        );
+    }
+
+    /**
+     * {@link #getIndicatorCacheWithLock(IndicatorKeyNames, Mono, Class)} 的实际逻辑，
+     * 在同一个节点上同一时刻每个指标只会有一个执行实例。
+     */
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    loadIndicatorWithLock(
+        @NotNull IndicatorKeyNames keyNames,
+        Mono<T>  indicatorSupplier,
+        Class<T> indicatorType
+    )
+    {
+        // 先查本地缓存，命中时不需要访问 Redis
+        final T localIndicator
+            = this.localIndicatorCache.get(keyNames, indicatorType);
+
+        if (Objects.nonNull(localIndicator)) {
+            return Mono.just(localIndicator);
+        }
+
+        // 再检查 Redis 的健康状态
         if (!this.redisHealthChecker.isHealthy()) {
-            return indicatorSupplier;
+            return this.fallbackTo(keyNames, FallbackReason.UNAVAILABLE, indicatorSupplier);
         }
 
         // 再检查 Redis 的预热情况
@@ -292,16 +1111,38 @@ public class IndicatorCacherImpl implements IndicatorCacher
             // 避免 Redis 重新上线后被大量堆积的请求冲击
             // 直到缓存数据被预热后，再放行至正常逻辑
             return
-            indicatorSupplier.doOnSuccess((data) -> {
-                if (Objects.nonNull(data)) {
-                    this.cacherWarmUpEventPublisher
-                        .publishWarnUpEvent(keyNames, data, indicatorType);
-                }
-            });
+            this.fallbackTo(keyNames, FallbackReason.COLD, indicatorSupplier)
+                .doOnSuccess((data) -> {
+                    if (Objects.nonNull(data)) {
+                        this.cacherWarmUpEventPublisher
+                            .publishWarnUpEvent(keyNames, data, indicatorType);
+                    }
+                });
+        }
+
+        // 最后向熔断器申请访问 Redis（熔断期间直接跳过 Redis）
+        if (!this.acquireRedisPermit()) {
+            return this.fallbackTo(keyNames, FallbackReason.UNAVAILABLE, indicatorSupplier);
         }
 
         return
-        this.getIndicatorCache(keyNames, indicatorType) // 先尝试从缓存获取数据
+        this.loadIndicatorFromRedis(keyNames, indicatorSupplier, indicatorType);
+    }
+
+    /**
+     * 从 Redis 读取指标数据，没有数据时加分布式锁计算并写入缓存，
+     * 调用之前必须已经通过 {@link #acquireRedisPermit()} 拿到了本次请求访问 Redis 的许可。
+     */
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    loadIndicatorFromRedis(
+        @NotNull IndicatorKeyNames keyNames,
+        Mono<T>  indicatorSupplier,
+        Class<T> indicatorType
+    )
+    {
+        return
+        this.readRedisCacheIntoLocal(keyNames, indicatorType) // 先尝试从缓存获取数据
             .flatMap((indicator) ->
                 CacheDataConverter.safeIndicatorTypeCast(indicator, indicatorType))
             .switchIfEmpty(             // 如果缓存内部没有数据
@@ -320,7 +1161,8 @@ public class IndicatorCacherImpl implements IndicatorCacher
 
                     return
                     Mono.usingWhen(
-                        lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS, threadId),
+                        this.cacheMetrics.timeLockWait(
+                            keyNames, lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS, threadId)),
                         (isLocked) -> {
                             if (isLocked)
                             {
@@ -328,14 +1170,22 @@ public class IndicatorCacherImpl implements IndicatorCacher
                                this.getIndicatorCache(keyNames, indicatorType)
                                    .flatMap((indicator) ->
                                        CacheDataConverter.safeIndicatorTypeCast(indicator, indicatorType))
+                                   // 等锁期间别的调用者已经写好了缓存
+                                   .doOnNext((indicator) ->
+                                       this.cacheMetrics.recordRecheck(keyNames, true))
                                    .switchIfEmpty(
                                        // 第二次检查仍然没有数据，
                                        // 最终去数据库获取并计算指标数据然后更新缓存并同时发往消息队列
-                                       indicatorSupplier
-                                           .flatMap((indicator) ->
-                                               this.cacheIndicatorData(keyNames, indicator, indicatorType)
-                                                   .thenReturn(indicator)
-                                           )
+                                       Mono.defer(() -> {
+                                           this.cacheMetrics.recordRecheck(keyNames, false);
+
+                                           return
+                                           indicatorSupplier
+                                               .flatMap((indicator) ->
+                                                   this.cacheIndicatorData(keyNames, indicator, indicatorType)
+                                                       .thenReturn(indicator)
+                                               );
+                                       })
                                    );
                             }
                             else
@@ -357,7 +1207,7 @@ public class IndicatorCacherImpl implements IndicatorCacher
             .onErrorResume((exception) -> {
                // 若 Redis 缓存、锁操作失败、队列发送失败或者发生其他错误，
                // 则视为缓存获取失败，直接返回从数据库获取指标数据的响应式流即可（优雅降级）
-                return indicatorSupplier;
+                return this.fallbackTo(keyNames, FallbackReason.ERROR, indicatorSupplier);
             });
     }
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.breaker;
+
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 由真实缓存操作驱动的 Redis 熔断器。
+ *
+ * <p>
+ *     {@link com.jesse.sqlmonitor.monitor.cacher.impl.warm_up.health.RedisHealthChecker}
+ *     只能发现 PING 不通的 Redis，而一个 PING 正常、HGETALL 却要 250ms 的 Redis 依然被视为健康，
+ *     每个请求都要等到 cache-operator-timeout 才回退。
+ *     本熔断器记录最近若干次缓存操作的耗时与成败：
+ * </p>
+ *
+ * <ul>
+ *     <li>CLOSED：正常放行，窗口内耗时 p99 或失败率达到阈值时打开；</li>
+ *     <li>OPEN：请求直接跳过 Redis，经过 openDuration 后进入半开状态；</li>
+ *     <li>HALF_OPEN：只放行少量探测请求，全部成功且不慢则关闭，任何一次失败或过慢则重新打开。</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker
+{
+    /** 熔断器状态。*/
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** 熔断器配置。*/
+    private final
+    RedisCacheProperties.CircuitBreaker properties;
+
+    /** 当前状态。*/
+    private final
+    AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    /** 进入当前状态的时间（System.nanoTime()）。*/
+    private volatile long stateSinceNanos = System.nanoTime();
+
+    /** 半开状态下剩余可放行的探测请求数。*/
+    private final
+    AtomicInteger probePermits = new AtomicInteger(0);
+
+    /** 半开状态下成功（且不慢）的探测操作数。*/
+    private final
+    AtomicInteger probeSuccesses = new AtomicInteger(0);
+
+    /** 滑动窗口：最近若干次操作的耗时（纳秒，环形缓冲区，访问时对 this 加锁）。*/
+    private final long[] latencies;
+
+    /** 滑动窗口：最近若干次操作是否失败。*/
+    private final boolean[] failures;
+
+    /** 下一次写入的位置。*/
+    private int nextSlot = 0;
+
+    /** 窗口内已有的操作数。*/
+    private int recorded = 0;
+
+    public RedisCircuitBreaker(@NotNull RedisCacheProperties redisCacheProperties)
+    {
+        this.properties = redisCacheProperties.getCircuitBreaker();
+
+        final int windowSize = Math.max(1, this.properties.getWindowSize());
+
+        this.latencies = new long[windowSize];
+        this.failures  = new boolean[windowSize];
+    }
+
+    /** 获取熔断器当前的状态。*/
+    public @NotNull State getState() {
+        return this.state.get();
+    }
+
+    /**
+     * 本次请求是否可以访问 Redis？
+     * 半开状态下每放行一次就消耗一个探测名额。
+     */
+    public boolean allowRequest()
+    {
+        if (!this.properties.isEnabled()) {
+            return true;
+        }
+
+        final long inStateNanos = System.nanoTime() - this.stateSinceNanos;
+        final long openNanos    = this.properties.getOpenDuration().toNanos();
+
+        return
+        switch (this.state.get())
+        {
+            case CLOSED -> true;
+
+            case OPEN ->
+                (inStateNanos >= openNanos) &&
+                this.transition(State.OPEN, State.HALF_OPEN, "open duration elapsed") &&
+                this.tryAcquireProbe();
+
+            case HALF_OPEN -> {
+                // 探测请求迟迟没有结果（比如请求被取消，没有真正访问 Redis），重新放行一批
+                if (inStateNanos >= openNanos) {
+                    this.transition(State.HALF_OPEN, State.HALF_OPEN, "probes timed out");
+                }
+
+                yield this.tryAcquireProbe();
+            }
+        };
+    }
+
+    /** 为一次 Redis 操作计时，结束（成功、为空或出错）时记录到熔断器中，取消的操作不记录。*/
+    public <T> @NotNull Mono<T>
+    measure(@NotNull Mono<T> operation)
+    {
+        if (!this.properties.isEnabled()) {
+            return operation;
+        }
+
+        return
+        Mono.defer(() -> {
+            final long startNanos = System.nanoTime();
+
+            return
+            operation
+                .doOnSuccess((ignore) ->
+                    this.record(System.nanoTime() - startNanos, false))
+                .doOnError((exception) ->
+                    this.record(System.nanoTime() - startNanos, true));
+        });
+    }
+
+    /** 记录一次操作的结果。*/
+    private void record(long latencyNanos, boolean failed)
+    {
+        switch (this.state.get())
+        {
+            case CLOSED -> {
+                final String reason = this.recordAndCheck(latencyNanos, failed);
+
+                if (Objects.nonNull(reason)) {
+                    this.transition(State.CLOSED, State.OPEN, reason);
+                }
+            }
+
+            case HALF_OPEN -> {
+                if (failed || this.isSlow(latencyNanos))
+                {
+                    this.transition(
+                        State.HALF_OPEN, State.OPEN,
+                        failed ? "probe failed" : "probe took " + latencyNanos / 1_000_000L + " ms"
+                    );
+                }
+                else if (this.probeSuccesses.incrementAndGet() >= this.properties.getHalfOpenProbes()) {
+                    this.transition(State.HALF_OPEN, State.CLOSED, "probes succeeded");
+                }
+            }
+
+            // 熔断打开之前就已经发出的操作，结果不再有参考意义
+            case OPEN -> {}
+        }
+    }
+
+    /**
+     * 把一次操作写入滑动窗口，并检查是否需要熔断。
+     *
+     * @return 需要熔断时返回原因，否则返回 null
+     */
+    private synchronized @Nullable String
+    recordAndCheck(long latencyNanos, boolean failed)
+    {
+        this.latencies[this.nextSlot] = latencyNanos;
+        this.failures[this.nextSlot]  = failed;
+        this.nextSlot = (this.nextSlot + 1) % this.latencies.length;
+        this.recorded = Math.min(this.recorded + 1, this.latencies.length);
+
+        if (this.recorded < Math.max(1, this.properties.getMinimumCalls())) {
+            return null;
+        }
+
+        int failedCount = 0;
+
+        for (int index = 0; index < this.recorded; ++index)
+        {
+            if (this.failures[index]) {
+                ++failedCount;
+            }
+        }
+
+        final double failureRate = (double) failedCount / this.recorded;
+
+        if (failureRate >= this.properties.getFailureRateThreshold())
+        {
+            return
+            String.format("failure rate %.2f in last %d operations", failureRate, this.recorded);
+        }
+
+        final long[] sorted = Arrays.copyOf(this.latencies, this.recorded);
+        Arrays.sort(sorted);
+
+        final long p99Nanos
+            = sorted[Math.max(0, (int) Math.ceil(this.recorded * 0.99) - 1)];
+
+        return
+        (this.isSlow(p99Nanos))
+            ? String.format("p99 latency %d ms in last %d operations", p99Nanos / 1_000_000L, this.recorded)
+            : null;
+    }
+
+    private boolean isSlow(long latencyNanos) {
+        return latencyNanos >= this.properties.getSlowCallP99Threshold().toNanos();
+    }
+
+    private boolean tryAcquireProbe() {
+        return this.probePermits.getAndUpdate((permits) -> Math.max(0, permits - 1)) > 0;
+    }
+
+    /** 从 from 状态切换到 to 状态（from 与 to 相同时为重新进入该状态），只有一个调用者会成功。*/
+    private boolean
+    transition(@NotNull State from, @NotNull State to, @NotNull String reason)
+    {
+        final boolean transited
+            = (from == to)
+                ? this.state.get() == from
+                : this.state.compareAndSet(from, to);
+
+        if (!transited) {
+            return this.state.get() == to;
+        }
+
+        this.stateSinceNanos = System.nanoTime();
+
+        switch (to)
+        {
+            case HALF_OPEN -> {
+                this.probeSuccesses.set(0);
+                this.probePermits.set(Math.max(1, this.properties.getHalfOpenProbes()));
+            }
+
+            case CLOSED -> this.resetWindow();
+
+            case OPEN -> this.probePermits.set(0);
+        }
+
+        if (to == State.OPEN) {
+            log.warn("Redis circuit breaker {} -> OPEN, skip redis for {}. Caused by: {}",
+                     from, this.properties.getOpenDuration(), reason);
+        }
+        else {
+            log.info("Redis circuit breaker {} -> {} ({}).", from, to, reason);
+        }
+
+        return true;
+    }
+
+    private synchronized void resetWindow()
+    {
+        Arrays.fill(this.latencies, 0L);
+        Arrays.fill(this.failures, false);
+
+        this.nextSlot = 0;
+        this.recorded = 0;
+    }
+}
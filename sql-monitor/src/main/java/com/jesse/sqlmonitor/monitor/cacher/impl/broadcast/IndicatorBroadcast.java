@@ -0,0 +1,18 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.broadcast;
+
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+
+import java.util.Map;
+
+/**
+ * 在各节点之间广播的一轮指标数据。
+ *
+ * @param nodeId      发布者的节点 ID（节点收到自己发布的消息时直接忽略）
+ * @param tickVersion 版本号（采样快照的时间戳，单个指标按需计算时为计算完成的时间戳）
+ * @param indicators  指标键名 -> 指标数据（带有 ResponseBase 的类型信息）
+ */
+public record IndicatorBroadcast(
+    String nodeId,
+    long   tickVersion,
+    Map<String, ResponseBase<?>> indicators
+) {}
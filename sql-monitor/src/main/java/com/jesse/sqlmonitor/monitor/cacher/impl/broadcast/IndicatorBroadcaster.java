@@ -0,0 +1,263 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.LocalIndicatorCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.RenderedResponseCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.warm_up.CacherWarmUpEventPublisher;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 指标数据的跨节点广播器（Redis Pub/Sub）。
+ *
+ * <p>
+ *     多个实例部署在负载均衡之后时，计算出新指标的节点在写入 Redis 之后，
+ *     把这一轮的指标数据与版本号发布到 {keyPrefix}{host}:broadcast 频道，
+ *     其他节点收到后直接写入自己的本地（L1）缓存并标记预热完成，
+ *     不必等到本地缓存过期后再各自去 Redis 读一次。
+ * </p>
+ *
+ * <p>
+ *     Pub/Sub 不保证送达，丢失的消息只会让对应节点退回到原先从 Redis 读取的路径，
+ *     某个指标的版本号比该指标已经应用的更旧时（比如乱序到达）直接丢弃。
+ * </p>
+ *
+ * <p>
+ *     收到的消息先切换到 {@link Schedulers#boundedElastic()} 上再反序列化、写入本地缓存，
+ *     不占用 Redis 连接的事件循环线程；消息依次处理（concatMap），版本比较不受并发影响。
+ *     被接受的指标同时重新渲染到 {@link RenderedResponseCache}，
+ *     其他节点的热点端点不会继续返回本节点上一轮渲染的旧响应。
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndicatorBroadcaster implements ApplicationListener<ContextClosedEvent>
+{
+    /** 本节点 ID（每次启动随机生成）。*/
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** 各指标已经应用的最新版本号（以 {@link IndicatorKeyNames#ordinal()} 为下标）。*/
+    @Getter(AccessLevel.PACKAGE)
+    private final AtomicLongArray appliedVersions
+        = new AtomicLongArray(IndicatorKeyNames.values().length);
+
+    /** 广播器是否正在关闭的标志位。*/
+    private final
+    AtomicBoolean isShuttingDown = new AtomicBoolean(false);
+
+    /** Jackson 对象映射器。*/
+    private final ObjectMapper objectMapper;
+
+    /** 主数据库连接属性。*/
+    private final R2dbcMasterProperties properties;
+
+    /** Redis 缓存操作相关属性。*/
+    private final RedisCacheProperties redisCacheProperties;
+
+    /** 值为原始字节的响应式 Redis 模板（发布与订阅广播消息）。*/
+    private final
+    ReactiveRedisTemplate<String, byte[]> redisBlobTemplate;
+
+    /** 节点本地（L1）指标缓存。*/
+    private final
+    LocalIndicatorCache localIndicatorCache;
+
+    /** 缓存预热事件发布器。*/
+    private final
+    CacherWarmUpEventPublisher cacherWarmUpEventPublisher;
+
+    /** 预先渲染好的热点端点响应体缓存。*/
+    private final
+    RenderedResponseCache renderedResponseCache;
+
+    /** 订阅凭据。*/
+    private Disposable disposable = null;
+
+    /** 是否启用了跨节点广播？*/
+    public boolean isEnabled() {
+        return this.redisCacheProperties.getBroadcast().isEnabled();
+    }
+
+    /** 拼接广播频道名（每个目标数据库一个频道）。*/
+    private @NotNull String getChannel()
+    {
+        return
+        this.redisCacheProperties.getKeyPrefix() +
+        this.properties.getHost() + ":broadcast";
+    }
+
+    /**
+     * 广播一轮新计算出的指标数据，
+     * 发布失败只记录日志（其他节点仍然可以从 Redis 中读到数据）。
+     */
+    public @NotNull Mono<Void>
+    publish(long tickVersion, @NotNull Map<IndicatorKeyNames, ResponseBase<?>> indicators)
+    {
+        if (!this.isEnabled() || indicators.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return
+        Mono.fromCallable(() -> {
+            final Map<String, ResponseBase<?>> payload = new LinkedHashMap<>();
+
+            indicators.forEach((keyNames, indicator) ->
+                payload.put(keyNames.getKeyName(), indicator));
+
+            return
+            this.objectMapper.writeValueAsBytes(
+                new IndicatorBroadcast(this.nodeId, tickVersion, payload)
+            );
+        })
+        .flatMap((message) ->
+            this.redisBlobTemplate
+                .convertAndSend(this.getChannel(), message)
+                .timeout(this.redisCacheProperties.getCacheOperatorTimeout()))
+        .doOnNext((receivers) ->
+            indicators.keySet().forEach((keyNames) ->
+                this.appliedVersions.accumulateAndGet(keyNames.ordinal(), tickVersion, Math::max)))
+        .onErrorResume((exception) -> {
+            log.warn(
+                "Broadcast indicators of version {} failed! Caused by {}.",
+                tickVersion, exception.getMessage()
+            );
+
+            return Mono.empty();
+        })
+        .then();
+    }
+
+    /** 在广播器构建完毕后订阅广播频道（连接断开后以指数退避的方式重新订阅）。*/
+    @PostConstruct
+    private void startListening()
+    {
+        if (!this.isEnabled()) {
+            return;
+        }
+
+        log.info("Listening indicator broadcast on channel {} (node: {})", this.getChannel(), this.nodeId);
+
+        this.disposable
+            = this.redisBlobTemplate
+                  .listenToChannel(this.getChannel())
+                  .filter((ignore) -> !this.isShuttingDown.get())
+                  .publishOn(Schedulers.boundedElastic())
+                  .concatMap((message) -> this.onMessage(message.getMessage()))
+                  .retryWhen(
+                      Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1L))
+                           .maxBackoff(Duration.ofSeconds(30L))
+                           .filter((ignore) -> !this.isShuttingDown.get())
+                           .doBeforeRetry((signal) ->
+                               log.warn(
+                                   "Indicator broadcast subscription lost, resubscribing... Caused by: {}",
+                                   signal.failure().getMessage()
+                               ))
+                  )
+                  .subscribe();
+    }
+
+    /**
+     * 处理其他节点发布的一轮指标数据：写入本地缓存、标记预热完成并重新渲染响应体，
+     * 处理失败只记录日志（不能让订阅因为一条消息而中断）。
+     */
+    @NotNull Mono<Void>
+    onMessage(byte[] message)
+    {
+        return
+        Mono.fromCallable(() -> this.applyBroadcast(message))
+            .flatMap(this.renderedResponseCache::render)
+            .onErrorResume((exception) -> {
+                log.warn("Ignore indicator broadcast that cannot be applied. Caused by: {}", exception.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * 把广播中不比已应用版本更旧的指标写入本地缓存。
+     *
+     * @return 被接受的指标，消息来自本节点时为空表
+     */
+    private @NotNull Map<IndicatorKeyNames, ResponseBase<?>>
+    applyBroadcast(byte[] message) throws IOException
+    {
+        final IndicatorBroadcast broadcast
+            = this.objectMapper.readValue(message, IndicatorBroadcast.class);
+
+        final Map<IndicatorKeyNames, ResponseBase<?>> accepted = new LinkedHashMap<>();
+
+        if (this.nodeId.equals(broadcast.nodeId()) || Objects.isNull(broadcast.indicators())) {
+            return accepted;
+        }
+
+        final long version = broadcast.tickVersion();
+
+        broadcast.indicators().forEach((keyName, indicator) -> {
+            try
+            {
+                final IndicatorKeyNames keyNames = IndicatorKeyNames.fromKeyName(keyName);
+
+                // 只接受不比该指标已应用版本更旧的数据
+                if (Objects.isNull(indicator) ||
+                    this.appliedVersions.getAndAccumulate(keyNames.ordinal(), version, Math::max) > version)
+                {
+                    log.debug("Ignore stale broadcast of indicator {} (version {}).", keyName, version);
+                    return;
+                }
+
+                this.localIndicatorCache.put(keyNames, indicator);
+                this.cacherWarmUpEventPublisher.markAsWarnUp(keyNames);
+
+                accepted.put(keyNames, indicator);
+            }
+            catch (IllegalArgumentException exception) {
+                // 其他版本的节点可能发布本节点不认识的指标
+                log.debug("Ignore unknown indicator {} in broadcast.", keyName);
+            }
+        });
+
+        return accepted;
+    }
+
+    /** 在 Spring 关闭上下文的时候取消订阅。*/
+    @Override
+    public void
+    onApplicationEvent(@NotNull ContextClosedEvent event)
+    {
+        log.info("Application context closed, stopping indicator broadcast listener...");
+
+        this.isShuttingDown.set(true);
+
+        if (Objects.nonNull(this.disposable) && !this.disposable.isDisposed())
+        {
+            this.disposable.dispose();
+            this.disposable = null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 指标数据的二进制缓存编码器（app.redis-cache.codec = blob 时使用）。
+ *
+ * <p>
+ *     每个指标编码成一整块带版本号的二进制数据，作为普通键的值存入 Redis：
+ *     <pre>[MAGIC: 1 byte][VERSION: 1 byte][Smile 编码的 ResponseBase（包含 type 类型信息）]</pre>
+ *     读取时一次 GET 之后直接解码，不再经过 LinkedHashMap、逐字段的 cjson 编解码和反射补类型信息。
+ * </p>
+ */
+@Component
+public class IndicatorBlobCodec
+{
+    /** 魔数，用于识别本编码器写入的数据。*/
+    public static final byte MAGIC = (byte) 0xA7;
+
+    /** 当前的编码版本（数据布局不兼容地变化时递增，旧版本的数据视为未命中）。*/
+    public static final byte VERSION = 1;
+
+    /** 头部长度。*/
+    private static final int HEADER_LENGTH = 2;
+
+    /** 以基类写出，保证类型信息一定被写入。*/
+    private final ObjectWriter blobWriter;
+
+    /** 以基类读入，由类型信息决定实际类型。*/
+    private final ObjectReader blobReader;
+
+    /** 复用应用的 Jackson 配置（模块、特性），只把底层格式换成 Smile。*/
+    public IndicatorBlobCodec(@NotNull ObjectMapper objectMapper)
+    {
+        final ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+
+        this.blobWriter = smileMapper.writerFor(ResponseBase.class);
+        this.blobReader = smileMapper.readerFor(ResponseBase.class);
+    }
+
+    /** 将指标数据编码成二进制数据。*/
+    public byte @NotNull [] encode(@NotNull ResponseBase<?> indicator) throws IOException
+    {
+        final byte[] body   = this.blobWriter.writeValueAsBytes(indicator);
+        final byte[] blob   = new byte[HEADER_LENGTH + body.length];
+
+        blob[0] = MAGIC;
+        blob[1] = VERSION;
+        System.arraycopy(body, 0, blob, HEADER_LENGTH, body.length);
+
+        return blob;
+    }
+
+    /**
+     * 将二进制数据解码成指定类型的指标数据。
+     *
+     * @throws IOException 魔数、版本不符，数据损坏，或者实际类型与 type 不符
+     */
+    public <T extends ResponseBase<T>> @NotNull T
+    decode(byte @NotNull [] blob, @NotNull Class<T> type) throws IOException
+    {
+        if (blob.length <= HEADER_LENGTH || blob[0] != MAGIC) {
+            throw new IOException("Not an indicator cache blob.");
+        }
+
+        if (blob[1] != VERSION)
+        {
+            throw new
+            IOException(
+                String.format(
+                    "Unsupported indicator cache blob version: %d (expected %d)",
+                    blob[1], VERSION
+                )
+            );
+        }
+
+        final Object indicator
+            = this.blobReader.readValue(blob, HEADER_LENGTH, blob.length - HEADER_LENGTH);
+
+        if (!type.isInstance(indicator))
+        {
+            throw new
+            IOException(
+                "Can not cast " + indicator.getClass() + " to " + type + "!"
+            );
+        }
+
+        return type.cast(indicator);
+    }
+}
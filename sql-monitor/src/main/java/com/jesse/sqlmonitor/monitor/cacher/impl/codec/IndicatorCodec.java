@@ -0,0 +1,75 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.codec;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 某一个 {@link ResponseBase} 子类型专用的 JSON 编解码器，
+ * 由 {@link IndicatorCodecRegistry} 在启动时构造，之后只读。
+ *
+ * @param type   指标数据的类型令牌
+ * @param reader 绑定到 type 的读取器（类型信息仍以 type 字段写在数据里）
+ * @param writer 绑定到 type 的写出器（写出的数据包括 type 字段）
+ */
+public record IndicatorCodec<T extends ResponseBase<T>>(
+    @NotNull Class<T>     type,
+    @NotNull ObjectReader reader,
+    @NotNull ObjectWriter writer
+)
+{
+    /** Lua 脚本把 null 字段存成空字符串。*/
+    private static final
+    byte[] JSON_NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    /** 将指标数据编码成 JSON（与原先 convertValue() 得到的字段一致，包括类型信息）。*/
+    public byte[] write(@NotNull ResponseBase<?> indicator) throws IOException {
+        return this.writer.writeValueAsBytes(indicator);
+    }
+
+    /** 将 JSON 解码成指标数据。*/
+    public @NotNull T read(byte @NotNull [] json) throws IOException {
+        return this.reader.readValue(json);
+    }
+
+    /**
+     * 将 Redis Hash 中的各字段还原成指标数据。
+     * 每个字段的值本来就是 Lua 脚本里 cjson 编码出的 JSON，
+     * 这里直接把它们拼接成一个 JSON 对象交给 {@link #reader}，不再经过中间的 Map 和 TokenBuffer。
+     * （字段名都是响应体的属性名，不需要转义）
+     */
+    public @NotNull T
+    readHash(@NotNull List<Map.Entry<String, byte[]>> fields) throws IOException
+    {
+        final ByteArrayOutputStream json = new ByteArrayOutputStream(fields.size() * 32);
+
+        json.write('{');
+
+        for (int index = 0; index < fields.size(); ++index)
+        {
+            final Map.Entry<String, byte[]> field = fields.get(index);
+            final byte[] value = field.getValue();
+
+            if (index > 0) {
+                json.write(',');
+            }
+
+            json.write('"');
+            json.writeBytes(field.getKey().getBytes(StandardCharsets.UTF_8));
+            json.write('"');
+            json.write(':');
+            json.writeBytes((value == null || value.length == 0) ? JSON_NULL : value);
+        }
+
+        json.write('}');
+
+        return this.reader.readValue(json.toByteArray());
+    }
+}
@@ -0,0 +1,83 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.codec;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 指标数据的按类型编解码器注册表。
+ *
+ * <p>
+ *     启动时为 {@link ResponseBase} 的每一个子类型（即其 {@link JsonSubTypes} 中登记的类型）
+ *     预先构造好专用的 {@link IndicatorCodec}，之后读写缓存只需一次查表，
+ *     不再在每次读取时反射查询注解、往 Map 里补类型信息，也不再经过 convertValue() 的 TokenBuffer。
+ * </p>
+ */
+@Slf4j
+@Component
+public class IndicatorCodecRegistry
+{
+    /** 类型令牌 -> 专用编解码器（构建完成后只读）。*/
+    private final Map<Class<?>, IndicatorCodec<?>> codecs;
+
+    public IndicatorCodecRegistry(@NotNull ObjectMapper objectMapper)
+    {
+        final Map<Class<?>, IndicatorCodec<?>> codecs = new HashMap<>();
+
+        for (JsonSubTypes.Type subType : ResponseBase.class.getAnnotation(JsonSubTypes.class).value()) {
+            codecs.put(subType.value(), makeCodec(subType.value(), objectMapper));
+        }
+
+        this.codecs = Map.copyOf(codecs);
+
+        log.info("Indicator codecs prepared for {} response types.", this.codecs.size());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull IndicatorCodec<?>
+    makeCodec(Class<?> type, @NotNull ObjectMapper objectMapper)
+    {
+        return
+        new IndicatorCodec(
+            type,
+            objectMapper.readerFor(type),
+            objectMapper.writerFor(type)
+        );
+    }
+
+    /**
+     * 获取指定类型的编解码器。
+     *
+     * @throws IllegalArgumentException 该类型没有在 {@link ResponseBase} 的 {@link JsonSubTypes} 中登记
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ResponseBase<T>> @NotNull IndicatorCodec<T>
+    codecFor(@NotNull Class<T> type)
+    {
+        final IndicatorCodec<?> codec = this.codecs.get(type);
+
+        if (Objects.isNull(codec))
+        {
+            throw new
+            IllegalArgumentException(
+                "Response type " + type.getName() + " is not registered in ResponseBase!"
+            );
+        }
+
+        return (IndicatorCodec<T>) codec;
+    }
+
+    /** 按指标数据的实际类型获取编解码器。*/
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public @NotNull IndicatorCodec<?>
+    codecOf(@NotNull ResponseBase<?> indicator) {
+        return this.codecFor((Class) indicator.getClass());
+    }
+}
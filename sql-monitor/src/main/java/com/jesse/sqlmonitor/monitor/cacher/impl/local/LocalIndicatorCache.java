@@ -0,0 +1,142 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.local;
+
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 节点本地（L1）指标缓存，
+ * 保存已经反序列化好的 {@link ResponseBase} 实例，命中时既没有网络 I/O 也没有 Jackson 转换。
+ *
+ * <p>
+ *     以 {@link IndicatorKeyNames#ordinal()} 为下标存放（每个节点只监测一个目标数据库），
+ *     容量天然以指标种类数为上限；条目的有效期在写入时取 {@link CacheTtlHolder#getTtl()}，
+ *     与 Redis 中的缓存一致（启用自适应采样时由采样器随采样间隔更新）。
+ * </p>
+ */
+@Slf4j
+@Component
+public class LocalIndicatorCache
+{
+    /** 指标名。*/
+    public static final String CACHE_METRIC = "sqlmonitor.indicator.cache.l1";
+
+    /** 缓存一份枚举数组，避免每次 values() 都拷贝。*/
+    private static final
+    IndicatorKeyNames[] KEY_NAMES = IndicatorKeyNames.values();
+
+    /** Redis 缓存层相关属性（读取本地缓存开关）。*/
+    private final RedisCacheProperties redisCacheProperties;
+
+    /** 缓存当前实际使用的有效期。*/
+    private final CacheTtlHolder cacheTtlHolder;
+
+    /** 各指标的缓存条目。*/
+    private final AtomicReferenceArray<Entry> entries
+        = new AtomicReferenceArray<>(KEY_NAMES.length);
+
+    /** 各指标的命中次数。*/
+    private final Counter[] hitCounters = new Counter[KEY_NAMES.length];
+
+    /** 各指标的未命中次数（包括过期）。*/
+    private final Counter[] missCounters = new Counter[KEY_NAMES.length];
+
+    /**
+     * 一个缓存条目（构建完成后只读）。
+     *
+     * @param indicator      已经反序列化好的指标数据
+     * @param expiresAtNanos 过期时刻（System.nanoTime()）
+     */
+    private record Entry(ResponseBase<?> indicator, long expiresAtNanos)
+    {
+        boolean isExpired(long nowNanos) {
+            return nowNanos - this.expiresAtNanos >= 0L;
+        }
+    }
+
+    public LocalIndicatorCache(
+        @NotNull RedisCacheProperties redisCacheProperties,
+        @NotNull CacheTtlHolder       cacheTtlHolder,
+        @NotNull MeterRegistry        meterRegistry
+    )
+    {
+        this.redisCacheProperties = redisCacheProperties;
+        this.cacheTtlHolder       = cacheTtlHolder;
+
+        for (IndicatorKeyNames keyNames : KEY_NAMES)
+        {
+            this.hitCounters[keyNames.ordinal()]
+                = Counter.builder(CACHE_METRIC)
+                         .tag("key", keyNames.getKeyName())
+                         .tag("result", "hit")
+                         .register(meterRegistry);
+
+            this.missCounters[keyNames.ordinal()]
+                = Counter.builder(CACHE_METRIC)
+                         .tag("key", keyNames.getKeyName())
+                         .tag("result", "miss")
+                         .register(meterRegistry);
+        }
+    }
+
+    /** 本地缓存是否启用？*/
+    public boolean isEnabled() {
+        return this.redisCacheProperties.getLocalCache().isEnabled();
+    }
+
+    /**
+     * 读取指定指标的本地缓存。
+     *
+     * @return 不存在、已过期或者类型不符时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ResponseBase<T>> @Nullable T
+    get(@NotNull IndicatorKeyNames keyNames, @NotNull Class<T> type)
+    {
+        if (!this.isEnabled()) {
+            return null;
+        }
+
+        final int slot    = keyNames.ordinal();
+        final Entry entry = this.entries.get(slot);
+
+        if (entry == null || entry.isExpired(System.nanoTime()) || !type.isInstance(entry.indicator()))
+        {
+            this.missCounters[slot].increment();
+            return null;
+        }
+
+        this.hitCounters[slot].increment();
+
+        return (T) entry.indicator();
+    }
+
+    /** 写入（覆盖）指定指标的本地缓存。*/
+    public void put(@NotNull IndicatorKeyNames keyNames, @NotNull ResponseBase<?> indicator)
+    {
+        if (!this.isEnabled()) {
+            return;
+        }
+
+        final long ttlNanos = this.cacheTtlHolder.getTtl().toNanos();
+
+        this.entries.set(
+            keyNames.ordinal(),
+            new Entry(indicator, System.nanoTime() + ttlNanos)
+        );
+    }
+
+    /** 删除指定指标的本地缓存。*/
+    public void evict(@NotNull IndicatorKeyNames keyNames) {
+        this.entries.set(keyNames.ordinal(), null);
+    }
+}
@@ -0,0 +1,221 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.monitor.cacher.TickIndicator;
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.properties.IndicatorSamplerProperties;
+import com.jesse.sqlmonitor.response_body.NetWorkTraffic;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import io.github.jessez332623.reactive_response_builder.ReactiveResponseBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 预先渲染好的热点端点响应体缓存。
+ *
+ * <p>
+ *     后台采样器每轮只把指标数据交给 {@link ReactiveResponseBuilder} 的 OK() 包装一次，
+ *     取出其中的响应实体用 Jackson 序列化成最终的 JSON 字节，拷贝进一块只读的直接内存保存下来；
+ *     请求到来时直接把这块内存包装成 DataBuffer 写出（不拷贝，也不必再从堆内存拷贝到直接内存），
+ *     每次请求不再有反序列化与序列化的开销。
+ * </p>
+ *
+ * <p>
+ *     这里没有使用池化的 DataBuffer：同一个条目被所有并发请求共享、每轮又会被替换，
+ *     池化缓冲区在替换时释放后可能立刻被回收复用，
+ *     还拿着旧引用的请求再去 retain 时就会写出别人的数据，要避免只能在热点路径上加锁。
+ *     而每轮只渲染一次、每个指标只有几百字节，直接内存交给 GC 回收即可，
+ *     每次请求只需要包装一个 duplicate()，不涉及引用计数。
+ * </p>
+ *
+ * <p>
+ *     条目与本地指标缓存一样以 {@link IndicatorKeyNames#ordinal()} 为下标存放，
+ *     有效期取 {@link CacheTtlHolder#getTtl()}，过期或不存在时由调用方走原先的路径。
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RenderedResponseCache
+{
+    /** Jackson 对象映射器（与 WebFlux 编码响应体时使用的是同一个）。*/
+    private final ObjectMapper objectMapper;
+
+    /** 后台采样器属性（读取响应体预渲染开关）。*/
+    private final IndicatorSamplerProperties samplerProperties;
+
+    /** 缓存当前实际使用的有效期。*/
+    private final CacheTtlHolder cacheTtlHolder;
+
+    /** 各指标渲染好的响应。*/
+    private final AtomicReferenceArray<Rendered> entries
+        = new AtomicReferenceArray<>(IndicatorKeyNames.values().length);
+
+    /**
+     * 一份渲染好的响应（构建完成后只读）。
+     *
+     * @param status         响应状态码
+     * @param headers        响应头
+     * @param body           最终的 JSON 响应体（只读的直接内存，读取时先 duplicate()）
+     * @param expiresAtNanos 过期时刻（System.nanoTime()）
+     */
+    private record Rendered(
+        HttpStatusCode status, HttpHeaders headers,
+        ByteBuffer body, long expiresAtNanos
+    ) {}
+
+    /** 把渲染好的 JSON 字节拷贝进一块只读的直接内存。*/
+    private static @NotNull ByteBuffer
+    toDirectBuffer(byte @NotNull [] json)
+    {
+        return
+        ByteBuffer.allocateDirect(json.length)
+                  .put(json)
+                  .flip()
+                  .asReadOnlyBuffer();
+    }
+
+    /** 是否启用了响应体预渲染？*/
+    public boolean isEnabled() {
+        return this.samplerProperties.isRenderResponses();
+    }
+
+    /** 渲染同一轮采样的所有指标，失败的指标只是不会被预渲染。*/
+    public @NotNull Mono<Void>
+    render(@NotNull List<TickIndicator<?>> indicators)
+    {
+        if (!this.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return
+        Flux.fromIterable(indicators)
+            .flatMap((tick) -> this.render(tick.keyNames(), tick.indicator()))
+            .then();
+    }
+
+    /** 渲染其他节点广播过来的指标（本节点的条目随之更新到对方的版本）。*/
+    public @NotNull Mono<Void>
+    render(@NotNull Map<IndicatorKeyNames, ResponseBase<?>> indicators)
+    {
+        if (!this.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return
+        Flux.fromIterable(indicators.entrySet())
+            .flatMap((entry) -> this.render(entry.getKey(), entry.getValue()))
+            .then();
+    }
+
+    /** 渲染单个指标的响应体。*/
+    private @NotNull Mono<Void>
+    render(@NotNull IndicatorKeyNames keyNames, @NotNull ResponseBase<?> indicator)
+    {
+        final long expiresAtNanos
+            = System.nanoTime() + this.cacheTtlHolder.getTtl().toNanos();
+
+        // 网络流量按配置的计量单位渲染（缓存中是 B/s）
+        final ResponseBase<?> body
+            = (indicator instanceof NetWorkTraffic traffic)
+                ? traffic.convertTo(this.samplerProperties.getTrafficUnit())
+                : indicator;
+
+        return
+        ReactiveResponseBuilder.OK(body, null)
+            .handle((response, sink) -> {
+                // 只有实体响应才能取出响应体，其他情况下该端点不做预渲染
+                if (!(response instanceof EntityResponse<?> entityResponse))
+                {
+                    this.entries.set(keyNames.ordinal(), null);
+                    return;
+                }
+
+                try
+                {
+                    final HttpHeaders headers = new HttpHeaders();
+
+                    headers.addAll(entityResponse.headers());
+
+                    if (Objects.isNull(headers.getContentType())) {
+                        headers.setContentType(MediaType.APPLICATION_JSON);
+                    }
+
+                    this.entries.set(
+                        keyNames.ordinal(),
+                        new Rendered(
+                            entityResponse.statusCode(),
+                            HttpHeaders.readOnlyHttpHeaders(headers),
+                            toDirectBuffer(this.objectMapper.writeValueAsBytes(entityResponse.entity())),
+                            expiresAtNanos
+                        )
+                    );
+                }
+                catch (Exception exception)
+                {
+                    this.entries.set(keyNames.ordinal(), null);
+                    sink.error(exception);
+                }
+            })
+            .then()
+            .onErrorResume((exception) -> {
+                log.warn(
+                    "Render response of indicator {} failed! Caused by: {}",
+                    keyNames.getKeyName(), exception.getMessage()
+                );
+
+                return Mono.empty();
+            });
+    }
+
+    /** 删除指定指标渲染好的响应（比如它的缓存被删除了）。*/
+    public void evict(@NotNull IndicatorKeyNames keyNames) {
+        this.entries.set(keyNames.ordinal(), null);
+    }
+
+    /**
+     * 用渲染好的字节直接构造响应。
+     *
+     * @return 没有渲染好的响应或者已经过期时返回 {@link Mono#empty()}
+     */
+    public @NotNull Mono<ServerResponse>
+    respond(@NotNull IndicatorKeyNames keyNames)
+    {
+        if (!this.isEnabled()) {
+            return Mono.empty();
+        }
+
+        final Rendered rendered = this.entries.get(keyNames.ordinal());
+
+        if (Objects.isNull(rendered) || System.nanoTime() - rendered.expiresAtNanos() >= 0L) {
+            return Mono.empty();
+        }
+
+        return
+        ServerResponse
+            .status(rendered.status())
+            .headers((headers) -> headers.addAll(rendered.headers()))
+            .body((outputMessage, context) ->
+                outputMessage.writeWith(
+                    Mono.fromSupplier(() ->
+                        // wrap() 只包装不拷贝，每个请求各自拿一份独立读写位置的视图
+                        outputMessage.bufferFactory().wrap(rendered.body().duplicate()))
+                ));
+    }
+}
@@ -0,0 +1,283 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.metrics;
+
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.StaleWhileRevalidate.Outcome;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 缓存层（L2 Redis、分布式锁、Lua 脚本、预热）的 Micrometer 指标，
+ * 按 {@link IndicatorKeyNames} 打上 key 标签，在构造时全部注册好，记录时只做数组下标访问。
+ *
+ * <p>本地缓存（L1）的命中情况见 {@link com.jesse.sqlmonitor.monitor.cacher.impl.local.LocalIndicatorCache#CACHE_METRIC}。</p>
+ */
+@Component
+public class IndicatorCacheMetrics
+{
+    /** Redis 缓存读取结果（result = hit / miss / error）。*/
+    public static final String LOOKUP_METRIC = "sqlmonitor.indicator.cache.l2";
+
+    /** 回退到数据库计算指标的次数（reason 见 {@link FallbackReason}）。*/
+    public static final String FALLBACK_METRIC = "sqlmonitor.indicator.cache.fallback";
+
+    /** 等待分布式锁的耗时（outcome = acquired / timeout / error，带直方图）。*/
+    public static final String LOCK_WAIT_METRIC = "sqlmonitor.indicator.cache.lock.wait";
+
+    /** 没有获取到分布式锁的次数（超时或出错）。*/
+    public static final String LOCK_FAILURE_METRIC = "sqlmonitor.indicator.cache.lock.failure";
+
+    /** 获取锁后的二次检查结果（result = hit / miss，hit 说明别的调用者刚刚写好了缓存）。*/
+    public static final String RECHECK_METRIC = "sqlmonitor.indicator.cache.lock.recheck";
+
+    /** 缓存写入 Lua 脚本的执行耗时（script、outcome = success / error）。*/
+    public static final String SCRIPT_METRIC = "sqlmonitor.indicator.cache.script";
+
+    /** stale-while-revalidate 后台刷新的结果（result = success / failure / skipped）。*/
+    public static final String REVALIDATE_METRIC = "sqlmonitor.indicator.cache.revalidate";
+
+    /** 预热状态（1 为已预热）。*/
+    public static final String WARM_UP_METRIC = "sqlmonitor.indicator.cache.warm-up";
+
+    /** 预热状态切换次数（state = warm / cold）。*/
+    public static final String WARM_UP_TRANSITION_METRIC = "sqlmonitor.indicator.cache.warm-up.transitions";
+
+    /** 回退到数据库的原因。*/
+    public enum FallbackReason
+    {
+        /** Redis 不健康或者熔断中。*/
+        UNAVAILABLE,
+
+        /** 缓存尚未预热。*/
+        COLD,
+
+        /** 缓存中没有数据。*/
+        MISS,
+
+        /** 缓存、锁操作出错（包括获取锁超时）。*/
+        ERROR;
+
+        private final String tag = this.name().toLowerCase(Locale.ROOT);
+    }
+
+    /** 缓存一份枚举数组，避免每次 values() 都拷贝。*/
+    private static final
+    IndicatorKeyNames[] KEY_NAMES = IndicatorKeyNames.values();
+
+    private static final
+    FallbackReason[] REASONS = FallbackReason.values();
+
+    private static final
+    Outcome[] OUTCOMES = Outcome.values();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter[] lookupHits;
+    private final Counter[] lookupMisses;
+    private final Counter[] lookupErrors;
+
+    /** [key][reason] */
+    private final Counter[][] fallbacks;
+
+    private final Timer[] lockAcquired;
+    private final Timer[] lockTimeout;
+    private final Timer[] lockError;
+    private final Counter[] lockFailures;
+
+    private final Counter[] recheckHits;
+    private final Counter[] recheckMisses;
+
+    /** [key][outcome] */
+    private final Counter[][] revalidations;
+
+    private final Counter[] warmUpTransitions;
+    private final Counter[] coolDownTransitions;
+
+    public IndicatorCacheMetrics(@NotNull MeterRegistry meterRegistry)
+    {
+        this.meterRegistry = meterRegistry;
+
+        final int keys = KEY_NAMES.length;
+
+        this.lookupHits          = new Counter[keys];
+        this.lookupMisses        = new Counter[keys];
+        this.lookupErrors        = new Counter[keys];
+        this.fallbacks           = new Counter[keys][REASONS.length];
+        this.lockAcquired        = new Timer[keys];
+        this.lockTimeout         = new Timer[keys];
+        this.lockError           = new Timer[keys];
+        this.lockFailures        = new Counter[keys];
+        this.recheckHits         = new Counter[keys];
+        this.recheckMisses       = new Counter[keys];
+        this.revalidations       = new Counter[keys][OUTCOMES.length];
+        this.warmUpTransitions   = new Counter[keys];
+        this.coolDownTransitions = new Counter[keys];
+
+        for (IndicatorKeyNames keyNames : KEY_NAMES)
+        {
+            final int    slot = keyNames.ordinal();
+            final String key  = keyNames.getKeyName();
+
+            this.lookupHits[slot]   = this.counter(LOOKUP_METRIC, key, "result", "hit");
+            this.lookupMisses[slot] = this.counter(LOOKUP_METRIC, key, "result", "miss");
+            this.lookupErrors[slot] = this.counter(LOOKUP_METRIC, key, "result", "error");
+
+            for (FallbackReason reason : REASONS) {
+                this.fallbacks[slot][reason.ordinal()] = this.counter(FALLBACK_METRIC, key, "reason", reason.tag);
+            }
+
+            this.lockAcquired[slot] = this.lockWaitTimer(key, "acquired");
+            this.lockTimeout[slot]  = this.lockWaitTimer(key, "timeout");
+            this.lockError[slot]    = this.lockWaitTimer(key, "error");
+
+            this.lockFailures[slot]
+                = Counter.builder(LOCK_FAILURE_METRIC)
+                         .tag("key", key)
+                         .register(meterRegistry);
+
+            this.recheckHits[slot]   = this.counter(RECHECK_METRIC, key, "result", "hit");
+            this.recheckMisses[slot] = this.counter(RECHECK_METRIC, key, "result", "miss");
+
+            for (Outcome outcome : OUTCOMES) {
+                this.revalidations[slot][outcome.ordinal()] = this.counter(REVALIDATE_METRIC, key, "result", outcome.tag());
+            }
+
+            this.warmUpTransitions[slot]   = this.counter(WARM_UP_TRANSITION_METRIC, key, "state", "warm");
+            this.coolDownTransitions[slot] = this.counter(WARM_UP_TRANSITION_METRIC, key, "state", "cold");
+        }
+    }
+
+    private @NotNull Counter
+    counter(String name, String key, String tagName, String tagValue)
+    {
+        return
+        Counter.builder(name)
+               .tag("key", key)
+               .tag(tagName, tagValue)
+               .register(this.meterRegistry);
+    }
+
+    private @NotNull Timer
+    lockWaitTimer(String key, String outcome)
+    {
+        return
+        Timer.builder(LOCK_WAIT_METRIC)
+             .description("Time spent waiting for the indicator cache lock")
+             .tag("key", key)
+             .tag("outcome", outcome)
+             .publishPercentileHistogram()
+             .minimumExpectedValue(Duration.ofMillis(1L))
+             .register(this.meterRegistry);
+    }
+
+    /** 记录一次 Redis 缓存读取的结果。*/
+    public void recordLookup(@NotNull IndicatorKeyNames keyNames, boolean hit)
+    {
+        (hit ? this.lookupHits : this.lookupMisses)[keyNames.ordinal()].increment();
+    }
+
+    /** 记录一次 Redis 缓存读取失败（包括解码失败）。*/
+    public void recordLookupError(@NotNull IndicatorKeyNames keyNames) {
+        this.lookupErrors[keyNames.ordinal()].increment();
+    }
+
+    /** 记录一次回退到数据库。*/
+    public void recordFallback(@NotNull IndicatorKeyNames keyNames, @NotNull FallbackReason reason) {
+        this.fallbacks[keyNames.ordinal()][reason.ordinal()].increment();
+    }
+
+    /** 记录获取锁后二次检查的结果。*/
+    public void recordRecheck(@NotNull IndicatorKeyNames keyNames, boolean hit)
+    {
+        (hit ? this.recheckHits : this.recheckMisses)[keyNames.ordinal()].increment();
+    }
+
+    /** 记录一次后台刷新的结果。*/
+    public void recordRevalidation(@NotNull IndicatorKeyNames keyNames, @NotNull Outcome outcome) {
+        this.revalidations[keyNames.ordinal()][outcome.ordinal()].increment();
+    }
+
+    /** 记录一次预热状态切换。*/
+    public void recordWarmUpTransition(@NotNull IndicatorKeyNames keyNames, boolean warm)
+    {
+        (warm ? this.warmUpTransitions : this.coolDownTransitions)[keyNames.ordinal()].increment();
+    }
+
+    /** 注册一个指标的预热状态仪表。*/
+    public void
+    registerWarmUpGauge(@NotNull IndicatorKeyNames keyNames, @NotNull BooleanSupplier isWarmUp)
+    {
+        Gauge.builder(WARM_UP_METRIC, isWarmUp, (supplier) -> supplier.getAsBoolean() ? 1.0 : 0.0)
+             .tag("key", keyNames.getKeyName())
+             .register(this.meterRegistry);
+    }
+
+    /** 为一次 tryLock() 计时，没有获取到锁（返回 false 或者出错）时同时记一次失败。*/
+    public @NotNull Mono<Boolean>
+    timeLockWait(@NotNull IndicatorKeyNames keyNames, @NotNull Mono<Boolean> tryLock)
+    {
+        final int slot = keyNames.ordinal();
+
+        return
+        Mono.defer(() -> {
+            final long start = System.nanoTime();
+
+            return
+            tryLock
+                .doOnSuccess((isLocked) -> {
+                    final boolean acquired = Boolean.TRUE.equals(isLocked);
+
+                    (acquired ? this.lockAcquired : this.lockTimeout)[slot]
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                    if (!acquired) {
+                        this.lockFailures[slot].increment();
+                    }
+                })
+                .doOnError((exception) -> {
+                    this.lockError[slot].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    this.lockFailures[slot].increment();
+                });
+        });
+    }
+
+    /** 为一次 Lua 脚本执行计时（脚本只有寥寥几个，计时器交给注册表按名字查找）。*/
+    public <T> @NotNull Mono<T>
+    timeScript(@NotNull String scriptName, @NotNull Mono<T> execution)
+    {
+        return
+        Mono.defer(() -> {
+            final long start = System.nanoTime();
+
+            return
+            execution
+                .doOnSuccess((ignore) ->
+                    this.scriptTimer(scriptName, "success")
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .doOnError((exception) ->
+                    this.scriptTimer(scriptName, "error")
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private @NotNull Timer
+    scriptTimer(String scriptName, String outcome)
+    {
+        return
+        Timer.builder(SCRIPT_METRIC)
+             .description("Execution time of the indicator cache lua scripts")
+             .tag("script", scriptName)
+             .tag("outcome", outcome)
+             .publishPercentileHistogram()
+             .register(this.meterRegistry);
+    }
+}
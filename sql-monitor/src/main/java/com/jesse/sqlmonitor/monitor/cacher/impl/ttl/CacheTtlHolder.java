@@ -0,0 +1,61 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.ttl;
+
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 缓存当前实际使用的有效期。
+ *
+ * <p>
+ *     初始值取自 app.redis-cache.ttl，配置类本身在运行期间保持不变；
+ *     启用自适应采样时只有采样器通过 {@link #update(Duration)} 修改它，
+ *     缓存层（Redis、本地缓存、预渲染响应体）统一从这里读取，
+ *     因此有效期的变化对所有读者都是显式的。
+ * </p>
+ */
+@Component
+public class CacheTtlHolder
+{
+    /** Redis 缓存层相关属性（读取配置的有效期与 stale-while-revalidate 设置）。*/
+    private final RedisCacheProperties redisCacheProperties;
+
+    /** 当前的（软）有效期。*/
+    private volatile Duration ttl;
+
+    public CacheTtlHolder(@NotNull RedisCacheProperties redisCacheProperties)
+    {
+        this.redisCacheProperties = redisCacheProperties;
+        this.ttl = Objects.requireNonNull(
+            redisCacheProperties.getTtl(), "app.redis-cache.ttl must be configured"
+        );
+    }
+
+    /** 当前的有效期（启用 stale-while-revalidate 时为软有效期）。*/
+    public @NotNull Duration getTtl() {
+        return this.ttl;
+    }
+
+    /** 缓存数据在 Redis 中实际的有效期（启用 stale-while-revalidate 时为硬有效期）。*/
+    public @NotNull Duration storedTtl()
+    {
+        final Duration softTtl = this.ttl;
+
+        final RedisCacheProperties.StaleWhileRevalidate staleWhileRevalidate
+            = this.redisCacheProperties.getStaleWhileRevalidate();
+
+        return
+        (staleWhileRevalidate.isEnabled())
+            ? Duration.ofMillis(
+                  (long) (softTtl.toMillis() * Math.max(1.0, staleWhileRevalidate.getHardTtlFactor())))
+            : softTtl;
+    }
+
+    /** 更新当前的有效期（只由采样器在采样间隔变化时调用）。*/
+    public void update(@NotNull Duration ttl) {
+        this.ttl = ttl;
+    }
+}
@@ -14,6 +14,11 @@ import java.util.Map;
 /**
  * 缓存指标数据转换器。</br>
  * {@literal (Map <=> <T extends ResponseBase<T>>)}
+ *
+ * <p>
+ *     缓存的读写已经改用 {@link com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorCodecRegistry}，
+ *     这里的 Map 转换只保留作对比基准。
+ * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 final public class CacheDataConverter
@@ -0,0 +1,59 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.util;
+
+import org.jetbrains.annotations.NotNull;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 进程内的请求合并（single-flight），
+ * 同一个键上并发的调用者共享同一次正在进行的计算，计算结束后立即移除，
+ * 下一次调用会重新发起计算（这里不做任何结果缓存）。
+ *
+ * @param <K> 键的类型
+ */
+public final class SingleFlight<K>
+{
+    /** 键 -> 正在进行的计算。*/
+    private final Map<K, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 执行 supplier 提供的计算，若同一个键上已有计算正在进行则直接订阅它。
+     *
+     * <p>调用者需保证同一个键上的计算结果类型始终一致。</p>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull Mono<T>
+    execute(@NotNull K key, @NotNull Supplier<Mono<T>> supplier)
+    {
+        return
+        Mono.defer(() -> {
+            final AtomicReference<Mono<T>> self = new AtomicReference<>();
+
+            return
+            (Mono<T>) this.inFlight.computeIfAbsent(key, (ignore) -> {
+                final Runnable release = () -> this.inFlight.remove(key, self.get());
+
+                // 在结果向下游传递之前就移除，保证之后到来的调用者一定会发起新的计算
+                final Mono<T> call
+                    = Mono.defer(supplier)
+                          .doOnSuccess((result) -> release.run())
+                          .doOnError((exception) -> release.run())
+                          .doOnCancel(release)
+                          .cache();
+
+                self.set(call);
+
+                return call;
+            });
+        });
+    }
+
+    /** 当前正在进行的计算数量。*/
+    public int inFlightCount() {
+        return this.inFlight.size();
+    }
+}
@@ -0,0 +1,163 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * stale-while-revalidate 的读取与后台刷新流程（不关心数据存在哪里，读写操作都由调用者传入）：
+ *
+ * <ol>
+ *     <li>数据仍然新鲜，直接返回；</li>
+ *     <li>数据已经陈旧（超过软有效期但未超过硬有效期），立即返回陈旧数据，同时在后台刷新，
+ *         刷新之前先通过 {@link RevalidateGuard} 占位，所有节点中只有占位成功的调用者会去刷新；</li>
+ *     <li>没有任何数据（超过了硬有效期），交给调用者原先的读取路径。</li>
+ * </ol>
+ *
+ * 后台刷新的错误全部在内部处理（记录日志并报告 {@link Outcome#FAILURE}），不会影响已经返回的调用者。
+ *
+ * @param <K> 键的类型
+ */
+@Slf4j
+public final class StaleWhileRevalidate<K>
+{
+    /** 跨节点的刷新占位（比如 Redis 的 SET NX + 过期时间）。*/
+    public interface RevalidateGuard<K>
+    {
+        /** 尝试占位，返回是否占位成功。*/
+        @NotNull Mono<Boolean> tryAcquire(@NotNull K key);
+
+        /** 释放占位（刷新结束后调用，无论成功与否）。*/
+        @NotNull Mono<Void> release(@NotNull K key);
+    }
+
+    /** 一次后台刷新的结果。*/
+    public enum Outcome
+    {
+        /** 刷新成功。*/
+        SUCCESS,
+
+        /** 占位、刷新过程出错。*/
+        FAILURE,
+
+        /** 别的调用者正在刷新，本次跳过。*/
+        SKIPPED;
+
+        /** 指标标签值。*/
+        public @NotNull String tag() {
+            return this.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** 刷新占位。*/
+    private final RevalidateGuard<K> guard;
+
+    /** 每次后台刷新结束后的回调（比如记录指标）。*/
+    private final BiConsumer<K, Outcome> outcomeListener;
+
+    public StaleWhileRevalidate(
+        @NotNull RevalidateGuard<K>     guard,
+        @NotNull BiConsumer<K, Outcome> outcomeListener
+    )
+    {
+        this.guard           = guard;
+        this.outcomeListener = outcomeListener;
+    }
+
+    /**
+     * 按 stale-while-revalidate 的方式读取数据。
+     *
+     * @param key     键
+     * @param cached  缓存中的数据（没有数据时为空）
+     * @param fresh   缓存数据是否仍然新鲜
+     * @param onFresh 读到新鲜数据时的回调（比如写入本地缓存）
+     * @param refresh 重新计算并写入缓存（只在后台订阅）
+     * @param onMiss  缓存中没有数据时的读取路径
+     */
+    public <T> @NotNull Mono<T>
+    read(
+        @NotNull K             key,
+        @NotNull Mono<T>       cached,
+        @NotNull Mono<Boolean> fresh,
+        @NotNull Consumer<T>   onFresh,
+        @NotNull Mono<Void>    refresh,
+        @NotNull Mono<T>       onMiss
+    )
+    {
+        return
+        Mono.zip(
+            cached.map(Optional::of).defaultIfEmpty(Optional.empty()),
+            fresh.defaultIfEmpty(Boolean.FALSE)
+        )
+        .flatMap((tuple) -> {
+            if (tuple.getT1().isEmpty()) {
+                return onMiss;
+            }
+
+            final T value = tuple.getT1().get();
+
+            if (tuple.getT2()) {
+                onFresh.accept(value);
+            }
+            else {
+                this.revalidateInBackground(key, refresh);
+            }
+
+            return Mono.just(value);
+        });
+    }
+
+    /** 在后台刷新（不阻塞调用者）。*/
+    public @NotNull Disposable
+    revalidateInBackground(@NotNull K key, @NotNull Mono<Void> refresh) {
+        return this.revalidate(key, refresh).subscribe();
+    }
+
+    /**
+     * 后台刷新流程本身：占位成功才刷新，刷新结束后释放占位，
+     * 任何错误都不会传播到下游，结果通过 outcomeListener 报告（同时作为返回值）。
+     */
+    public @NotNull Mono<Outcome>
+    revalidate(@NotNull K key, @NotNull Mono<Void> refresh)
+    {
+        return
+        Mono.defer(() -> this.guard.tryAcquire(key))
+            .defaultIfEmpty(Boolean.FALSE)
+            .onErrorResume((exception) -> {
+                log.warn("Start revalidation of {} failed! Caused by {}.", key, exception.getMessage());
+                return Mono.empty();
+            })
+            .flatMap((acquired) ->
+                (acquired)
+                    ? this.refreshAndRelease(key, refresh)
+                    : Mono.just(Outcome.SKIPPED))
+            .defaultIfEmpty(Outcome.FAILURE)
+            .doOnNext((outcome) -> this.outcomeListener.accept(key, outcome));
+    }
+
+    /** 执行刷新，无论成功与否都释放占位（释放失败时占位会在过期后自行消失）。*/
+    private @NotNull Mono<Outcome>
+    refreshAndRelease(@NotNull K key, @NotNull Mono<Void> refresh)
+    {
+        return
+        refresh
+            .thenReturn(Outcome.SUCCESS)
+            .onErrorResume((exception) -> {
+                log.warn("Revalidate {} failed! Caused by {}.", key, exception.getMessage());
+                return Mono.just(Outcome.FAILURE);
+            })
+            .flatMap((outcome) ->
+                Mono.defer(() -> this.guard.release(key))
+                    .onErrorResume((exception) -> {
+                        log.warn("Release revalidation of {} failed! Caused by {}.", key, exception.getMessage());
+                        return Mono.empty();
+                    })
+                    .thenReturn(outcome));
+    }
+}
@@ -2,31 +2,111 @@ package com.jesse.sqlmonitor.monitor.cacher.impl.warm_up;
 
 import com.jesse.sqlmonitor.monitor.cacher.IndicatorCacher;
 import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
 import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 
-/** 指标预热事件监听器。*/
+/**
+ * 指标预热事件监听器。
+ *
+ * <p>
+ *     收到事件时（仍在发起请求的线程上）只登记待执行的预热：
+ *     每一类指标最多只有一个待执行的预热（后到的事件覆盖先到的数据），
+ *     因此等待队列的长度天然以指标种类数为上限。
+ *     实际的缓存写入由后台按 app.redis-cache.warm-up.write-interval 限速依次执行，
+ *     执行时若该类指标已经预热完成（比如被采样器或者前一次预热写入了）则直接跳过。
+ * </p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class CacheWarmUpEventListener
+public class CacheWarmUpEventListener implements ApplicationListener<ContextClosedEvent>
 {
+    /** 缓存一份枚举数组，避免每次 values() 都拷贝。*/
+    private static final
+    IndicatorKeyNames[] KEY_NAMES = IndicatorKeyNames.values();
+
     /** 指标数据缓存器实现。*/
     private final IndicatorCacher indicatorCacher;
 
+    /** 缓存预热事件发布器（查询预热状态）。*/
+    private final CacherWarmUpEventPublisher warmUpEventPublisher;
+
+    /** Redis 缓存层相关属性。*/
+    private final RedisCacheProperties redisCacheProperties;
+
+    /** 以 {@link IndicatorKeyNames#ordinal()} 为下标存放的待执行预热。*/
+    private final
+    AtomicReferenceArray<CacherWarnUpEvent<?>> pendingEvents
+        = new AtomicReferenceArray<>(KEY_NAMES.length);
+
+    /** 待执行预热的指标（与 pendingEvents 中的非空槽位一一对应）。*/
+    private final
+    BlockingQueue<IndicatorKeyNames> warmUpQueue
+        = new ArrayBlockingQueue<>(KEY_NAMES.length);
+
+    /** 监听器是否正在关闭的标志位。*/
+    private final
+    AtomicBoolean isShuttingDown = new AtomicBoolean(false);
+
+    /** 预热流订阅凭据。*/
+    private Disposable disposable = null;
+
+    /** 启动后台的预热写入流，每个间隔最多执行一次写入，上一次写入没有结束时跳过。*/
+    @PostConstruct
+    private void startWarmUpWriter()
+    {
+        this.disposable
+            = Flux.interval(this.redisCacheProperties.getWarmUp().getWriteInterval())
+                  .onBackpressureDrop()
+                  // 过滤掉关闭期间的 TICK
+                  .filter((tick) -> !this.isShuttingDown.get())
+                  .concatMap((tick) -> this.warmUpNext(), 1)
+                  .subscribe();
+    }
+
+    /**
+     * 在 Spring 关闭上下文的时候执行取消订阅，
+     * 相比起使用 @PreDestroy 更符合标准。
+     */
+    @Override
+    public void
+    onApplicationEvent(@NotNull ContextClosedEvent event)
+    {
+        log.info("Application context closed, stoping cache warm-up...");
+
+        this.isShuttingDown.set(true);
+
+        if (Objects.nonNull(this.disposable) && !this.disposable.isDisposed())
+        {
+            this.disposable.dispose();
+            this.disposable = null;
+        }
+    }
+
     /**
      * 当检查到 {@link CacherWarnUpEvent} 实例被创建时
      *（即调用 {@link CacherWarmUpEventPublisher#publishWarnUpEvent(IndicatorKeyNames, ResponseBase, Class)}）
-     * 尝试往缓存写入数据。
+     * 登记一次待执行的预热。
      */
     @EventListener
     public <T extends ResponseBase<T>> void
@@ -37,22 +117,8 @@ public class CacheWarmUpEventListener
         // 虽然目前只存在一个 CacherWarnUpEvent 事件发布器，但这种检查作为一个示范存在。
         if (event.getSource() instanceof CacherWarmUpEventPublisher)
         {
-            if (Objects.nonNull(event.getData()))
-            {
-                ResponseBase<T> data = event.getData();
-
-                this.indicatorCacher
-                    .cacheIndicatorData(
-                        event.getKeyNames(), data, event.getType())
-                    .subscribe(
-                        null,
-                        (exception) ->
-                            log.warn(
-                                "Cache warn up failed for data: {}, Caused by: {}",
-                                event.getKeyNames().name(),
-                                exception.getMessage()
-                            )
-                    );
+            if (Objects.nonNull(event.getData())) {
+                this.enqueue(event);
             }
         }
         else
@@ -66,4 +132,59 @@ public class CacheWarmUpEventListener
             );
         }
     }
-}
\ No newline at end of file
+
+    /** 登记一次待执行的预热，同一类指标已经在等待时只更新数据。*/
+    private void enqueue(@NotNull CacherWarnUpEvent<?> event)
+    {
+        final IndicatorKeyNames keyNames = event.getKeyNames();
+
+        if (Objects.nonNull(this.pendingEvents.getAndSet(keyNames.ordinal(), event))) {
+            return;
+        }
+
+        if (!this.warmUpQueue.offer(keyNames))
+        {
+            // 队列容量等于指标种类数，正常情况下不会发生
+            this.pendingEvents.set(keyNames.ordinal(), null);
+            log.warn("Warm-up queue is full, drop warm-up for: {}", keyNames.name());
+        }
+    }
+
+    /** 取出下一个待执行的预热并写入缓存。*/
+    private @NotNull Mono<Void> warmUpNext()
+    {
+        final IndicatorKeyNames keyNames = this.warmUpQueue.poll();
+
+        if (Objects.isNull(keyNames)) {
+            return Mono.empty();
+        }
+
+        final CacherWarnUpEvent<?> event
+            = this.pendingEvents.getAndSet(keyNames.ordinal(), null);
+
+        // 已经被采样器或者前一次预热写入了，不再重复写入
+        if (Objects.isNull(event) || this.warmUpEventPublisher.isWarmUp(keyNames)) {
+            return Mono.empty();
+        }
+
+        return this.cacheWarmUpData(event);
+    }
+
+    private <T extends ResponseBase<T>> @NotNull Mono<Void>
+    cacheWarmUpData(@NotNull CacherWarnUpEvent<T> event)
+    {
+        return
+        this.indicatorCacher
+            .cacheIndicatorData(event.getKeyNames(), event.getData(), event.getType())
+            .then()
+            .onErrorResume((exception) -> {
+                log.warn(
+                    "Cache warn up failed for data: {}, Caused by: {}",
+                    event.getKeyNames().name(),
+                    exception.getMessage()
+                );
+
+                return Mono.empty();
+            });
+    }
+}
@@ -1,7 +1,9 @@
 package com.jesse.sqlmonitor.monitor.cacher.impl.warm_up;
 
+import com.jesse.sqlmonitor.monitor.cacher.impl.metrics.IndicatorCacheMetrics;
 import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
 import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,6 +22,10 @@ public class CacherWarmUpEventPublisher
     private final
     ApplicationEventPublisher eventPublisher;
 
+    /** 缓存层的 Micrometer 指标（记录预热状态及其切换）。*/
+    private final
+    IndicatorCacheMetrics cacheMetrics;
+
     /** 某个类型的缓存数据 -> 预热状态 哈希表。*/
     private final
     Map<IndicatorKeyNames, Boolean>
@@ -28,7 +34,16 @@ public class CacherWarmUpEventPublisher
     /** Redis 服务的健康状态。*/
     private volatile boolean redisHealth = true;
 
-    /** 发布一个缓存预热事件。*/
+    /** 为每一类缓存数据注册预热状态仪表。*/
+    @PostConstruct
+    private void registerWarmUpGauges()
+    {
+        for (IndicatorKeyNames keyNames : IndicatorKeyNames.values()) {
+            this.cacheMetrics.registerWarmUpGauge(keyNames, () -> this.isWarmUp(keyNames));
+        }
+    }
+
+    /** 发布一个缓存预热事件（监听器只登记待执行的预热，实际的写入在后台限速执行）。*/
     public <T extends ResponseBase<T>> void
     publishWarnUpEvent(
         IndicatorKeyNames keyNames,
@@ -60,6 +75,7 @@ public class CacherWarmUpEventPublisher
             }
 
             this.warnUpStatus.put(keyNames, true);
+            this.cacheMetrics.recordWarmUpTransition(keyNames, true);
             log.info("Cache marked as warmed up for key: [{}]", keyNames.name());
         }
     }
@@ -88,13 +104,25 @@ public class CacherWarmUpEventPublisher
         if (previousStatus && !isHealthy)
         {
             log.warn("Redis became unhealthy, resetting all warm-up status.");
-            this.warnUpStatus.clear();
+            this.resetWarmUpStatus();
         }
         // Redis 服务从不健康到健康
         else if(!previousStatus && isHealthy)
         {
             log.info("Redis recovered, resetting warm-up status for fresh start.");
-            this.warnUpStatus.clear();
+            this.resetWarmUpStatus();
         }
     }
+
+    /** 清空所有预热状态，已预热的每一类缓存数据记一次切换到未预热。*/
+    private void resetWarmUpStatus()
+    {
+        this.warnUpStatus.forEach((keyNames, isWarmUp) -> {
+            if (isWarmUp) {
+                this.cacheMetrics.recordWarmUpTransition(keyNames, false);
+            }
+        });
+
+        this.warnUpStatus.clear();
+    }
 }
\ No newline at end of file
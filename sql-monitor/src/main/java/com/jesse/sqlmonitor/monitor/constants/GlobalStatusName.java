@@ -83,6 +83,9 @@ public enum GlobalStatusName
     /** InnoDB 缓冲池物理读取 */
     INNODB_BUFFER_POOL_READS("Innodb_buffer_pool_reads"),
 
+    /** InnoDB 缓冲池预读页数 */
+    INNODB_BUFFER_POOL_READ_AHEAD("Innodb_buffer_pool_read_ahead"),
+
     /** InnoDB 读取行数 */
     INNODB_ROWS_READ("Innodb_rows_read"),
 
@@ -134,4 +137,39 @@ public enum GlobalStatusName
     GlobalStatusName(String name) {
         this.statusName = name;
     }
+
+    /** 本状态名是否为通配符（如 {@link #ALL_STATUS}、{@link #INNODB_STATUS}）？*/
+    public boolean isWildcard() {
+        return this.statusName.contains("%");
+    }
+
+    /**
+     * 本状态是否为单调递增的累计计数器（可以计算每秒速率）？
+     * 只有明确列出的计数器才是，通配符以及连接数、运行时间这类瞬时值都不是，
+     * 新增的状态默认不是累计计数器（需要时在这里显式加入）。
+     */
+    public boolean isCumulative()
+    {
+        return
+        switch (this)
+        {
+            case TRANSACTIONS_COMMITED, TRANSACTIONS_ROLLBACK,
+                 SLOW_QUERY_COUNT,
+                 COM_SELECT, COM_INSERT, COM_UPDATE, COM_DELETE,
+                 TOTAL_CONNECTIONS, ABORTED_CLIENTS, THREADS_CREATED,
+                 BYTES_RECEIVED, BYTES_SENT, QUERIES, QUESTIONS,
+                 CREATED_TMP_TABLES, CREATED_TMP_DISK_TABLES,
+                 SORT_SCAN, SORT_ROWS, SELECT_FULL_JOIN, SELECT_SCAN,
+                 INNODB_BUFFER_POOL_READ_REQUESTS, INNODB_BUFFER_POOL_READS,
+                 INNODB_BUFFER_POOL_READ_AHEAD,
+                 INNODB_ROWS_READ, INNODB_ROWS_INSERTED,
+                 INNODB_ROWS_UPDATED, INNODB_ROWS_DELETED,
+                 INNODB_ROW_LOCK_WAITS,
+                 TABLE_OPEN_CACHE_HITS, TABLE_OPEN_CACHE_MISSES,
+                 TABLE_LOCKS_IMMEDIATE, TABLE_LOCKS_WAITED,
+                 QCACHE_HITS, BINLOG_CACHE_USE, BINLOG_CACHE_DISK_USE -> true;
+
+            default -> false;
+        };
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.jesse.sqlmonitor.monitor.constants;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
 
 /** 数据库指标类型令牌枚举。*/
 @RequiredArgsConstructor
@@ -17,8 +18,33 @@ public enum IndicatorKeyNames
     NetWorkTrafficKey("network-traffic"),
 
     /** QPS 指标缓存名。*/
-    QPSResultKey("qps");
+    QPSResultKey("qps"),
+
+    /** 累计计数器速率指标缓存名。*/
+    CounterRatesKey("counter-rates"),
+
+    /** 语句摘要 Top-N 指标缓存名。*/
+    StatementDigestKey("statement-digest");
 
     @Getter
     private final String keyName;
+
+    /**
+     * 通过键名（如 qps）查找对应的枚举。
+     *
+     * @throws IllegalArgumentException 不存在该键名
+     */
+    public static @NotNull IndicatorKeyNames
+    fromKeyName(String keyName)
+    {
+        for (IndicatorKeyNames keyNames : values())
+        {
+            if (keyNames.keyName.equals(keyName)) {
+                return keyNames;
+            }
+        }
+
+        throw new
+        IllegalArgumentException("Unknown indicator: " + keyName);
+    }
 }
\ No newline at end of file
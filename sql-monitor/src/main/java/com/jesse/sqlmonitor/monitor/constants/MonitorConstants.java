@@ -11,6 +11,15 @@ final public class MonitorConstants
     public static final
     long MIN_TIME_DIFF_MS = 500L;
 
+    /**
+     * 后台采样间隔的下限（单位：毫秒）。
+     * 快照的时间戳取自查询结束的时刻，而采样轮次按开始时刻排布，
+     * 查询耗时的抖动会让两张快照的间隔小于采样间隔，
+     * 因此在 MIN_TIME_DIFF_MS 之上留出余量，避免计算器返回空结果。
+     */
+    public static final
+    long MIN_SAMPLE_INTERVAL_MS = MIN_TIME_DIFF_MS + 250L;
+
     /** 前几回的快照结果需要忽略。*/
     public static final
     int IGNORE_SNAPSHOTS = 2;
@@ -0,0 +1,42 @@
+package com.jesse.sqlmonitor.monitor.constants;
+
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.*;
+
+/**
+ * 数据库系统变量名枚举，
+ * 每个变量附带依赖它的指标（变量发生变化时这些指标的缓存需要失效）。
+ */
+public enum ServerVariableName
+{
+    /** 最大连接数 */
+    MAX_CONNECTIONS("max_connections", ConnectionUsageKey),
+
+    /** InnoDB 缓冲池大小（字节） */
+    INNODB_BUFFER_POOL_SIZE("innodb_buffer_pool_size", InnodbBufferCacheHitRateKey),
+
+    /** 慢查询阈值（秒），影响 Slow_queries 的含义 */
+    LONG_QUERY_TIME("long_query_time", CounterRatesKey),
+
+    /** 表缓存大小 */
+    TABLE_OPEN_CACHE("table_open_cache"),
+
+    /** 线程缓存大小 */
+    THREAD_CACHE_SIZE("thread_cache_size");
+
+    @Getter
+    private final String variableName;
+
+    /** 依赖本变量的指标。*/
+    @Getter
+    private final List<IndicatorKeyNames> dependents;
+
+    ServerVariableName(String variableName, IndicatorKeyNames... dependents)
+    {
+        this.variableName = variableName;
+        this.dependents   = List.of(dependents);
+    }
+}
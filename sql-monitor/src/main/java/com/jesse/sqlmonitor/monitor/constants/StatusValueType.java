@@ -0,0 +1,14 @@
+package com.jesse.sqlmonitor.monitor.constants;
+
+/** 全局状态值的类型。*/
+public enum StatusValueType
+{
+    /** 整数（绝大多数计数器）。*/
+    LONG,
+
+    /** 小数（如 Last_query_cost）。*/
+    DOUBLE,
+
+    /** 文本（如 Ssl_cipher、Innodb_buffer_pool_dump_status）。*/
+    TEXT
+}
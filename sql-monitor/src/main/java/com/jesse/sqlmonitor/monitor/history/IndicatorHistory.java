@@ -0,0 +1,31 @@
+package com.jesse.sqlmonitor.monitor.history;
+
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.response_body.IndicatorHistorySeries;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+
+import java.time.Duration;
+
+/**
+ * 内存指标历史接口，
+ * 每个 {@link IndicatorKeyNames} 在本节点内存中保留一段有限的时间序列，
+ * 查询时不访问数据库和 Redis。
+ */
+public interface IndicatorHistory
+{
+    /**
+     * 记录一条指标数据（只允许后台采样器这一个写者调用）。
+     *
+     * @param keyNames        指标键
+     * @param timestampMillis 采样时间戳（epoch millis）
+     * @param indicator       指标数据（无效的指标会被忽略）
+     */
+    void record(IndicatorKeyNames keyNames, long timestampMillis, ResponseBase<?> indicator);
+
+    /**
+     * 查询某个指标最近 window 时间内的历史数据。
+     *
+     * @throws IllegalArgumentException 该指标没有内存历史
+     */
+    IndicatorHistorySeries query(IndicatorKeyNames keyNames, Duration window);
+}
@@ -0,0 +1,157 @@
+package com.jesse.sqlmonitor.monitor.history.impl;
+
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.monitor.history.IndicatorHistory;
+import com.jesse.sqlmonitor.properties.IndicatorHistoryProperties;
+import com.jesse.sqlmonitor.properties.IndicatorSamplerProperties;
+import com.jesse.sqlmonitor.response_body.*;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.*;
+
+/** 内存指标历史实现。*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndicatorHistoryImpl implements IndicatorHistory
+{
+    /** 各指标记录的通道名（顺序与写入顺序一致）。*/
+    private static final
+    Map<IndicatorKeyNames, List<String>> CHANNEL_NAMES
+        = new EnumMap<>(Map.of(
+            QPSResultKey,                List.of("qps"),
+            NetWorkTrafficKey,           List.of("sentPerSec", "receivePerSec"),
+            ConnectionUsageKey,          List.of("connectUsagePercent", "currentConnections"),
+            InnodbBufferCacheHitRateKey, List.of("cacheHitRate")
+        ));
+
+    /** 内存指标历史属性。*/
+    private final IndicatorHistoryProperties historyProperties;
+
+    /** 后台采样器属性（用于计算环形缓冲区的容量）。*/
+    private final IndicatorSamplerProperties samplerProperties;
+
+    /** 指标键 -> 环形时间序列。*/
+    private final
+    Map<IndicatorKeyNames, PrimitiveRingSeries> seriesMap
+        = new EnumMap<>(IndicatorKeyNames.class);
+
+    /** 按保留时长和采样间隔为每个指标分配环形缓冲区。*/
+    @PostConstruct
+    private void allocateSeries()
+    {
+        final long intervalMillis
+            = Math.max(1L, this.samplerProperties.shortestInterval().toMillis());
+
+        final int capacity
+            = (int) Math.max(
+                2L,
+                this.historyProperties.getRetention().toMillis() / intervalMillis + 1L
+            );
+
+        CHANNEL_NAMES.forEach((keyNames, channels) ->
+            this.seriesMap.put(keyNames, new PrimitiveRingSeries(capacity, channels.size())));
+
+        log.info(
+            "Indicator history allocated, capacity: {} samples per indicator.",
+            capacity
+        );
+    }
+
+    @Override
+    public void
+    record(IndicatorKeyNames keyNames, long timestampMillis, ResponseBase<?> indicator)
+    {
+        final PrimitiveRingSeries series = this.seriesMap.get(keyNames);
+
+        if (series == null || !indicator.isValid()) {
+            return;
+        }
+
+        switch (indicator)
+        {
+            case QPSResult qps when !qps.isError() ->
+                series.append(timestampMillis, qps.getQps().doubleValue());
+
+            case NetWorkTraffic traffic when !traffic.isError() ->
+                this.appendTraffic(series, timestampMillis, traffic);
+
+            case ConnectionUsage usage ->
+                series.append(
+                    timestampMillis,
+                    usage.getConnectUsagePercent(),
+                    usage.getCurrentConnections()
+                );
+
+            case InnodbBufferCacheHitRate hitRate when !hitRate.isError() ->
+                series.append(timestampMillis, hitRate.getCacheHitRate().doubleValue());
+
+            default -> {}
+        }
+    }
+
+    /** 网络流量按 trafficUnit 记录（缓存中是 B/s），与查询结果中的 sizeUnit 保持一致。*/
+    private void
+    appendTraffic(@NotNull PrimitiveRingSeries series, long timestampMillis, @NotNull NetWorkTraffic traffic)
+    {
+        final NetWorkTraffic converted
+            = traffic.convertTo(this.samplerProperties.getTrafficUnit());
+
+        series.append(
+            timestampMillis,
+            converted.getSentPerSec().doubleValue(),
+            converted.getReceivePerSec().doubleValue()
+        );
+    }
+
+    @Override
+    public IndicatorHistorySeries
+    query(@NotNull IndicatorKeyNames keyNames, @NotNull Duration window)
+    {
+        final PrimitiveRingSeries series = this.seriesMap.get(keyNames);
+
+        if (series == null)
+        {
+            throw new
+            IllegalArgumentException(
+                "Indicator " + keyNames.getKeyName() + " has no in-memory history."
+            );
+        }
+
+        final long fromMillis
+            = System.currentTimeMillis() - window.toMillis();
+
+        final PrimitiveRingSeries.Window data
+            = series.readSince(fromMillis);
+
+        final List<String> channels = CHANNEL_NAMES.get(keyNames);
+        final Map<String, double[]> values = new LinkedHashMap<>();
+
+        for (int index = 0; index < channels.size(); ++index) {
+            values.put(channels.get(index), data.values()[index]);
+        }
+
+        return
+        IndicatorHistorySeries.builder()
+            .indicator(keyNames.getKeyName())
+            .sizeUnit(
+                (keyNames == NetWorkTrafficKey)
+                    ? this.samplerProperties.getTrafficUnit()
+                    : null
+            )
+            .timestamps(data.timestamps())
+            .values(values)
+            .build();
+    }
+}
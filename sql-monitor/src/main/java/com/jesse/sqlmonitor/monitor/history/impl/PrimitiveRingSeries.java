@@ -0,0 +1,121 @@
+package com.jesse.sqlmonitor.monitor.history.impl;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * 基于基本类型平行数组的定长环形时间序列，
+ * 时间戳（epoch millis）与各通道的值分别存放在 long[] 和 double[] 中。
+ *
+ * <p>
+ *     只允许一个写者（后台采样器），读者无锁：
+ *     写者先写槽位再对 published 做 volatile 写，
+ *     读者拷贝完毕后重新读取 published，丢弃拷贝期间可能被覆盖的槽位（类似 seqlock）。
+ * </p>
+ */
+final class PrimitiveRingSeries
+{
+    /** 槽位数量。*/
+    private final int capacity;
+
+    /** 时间戳（epoch millis）。*/
+    private final long[] timestamps;
+
+    /** 各通道的值，values[通道][槽位]。*/
+    private final double[][] values;
+
+    /** 已发布（写完）的总条数，写者唯一的同步点。*/
+    private volatile long published = 0L;
+
+    PrimitiveRingSeries(int capacity, int channels)
+    {
+        this.capacity   = capacity;
+        this.timestamps = new long[capacity];
+        this.values     = new double[channels][capacity];
+    }
+
+    /** 通道数量。*/
+    int channels() {
+        return this.values.length;
+    }
+
+    /** 追加一条单通道数据（只允许单个写者调用）。*/
+    void append(long timestamp, double value)
+    {
+        final long sequence = this.published;
+        final int  slot     = (int) (sequence % this.capacity);
+
+        this.timestamps[slot] = timestamp;
+        this.values[0][slot]  = value;
+
+        this.published = sequence + 1L;
+    }
+
+    /** 追加一条双通道数据（只允许单个写者调用）。*/
+    void append(long timestamp, double first, double second)
+    {
+        final long sequence = this.published;
+        final int  slot     = (int) (sequence % this.capacity);
+
+        this.timestamps[slot] = timestamp;
+        this.values[0][slot]  = first;
+        this.values[1][slot]  = second;
+
+        this.published = sequence + 1L;
+    }
+
+    /**
+     * 读取时间戳不早于 fromMillis 的所有数据（按时间升序）。
+     *
+     * @return 长度相同的时间戳数组与各通道值数组
+     */
+    @NotNull Window readSince(long fromMillis)
+    {
+        final long end = this.published;
+
+        // 写者下一次要写的槽位与最旧的槽位重合，因此最多只读 capacity - 1 条
+        final long start = Math.max(0L, end - (this.capacity - 1));
+        final int  count = (int) (end - start);
+
+        final long[]     copiedTimestamps = new long[count];
+        final double[][] copiedValues     = new double[this.values.length][count];
+
+        for (int index = 0; index < count; ++index)
+        {
+            final int slot = (int) ((start + index) % this.capacity);
+
+            copiedTimestamps[index] = this.timestamps[slot];
+
+            for (int channel = 0; channel < this.values.length; ++channel) {
+                copiedValues[channel][index] = this.values[channel][slot];
+            }
+        }
+
+        // 保证上面的读取不会被重排到下面的 volatile 读之后
+        VarHandle.loadLoadFence();
+
+        // 拷贝期间写者可能已经覆盖了最旧的若干条，把它们丢掉
+        final long endAfter   = this.published;
+        final long firstValid = Math.max(start, endAfter - (this.capacity - 1));
+
+        int from = (int) Math.min(count, firstValid - start);
+
+        while (from < count && copiedTimestamps[from] < fromMillis) {
+            ++from;
+        }
+
+        final double[][] windowValues = new double[this.values.length][];
+
+        for (int channel = 0; channel < this.values.length; ++channel) {
+            windowValues[channel] = Arrays.copyOfRange(copiedValues[channel], from, count);
+        }
+
+        return new
+        Window(Arrays.copyOfRange(copiedTimestamps, from, count), windowValues);
+    }
+
+    /** 一次读取得到的时间窗口数据。*/
+    record Window(long[] timestamps, double[][] values) {}
+}
@@ -1,34 +1,45 @@
 package com.jesse.sqlmonitor.monitor.impl;
 
 import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
+import com.jesse.sqlmonitor.monitor.impl.collector.StatusCollector;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusValues;
+import com.jesse.sqlmonitor.utils.StatusValueParser;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import static com.jesse.sqlmonitor.utils.SQLMonitorUtils.tryGetNumericValue;
+import java.util.*;
 
 /** 数据库全局状态查询器。*/
 @Slf4j
 @Component
 public class GlobalStatusQuery
 {
-    /** 数据库客户端实例的引用。*/
-    private final DatabaseClient databaseClient;
+    /** 采样查询后端（服务快照引擎和系统变量缓存）。*/
+    private final StatusCollector statusCollector;
+
+    /** 数据库客户端实例的引用（诊断隔舱，服务按需发起的重查询）。*/
+    private final DatabaseClient diagnosticDatabaseClient;
+
+    /** 诊断隔舱调度器。*/
+    private final Scheduler diagnosticScheduler;
 
     public GlobalStatusQuery(
-        @Qualifier("R2dbcMasterDatabaseClient")
-        DatabaseClient databaseClient
+        StatusCollector statusCollector,
+        @Qualifier("R2dbcMasterDiagnosticDatabaseClient")
+        DatabaseClient diagnosticDatabaseClient,
+        @Qualifier("DiagnosticScheduler")
+        Scheduler diagnosticScheduler
     )
     {
-        this.databaseClient = databaseClient;
+        this.statusCollector          = statusCollector;
+        this.diagnosticDatabaseClient = diagnosticDatabaseClient;
+        this.diagnosticScheduler      = diagnosticScheduler;
     }
 
     /**
@@ -50,13 +61,14 @@ public class GlobalStatusQuery
         }
 
         return
-        this.databaseClient
+        this.diagnosticDatabaseClient
             .sql(querySQL.toString())
             .fetch()
             .all()
             .map((shemaNameMap) ->
                 (String) shemaNameMap.get("SCHEMA_NAME"))
-            .collectList();
+            .collectList()
+            .subscribeOn(this.diagnosticScheduler);
     }
 
     /** 查询本数据库指定全局状态。*/
@@ -66,7 +78,7 @@ public class GlobalStatusQuery
         final String querySQL = "SHOW GLOBAL STATUS LIKE ?";
 
         return
-        this.databaseClient
+        this.diagnosticDatabaseClient
             .sql(querySQL)
             .bind(0, statusName.getStatusName())
             .fetch()
@@ -79,13 +91,31 @@ public class GlobalStatusQuery
                 {
                     queryResult.put(
                         (String) row.get("Variable_name"),
-                        tryGetNumericValue((String) row.get("Value"))
+                        StatusValueParser.parseToObject(
+                            (String) row.get("Variable_name"),
+                            (String) row.get("Value")
+                        )
                     );
                 }
 
                 return queryResult;
             })
             .doOnError((e) -> log.error("{}", e.getMessage(), e))
-            .subscribeOn(Schedulers.boundedElastic());
+            .subscribeOn(this.diagnosticScheduler);
+    }
+
+    /**
+     * 在一次往返中查询多个指定的全局状态（交给采样查询后端执行），
+     * 只支持精确的状态名（不支持 {@link GlobalStatusName#isWildcard()} 的状态）。
+     */
+    public Mono<GlobalStatusValues>
+    getGlobalStatus(@NotNull Collection<GlobalStatusName> statusNames) {
+        return this.statusCollector.getGlobalStatus(statusNames);
+    }
+
+    /** 在一次往返中查询多个系统变量（交给采样查询后端执行）。*/
+    public Mono<Map<ServerVariableName, String>>
+    getGlobalVariables(@NotNull Collection<ServerVariableName> variableNames) {
+        return this.statusCollector.getGlobalVariables(variableNames);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,19 @@
 package com.jesse.sqlmonitor.monitor.impl;
 
+import com.jesse.sqlmonitor.monitor.cacher.CachedIndicator;
 import com.jesse.sqlmonitor.monitor.cacher.IndicatorCacher;
 import com.jesse.sqlmonitor.monitor.impl.connection_usage.ConnectionUsageCounter;
+import com.jesse.sqlmonitor.monitor.impl.counter_rate.CounterRateEngine;
 import com.jesse.sqlmonitor.monitor.impl.database_size.DatabaseSizeCounter;
 import com.jesse.sqlmonitor.monitor.impl.innodb_cache_hit.InnoDBCacheHitCounter;
 import com.jesse.sqlmonitor.monitor.impl.network_traffic.NetWorkTrafficCounter;
 import com.jesse.sqlmonitor.monitor.impl.qps.QPSCounter;
+import com.jesse.sqlmonitor.monitor.impl.statement_digest.StatementDigestCounter;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.monitor.history.IndicatorHistory;
+import com.jesse.sqlmonitor.monitor.sampler.IndicatorSampler;
+import com.jesse.sqlmonitor.properties.IndicatorSamplerProperties;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
 import com.jesse.sqlmonitor.response_body.*;
 import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
 import com.jesse.sqlmonitor.monitor.MySQLIndicatorsRepository;
@@ -15,11 +23,16 @@ import com.jesse.sqlmonitor.response_body.QPSResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.*;
 
@@ -47,9 +60,53 @@ public class MySQLIndicatorsRepositoryImpl implements MySQLIndicatorsRepository
     /** 数据库连接使用率计算器。*/
     private final ConnectionUsageCounter connectionUsageCounter;
 
+    /** 通用计数器速率引擎。*/
+    private final CounterRateEngine counterRateEngine;
+
+    /** 语句摘要 Top-N 统计器。*/
+    private final StatementDigestCounter statementDigestCounter;
+
     /** 指标数据缓存器。*/
     private final IndicatorCacher indicatorCacher;
 
+    /** 后台指标采样器。*/
+    private final IndicatorSampler indicatorSampler;
+
+    /** 后台采样器属性。*/
+    private final IndicatorSamplerProperties samplerProperties;
+
+    /** 内存指标历史。*/
+    private final IndicatorHistory indicatorHistory;
+
+    /**
+     * 读取某个指标：
+     * 启用后台采样器时只读缓存（缓存读不到时用采样器内存中的最新指标兜底），
+     * 不访问数据库也不加分布式锁；未启用时仍走原先的加锁按需计算逻辑。
+     */
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<T>
+    readIndicator(
+        IndicatorKeyNames keyNames,
+        Mono<T>  indicatorSupplier,
+        Class<T> indicatorType
+    )
+    {
+        if (!this.samplerProperties.isEnabled())
+        {
+            return
+            this.indicatorCacher
+                .getIndicatorCacheWithLock(keyNames, indicatorSupplier, indicatorType);
+        }
+
+        return
+        this.indicatorCacher
+            .getIndicatorCacheOrElse(
+                keyNames,
+                this.indicatorSampler.getLatest(keyNames, indicatorType),
+                indicatorType
+            );
+    }
+
     /** 查询所有数据库名（可选是否包括系统数据库）。*/
     @Override
     public Mono<List<String>>
@@ -85,11 +142,10 @@ public class MySQLIndicatorsRepositoryImpl implements MySQLIndicatorsRepository
     public Mono<QPSResult> getQPS()
     {
         return
-        this.indicatorCacher
-            .getIndicatorCacheWithLock(
-                QPSResultKey,
-                this.qpsCounter.calculateQPS(), QPSResult.class
-            );
+        this.readIndicator(
+            QPSResultKey,
+            this.qpsCounter.calculateQPS(), QPSResult.class
+        );
     }
 
     /** 获取服务器接收 / 发送数据量相关信息。*/
@@ -97,13 +153,13 @@ public class MySQLIndicatorsRepositoryImpl implements MySQLIndicatorsRepository
     public Mono<NetWorkTraffic>
     getNetWorkTraffic(SizeUnit unit)
     {
+        // 缓存中统一存放 B/s，在读取时换算成请求的单位
         return
-        this.indicatorCacher
-            .getIndicatorCacheWithLock(
-                NetWorkTrafficKey,
-                this.netWorkTrafficCounter.calculateNetWorkTraffic(unit),
-                NetWorkTraffic.class
-            );
+        this.readIndicator(
+            NetWorkTrafficKey,
+            this.netWorkTrafficCounter.calculateNetWorkTraffic(),
+            NetWorkTraffic.class
+        ).map((traffic) -> traffic.convertTo(unit));
     }
 
     /** 查询连接使用率。*/
@@ -111,12 +167,11 @@ public class MySQLIndicatorsRepositoryImpl implements MySQLIndicatorsRepository
     public Mono<ConnectionUsage> getConnectionUsage()
     {
         return
-        this.indicatorCacher
-            .getIndicatorCacheWithLock(
-                ConnectionUsageKey,
-                this.connectionUsageCounter.getConnectionUsage(),
-                ConnectionUsage.class
-            );
+        this.readIndicator(
+            ConnectionUsageKey,
+            this.connectionUsageCounter.getConnectionUsage(),
+            ConnectionUsage.class
+        );
     }
 
     /** 查询 InnoDB 缓存命中率。*/
@@ -125,11 +180,144 @@ public class MySQLIndicatorsRepositoryImpl implements MySQLIndicatorsRepository
     getInnodbBufferCacheHitRate()
     {
         return
-        this.indicatorCacher
-            .getIndicatorCacheWithLock(
-                InnodbBufferCacheHitRateKey,
-                this.innoDBCacheHitCounter.calculateBufferCacheHitRate(),
-                InnodbBufferCacheHitRate.class
-            );
+        this.readIndicator(
+            InnodbBufferCacheHitRateKey,
+            this.innoDBCacheHitCounter.calculateBufferCacheHitRate(),
+            InnodbBufferCacheHitRate.class
+        );
+    }
+
+    /** 查询配置中各累计计数器的每秒速率。*/
+    @Override
+    public Mono<CounterRates> getCounterRates()
+    {
+        return
+        this.readIndicator(
+            CounterRatesKey,
+            this.counterRateEngine.calculateRates(),
+            CounterRates.class
+        );
+    }
+
+    /** 查询最近一个周期内增长最多的语句摘要。*/
+    @Override
+    public Mono<StatementDigestTopN> getStatementDigestTopN()
+    {
+        return
+        this.readIndicator(
+            StatementDigestKey,
+            this.statementDigestCounter.calculateTopDigests(),
+            StatementDigestTopN.class
+        );
+    }
+
+    /**
+     * 一次读取所有实时指标：
+     * 所有指标缓存在一次 Redis 往返中读出，缓存中缺失的指标用采样器内存中的最新指标补上，
+     * 仍然没有的就在响应中标记为缺失（不会为此访问数据库或者加分布式锁），
+     * 因此未启用后台采样器时，只会返回已经被缓存的指标。
+     */
+    @Override
+    public Mono<LiveIndicators> getLiveIndicators(SizeUnit unit)
+    {
+        final List<CachedIndicator<?>> requests = List.of(
+            CachedIndicator.of(QPSResultKey,                QPSResult.class),
+            CachedIndicator.of(NetWorkTrafficKey,           NetWorkTraffic.class),
+            CachedIndicator.of(ConnectionUsageKey,          ConnectionUsage.class),
+            CachedIndicator.of(InnodbBufferCacheHitRateKey, InnodbBufferCacheHitRate.class)
+        );
+
+        return
+        Mono.zip(
+            this.indicatorCacher
+                .getIndicatorCaches(requests)
+                .flatMapMany(Flux::fromIterable)
+                .flatMapSequential((cached) -> this.fillFromSampler(cached))
+                .collectList(),
+            this.indicatorCacher
+                .getCacheTickVersion()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+        )
+        .map((tuple) -> {
+            final List<CachedIndicator<?>> indicators = tuple.getT1();
+
+            final NetWorkTraffic networkTraffic
+                = findIndicator(indicators, NetWorkTrafficKey, NetWorkTraffic.class);
+
+            return
+            LiveIndicators.builder()
+                .tickVersion(tuple.getT2().orElse(null))
+                .qps(findIndicator(indicators, QPSResultKey, QPSResult.class))
+                // 缓存中统一存放 B/s，在读取时换算成请求的单位
+                .networkTraffic(
+                    Objects.nonNull(networkTraffic) ? networkTraffic.convertTo(unit) : null)
+                .connectionUsage(
+                    findIndicator(indicators, ConnectionUsageKey, ConnectionUsage.class))
+                .innodbBufferCacheHitRate(
+                    findIndicator(indicators, InnodbBufferCacheHitRateKey, InnodbBufferCacheHitRate.class))
+                .missing(
+                    indicators.stream()
+                        .filter((cached) -> !cached.isPresent())
+                        .map((cached) -> cached.keyNames().getKeyName())
+                        .toList())
+                .stale(
+                    indicators.stream()
+                        .filter(CachedIndicator::stale)
+                        .map((cached) -> cached.keyNames().getKeyName())
+                        .toList())
+                .build();
+        });
+    }
+
+    /** 缓存中没有读到的指标，用采样器内存中的最新指标补上（未启用采样器时保持缺失）。*/
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<CachedIndicator<?>>
+    fillFromSampler(@NotNull CachedIndicator<T> cached)
+    {
+        if (cached.isPresent() || !this.samplerProperties.isEnabled()) {
+            return Mono.just(cached);
+        }
+
+        return
+        this.indicatorSampler
+            .getLatest(cached.keyNames(), cached.type())
+            .<CachedIndicator<?>>map((latest) -> cached.found(latest, false))
+            .defaultIfEmpty(cached);
+    }
+
+    /** 在批量读取的结果中查找指定的指标，没有时返回 null。*/
+    private static <T extends ResponseBase<T>> @Nullable T
+    findIndicator(
+        @NotNull List<CachedIndicator<?>> indicators,
+        IndicatorKeyNames keyNames, @NotNull Class<T> type
+    )
+    {
+        return
+        indicators.stream()
+            .filter((cached) -> cached.keyNames() == keyNames)
+            .<Object>map(CachedIndicator::indicator)
+            .filter(type::isInstance)
+            .map(type::cast)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /** 查询后台采样器当前的状态（实际采样间隔等）。*/
+    @Override
+    public Mono<SamplingState> getSamplingState()
+    {
+        return
+        Mono.fromSupplier(this.indicatorSampler::getSamplingState);
+    }
+
+    /** 查询本节点内存中某个指标最近 window 时间内的历史数据。*/
+    @Override
+    public Mono<IndicatorHistorySeries>
+    getIndicatorHistory(IndicatorKeyNames keyNames, Duration window)
+    {
+        return
+        Mono.fromSupplier(() ->
+            this.indicatorHistory.query(keyNames, window));
     }
 }
\ No newline at end of file
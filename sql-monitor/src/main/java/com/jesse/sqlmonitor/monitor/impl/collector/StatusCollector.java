@@ -0,0 +1,31 @@
+package com.jesse.sqlmonitor.monitor.impl.collector;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusValues;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 采样查询后端接口，
+ * 负责后台采样路径上的轻量查询，具体实现由 app.collector.backend 选择。
+ */
+public interface StatusCollector
+{
+    /**
+     * 在一次往返中查询多个指定的全局状态，
+     * 只支持精确的状态名（不支持 {@link GlobalStatusName#isWildcard()} 的状态），
+     * 文本类型的值会被忽略。
+     */
+    Mono<GlobalStatusValues>
+    getGlobalStatus(Collection<GlobalStatusName> statusNames);
+
+    /**
+     * 在一次往返中查询多个系统变量（performance_schema.global_variables），
+     * 返回变量到原始字符串值的映射，查不到的变量不会出现在结果中。
+     */
+    Mono<Map<ServerVariableName, String>>
+    getGlobalVariables(Collection<ServerVariableName> variableNames);
+}
@@ -0,0 +1,347 @@
+package com.jesse.sqlmonitor.monitor.impl.collector.impl;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
+import com.jesse.sqlmonitor.monitor.impl.collector.StatusCollector;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusValues;
+import com.jesse.sqlmonitor.properties.CollectorBackendProperties;
+import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 基于 JDBC + 虚拟线程的采样查询后端（app.collector.backend = jdbc）。
+ *
+ * <p>
+ *     持有少量长连接，每个连接缓存自己的 {@link PreparedStatement}，
+ *     并开启 useServerPrepStmts，同一条采样语句只在服务端预处理一次；
+ *     查询在虚拟线程上以阻塞方式执行，不再经过 boundedElastic 的线程切换。
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.collector", name = "backend", havingValue = "jdbc")
+public class JdbcStatusCollector
+    implements StatusCollector, ApplicationListener<ContextClosedEvent>, AutoCloseable
+{
+    /** JDBC 连接 URL。*/
+    private final String jdbcURL;
+
+    /** 来自配置文件的 R2DBC 主数据库属性类（复用连接信息）。*/
+    private final R2dbcMasterProperties masterProperties;
+
+    /** JDBC 后端的配置。*/
+    private final CollectorBackendProperties.Jdbc jdbcProperties;
+
+    /** 空闲的长连接。*/
+    private final BlockingQueue<CollectorConnection> idleConnections;
+
+    /** 每个查询一个虚拟线程。*/
+    private final ExecutorService virtualThreadExecutor
+        = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** 包装虚拟线程执行器的调度器。*/
+    private final Scheduler virtualThreadScheduler
+        = Schedulers.fromExecutorService(this.virtualThreadExecutor, "jdbc-collector");
+
+    /** 后端是否已经关闭？*/
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /** 在连接上执行的一次查询。*/
+    @FunctionalInterface
+    private interface JdbcWork<T> {
+        T run(CollectorConnection connection) throws SQLException;
+    }
+
+    /** 一个长连接，以及在它上面预处理过的语句（同一时刻只会被一个虚拟线程使用）。*/
+    private final class CollectorConnection
+    {
+        private Connection connection;
+
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        /** 获取（必要时重新建立）连接上预处理过的语句。*/
+        PreparedStatement prepare(String querySQL) throws SQLException
+        {
+            if (Objects.isNull(this.connection) || this.connection.isClosed())
+            {
+                this.reset();
+                this.connection
+                    = DriverManager.getConnection(
+                        jdbcURL, masterProperties.getUser(), masterProperties.getPassword()
+                    );
+            }
+
+            PreparedStatement statement = this.statements.get(querySQL);
+
+            if (Objects.isNull(statement))
+            {
+                statement = this.connection.prepareStatement(querySQL);
+                statement.setQueryTimeout(jdbcProperties.getQueryTimeoutSeconds());
+                this.statements.put(querySQL, statement);
+            }
+
+            return statement;
+        }
+
+        /** 关闭连接和所有语句（出错之后下次使用时会重新建立）。*/
+        void reset()
+        {
+            this.statements.clear();
+
+            if (Objects.nonNull(this.connection))
+            {
+                try {
+                    this.connection.close();
+                }
+                catch (SQLException exception) {
+                    log.debug("Close collector connection failed: {}", exception.getMessage());
+                }
+
+                this.connection = null;
+            }
+        }
+    }
+
+    public JdbcStatusCollector(
+        @NotNull R2dbcMasterProperties      masterProperties,
+        @NotNull CollectorBackendProperties collectorProperties
+    )
+    {
+        this.masterProperties = masterProperties;
+        this.jdbcProperties   = collectorProperties.getJdbc();
+
+        this.jdbcURL
+            = String.format(
+                "jdbc:mysql://%s:%d/%s?serverTimezone=Asia/Shanghai" +
+                "&allowPublicKeyRetrieval=true" +
+                "&useUnicode=true"              +
+                "&characterEncoding=UTF8"       +
+                "&sslMode=PREFERRED"            +
+                "&useServerPrepStmts=true"      +
+                "&cachePrepStmts=true",
+                masterProperties.getHost(),
+                masterProperties.getPort(),
+                URLEncoder.encode(
+                    Objects.requireNonNullElse(masterProperties.getDefaultSchema(), ""),
+                    StandardCharsets.UTF_8
+                )
+            );
+
+        final int connections = Math.max(1, this.jdbcProperties.getConnections());
+
+        this.idleConnections = new ArrayBlockingQueue<>(connections);
+
+        // 连接在第一次使用时才建立
+        for (int index = 0; index < connections; ++index) {
+            this.idleConnections.add(new CollectorConnection());
+        }
+
+        log.info("JDBC status collector enabled, {} long-lived connection(s).", connections);
+    }
+
+    /** 借出一个长连接执行查询，出错时重置这个连接。*/
+    private <T> @NotNull Mono<T> execute(@NotNull JdbcWork<T> work)
+    {
+        return
+        Mono.fromCallable(() -> {
+            if (this.closed.get()) {
+                throw new IllegalStateException("JDBC status collector already closed.");
+            }
+
+            final CollectorConnection connection
+                = this.idleConnections.poll(
+                    this.jdbcProperties.getAcquireTimeout().toMillis(),
+                    TimeUnit.MILLISECONDS
+                );
+
+            if (Objects.isNull(connection))
+            {
+                throw new
+                TimeoutException(
+                    "Acquire collector connection timeout! (wait time: " +
+                    this.jdbcProperties.getAcquireTimeout() + ")"
+                );
+            }
+
+            try {
+                return work.run(connection);
+            }
+            catch (SQLException exception)
+            {
+                connection.reset();
+                throw exception;
+            }
+            finally
+            {
+                if (this.closed.get()) {
+                    connection.reset();
+                }
+
+                this.idleConnections.offer(connection);
+            }
+        })
+        .doOnError((e) -> log.error("{}", e.getMessage(), e))
+        .subscribeOn(this.virtualThreadScheduler);
+    }
+
+    /** 构造 ?, ?, ... 形式的占位符列表。*/
+    private static @NotNull String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    @Override
+    public Mono<GlobalStatusValues>
+    getGlobalStatus(@NotNull Collection<GlobalStatusName> statusNames)
+    {
+        if (statusNames.isEmpty()) {
+            return Mono.just(new GlobalStatusValues());
+        }
+
+        // FIELD() 返回的位置从 1 开始，与 orderedNames 的下标差 1
+        final GlobalStatusName[] orderedNames
+            = statusNames.stream()
+                         .distinct()
+                         .toArray(GlobalStatusName[]::new);
+
+        // 登记的状态不变时语句文本也不变，预处理过的语句可以一直复用
+        final String querySQL
+            = """
+            SELECT FIELD(VARIABLE_NAME, %s) AS status_index, VARIABLE_VALUE
+            FROM performance_schema.global_status
+            WHERE VARIABLE_NAME IN (%s)
+            """.formatted(placeholders(orderedNames.length), placeholders(orderedNames.length));
+
+        return
+        this.execute((connection) -> {
+            final PreparedStatement statement = connection.prepare(querySQL);
+
+            for (int index = 0; index < orderedNames.length; ++index)
+            {
+                final String statusName = orderedNames[index].getStatusName();
+
+                statement.setString(index + 1, statusName);
+                statement.setString(orderedNames.length + index + 1, statusName);
+            }
+
+            final GlobalStatusValues statusValues = new GlobalStatusValues();
+
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                while (resultSet.next())
+                {
+                    final int position = resultSet.getInt(1) - 1;
+
+                    if (position >= 0 && position < orderedNames.length)
+                    {
+                        final String value = resultSet.getString(2);
+
+                        if (!statusValues.putParsed(orderedNames[position], value))
+                        {
+                            log.warn(
+                                "Status {} has non-numeric value: {}, ignore.",
+                                orderedNames[position].getStatusName(), value
+                            );
+                        }
+                    }
+                }
+            }
+
+            return statusValues;
+        });
+    }
+
+    @Override
+    public Mono<Map<ServerVariableName, String>>
+    getGlobalVariables(@NotNull Collection<ServerVariableName> variableNames)
+    {
+        if (variableNames.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        final ServerVariableName[] orderedNames
+            = variableNames.stream()
+                           .distinct()
+                           .toArray(ServerVariableName[]::new);
+
+        final String querySQL
+            = """
+            SELECT FIELD(VARIABLE_NAME, %s) AS variable_index, VARIABLE_VALUE
+            FROM performance_schema.global_variables
+            WHERE VARIABLE_NAME IN (%s)
+            """.formatted(placeholders(orderedNames.length), placeholders(orderedNames.length));
+
+        return
+        this.execute((connection) -> {
+            final PreparedStatement statement = connection.prepare(querySQL);
+
+            for (int index = 0; index < orderedNames.length; ++index)
+            {
+                final String variableName = orderedNames[index].getVariableName();
+
+                statement.setString(index + 1, variableName);
+                statement.setString(orderedNames.length + index + 1, variableName);
+            }
+
+            final Map<ServerVariableName, String> variables
+                = new EnumMap<>(ServerVariableName.class);
+
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                while (resultSet.next())
+                {
+                    final int position = resultSet.getInt(1) - 1;
+
+                    if (position >= 0 && position < orderedNames.length)
+                    {
+                        variables.put(
+                            orderedNames[position],
+                            Objects.requireNonNullElse(resultSet.getString(2), "")
+                        );
+                    }
+                }
+            }
+
+            return variables;
+        });
+    }
+
+    @Override
+    public void
+    onApplicationEvent(@NotNull ContextClosedEvent event)
+    {
+        log.info("Application context closed, closing JDBC status collector...");
+
+        this.close();
+    }
+
+    /** 关闭所有空闲的长连接和虚拟线程执行器（借出中的连接归还时关闭）。*/
+    @Override
+    public void close()
+    {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        for (CollectorConnection connection : this.idleConnections) {
+            connection.reset();
+        }
+
+        this.virtualThreadScheduler.dispose();
+        this.virtualThreadExecutor.shutdown();
+    }
+}
@@ -0,0 +1,158 @@
+package com.jesse.sqlmonitor.monitor.impl.collector.impl;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
+import com.jesse.sqlmonitor.monitor.impl.collector.StatusCollector;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusValues;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.*;
+
+import static com.jesse.sqlmonitor.utils.SQLMonitorUtils.queryRow;
+
+/** 基于 R2DBC 的采样查询后端（默认）。*/
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "app.collector", name = "backend",
+    havingValue = "r2dbc", matchIfMissing = true
+)
+public class R2dbcStatusCollector implements StatusCollector
+{
+    /** 数据库客户端实例的引用（采样隔舱）。*/
+    private final DatabaseClient databaseClient;
+
+    /** 采样隔舱调度器。*/
+    private final Scheduler samplingScheduler;
+
+    public R2dbcStatusCollector(
+        @Qualifier("R2dbcMasterDatabaseClient")
+        DatabaseClient databaseClient,
+        @Qualifier("SamplingScheduler")
+        Scheduler samplingScheduler
+    )
+    {
+        this.databaseClient    = databaseClient;
+        this.samplingScheduler = samplingScheduler;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     查询时用 FIELD() 直接返回状态名在参数列表中的位置，
+     *     结果行通过这个位置映射回 {@link GlobalStatusName}，不再对状态名做字符串哈希。
+     * </p>
+     */
+    @Override
+    public Mono<GlobalStatusValues>
+    getGlobalStatus(@NotNull Collection<GlobalStatusName> statusNames)
+    {
+        if (statusNames.isEmpty()) {
+            return Mono.just(new GlobalStatusValues());
+        }
+
+        final String querySQL = """
+            SELECT FIELD(VARIABLE_NAME, :statusNames) AS status_index, VARIABLE_VALUE
+            FROM performance_schema.global_status
+            WHERE VARIABLE_NAME IN (:statusNames)
+            """;
+
+        // FIELD() 返回的位置从 1 开始，与 orderedNames 的下标差 1
+        final GlobalStatusName[] orderedNames
+            = statusNames.stream()
+                         .distinct()
+                         .toArray(GlobalStatusName[]::new);
+
+        final List<String> bindNames
+            = Arrays.stream(orderedNames)
+                    .map(GlobalStatusName::getStatusName)
+                    .toList();
+
+        return
+        Mono.defer(() -> {
+            final GlobalStatusValues statusValues = new GlobalStatusValues();
+
+            return
+            this.databaseClient
+                .sql(querySQL)
+                .bind("statusNames", bindNames)
+                .map((row, metadata) -> {
+                    final Number statusIndex
+                        = row.get("status_index", Number.class);
+
+                    if (Objects.nonNull(statusIndex))
+                    {
+                        final int position = statusIndex.intValue() - 1;
+
+                        if (position >= 0 && position < orderedNames.length)
+                        {
+                            final String value = row.get("VARIABLE_VALUE", String.class);
+
+                            if (!statusValues.putParsed(orderedNames[position], value))
+                            {
+                                log.warn(
+                                    "Status {} has non-numeric value: {}, ignore.",
+                                    orderedNames[position].getStatusName(), value
+                                );
+                            }
+                        }
+                    }
+
+                    // 值已写入 statusValues，这里只需返回一个非空的占位结果
+                    return Boolean.TRUE;
+                })
+                .all()
+                .then(Mono.fromSupplier(() -> statusValues));
+        })
+        .doOnError((e) -> log.error("{}", e.getMessage(), e))
+        .subscribeOn(this.samplingScheduler);
+    }
+
+    @Override
+    public Mono<Map<ServerVariableName, String>>
+    getGlobalVariables(@NotNull Collection<ServerVariableName> variableNames)
+    {
+        if (variableNames.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        final String querySQL = """
+            SELECT VARIABLE_NAME, VARIABLE_VALUE
+            FROM performance_schema.global_variables
+            WHERE VARIABLE_NAME IN (:variableNames)
+            """;
+
+        final Map<String, ServerVariableName> nameIndex = new HashMap<>();
+
+        for (ServerVariableName variableName : variableNames) {
+            nameIndex.put(variableName.getVariableName(), variableName);
+        }
+
+        return
+        this.databaseClient
+            .sql(querySQL)
+            .bind("variableNames", List.copyOf(nameIndex.keySet()))
+            .map((row, metadata) ->
+                Map.entry(
+                    queryRow(row, "VARIABLE_NAME", String.class).toLowerCase(Locale.ROOT),
+                    Objects.requireNonNullElse(row.get("VARIABLE_VALUE", String.class), "")
+                ))
+            .all()
+            .filter((entry) -> nameIndex.containsKey(entry.getKey()))
+            .collectMap(
+                (entry) -> nameIndex.get(entry.getKey()),
+                Map.Entry::getValue,
+                () -> new EnumMap<>(ServerVariableName.class)
+            )
+            .doOnError((e) -> log.error("{}", e.getMessage(), e))
+            .subscribeOn(this.samplingScheduler);
+    }
+}
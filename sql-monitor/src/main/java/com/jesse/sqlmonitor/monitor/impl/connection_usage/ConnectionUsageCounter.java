@@ -1,10 +1,15 @@
 package com.jesse.sqlmonitor.monitor.impl.connection_usage;
 
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.ConnectionUsage;
 import reactor.core.publisher.Mono;
 
 /** 数据库连接使用数据计算器接口。*/
 public interface ConnectionUsageCounter
 {
+    /** 取本轮的全局状态快照，计算数据库连接使用情况。*/
     Mono<ConnectionUsage> getConnectionUsage();
+
+    /** 使用给定的全局状态快照计算数据库连接使用情况。*/
+    Mono<ConnectionUsage> getConnectionUsage(GlobalStatusSnapshot snapshot);
 }
\ No newline at end of file
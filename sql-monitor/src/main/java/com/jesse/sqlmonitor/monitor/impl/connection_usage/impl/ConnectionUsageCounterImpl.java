@@ -1,15 +1,18 @@
 package com.jesse.sqlmonitor.monitor.impl.connection_usage.impl;
 
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
 import com.jesse.sqlmonitor.monitor.impl.connection_usage.ConnectionUsageCounter;
+import com.jesse.sqlmonitor.monitor.impl.server_variables.ServerVariablesCache;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.ConnectionUsage;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.r2dbc.core.DatabaseClient;
+import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
-
-import static com.jesse.sqlmonitor.utils.SQLMonitorUtils.queryRow;
 
 /** 数据库连接使用数据计算器实现。*/
 @Slf4j
@@ -18,32 +21,43 @@ import static com.jesse.sqlmonitor.utils.SQLMonitorUtils.queryRow;
 public class ConnectionUsageCounterImpl
     implements ConnectionUsageCounter
 {
-    /** 数据库客户端实例的引用。*/
-    private final DatabaseClient databaseClient;
+    /** 系统变量缓存（max_connections 是系统变量，不在全局状态中）。*/
+    private final ServerVariablesCache serverVariablesCache;
+
+    /** 全局状态快照引擎。*/
+    private final StatusSnapshotEngine statusSnapshotEngine;
+
+    /** 向快照引擎登记连接使用率计算所需的全局状态。*/
+    @PostConstruct
+    private void registerRequiredStatus() {
+        this.statusSnapshotEngine.register(GlobalStatusName.CURRENT_THREADS_CONNECTED);
+    }
 
+    @Override
     public Mono<ConnectionUsage> getConnectionUsage()
     {
-        final String querySQL = """
-            SELECT
-                VARIABLE_VALUE as max_connections,
-                (SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'THREADS_CONNECTED') as current_connections,
-                (SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'THREADS_CONNECTED') / VARIABLE_VALUE * 100 as connection_usage_percent
-            FROM
-                performance_schema.global_variables
-            WHERE
-                VARIABLE_NAME = 'MAX_CONNECTIONS'
-            """;
+        return
+        this.statusSnapshotEngine
+            .currentSnapshot()
+            .flatMap(this::getConnectionUsage);
+    }
 
+    @Override
+    public Mono<ConnectionUsage>
+    getConnectionUsage(@NotNull GlobalStatusSnapshot snapshot)
+    {
         return
-        this.databaseClient
-            .sql(querySQL)
-            .map((row, metadata) -> {
-                final int maxConnections
-                    = Integer.parseInt(queryRow(row, "max_connections", String.class));
+        this.serverVariablesCache
+            .getLong(ServerVariableName.MAX_CONNECTIONS)
+            .map((maxConnectionsValue) -> {
+                final int maxConnections = maxConnectionsValue.intValue();
                 final int currentConnections
-                    = Integer.parseInt(queryRow(row, "current_connections", String.class));
+                    = (int) snapshot.getValue(GlobalStatusName.CURRENT_THREADS_CONNECTED);
+
                 final double usagePercent
-                    = queryRow(row, "connection_usage_percent", Double.class);
+                    = (maxConnections == 0)
+                        ? 0.0
+                        : (double) currentConnections / maxConnections * 100;
 
                 return
                 ConnectionUsage.builder()
@@ -51,8 +65,6 @@ public class ConnectionUsageCounterImpl
                     .currentConnections(currentConnections)
                     .connectUsagePercent(usagePercent)
                     .build();
-            })
-            .one()
-            .subscribeOn(Schedulers.boundedElastic());
+            });
     }
-}
\ No newline at end of file
+}
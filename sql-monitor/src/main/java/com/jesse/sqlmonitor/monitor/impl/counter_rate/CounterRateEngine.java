@@ -0,0 +1,24 @@
+package com.jesse.sqlmonitor.monitor.impl.counter_rate;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import com.jesse.sqlmonitor.response_body.CounterRates;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 通用计数器速率引擎接口，
+ * 为配置中的所有累计计数器统一计算每秒速率，新增指标只需修改配置。
+ */
+public interface CounterRateEngine
+{
+    /** 本引擎实际计算的计数器（已剔除非累计类型的状态）。*/
+    List<GlobalStatusName> getCounters();
+
+    /** 取本轮的全局状态快照，计算各计数器此刻的每秒速率。*/
+    Mono<CounterRates> calculateRates();
+
+    /** 使用给定的全局状态快照计算各计数器的每秒速率。*/
+    Mono<CounterRates> calculateRates(GlobalStatusSnapshot snapshot);
+}
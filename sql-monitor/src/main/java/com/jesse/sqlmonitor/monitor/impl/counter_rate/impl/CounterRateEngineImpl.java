@@ -0,0 +1,209 @@
+package com.jesse.sqlmonitor.monitor.impl.counter_rate.impl;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.impl.counter_rate.CounterRateEngine;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import com.jesse.sqlmonitor.properties.CounterRateProperties;
+import com.jesse.sqlmonitor.response_body.CounterRates;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.*;
+import static com.jesse.sqlmonitor.utils.RateMath.*;
+
+/** 通用计数器速率引擎实现。*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterRateEngineImpl implements CounterRateEngine
+{
+    /** 全局状态快照引擎。*/
+    private final StatusSnapshotEngine statusSnapshotEngine;
+
+    /** 通用计数器速率引擎属性。*/
+    private final CounterRateProperties counterRateProperties;
+
+    /** 实际计算的计数器（启动时从配置中解析）。*/
+    private GlobalStatusName[] counters = new GlobalStatusName[0];
+
+    /** 使用 AtomicReference 管理计数器快照，实现无锁操作。*/
+    private final
+    AtomicReference<CounterSetSnapshot> counterSnapshot
+        = new AtomicReference<>(CounterSetSnapshot.empty());
+
+    /** 快照计数器，忽略前两次的快照数据（避免头几次速率虚高）。*/
+    private final AtomicInteger snapshotInitCount
+        = new AtomicInteger(0);
+
+    /** 解析配置中的计数器，并向快照引擎登记。*/
+    @PostConstruct
+    void registerRequiredStatus()
+    {
+        this.counters
+            = this.counterRateProperties.getCounters()
+                  .stream()
+                  .distinct()
+                  .filter((statusName) -> {
+                      if (!statusName.isCumulative())
+                      {
+                          log.warn(
+                              "Status {} is not a cumulative counter, ignore.",
+                              statusName.getStatusName()
+                          );
+
+                          return false;
+                      }
+
+                      return true;
+                  })
+                  .toArray(GlobalStatusName[]::new);
+
+        this.statusSnapshotEngine.register(this.counters);
+
+        log.info("Counter rate engine registered {} counters.", this.counters.length);
+    }
+
+    @Override
+    public List<GlobalStatusName> getCounters() {
+        return List.of(this.counters);
+    }
+
+    /**
+     * 根据前后两张计数器快照，计算各计数器的每秒速率
+     *（全程使用基本类型，构造响应体时再保留 8 位小数且四舍五入）。
+     *
+     * <pre>公式：(本次计数 - 上一次计数) / 两张快照的时间差（单位：秒）</pre>
+     */
+    private @NotNull CounterRates
+    calculate(@NotNull CounterSetSnapshot previous, @NotNull CounterSetSnapshot current)
+    {
+        final long timeDiff = previous.getTimeDiffMills(current);
+
+        // 如果时间差小于 MIN_TIME_DIFF_MS 毫秒，直接返回空结果
+        if (timeDiff < MIN_TIME_DIFF_MS) {
+            return CounterRates.buildZeroRates();
+        }
+
+        // 服务器重启过，所有计数器都从 0 开始，本轮不计算
+        if (previous.isReset(current)) {
+            return CounterRates.onReset();
+        }
+
+        final Map<String, CounterRates.CounterRate> rates
+            = new LinkedHashMap<>(this.counters.length * 2);
+
+        for (int index = 0; index < this.counters.length; ++index)
+        {
+            final long currentValue = current.valueAt(index);
+            final long diff         = currentValue - previous.valueAt(index);
+
+            // 单个计数器变小，说明它被单独重置了（如 FLUSH STATUS）
+            final boolean reset = diff < 0L;
+
+            rates.put(
+                this.counters[index].getStatusName(),
+                CounterRates.CounterRate.builder()
+                    .perSecond(
+                        reset
+                            ? BigDecimal.ZERO
+                            : toDecimalRate(diff, timeDiff, RATE_SCALE)
+                    )
+                    .current(currentValue)
+                    .diff(reset ? 0L : diff)
+                    .resetDetected(reset)
+                    .build()
+            );
+        }
+
+        return
+        CounterRates.builder()
+            .rates(rates)
+            .timeDiffMs(timeDiff)
+            .resetDetected(false)
+            .error(false)
+            .build();
+    }
+
+    /** 错误处理逻辑，输出异常信息并返回降级值。*/
+    private @NotNull Mono<CounterRates>
+    errorHandler(Throwable throwable)
+    {
+        log.error(
+            "Counter rates calculation error. Caused by: {}",
+            throwable.getMessage(), throwable
+        );
+
+        return Mono.just(CounterRates.onError());
+    }
+
+    /**
+     * 计算各计数器速率并更新计数器快照，
+     * 与 QPS 计算器一样使用 {@link AtomicReference#compareAndSet(Object, Object)} 实现乐观锁。
+     */
+    private CounterRates
+    calculateAndUpdate(CounterSetSnapshot currentCounters)
+    {
+        int retries = 0;
+
+        if (this.snapshotInitCount.get() < IGNORE_SNAPSHOTS)
+        {
+            this.counterSnapshot.getAndSet(currentCounters);
+            this.snapshotInitCount.getAndIncrement();
+
+            return CounterRates.buildZeroRates();
+        }
+
+        do {
+            CounterSetSnapshot previousCounters = this.counterSnapshot.get();
+
+            if (this.counterSnapshot.compareAndSet(previousCounters, currentCounters)) {
+                return this.calculate(previousCounters, currentCounters);
+            }
+
+            if (retries > 0) {
+                Thread.onSpinWait();
+            }
+
+            ++retries;
+        }
+        while (retries < MAX_RETRIES);
+
+        log.warn("Failed to update counter rates after {} retries.", MAX_RETRIES);
+
+        return CounterRates.onError();
+    }
+
+    @Override
+    public Mono<CounterRates> calculateRates()
+    {
+        return
+        this.statusSnapshotEngine
+            .currentSnapshot()
+            .flatMap(this::calculateRates)
+            .onErrorResume(this::errorHandler)
+            .subscribeOn(Schedulers.parallel());
+    }
+
+    @Override
+    public Mono<CounterRates>
+    calculateRates(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        return
+        Mono.fromCallable(() ->
+                this.calculateAndUpdate(CounterSetSnapshot.from(snapshot, this.counters)))
+            .onErrorResume(this::errorHandler);
+    }
+}
@@ -0,0 +1,79 @@
+package com.jesse.sqlmonitor.monitor.impl.counter_rate.impl;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import com.jesse.sqlmonitor.monitor.snapshot.SnapshotBase;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+
+/**
+ * 一组累计计数器的快照，
+ * 计数器的值按引擎中计数器的顺序存放在 long[] 中。
+ */
+@Getter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class CounterSetSnapshot extends SnapshotBase<CounterSetSnapshot>
+{
+    /** 各计数器的值（顺序与引擎中的计数器一致）。*/
+    private final long[] values;
+
+    /** 服务器运行时间（单位：秒），用于检测服务器重启。*/
+    private final long uptime;
+
+    private CounterSetSnapshot(Instant timestamp, long[] values, long uptime)
+    {
+        super(timestamp);
+        this.values = values;
+        this.uptime = uptime;
+    }
+
+    @Contract(" -> new")
+    public static @NotNull CounterSetSnapshot empty() {
+        return new CounterSetSnapshot(Instant.now(), new long[0], 0L);
+    }
+
+    /** 从全局状态快照中派生（共享其时间戳）。*/
+    @Contract("_, _ -> new")
+    public static @NotNull CounterSetSnapshot
+    from(@NotNull GlobalStatusSnapshot snapshot, GlobalStatusName @NotNull [] counters)
+    {
+        final long[] values = new long[counters.length];
+
+        for (int index = 0; index < counters.length; ++index) {
+            values[index] = snapshot.getValue(counters[index]);
+        }
+
+        return new
+        CounterSetSnapshot(
+            snapshot.getTimestamp(), values,
+            snapshot.getValue(GlobalStatusName.UPTIME)
+        );
+    }
+
+    /** 获取第 index 个计数器的值。*/
+    public long valueAt(int index) {
+        return this.values[index];
+    }
+
+    /** 是否为空快照。*/
+    @Override
+    public boolean isEmpty() {
+        return this.values.length == 0;
+    }
+
+    /**
+     * 服务器是否重启过（Uptime 变小），
+     * 单个计数器被 FLUSH STATUS 重置的情况由引擎逐个判断。
+     */
+    @Override
+    public boolean
+    isReset(@NotNull CounterSetSnapshot current) {
+        return current.uptime < this.uptime;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jesse.sqlmonitor.monitor.impl.database_size;
+
+import com.jesse.sqlmonitor.constants.QueryOrder;
+import com.jesse.sqlmonitor.response_body.DatabaseSize;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * 数据库大小目录接口，
+ * 在后台按库增量刷新各个库和库下所有表的大小并保存在内存中，
+ * 指纹（表数量、最后更新时间、表空间文件大小）没有变化的库会被跳过。
+ */
+public interface SchemaSizeCatalog
+{
+    /**
+     * 从目录中读取指定库的大小（目录中没有时返回空），
+     * 库下所有表按 queryOrder 在内存中排序，响应中附带这份数据的陈旧程度。
+     */
+    Optional<DatabaseSize> lookup(String schemaName, QueryOrder queryOrder);
+
+    /**
+     * 立即重新统计指定库的大小并写入目录（库不存在时目录中也不会有它），
+     * 最近一轮刷新中不存在的库在下一轮刷新之前不会再次查询。
+     */
+    Mono<Void> refreshSchema(String schemaName);
+
+    /** 执行一轮增量刷新，返回本轮实际重新统计了的库数量。*/
+    Mono<Integer> refreshChanged();
+}
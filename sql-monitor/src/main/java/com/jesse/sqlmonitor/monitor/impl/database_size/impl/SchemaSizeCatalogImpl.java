@@ -0,0 +1,404 @@
+package com.jesse.sqlmonitor.monitor.impl.database_size.impl;
+
+import com.jesse.sqlmonitor.constants.QueryOrder;
+import com.jesse.sqlmonitor.monitor.impl.database_size.SchemaSizeCatalog;
+import com.jesse.sqlmonitor.properties.SchemaSizeCatalogProperties;
+import com.jesse.sqlmonitor.response_body.DatabaseSize;
+import io.r2dbc.spi.Row;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.jesse.sqlmonitor.utils.SQLMonitorUtils.queryRow;
+
+/**
+ * 数据库大小目录实现。
+ *
+ * <p>
+ *     每轮刷新先用一条聚合查询得到所有库的指纹
+ *    （表数量、最大 UPDATE_TIME、innodb_tablespaces 中的文件大小之和），
+ *     只对指纹发生变化的库逐个查询表大小，库的总大小由表大小在内存中求和，
+ *     不再对每个库分别执行一次聚合查询。
+ * </p>
+ *
+ * <p>
+ *     目录只保存在本节点的内存中，每个节点各自刷新，重启后从头统计。
+ *     按需统计不存在的库时不会反复查询：最近一轮刷新中没有出现的库，
+ *     在下一轮刷新之前都视为不存在。
+ * </p>
+ */
+@Slf4j
+@Component
+public class SchemaSizeCatalogImpl
+    implements SchemaSizeCatalog, ApplicationListener<ContextClosedEvent>
+{
+    /** 1 MB = 1024 * 1024 Bytes */
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    /** 数据库客户端实例的引用（诊断隔舱）。*/
+    private final DatabaseClient databaseClient;
+
+    /** 诊断隔舱调度器。*/
+    private final Scheduler diagnosticScheduler;
+
+    /** 数据库大小目录属性。*/
+    private final SchemaSizeCatalogProperties properties;
+
+    /** 库名 -> 目录条目。*/
+    private final Map<String, SchemaEntry> catalog = new ConcurrentHashMap<>();
+
+    /** 最近一轮刷新得到的所有库的指纹（还没有完成过一轮刷新时为 null）。*/
+    private volatile Map<String, String> knownFingerprints = null;
+
+    /** 还没有完成过一轮刷新时，按需统计发现不存在的库（下一轮刷新时清空）。*/
+    private final Set<String> absentSchemas = ConcurrentHashMap.newKeySet();
+
+    /** 是否有一轮刷新正在进行？（刷新慢于间隔时跳过下一轮）*/
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /** 应用是否正在关闭？*/
+    private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
+
+    /** 后台刷新流订阅凭据。*/
+    private Disposable disposable = null;
+
+    /**
+     * 目录条目（构建完成后只读）。
+     *
+     * @param fingerprint 库的指纹
+     * @param sizeBytes   库下所有表的大小之和
+     * @param tableBytes  表名 -> 表大小，已按大小降序排列
+     * @param refreshedAt 统计的时刻
+     */
+    private record SchemaEntry(
+        String fingerprint,
+        long sizeBytes,
+        List<Map.Entry<String, Long>> tableBytes,
+        LocalDateTime refreshedAt
+    ) {}
+
+    public SchemaSizeCatalogImpl(
+        @Qualifier("R2dbcMasterDiagnosticDatabaseClient")
+        DatabaseClient databaseClient,
+        @Qualifier("DiagnosticScheduler")
+        Scheduler diagnosticScheduler,
+        SchemaSizeCatalogProperties properties
+    )
+    {
+        this.databaseClient      = databaseClient;
+        this.diagnosticScheduler = diagnosticScheduler;
+        this.properties          = properties;
+    }
+
+    /** 在目录构建完毕后开始周期刷新（启动时立即刷新一次）。*/
+    @PostConstruct
+    private void startRefresh()
+    {
+        log.info(
+            "Starting schema size catalog refresh, interval: {}",
+            this.properties.getRefreshInterval()
+        );
+
+        this.disposable
+            = Flux.interval(Duration.ZERO, this.properties.getRefreshInterval())
+                  .filter((tick) -> !this.isShuttingDown.get())
+                  .onBackpressureDrop()
+                  .concatMap((tick) ->
+                      this.refreshChanged()
+                          .onErrorResume((exception) -> {
+                              log.warn(
+                                  "Refresh schema size catalog failed! Caused by {}.",
+                                  exception.getMessage()
+                              );
+
+                              return Mono.empty();
+                          }))
+                  .subscribe();
+    }
+
+    @Override
+    public void
+    onApplicationEvent(@NotNull ContextClosedEvent event)
+    {
+        log.info("Application context closed, stoping schema size catalog refresh...");
+
+        this.isShuttingDown.set(true);
+
+        if (Objects.nonNull(this.disposable) && !this.disposable.isDisposed())
+        {
+            this.disposable.dispose();
+            this.disposable = null;
+        }
+    }
+
+    @Override
+    public Optional<DatabaseSize>
+    lookup(String schemaName, @NotNull QueryOrder queryOrder)
+    {
+        final SchemaEntry entry = this.catalog.get(schemaName);
+
+        if (Objects.isNull(entry)) {
+            return Optional.empty();
+        }
+
+        final Map<String, Double> tableSizes = new LinkedHashMap<>();
+        final List<Map.Entry<String, Long>> tables = entry.tableBytes();
+
+        // tableBytes 已按降序排列，升序时倒序遍历即可
+        for (int index = 0; index < tables.size(); ++index)
+        {
+            final Map.Entry<String, Long> table
+                = (queryOrder == QueryOrder.DESC)
+                    ? tables.get(index)
+                    : tables.get(tables.size() - 1 - index);
+
+            tableSizes.put(table.getKey(), toMBytes(table.getValue(), 4));
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+
+        return
+        Optional.of(
+            DatabaseSize.builder()
+                .sizeBytes(entry.sizeBytes())
+                .sizeMBytes(toMBytes(entry.sizeBytes(), 8))
+                .tableSizes(tableSizes)
+                .refreshedAt(entry.refreshedAt())
+                .stalenessMs(Duration.between(entry.refreshedAt(), now).toMillis())
+                .build()
+        );
+    }
+
+    @Override
+    public Mono<Void>
+    refreshSchema(String schemaName)
+    {
+        return
+        Mono.defer(() -> {
+            final Map<String, String> fingerprints = this.knownFingerprints;
+
+            // 已经完成过一轮刷新，直接使用那一轮的指纹，
+            // 那一轮中没有这个库的话，在下一轮刷新之前都视为不存在
+            if (Objects.nonNull(fingerprints))
+            {
+                final String fingerprint = fingerprints.get(schemaName);
+
+                return
+                Objects.isNull(fingerprint)
+                    ? Mono.empty()
+                    : this.refreshSchema(schemaName, fingerprint);
+            }
+
+            if (this.absentSchemas.contains(schemaName)) {
+                return Mono.empty();
+            }
+
+            // 应用刚启动，只查询这一个库的指纹
+            return
+            this.fetchFingerprints(schemaName)
+                .flatMap((schemaFingerprints) -> {
+                    final String fingerprint = schemaFingerprints.get(schemaName);
+
+                    if (Objects.isNull(fingerprint))
+                    {
+                        this.absentSchemas.add(schemaName);
+                        return Mono.empty();
+                    }
+
+                    return this.refreshSchema(schemaName, fingerprint);
+                });
+        });
+    }
+
+    @Override
+    public Mono<Integer> refreshChanged()
+    {
+        return
+        Mono.defer(() -> {
+            if (!this.refreshing.compareAndSet(false, true)) {
+                return Mono.just(0);
+            }
+
+            return
+            this.fetchFingerprints(null)
+                .flatMap((fingerprints) ->
+                    Flux.fromIterable(this.acceptFingerprints(fingerprints))
+                        // 逐个库刷新，避免同时向 information_schema 发出大量查询
+                        .concatMap((fingerprint) ->
+                            this.refreshSchema(fingerprint.getKey(), fingerprint.getValue())
+                                .thenReturn(fingerprint.getKey()))
+                        .count()
+                        .map(Long::intValue))
+                .doOnNext((changed) ->
+                    log.debug("Schema size catalog refreshed, {} schema(s) changed.", changed))
+                .doFinally((signal) -> this.refreshing.set(false));
+        });
+    }
+
+    /**
+     * 接受新一轮的指纹：记下所有库的指纹，移除已经被删除的库，
+     * 返回指纹发生变化（或者目录中还没有）需要重新统计的库。
+     */
+    @NotNull List<Map.Entry<String, String>>
+    acceptFingerprints(@NotNull Map<String, String> fingerprints)
+    {
+        this.knownFingerprints = Map.copyOf(fingerprints);
+        this.absentSchemas.clear();
+
+        // 已经被删除的库从目录中移除
+        this.catalog.keySet().retainAll(fingerprints.keySet());
+
+        final List<Map.Entry<String, String>> changed = new ArrayList<>();
+
+        for (Map.Entry<String, String> fingerprint : fingerprints.entrySet())
+        {
+            final SchemaEntry cached = this.catalog.get(fingerprint.getKey());
+
+            if (Objects.isNull(cached) || !fingerprint.getValue().equals(cached.fingerprint())) {
+                changed.add(fingerprint);
+            }
+        }
+
+        return changed;
+    }
+
+    /** 查询所有库（schemaName 不为 null 时只查询这一个库）的指纹。*/
+    private @NotNull Mono<Map<String, String>>
+    fetchFingerprints(@Nullable String schemaName)
+    {
+        final String fingerprintQuery = """
+            SELECT
+                t.TABLE_SCHEMA                  AS schema_name,
+                COUNT(*)                        AS table_count,
+                MAX(t.UPDATE_TIME)              AS last_update,
+                COALESCE(SUM(ts.FILE_SIZE), 0)  AS file_size
+            FROM
+                information_schema.TABLES t
+            LEFT JOIN
+                information_schema.INNODB_TABLESPACES ts
+                ON ts.NAME = CONCAT(t.TABLE_SCHEMA, '/', t.TABLE_NAME)
+            %s
+            GROUP BY
+                t.TABLE_SCHEMA
+            """.formatted(Objects.isNull(schemaName) ? "" : "WHERE t.TABLE_SCHEMA = :schemaName");
+
+        DatabaseClient.GenericExecuteSpec executeSpec
+            = this.databaseClient.sql(fingerprintQuery);
+
+        if (Objects.nonNull(schemaName)) {
+            executeSpec = executeSpec.bind("schemaName", schemaName);
+        }
+
+        return
+        executeSpec
+            .map((row, metadata) ->
+                Map.entry(
+                    queryRow(row, "schema_name", String.class),
+                    row.get("table_count", Long.class)           + "|" +
+                    row.get("last_update", LocalDateTime.class)  + "|" +
+                    row.get("file_size", BigDecimal.class)
+                ))
+            .all()
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .timeout(this.properties.getQueryTimeout())
+            .subscribeOn(this.diagnosticScheduler);
+    }
+
+    /** 查询指定库下所有表的大小，求和后写入目录。*/
+    private @NotNull Mono<Void>
+    refreshSchema(String schemaName, String fingerprint)
+    {
+        final String tableSizeQuery = """
+            SELECT
+                TABLE_NAME                                          AS table_name,
+                COALESCE(DATA_LENGTH, 0) + COALESCE(INDEX_LENGTH, 0) AS size_bytes
+            FROM
+                information_schema.TABLES
+            WHERE
+                TABLE_SCHEMA = :schemaName
+            """;
+
+        return
+        this.databaseClient
+            .sql(tableSizeQuery)
+            .bind("schemaName", schemaName)
+            .map((row, metadata) ->
+                Map.entry(
+                    queryRow(row, "table_name", String.class),
+                    longColumn(row, "size_bytes")
+                ))
+            .all()
+            .collectList()
+            .timeout(this.properties.getQueryTimeout())
+            .doOnNext((tables) -> this.storeTables(schemaName, fingerprint, tables))
+            .subscribeOn(this.diagnosticScheduler)
+            .then();
+    }
+
+    /** 按大小降序排列库下所有表，求和后写入目录（没有任何表时从目录中移除）。*/
+    void storeTables(
+        String schemaName, String fingerprint,
+        @NotNull List<Map.Entry<String, Long>> tables
+    )
+    {
+        if (tables.isEmpty())
+        {
+            this.catalog.remove(schemaName);
+            return;
+        }
+
+        final List<Map.Entry<String, Long>> sorted = new ArrayList<>(tables);
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        long sizeBytes = 0L;
+
+        for (Map.Entry<String, Long> table : sorted) {
+            sizeBytes += table.getValue();
+        }
+
+        this.catalog.put(
+            schemaName,
+            new SchemaEntry(
+                fingerprint, sizeBytes,
+                List.copyOf(sorted), LocalDateTime.now()
+            )
+        );
+    }
+
+    private static long
+    longColumn(@NotNull Row row, String name)
+    {
+        // DATA_LENGTH + INDEX_LENGTH 是 BIGINT UNSIGNED 的和，驱动会映射成 BigInteger 或 BigDecimal，统一按 Number 读取
+        final Number value = row.get(name, Number.class);
+
+        return (value == null) ? 0L : value.longValue();
+    }
+
+    /** 字节数换算成保留指定小数位数的兆字节数。*/
+    private static double
+    toMBytes(long bytes, int scale)
+    {
+        return
+        BigDecimal.valueOf(bytes / BYTES_PER_MB)
+                  .setScale(scale, RoundingMode.HALF_UP)
+                  .doubleValue();
+    }
+}
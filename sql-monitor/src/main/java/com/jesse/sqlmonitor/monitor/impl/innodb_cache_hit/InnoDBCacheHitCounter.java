@@ -1,5 +1,6 @@
 package com.jesse.sqlmonitor.monitor.impl.innodb_cache_hit;
 
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.InnodbBufferCacheHitRate;
 import reactor.core.publisher.Mono;
 
@@ -9,4 +10,8 @@ public interface InnoDBCacheHitCounter
     /** 计算缓存命中率。*/
     Mono<InnodbBufferCacheHitRate>
     calculateBufferCacheHitRate();
+
+    /** 使用给定的全局状态快照计算缓存命中率。*/
+    Mono<InnodbBufferCacheHitRate>
+    calculateBufferCacheHitRate(GlobalStatusSnapshot snapshot);
 }
\ No newline at end of file
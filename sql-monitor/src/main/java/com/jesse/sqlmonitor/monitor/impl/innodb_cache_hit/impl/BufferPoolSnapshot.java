@@ -1,14 +1,18 @@
 package com.jesse.sqlmonitor.monitor.impl.innodb_cache_hit.impl;
 
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.monitor.snapshot.SnapshotBase;
 import lombok.*;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Instant;
+
+import static com.jesse.sqlmonitor.monitor.constants.GlobalStatusName.*;
+
 /** 数据库缓冲池相关数据快照。*/
 @Getter
 @ToString(callSuper = true)
-@Builder(builderClassName = "Builder")
 @EqualsAndHashCode(callSuper = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class BufferPoolSnapshot extends SnapshotBase<BufferPoolSnapshot>
@@ -22,6 +26,15 @@ public class BufferPoolSnapshot extends SnapshotBase<BufferPoolSnapshot>
     /** Innodb_buffer_pool_reads 缓存未命中，从磁盘读取的总字节数。*/
     private final long reads;
 
+    private BufferPoolSnapshot(
+        Instant timestamp, long readAhead, long readRequests, long reads)
+    {
+        super(timestamp);
+        this.readAhead    = readAhead;
+        this.readRequests = readRequests;
+        this.reads        = reads;
+    }
+
     /** 构造空快照。*/
     @Contract(" -> new")
     public static @NotNull BufferPoolSnapshot empty()
@@ -30,6 +43,20 @@ public class BufferPoolSnapshot extends SnapshotBase<BufferPoolSnapshot>
         BufferPoolSnapshot(0L, 0L, 0L);
     }
 
+    /** 从全局状态快照中派生（共享其时间戳）。*/
+    @Contract("_ -> new")
+    public static @NotNull BufferPoolSnapshot
+    from(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        return new
+        BufferPoolSnapshot(
+            snapshot.getTimestamp(),
+            snapshot.getValue(INNODB_BUFFER_POOL_READ_AHEAD),
+            snapshot.getValue(INNODB_BUFFER_POOL_READ_REQUESTS),
+            snapshot.getValue(INNODB_BUFFER_POOL_READS)
+        );
+    }
+
     /** 是否为空快照。*/
     @Override
     public boolean isEmpty()
@@ -1,9 +1,11 @@
 package com.jesse.sqlmonitor.monitor.impl.innodb_cache_hit.impl;
 
 import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
-import com.jesse.sqlmonitor.monitor.impl.GlobalStatusQuery;
 import com.jesse.sqlmonitor.monitor.impl.innodb_cache_hit.InnoDBCacheHitCounter;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.InnodbBufferCacheHitRate;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -13,12 +15,11 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.*;
+import static com.jesse.sqlmonitor.utils.RateMath.hitRate;
 
 /** InnDB 缓存命中率计算器实现。*/
 @Slf4j
@@ -26,8 +27,8 @@ import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.*;
 @RequiredArgsConstructor
 public class InnoDBCacheHitCounterImpl implements InnoDBCacheHitCounter
 {
-    /** 全局状态查询器。*/
-    private final GlobalStatusQuery globalStatusQuery;
+    /** 全局状态快照引擎。*/
+    private final StatusSnapshotEngine statusSnapshotEngine;
 
     /** 使用 AtomicReference 管理快照，实现无锁操作。*/
     private final AtomicReference<BufferPoolSnapshot> bufferPoolSnapshot
@@ -42,19 +43,15 @@ public class InnoDBCacheHitCounterImpl implements InnoDBCacheHitCounter
     AtomicReference<CacheHitRate> previousResult
         = new AtomicReference<>(CacheHitRate.zero());
 
-    private @NotNull Mono<BufferPoolSnapshot>
-    fetchBufferPoolIndicator()
+    /** 向快照引擎登记缓存命中率计算所需的全局状态。*/
+    @PostConstruct
+    private void registerRequiredStatus()
     {
-        return
-        this.globalStatusQuery
-            .getGlobalStatus(GlobalStatusName.INNODB_STATUS)
-            .map((indicator) ->
-                BufferPoolSnapshot.builder()
-                    .readAhead((Long) indicator.get("Innodb_buffer_pool_read_ahead"))
-                    .readRequests((Long) indicator.get("Innodb_buffer_pool_read_requests"))
-                    .reads((Long) indicator.get("Innodb_buffer_pool_reads"))
-                    .build()
-            );
+        this.statusSnapshotEngine.register(
+            GlobalStatusName.INNODB_BUFFER_POOL_READ_AHEAD,
+            GlobalStatusName.INNODB_BUFFER_POOL_READ_REQUESTS,
+            GlobalStatusName.INNODB_BUFFER_POOL_READS
+        );
     }
 
     /** 错误处理逻辑，输出异常信息并返回降级值。*/
@@ -114,20 +111,11 @@ public class InnoDBCacheHitCounterImpl implements InnoDBCacheHitCounter
          * InnoDB 缓存命中率计算公式 =
          *   1 - (两次查询的 INNODB_BUFFER_POOL_READS 差值 + 两次查询的 INNODB_BUFFER_POOL_READ_AHEAD 差值) /
          *   两次查询的 INNODB_BUFFER_POOL_READ_REQUESTS 差值
+         *（hitRate() 确保命中率在 [0, 1] 范围内）
          */
-        BigDecimal missRate
-            = BigDecimal.valueOf(readsDiff + readAheadDiff)
-                .divide(BigDecimal.valueOf(readRequestDiff), 8, RoundingMode.HALF_UP);
-
-        // 确保命中率在 [0, 1] 范围内
-        BigDecimal cacheHitRate
-            = BigDecimal.ONE.subtract(missRate)
-                .min(BigDecimal.ONE)
-                .max(BigDecimal.ZERO);
-
         return
         CacheHitRate.of(
-            cacheHitRate, timeDiff,
+            hitRate(readsDiff + readAheadDiff, readRequestDiff), timeDiff,
             false, false
         );
     }
@@ -181,16 +169,27 @@ public class InnoDBCacheHitCounterImpl implements InnoDBCacheHitCounter
     calculateBufferCacheHitRate()
     {
         return
-        this.fetchBufferPoolIndicator()
-            .map(this::calculateAndUpdate)
+        this.statusSnapshotEngine
+            .currentSnapshot()
+            .flatMap(this::calculateBufferCacheHitRate)
             .onErrorResume(this::errorHandler)
             .subscribeOn(Schedulers.parallel());
     }
 
+    @Override
+    public Mono<InnodbBufferCacheHitRate>
+    calculateBufferCacheHitRate(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        return
+        Mono.fromCallable(() ->
+                this.calculateAndUpdate(BufferPoolSnapshot.from(snapshot)))
+            .onErrorResume(this::errorHandler);
+    }
+
     @Value(staticConstructor = "of")
     public static class CacheHitRate
     {
-        BigDecimal  cacheHitRate;
+        double      cacheHitRate;
         long        queryDiff;
         boolean     resetDetected;
         boolean     usedPreviousResult;  // 标记是否使用了历史数据
@@ -201,7 +200,7 @@ public class InnoDBCacheHitCounterImpl implements InnoDBCacheHitCounter
         {
             return new
             CacheHitRate(
-                BigDecimal.ZERO,
+                0.0,
                 0L, false, false
             );
         }
@@ -212,7 +211,7 @@ public class InnoDBCacheHitCounterImpl implements InnoDBCacheHitCounter
         {
             return new
             CacheHitRate(
-                BigDecimal.ZERO,
+                0.0,
                 0L, true, false
             );
         }
@@ -1,13 +1,21 @@
 package com.jesse.sqlmonitor.monitor.impl.network_traffic;
 
-import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.NetWorkTraffic;
 import reactor.core.publisher.Mono;
 
 /** MySQL 服务器网络流量计算器接口。*/
 public interface NetWorkTrafficCounter
 {
-    /** 计算此刻数据库的网络流量（支持不同的计量单位）*/
+    /**
+     * 计算此刻数据库的网络流量，
+     * 速率统一以 B/s 为单位（缓存、消息队列与数据库中存放的都是这个单位），
+     * 其他单位通过 {@link NetWorkTraffic#convertTo(com.jesse.sqlmonitor.monitor.constants.SizeUnit)} 在响应时换算。
+     */
     Mono<NetWorkTraffic>
-    calculateNetWorkTraffic(SizeUnit unit);
+    calculateNetWorkTraffic();
+
+    /** 使用给定的全局状态快照计算网络流量（单位：B/s）。*/
+    Mono<NetWorkTraffic>
+    calculateNetWorkTraffic(GlobalStatusSnapshot snapshot);
 }
\ No newline at end of file
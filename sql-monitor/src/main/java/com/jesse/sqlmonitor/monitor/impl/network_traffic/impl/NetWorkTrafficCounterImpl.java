@@ -1,9 +1,10 @@
 package com.jesse.sqlmonitor.monitor.impl.network_traffic.impl;
 
 import com.jesse.sqlmonitor.monitor.impl.network_traffic.NetWorkTrafficCounter;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.NetWorkTraffic;
-import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
-import com.jesse.sqlmonitor.monitor.impl.GlobalStatusQuery;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -17,7 +18,6 @@ import java.util.concurrent.atomic.AtomicReference;
 import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.*;
 import static com.jesse.sqlmonitor.monitor.constants.GlobalStatusName.BYTES_RECEIVED;
 import static com.jesse.sqlmonitor.monitor.constants.GlobalStatusName.BYTES_SENT;
-import static com.jesse.sqlmonitor.utils.SQLMonitorUtils.extractLongValue;
 
 /** MySQL 服务器网络流量计算器实现。*/
 @Slf4j
@@ -25,8 +25,8 @@ import static com.jesse.sqlmonitor.utils.SQLMonitorUtils.extractLongValue;
 @RequiredArgsConstructor
 public class NetWorkTrafficCounterImpl implements NetWorkTrafficCounter
 {
-    /** 全局状态查询器。*/
-    private final GlobalStatusQuery globalStatusQuery;
+    /** 全局状态快照引擎。*/
+    private final StatusSnapshotEngine statusSnapshotEngine;
 
     /** 网络流量计算器。*/
     private final TrafficRateCalculator trafficRateCalculator;
@@ -39,6 +39,12 @@ public class NetWorkTrafficCounterImpl implements NetWorkTrafficCounter
     private final AtomicInteger snapshotInitCount
         = new AtomicInteger(0);
 
+    /** 向快照引擎登记网络流量计算所需的全局状态。*/
+    @PostConstruct
+    private void registerRequiredStatus() {
+        this.statusSnapshotEngine.register(BYTES_SENT, BYTES_RECEIVED);
+    }
+
     /** 错误处理逻辑，输出异常信息并返回降级值。*/
     private @NotNull Mono<NetWorkTraffic>
     errorHandler(Throwable throwable)
@@ -51,27 +57,8 @@ public class NetWorkTrafficCounterImpl implements NetWorkTrafficCounter
         return Mono.just(NetWorkTraffic.onError());
     }
 
-    /** 获取当前网络流量快照。*/
-    private @NotNull Mono<TrafficStateSnapshot>
-    fetchCurrentTrafficState()
-    {
-        return
-        Mono.zip(
-            this.globalStatusQuery.getGlobalStatus(BYTES_SENT),
-            this.globalStatusQuery.getGlobalStatus(BYTES_RECEIVED)
-        ).map((indicators) -> {
-            long bytesSent
-                = extractLongValue(indicators.getT1(), BYTES_SENT.getStatusName());
-            long bytesReceived
-                = extractLongValue(indicators.getT2(), BYTES_RECEIVED.getStatusName());
-
-            return new
-            TrafficStateSnapshot(bytesSent, bytesReceived);
-        });
-    }
-
     private @NotNull Mono<NetWorkTraffic>
-    calculateTrafficRate(TrafficStateSnapshot currentState, SizeUnit unit)
+    calculateTrafficRate(TrafficStateSnapshot currentState)
     {
         return
         Mono.fromCallable(() -> {
@@ -96,7 +83,7 @@ public class NetWorkTrafficCounterImpl implements NetWorkTrafficCounter
                     NetWorkTraffic.buildTrafficResult(
                         currentState,
                         this.trafficRateCalculator
-                            .calculateRate(previousState, currentState, unit)
+                            .calculateRate(previousState, currentState)
                     );
                 }
 
@@ -112,16 +99,28 @@ public class NetWorkTrafficCounterImpl implements NetWorkTrafficCounter
         });
     }
 
-    /** 计算此刻数据库的网络流量（支持不同的计量单位）*/
+    /** 计算此刻数据库的网络流量（单位：B/s，其他单位由调用方换算）*/
     @Override
     public Mono<NetWorkTraffic>
-    calculateNetWorkTraffic(SizeUnit unit)
+    calculateNetWorkTraffic()
     {
         return
-        this.fetchCurrentTrafficState()
-            .flatMap((currentState) ->
-                this.calculateTrafficRate(currentState, unit))
+        this.statusSnapshotEngine
+            .currentSnapshot()
+            .flatMap((snapshot) ->
+                this.calculateNetWorkTraffic(snapshot))
             .onErrorResume(this::errorHandler)
             .subscribeOn(Schedulers.parallel());
     }
+
+    /** 使用给定的全局状态快照计算网络流量。*/
+    @Override
+    public Mono<NetWorkTraffic>
+    calculateNetWorkTraffic(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        return
+        Mono.fromCallable(() -> TrafficStateSnapshot.from(snapshot))
+            .flatMap(this::calculateTrafficRate)
+            .onErrorResume(this::errorHandler);
+    }
 }
\ No newline at end of file
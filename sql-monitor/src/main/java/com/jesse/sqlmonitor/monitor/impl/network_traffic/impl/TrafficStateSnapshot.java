@@ -1,10 +1,16 @@
 package com.jesse.sqlmonitor.monitor.impl.network_traffic.impl;
 
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.monitor.snapshot.SnapshotBase;
 import lombok.*;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Instant;
+
+import static com.jesse.sqlmonitor.monitor.constants.GlobalStatusName.BYTES_RECEIVED;
+import static com.jesse.sqlmonitor.monitor.constants.GlobalStatusName.BYTES_SENT;
+
 /** 数据库网络流量信息快照。*/
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -17,6 +23,14 @@ public class TrafficStateSnapshot extends SnapshotBase<TrafficStateSnapshot>
     /** [所有客户端发送给服务器] 的全部字节数 */
     private final long totalBytesReceive;
 
+    private TrafficStateSnapshot(
+        Instant timestamp, long totalBytesSent, long totalBytesReceive)
+    {
+        super(timestamp);
+        this.totalBytesSent    = totalBytesSent;
+        this.totalBytesReceive = totalBytesReceive;
+    }
+
     /** 构造一个空快照。*/
     @Contract(" -> new")
     public static @NotNull TrafficStateSnapshot
@@ -26,6 +40,19 @@ public class TrafficStateSnapshot extends SnapshotBase<TrafficStateSnapshot>
         TrafficStateSnapshot(0L, 0L);
     }
 
+    /** 从全局状态快照中派生（共享其时间戳）。*/
+    @Contract("_ -> new")
+    public static @NotNull TrafficStateSnapshot
+    from(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        return new
+        TrafficStateSnapshot(
+            snapshot.getTimestamp(),
+            snapshot.getValue(BYTES_SENT),
+            snapshot.getValue(BYTES_RECEIVED)
+        );
+    }
+
     /** 是否为空快照。*/
     @Override
     public boolean isEmpty()
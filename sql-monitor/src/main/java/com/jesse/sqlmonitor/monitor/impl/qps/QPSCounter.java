@@ -1,10 +1,15 @@
 package com.jesse.sqlmonitor.monitor.impl.qps;
 
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.QPSResult;
 import reactor.core.publisher.Mono;
 
 /** MySQL QPS 计算器接口。*/
 public interface QPSCounter
 {
+    /** 取本轮的全局状态快照，计算此刻数据库的 QPS。*/
     Mono<QPSResult> calculateQPS();
+
+    /** 使用给定的全局状态快照计算 QPS。*/
+    Mono<QPSResult> calculateQPS(GlobalStatusSnapshot snapshot);
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.jesse.sqlmonitor.monitor.impl.qps.impl;
 
 import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
-import com.jesse.sqlmonitor.monitor.impl.GlobalStatusQuery;
 import com.jesse.sqlmonitor.monitor.impl.qps.QPSCounter;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.response_body.QPSResult;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -13,8 +15,6 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -26,8 +26,8 @@ import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.*;
 @RequiredArgsConstructor
 public class QPSCounterImpl implements QPSCounter
 {
-    /** MySQL 全局状态查询器。*/
-    private final GlobalStatusQuery globalStatusQuery;
+    /** 全局状态快照引擎。*/
+    private final StatusSnapshotEngine statusSnapshotEngine;
 
     /** 使用 AtomicReference 管理总查询快照，实现无锁操作。*/
     private final
@@ -38,8 +38,15 @@ public class QPSCounterImpl implements QPSCounter
     private final AtomicInteger snapshotInitCount
         = new AtomicInteger(0);
 
+    /** 向快照引擎登记 QPS 计算所需的全局状态。*/
+    @PostConstruct
+    private void registerRequiredStatus() {
+        this.statusSnapshotEngine.register(GlobalStatusName.QUERIES);
+    }
+
     /**
-     * 根据两张总查询数快照，计算此刻本数据库的 QPS（保留 8 位小数且四舍五入）。
+     * 根据两张总查询数快照，计算此刻本数据库的 QPS
+     *（这里只保存查询差与时间差两个 long，构造响应体时再由它们精确地计算出保留 8 位小数且四舍五入的 QPS）。
      *
      * <pre>公式：(上一次总查询数 - 本次总查询数) / 两张总查询数快照的时间差（单位：秒）</pre>
      */
@@ -62,19 +69,11 @@ public class QPSCounterImpl implements QPSCounter
             return QPS.reset();
         }
 
-        // 正式的计算 QPS
-        BigDecimal qps
-            = BigDecimal.valueOf(queriesDiff)
-                  .divide(
-                      BigDecimal.valueOf(timeDiff / 1000.00),
-                      8, RoundingMode.HALF_UP
-                  );
-
-        // 构建 QPS 实例
+        // 正式的计算 QPS，构建 QPS 实例
         return
         QPS.of(
-            qps, current.getQueries(),
-            queriesDiff, timeDiff, false
+            current.getQueries(), queriesDiff,
+            timeDiff, false
         );
     }
 
@@ -90,19 +89,6 @@ public class QPSCounterImpl implements QPSCounter
         return Mono.just(QPSResult.onError());
     }
 
-    /** 从数据库获取当前的总查询数，并构造成快照 {@link QueriesSnapshot}。*/
-    private @NotNull Mono<QueriesSnapshot> fetchQueries()
-    {
-        return
-        this.globalStatusQuery
-            .getGlobalStatus(GlobalStatusName.QUERIES)
-            .map((status) ->
-                QueriesSnapshot.of(
-                    (Long) status.get(GlobalStatusName.QUERIES.getStatusName())
-                )
-            );
-    }
-
     /**
      * 计算 QPS 并更新总查询数快照。</br>
      * 使用 {@link AtomicReference#compareAndSet(Object, Object)} 确保
@@ -160,26 +146,34 @@ public class QPSCounterImpl implements QPSCounter
     public Mono<QPSResult> calculateQPS()
     {
         return
-        this.fetchQueries()
-            .map(this::calculateAndUpdate)
+        this.statusSnapshotEngine
+            .currentSnapshot()
+            .flatMap(this::calculateQPS)
             .onErrorResume(this::errorHandler)
             .subscribeOn(Schedulers.parallel());
     }
 
+    @Override
+    public Mono<QPSResult>
+    calculateQPS(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        return
+        Mono.fromCallable(() ->
+                this.calculateAndUpdate(QueriesSnapshot.from(snapshot)))
+            .onErrorResume(this::errorHandler);
+    }
+
     @Value(staticConstructor = "of")
     public static class QPS
     {
-        /** QPS 具体值 */
-        BigDecimal qps;
-
         /** 当前查询总数 */
-        Long currentQuires;
+        long currentQuires;
 
         /** 与上一次获取的总查询数的差值 */
-        Long queryDiff;
+        long queryDiff;
 
         /** 与上一次获取的总查询数的时间间隔（单位：毫秒）*/
-        Long timeDiffMs;
+        long timeDiffMs;
 
         /** 总查询数是否被外部重置？*/
         boolean resetDetected;
@@ -189,9 +183,9 @@ public class QPSCounterImpl implements QPSCounter
         QPS zero()
         {
             return new
-            QPS(BigDecimal.ZERO,
-            0L, 0L, 0L,
-            false
+            QPS(
+                0L, 0L, 0L,
+                false
             );
         }
 
@@ -200,9 +194,9 @@ public class QPSCounterImpl implements QPSCounter
         QPS reset()
         {
             return new
-            QPS(BigDecimal.ZERO,
-            0L,0L, 0L,
-            true
+            QPS(
+                0L, 0L, 0L,
+                true
             );
         }
     }
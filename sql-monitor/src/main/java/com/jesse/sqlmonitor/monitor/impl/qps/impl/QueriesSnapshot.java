@@ -1,10 +1,14 @@
 package com.jesse.sqlmonitor.monitor.impl.qps.impl;
 
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
 import com.jesse.sqlmonitor.monitor.snapshot.SnapshotBase;
 import lombok.*;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Instant;
+
 /** 数据库总查询数快照。*/
 @Getter
 @ToString(callSuper = true)
@@ -15,6 +19,12 @@ public class QueriesSnapshot extends SnapshotBase<QueriesSnapshot>
     /** 上一次获取的总查询数 */
     private final Long queries;
 
+    private QueriesSnapshot(Instant timestamp, Long queries)
+    {
+        super(timestamp);
+        this.queries = queries;
+    }
+
     @Contract(" -> new")
     public static @NotNull QueriesSnapshot empty() {
         return new QueriesSnapshot(0L);
@@ -26,6 +36,18 @@ public class QueriesSnapshot extends SnapshotBase<QueriesSnapshot>
         return new QueriesSnapshot(queries);
     }
 
+    /** 从全局状态快照中派生（共享其时间戳）。*/
+    @Contract("_ -> new")
+    public static @NotNull QueriesSnapshot
+    from(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        return new
+        QueriesSnapshot(
+            snapshot.getTimestamp(),
+            snapshot.getValue(GlobalStatusName.QUERIES)
+        );
+    }
+
     /** 是否为空快照。*/
     @Override
     public boolean isEmpty() {
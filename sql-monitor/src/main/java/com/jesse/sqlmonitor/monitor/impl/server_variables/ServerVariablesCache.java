@@ -0,0 +1,27 @@
+package com.jesse.sqlmonitor.monitor.impl.server_variables;
+
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 数据库系统变量缓存接口，
+ * 按较慢的节奏刷新 global_variables，变量发生变化时让依赖它的指标缓存失效，
+ * 指标计算器直接读取缓存中的值，不再每次都查询主数据库。
+ */
+public interface ServerVariablesCache
+{
+    /**
+     * 读取某个整数类型的系统变量（缓存尚未加载时先加载一次）。
+     *
+     * @throws IllegalStateException 该变量不存在或不是整数（以 Mono.error 的形式发出）
+     */
+    Mono<Long> getLong(ServerVariableName variableName);
+
+    /** 当前缓存的所有系统变量（尚未加载时为空）。*/
+    Map<ServerVariableName, String> getCachedVariables();
+
+    /** 立即重新查询所有系统变量，检测变化并让依赖的指标缓存失效。*/
+    Mono<Map<ServerVariableName, String>> refresh();
+}
@@ -0,0 +1,204 @@
+package com.jesse.sqlmonitor.monitor.impl.server_variables.impl;
+
+import com.jesse.sqlmonitor.monitor.cacher.IndicatorCacher;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
+import com.jesse.sqlmonitor.monitor.constants.StatusValueType;
+import com.jesse.sqlmonitor.monitor.impl.GlobalStatusQuery;
+import com.jesse.sqlmonitor.monitor.impl.server_variables.ServerVariablesCache;
+import com.jesse.sqlmonitor.properties.ServerVariablesProperties;
+import com.jesse.sqlmonitor.utils.StatusValueParser;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** 数据库系统变量缓存实现。*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServerVariablesCacheImpl
+    implements ServerVariablesCache, ApplicationListener<ContextClosedEvent>
+{
+    /** 全局状态查询器（顺便负责查询系统变量）。*/
+    private final GlobalStatusQuery globalStatusQuery;
+
+    /** 指标数据缓存器，变量变化时用它删除依赖指标的缓存。*/
+    private final IndicatorCacher indicatorCacher;
+
+    /** 系统变量缓存相关属性。*/
+    private final ServerVariablesProperties properties;
+
+    /** 最近一次查询得到的系统变量（不可变，整体替换）。*/
+    private final AtomicReference<Map<ServerVariableName, String>> cachedVariables
+        = new AtomicReference<>(Map.of());
+
+    /** 正在进行中的刷新，并发的调用者共享它。*/
+    private final AtomicReference<Mono<Map<ServerVariableName, String>>> inFlight
+        = new AtomicReference<>();
+
+    /** 应用是否正在关闭？*/
+    private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
+
+    /** 周期刷新流订阅凭据。*/
+    private Disposable disposable = null;
+
+    /** 在缓存构建完毕后按配置的间隔周期刷新（启动时立即刷新一次）。*/
+    @PostConstruct
+    private void startRefresh()
+    {
+        log.info(
+            "Starting server variables refresh, interval: {}",
+            this.properties.getRefreshInterval()
+        );
+
+        this.disposable
+            = Flux.interval(Duration.ZERO, this.properties.getRefreshInterval())
+                  .filter((tick) -> !this.isShuttingDown.get())
+                  .concatMap((tick) ->
+                      this.refresh()
+                          .onErrorResume((exception) -> {
+                              log.warn(
+                                  "Refresh server variables failed! Caused by {}, keep cached values.",
+                                  exception.getMessage()
+                              );
+
+                              return Mono.empty();
+                          }))
+                  .subscribe();
+    }
+
+    @Override
+    public void
+    onApplicationEvent(@NotNull ContextClosedEvent event)
+    {
+        log.info("Application context closed, stoping server variables refresh...");
+
+        this.isShuttingDown.set(true);
+
+        if (Objects.nonNull(this.disposable) && !this.disposable.isDisposed())
+        {
+            this.disposable.dispose();
+            this.disposable = null;
+        }
+    }
+
+    @Override
+    public Mono<Long> getLong(@NotNull ServerVariableName variableName)
+    {
+        return
+        Mono.defer(() -> {
+            final Map<ServerVariableName, String> cached = this.cachedVariables.get();
+
+            return
+            (cached.isEmpty()) ? this.refresh() : Mono.just(cached);
+        })
+        .flatMap((variables) -> {
+            final String value = variables.get(variableName);
+
+            if (Objects.isNull(value) ||
+                StatusValueParser.classify(value) != StatusValueType.LONG)
+            {
+                return Mono.error(
+                    new IllegalStateException(
+                        String.format(
+                            "Server variable %s is absent or not an integer: %s",
+                            variableName.getVariableName(), value
+                        )
+                    )
+                );
+            }
+
+            return Mono.just(StatusValueParser.parseLong(value));
+        });
+    }
+
+    @Override
+    public Map<ServerVariableName, String> getCachedVariables() {
+        return this.cachedVariables.get();
+    }
+
+    @Override
+    public Mono<Map<ServerVariableName, String>> refresh()
+    {
+        return
+        Mono.defer(() -> {
+            final Mono<Map<ServerVariableName, String>> running = this.inFlight.get();
+
+            if (Objects.nonNull(running)) {
+                return running;
+            }
+
+            final AtomicReference<Mono<Map<ServerVariableName, String>>> self
+                = new AtomicReference<>();
+
+            final Mono<Map<ServerVariableName, String>> round
+                = this.globalStatusQuery
+                      .getGlobalVariables(EnumSet.allOf(ServerVariableName.class))
+                      .map(Collections::unmodifiableMap)
+                      .flatMap((latest) ->
+                          this.onVariablesLoaded(this.cachedVariables.getAndSet(latest), latest)
+                              .thenReturn(latest))
+                      .doFinally((signal) ->
+                          this.inFlight.compareAndSet(self.get(), null))
+                      .cache();
+
+            self.set(round);
+
+            return
+            (this.inFlight.compareAndSet(null, round))
+                ? round
+                : Objects.requireNonNullElse(this.inFlight.get(), round);
+        });
+    }
+
+    /**
+     * 比较前后两次的系统变量，
+     * 对发生变化的变量，删除所有依赖它的指标缓存（首次加载不算变化）。
+     */
+    private @NotNull Mono<Void>
+    onVariablesLoaded(
+        @NotNull Map<ServerVariableName, String> previous,
+        @NotNull Map<ServerVariableName, String> latest
+    )
+    {
+        if (previous.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final Set<IndicatorKeyNames> staleIndicators
+            = EnumSet.noneOf(IndicatorKeyNames.class);
+
+        for (ServerVariableName variableName : ServerVariableName.values())
+        {
+            final String before = previous.get(variableName);
+            final String after  = latest.get(variableName);
+
+            if (!Objects.equals(before, after))
+            {
+                log.info(
+                    "Server variable {} changed: {} -> {}",
+                    variableName.getVariableName(), before, after
+                );
+
+                staleIndicators.addAll(variableName.getDependents());
+            }
+        }
+
+        return
+        Flux.fromIterable(staleIndicators)
+            .flatMap(this.indicatorCacher::evictIndicatorCache)
+            .then();
+    }
+}
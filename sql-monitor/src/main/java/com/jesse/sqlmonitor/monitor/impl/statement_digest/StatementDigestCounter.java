@@ -0,0 +1,15 @@
+package com.jesse.sqlmonitor.monitor.impl.statement_digest;
+
+import com.jesse.sqlmonitor.response_body.StatementDigestTopN;
+import reactor.core.publisher.Mono;
+
+/**
+ * 语句摘要 Top-N 统计器接口，
+ * 与上一次读取的 events_statements_summary_by_digest 做差，
+ * 找出本周期内延迟、扫描行数、执行次数增长最多的语句。
+ */
+public interface StatementDigestCounter
+{
+    /** 读取发生变化的语句摘要，计算本周期的 Top-N。*/
+    Mono<StatementDigestTopN> calculateTopDigests();
+}
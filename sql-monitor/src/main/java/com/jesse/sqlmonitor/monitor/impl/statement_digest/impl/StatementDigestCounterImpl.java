@@ -0,0 +1,353 @@
+package com.jesse.sqlmonitor.monitor.impl.statement_digest.impl;
+
+import com.jesse.sqlmonitor.monitor.impl.statement_digest.StatementDigestCounter;
+import com.jesse.sqlmonitor.properties.StatementDigestProperties;
+import com.jesse.sqlmonitor.response_body.StatementDigestTopN;
+import com.jesse.sqlmonitor.response_body.StatementDigestTopN.DigestDelta;
+import io.r2dbc.spi.Row;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 语句摘要 Top-N 统计器实现。
+ *
+ * <p>
+ *     每次只读取 LAST_SEEN 不早于上一次水位线的摘要（即发生过变化的摘要），
+ *     与内存中记录的上一次计数做差；
+ *     第一次读取只建立基线，不产生结果。
+ *     每隔 pruneEveryRounds 次读取一次摘要表中现存的全部摘要键，
+ *     清理掉内存中已经不在表里的摘要。
+ * </p>
+ */
+@Slf4j
+@Component
+public class StatementDigestCounterImpl implements StatementDigestCounter
+{
+    /** SUM_TIMER_WAIT 的单位是皮秒。*/
+    private static final double PICOS_PER_MILLI = 1_000_000_000.0;
+
+    /** 初始水位线（读取全部摘要）。*/
+    private static final
+    LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** 数据库客户端实例的引用。*/
+    private final DatabaseClient databaseClient;
+
+    /** 语句摘要 Top-N 指标属性。*/
+    private final StatementDigestProperties digestProperties;
+
+    /** 采样隔舱调度器。*/
+    private final Scheduler samplingScheduler;
+
+    /** 摘要键（库名 + 摘要哈希）-> 上一次读到的计数（以下状态都由 this 保护）。*/
+    private final Map<String, DigestCounters> trackedDigests = new HashMap<>();
+
+    /** 上一次读到的最大 LAST_SEEN（服务器时间）。*/
+    private LocalDateTime lastSeenWatermark = INITIAL_WATERMARK;
+
+    /** 上一次读取的时刻（本地 epoch millis）。*/
+    private long lastReadMillis = 0L;
+
+    /** 是否已经建立了基线？*/
+    private boolean baselineReady = false;
+
+    /** 已经执行的采集次数。*/
+    private long rounds = 0L;
+
+    public StatementDigestCounterImpl(
+        @Qualifier("R2dbcMasterDatabaseClient")
+        DatabaseClient databaseClient,
+        StatementDigestProperties digestProperties,
+        @Qualifier("SamplingScheduler")
+        Scheduler samplingScheduler
+    )
+    {
+        this.databaseClient    = databaseClient;
+        this.digestProperties  = digestProperties;
+        this.samplingScheduler = samplingScheduler;
+    }
+
+    /** 一行摘要数据。*/
+    record DigestRow(
+        String schemaName, String digest, String digestText,
+        long countStar, long sumTimerWait, long sumRowsExamined,
+        LocalDateTime lastSeen
+    )
+    {
+        @NotNull String key() {
+            return digestKey(this.schemaName, this.digest);
+        }
+    }
+
+    /** 摘要键（库名 + 摘要哈希）。*/
+    private static @NotNull String
+    digestKey(String schemaName, String digest) {
+        return schemaName + '|' + digest;
+    }
+
+    /** 某条摘要上一次读到的计数（原地更新，避免每轮重新分配）。*/
+    private static final class DigestCounters
+    {
+        long countStar;
+        long sumTimerWait;
+        long sumRowsExamined;
+
+        DigestCounters(@NotNull DigestRow row) {
+            this.update(row);
+        }
+
+        void update(@NotNull DigestRow row)
+        {
+            this.countStar       = row.countStar();
+            this.sumTimerWait    = row.sumTimerWait();
+            this.sumRowsExamined = row.sumRowsExamined();
+        }
+    }
+
+    private static long
+    longColumn(@NotNull Row row, String name)
+    {
+        // BIGINT UNSIGNED 列可能被映射成 BigInteger，统一按 Number 读取
+        final Number value = row.get(name, Number.class);
+
+        return (value == null) ? 0L : value.longValue();
+    }
+
+    private synchronized LocalDateTime getLastSeenWatermark() {
+        return this.lastSeenWatermark;
+    }
+
+    /** 读取 LAST_SEEN 不早于 since 的所有摘要。*/
+    private @NotNull Mono<List<DigestRow>>
+    readChangedDigests(@NotNull LocalDateTime since)
+    {
+        final String querySQL = """
+            SELECT
+                SCHEMA_NAME, DIGEST,
+                LEFT(DIGEST_TEXT, :maxTextLength) AS DIGEST_TEXT,
+                COUNT_STAR, SUM_TIMER_WAIT, SUM_ROWS_EXAMINED, LAST_SEEN
+            FROM
+                performance_schema.events_statements_summary_by_digest
+            WHERE
+                DIGEST IS NOT NULL AND LAST_SEEN >= :since
+            """;
+
+        return
+        this.databaseClient
+            .sql(querySQL)
+            .bind("maxTextLength", this.digestProperties.getMaxDigestTextLength())
+            .bind("since", since)
+            .map((row, metadata) ->
+                new DigestRow(
+                    row.get("SCHEMA_NAME", String.class),
+                    row.get("DIGEST", String.class),
+                    row.get("DIGEST_TEXT", String.class),
+                    longColumn(row, "COUNT_STAR"),
+                    longColumn(row, "SUM_TIMER_WAIT"),
+                    longColumn(row, "SUM_ROWS_EXAMINED"),
+                    row.get("LAST_SEEN", LocalDateTime.class)
+                ))
+            .all()
+            .collectList();
+    }
+
+    /** 本次采集是否需要清理内存中跟踪的摘要？*/
+    private synchronized boolean isPruneDue() {
+        return ++this.rounds % Math.max(1, this.digestProperties.getPruneEveryRounds()) == 0L;
+    }
+
+    /** 读取摘要表中现存的全部摘要键。*/
+    private @NotNull Mono<Set<String>> readAllDigestKeys()
+    {
+        final String querySQL = """
+            SELECT
+                SCHEMA_NAME, DIGEST
+            FROM
+                performance_schema.events_statements_summary_by_digest
+            WHERE
+                DIGEST IS NOT NULL
+            """;
+
+        return
+        this.databaseClient
+            .sql(querySQL)
+            .map((row, metadata) ->
+                digestKey(
+                    row.get("SCHEMA_NAME", String.class),
+                    row.get("DIGEST", String.class)
+                ))
+            .all()
+            .collect(HashSet::new, Set::add);
+    }
+
+    /** 清理内存中已经不在摘要表里的摘要。*/
+    synchronized void
+    pruneTrackedDigests(@NotNull Set<String> presentKeys)
+    {
+        final int before = this.trackedDigests.size();
+
+        this.trackedDigests.keySet().retainAll(presentKeys);
+
+        final int pruned = before - this.trackedDigests.size();
+
+        if (pruned > 0)
+        {
+            log.info(
+                "Pruned {} statement digests no longer in the summary table, tracking {} digests.",
+                pruned, this.trackedDigests.size()
+            );
+        }
+    }
+
+    /** 需要时先清理内存中跟踪的摘要。*/
+    private @NotNull Mono<Void> pruneIfDue()
+    {
+        return
+        (this.isPruneDue())
+            ? this.readAllDigestKeys()
+                  .doOnNext(this::pruneTrackedDigests)
+                  .then()
+            : Mono.empty();
+    }
+
+    /** 与内存中的计数做差，更新水位线，并生成 Top-N。*/
+    synchronized @NotNull StatementDigestTopN
+    diffAndRank(@NotNull List<DigestRow> rows, long readMillis)
+    {
+        final List<DigestDelta> changed = new ArrayList<>();
+
+        LocalDateTime watermark = this.lastSeenWatermark;
+
+        for (DigestRow row : rows)
+        {
+            if (row.lastSeen() != null && row.lastSeen().isAfter(watermark)) {
+                watermark = row.lastSeen();
+            }
+
+            final DigestCounters previous = this.trackedDigests.get(row.key());
+
+            long executions   = row.countStar();
+            long timerWait    = row.sumTimerWait();
+            long rowsExamined = row.sumRowsExamined();
+
+            if (previous == null) {
+                this.trackedDigests.put(row.key(), new DigestCounters(row));
+            }
+            else
+            {
+                // 计数变小说明摘要表被 TRUNCATE 过，本次的值就是增量
+                if (row.countStar() >= previous.countStar)
+                {
+                    executions   -= previous.countStar;
+                    timerWait    -= previous.sumTimerWait;
+                    rowsExamined -= previous.sumRowsExamined;
+                }
+
+                previous.update(row);
+            }
+
+            if (this.baselineReady && executions > 0L)
+            {
+                final double latencyMs = timerWait / PICOS_PER_MILLI;
+
+                changed.add(
+                    DigestDelta.builder()
+                        .schemaName(row.schemaName())
+                        .digest(row.digest())
+                        .digestText(row.digestText())
+                        .executions(executions)
+                        .latencyMs(latencyMs)
+                        .avgLatencyMs(latencyMs / executions)
+                        .rowsExamined(rowsExamined)
+                        .build()
+                );
+            }
+        }
+
+        final long intervalMs = readMillis - this.lastReadMillis;
+
+        this.lastSeenWatermark = watermark;
+        this.lastReadMillis    = readMillis;
+
+        if (!this.baselineReady)
+        {
+            this.baselineReady = true;
+
+            log.info(
+                "Statement digest baseline ready, tracking {} digests.",
+                this.trackedDigests.size()
+            );
+
+            return StatementDigestTopN.buildEmpty();
+        }
+
+        final int topN = Math.max(1, this.digestProperties.getTopN());
+
+        return
+        StatementDigestTopN.builder()
+            .intervalMs(intervalMs)
+            .changedDigests(changed.size())
+            .trackedDigests(this.trackedDigests.size())
+            .topByLatency(
+                topN(changed, Comparator.comparingDouble(DigestDelta::getLatencyMs), topN))
+            .topByRowsExamined(
+                topN(changed, Comparator.comparingLong(DigestDelta::getRowsExamined), topN))
+            .topByExecutions(
+                topN(changed, Comparator.comparingLong(DigestDelta::getExecutions), topN))
+            .error(false)
+            .build();
+    }
+
+    /** 用容量为 n 的小顶堆选出最大的 n 个元素（降序返回）。*/
+    private static @NotNull List<DigestDelta>
+    topN(
+        @NotNull List<DigestDelta> deltas,
+        @NotNull Comparator<DigestDelta> comparator, int n
+    )
+    {
+        final PriorityQueue<DigestDelta> heap
+            = new PriorityQueue<>(n + 1, comparator);
+
+        for (DigestDelta delta : deltas)
+        {
+            heap.offer(delta);
+
+            if (heap.size() > n) {
+                heap.poll();
+            }
+        }
+
+        final List<DigestDelta> result = new ArrayList<>(heap);
+        result.sort(comparator.reversed());
+
+        return result;
+    }
+
+    @Override
+    public Mono<StatementDigestTopN> calculateTopDigests()
+    {
+        return
+        Mono.defer(this::pruneIfDue)
+            .then(Mono.defer(() ->
+                this.readChangedDigests(this.getLastSeenWatermark())
+                    .map((rows) ->
+                        this.diffAndRank(rows, System.currentTimeMillis()))))
+            .onErrorResume((exception) -> {
+                log.error(
+                    "Statement digest calculation error. Caused by: {}",
+                    exception.getMessage(), exception
+                );
+
+                return Mono.just(StatementDigestTopN.onError());
+            })
+            .subscribeOn(this.samplingScheduler);
+    }
+}
@@ -0,0 +1,32 @@
+package com.jesse.sqlmonitor.monitor.impl.status_snapshot;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import reactor.core.publisher.Mono;
+
+/**
+ * 全局状态快照引擎接口，
+ * 各个指标计算器登记自己需要的状态，
+ * 引擎在每一轮采样中只用一次查询取回所有登记过的状态。
+ */
+public interface StatusSnapshotEngine
+{
+    /**
+     * 登记计算器所需的全局状态（必须是精确的状态名）。
+     *
+     * @throws IllegalArgumentException 传入了通配符状态名
+     */
+    void register(GlobalStatusName... statusNames);
+
+    /**
+     * 获取本轮的全局状态快照，
+     * 若上一张快照仍在 {@link com.jesse.sqlmonitor.monitor.constants.MonitorConstants#MIN_TIME_DIFF_MS}
+     * 以内则直接复用，否则发起新的一轮查询。
+     */
+    Mono<GlobalStatusSnapshot> currentSnapshot();
+
+    /**
+     * 发起新的一轮查询，并发的调用者共享同一次查询。
+     */
+    Mono<GlobalStatusSnapshot> fetchSnapshot();
+}
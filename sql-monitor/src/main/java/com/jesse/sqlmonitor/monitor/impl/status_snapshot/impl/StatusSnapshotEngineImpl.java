@@ -0,0 +1,121 @@
+package com.jesse.sqlmonitor.monitor.impl.status_snapshot.impl;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.impl.GlobalStatusQuery;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.MIN_TIME_DIFF_MS;
+
+/** 全局状态快照引擎实现。*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatusSnapshotEngineImpl implements StatusSnapshotEngine
+{
+    /** 全局状态查询器。*/
+    private final GlobalStatusQuery globalStatusQuery;
+
+    /** 所有计算器登记过的状态（Uptime 始终登记，用于检测服务器重启）。*/
+    private final Set<GlobalStatusName> registeredStatus
+        = ConcurrentHashMap.newKeySet();
+
+    /** 最近一次查询得到的快照。*/
+    private final AtomicReference<GlobalStatusSnapshot> latestSnapshot
+        = new AtomicReference<>(GlobalStatusSnapshot.empty());
+
+    /** 正在进行中的查询，并发的调用者共享它。*/
+    private final AtomicReference<Mono<GlobalStatusSnapshot>> inFlight
+        = new AtomicReference<>();
+
+    @PostConstruct
+    private void registerDefaultStatus() {
+        this.register(GlobalStatusName.UPTIME);
+    }
+
+    @Override
+    public void register(GlobalStatusName @NotNull ... statusNames)
+    {
+        for (GlobalStatusName statusName : statusNames)
+        {
+            if (statusName.isWildcard())
+            {
+                throw new
+                IllegalArgumentException(
+                    String.format(
+                        "Wildcard status %s can not be registered to snapshot engine.",
+                        statusName.getStatusName()
+                    )
+                );
+            }
+
+            if (this.registeredStatus.add(statusName)) {
+                log.debug("Global status {} registered.", statusName.getStatusName());
+            }
+        }
+    }
+
+    @Override
+    public Mono<GlobalStatusSnapshot> currentSnapshot()
+    {
+        return
+        Mono.defer(() -> {
+            final GlobalStatusSnapshot latest = this.latestSnapshot.get();
+
+            final boolean stillFresh
+                = !latest.isEmpty() &&
+                  Duration.between(latest.getTimestamp(), Instant.now())
+                          .toMillis() < MIN_TIME_DIFF_MS;
+
+            return
+            (stillFresh) ? Mono.just(latest) : this.fetchSnapshot();
+        });
+    }
+
+    @Override
+    public Mono<GlobalStatusSnapshot> fetchSnapshot()
+    {
+        return
+        Mono.defer(() -> {
+            final Mono<GlobalStatusSnapshot> running = this.inFlight.get();
+
+            if (Objects.nonNull(running)) {
+                return running;
+            }
+
+            final AtomicReference<Mono<GlobalStatusSnapshot>> self
+                = new AtomicReference<>();
+
+            final Mono<GlobalStatusSnapshot> round
+                = this.globalStatusQuery
+                      .getGlobalStatus(EnumSet.copyOf(this.registeredStatus))
+                      .map(GlobalStatusSnapshot::of)
+                      .doOnNext(this.latestSnapshot::set)
+                      .doFinally((signal) ->
+                          this.inFlight.compareAndSet(self.get(), null))
+                      .cache();
+
+            self.set(round);
+
+            // 抢先一步登记了查询的调用者负责执行，其他调用者订阅它
+            return
+            (this.inFlight.compareAndSet(null, round))
+                ? round
+                : Objects.requireNonNullElse(this.inFlight.get(), round);
+        });
+    }
+}
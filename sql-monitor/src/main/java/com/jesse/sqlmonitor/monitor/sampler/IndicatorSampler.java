@@ -0,0 +1,30 @@
+package com.jesse.sqlmonitor.monitor.sampler;
+
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.response_body.SamplingState;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import reactor.core.publisher.Mono;
+
+/**
+ * 后台指标采样器接口，
+ * 按固定（或自适应）间隔计算所有指标，写入缓存并发往消息队列，
+ * 使指标的采样节奏与前端的请求频率解耦。
+ */
+public interface IndicatorSampler
+{
+    /** 采样器是否正在运行？*/
+    boolean isRunning();
+
+    /** 立即执行一轮采样（计算所有指标、写缓存、发消息队列）。*/
+    Mono<Void> sampleOnce();
+
+    /**
+     * 获取内存中最近一轮采样得到的指标
+     *（缓存不可用时的兜底数据，第一轮采样完成前会等待它完成）。
+     */
+    <T extends ResponseBase<T>>
+    Mono<T> getLatest(IndicatorKeyNames keyNames, Class<T> type);
+
+    /** 获取采样器当前的状态（实际采样间隔、波动程度、缓存有效期等）。*/
+    SamplingState getSamplingState();
+}
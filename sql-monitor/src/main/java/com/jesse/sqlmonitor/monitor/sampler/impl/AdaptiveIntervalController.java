@@ -0,0 +1,128 @@
+package com.jesse.sqlmonitor.monitor.sampler.impl;
+
+/**
+ * 自适应采样间隔控制器：
+ * 根据 QPS 与网络流量前后两次采样的相对变化调整采样间隔，
+ * 波动超过阈值时间隔减半，连续若干轮平稳后间隔翻倍，始终限定在 [min, max] 之间。
+ *
+ * <p>只有采样器这一个写者（每轮采样结束后调用），读者读取 volatile 字段即可。</p>
+ */
+final class AdaptiveIntervalController
+{
+    /**
+     * 计算相对变化时分母的下限，
+     * 避免空闲数据库上 0 与 1 之间的抖动被放大成 100% 的波动。
+     */
+    private static final double MIN_BASE = 1.0;
+
+    /** 采样间隔下限（毫秒）。*/
+    private final long minIntervalMillis;
+
+    /** 采样间隔上限（毫秒）。*/
+    private final long maxIntervalMillis;
+
+    /** 波动阈值。*/
+    private final double volatilityThreshold;
+
+    /** 连续平稳多少轮后放宽间隔。*/
+    private final int stableRounds;
+
+    /** 当前采样间隔（毫秒）。*/
+    private volatile long intervalMillis;
+
+    /** 最近一轮观察到的波动（相对变化）。*/
+    private volatile double volatility = 0.0;
+
+    /** 上一轮的 QPS 与网络流量（NaN 表示没有可比较的数据）。*/
+    private double previousQps     = Double.NaN;
+    private double previousTraffic = Double.NaN;
+
+    /** 已连续平稳的轮数。*/
+    private int flatRounds = 0;
+
+    AdaptiveIntervalController(
+        long initialIntervalMillis,
+        long minIntervalMillis, long maxIntervalMillis,
+        double volatilityThreshold, int stableRounds
+    )
+    {
+        this.minIntervalMillis   = minIntervalMillis;
+        this.maxIntervalMillis   = Math.max(minIntervalMillis, maxIntervalMillis);
+        this.volatilityThreshold = volatilityThreshold;
+        this.stableRounds        = Math.max(1, stableRounds);
+        this.intervalMillis
+            = Math.min(this.maxIntervalMillis, Math.max(minIntervalMillis, initialIntervalMillis));
+    }
+
+    long getIntervalMillis() {
+        return this.intervalMillis;
+    }
+
+    double getVolatility() {
+        return this.volatility;
+    }
+
+    /**
+     * 用本轮的 QPS 与网络流量更新采样间隔（任一值为 NaN 时本轮不做调整）。
+     *
+     * @return 采样间隔是否发生了变化
+     */
+    boolean onSample(double qps, double traffic)
+    {
+        if (Double.isNaN(qps) || Double.isNaN(traffic))
+        {
+            this.previousQps     = Double.NaN;
+            this.previousTraffic = Double.NaN;
+            return false;
+        }
+
+        final double previousQps     = this.previousQps;
+        final double previousTraffic = this.previousTraffic;
+
+        this.previousQps     = qps;
+        this.previousTraffic = traffic;
+
+        if (Double.isNaN(previousQps) || Double.isNaN(previousTraffic)) {
+            return false;
+        }
+
+        final double change
+            = Math.max(
+                relativeChange(previousQps, qps),
+                relativeChange(previousTraffic, traffic)
+            );
+
+        this.volatility = change;
+
+        final long current = this.intervalMillis;
+        long next = current;
+
+        if (change > this.volatilityThreshold)
+        {
+            // 出现尖峰，立即收紧
+            next = Math.max(this.minIntervalMillis, current / 2L);
+            this.flatRounds = 0;
+        }
+        else if (change < this.volatilityThreshold / 2.0)
+        {
+            // 连续平稳若干轮才放宽，避免来回抖动
+            if (++this.flatRounds >= this.stableRounds)
+            {
+                next = Math.min(this.maxIntervalMillis, current * 2L);
+                this.flatRounds = 0;
+            }
+        }
+        else {
+            this.flatRounds = 0;
+        }
+
+        this.intervalMillis = next;
+
+        return next != current;
+    }
+
+    private static double
+    relativeChange(double previous, double current) {
+        return Math.abs(current - previous) / Math.max(Math.abs(previous), MIN_BASE);
+    }
+}
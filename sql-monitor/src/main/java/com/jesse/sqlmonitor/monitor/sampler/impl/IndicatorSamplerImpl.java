@@ -0,0 +1,429 @@
+package com.jesse.sqlmonitor.monitor.sampler.impl;
+
+import com.jesse.sqlmonitor.monitor.cacher.IndicatorCacher;
+import com.jesse.sqlmonitor.monitor.cacher.TickIndicator;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.RenderedResponseCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.CacheDataConverter;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.monitor.history.IndicatorHistory;
+import com.jesse.sqlmonitor.monitor.impl.connection_usage.ConnectionUsageCounter;
+import com.jesse.sqlmonitor.monitor.impl.counter_rate.CounterRateEngine;
+import com.jesse.sqlmonitor.monitor.impl.innodb_cache_hit.InnoDBCacheHitCounter;
+import com.jesse.sqlmonitor.monitor.impl.network_traffic.NetWorkTrafficCounter;
+import com.jesse.sqlmonitor.monitor.impl.qps.QPSCounter;
+import com.jesse.sqlmonitor.monitor.impl.statement_digest.StatementDigestCounter;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.sampler.IndicatorSampler;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import com.jesse.sqlmonitor.properties.IndicatorSamplerProperties;
+import com.jesse.sqlmonitor.properties.StatementDigestProperties;
+import com.jesse.sqlmonitor.response_body.ConnectionUsage;
+import com.jesse.sqlmonitor.response_body.CounterRates;
+import com.jesse.sqlmonitor.response_body.InnodbBufferCacheHitRate;
+import com.jesse.sqlmonitor.response_body.NetWorkTraffic;
+import com.jesse.sqlmonitor.response_body.QPSResult;
+import com.jesse.sqlmonitor.response_body.SamplingState;
+import com.jesse.sqlmonitor.response_body.StatementDigestTopN;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.*;
+import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.MIN_SAMPLE_INTERVAL_MS;
+
+/**
+ * 后台指标采样器实现，
+ * 目前本服务只监测一台主数据库，因此只有这一个采样器实例。
+ *
+ * <p>
+ *     采样循环是 "采样 -> 等到下一个间隔 -> 再采样"，不会出现两轮重叠；
+ *     启用自适应采样时，每轮结束后由 {@link AdaptiveIntervalController} 决定下一轮的间隔。
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndicatorSamplerImpl
+    implements IndicatorSampler, ApplicationListener<ContextClosedEvent>
+{
+    /** 后台采样器属性。*/
+    private final IndicatorSamplerProperties samplerProperties;
+
+    /** 缓存当前实际使用的有效期（自适应采样时随采样间隔更新）。*/
+    private final CacheTtlHolder cacheTtlHolder;
+
+    /** 全局状态快照引擎。*/
+    private final StatusSnapshotEngine statusSnapshotEngine;
+
+    /** QPS 计算器。*/
+    private final QPSCounter qpsCounter;
+
+    /** 数据库网络流量统计器。*/
+    private final NetWorkTrafficCounter netWorkTrafficCounter;
+
+    /** InnoDB 缓存命中率计算器。*/
+    private final InnoDBCacheHitCounter innoDBCacheHitCounter;
+
+    /** 数据库连接使用率计算器。*/
+    private final ConnectionUsageCounter connectionUsageCounter;
+
+    /** 通用计数器速率引擎。*/
+    private final CounterRateEngine counterRateEngine;
+
+    /** 语句摘要 Top-N 统计器。*/
+    private final StatementDigestCounter statementDigestCounter;
+
+    /** 语句摘要 Top-N 指标属性。*/
+    private final StatementDigestProperties digestProperties;
+
+    /** 指标数据缓存器。*/
+    private final IndicatorCacher indicatorCacher;
+
+    /** 内存指标历史（采样器是它唯一的写者）。*/
+    private final IndicatorHistory indicatorHistory;
+
+    /** 预先渲染好的热点端点响应体缓存。*/
+    private final RenderedResponseCache renderedResponseCache;
+
+    /** 指标键 -> 最近一轮采样得到的指标。*/
+    private final
+    Map<IndicatorKeyNames, ResponseBase<?>> latestIndicators
+        = new ConcurrentHashMap<>();
+
+    /** 第一轮采样完成的信号。*/
+    private final
+    Sinks.Empty<Void> firstSampled = Sinks.empty();
+
+    /** 采样器是否正在关闭的标志位。*/
+    private final
+    AtomicBoolean isShuttingDown = new AtomicBoolean(false);
+
+    /** 采样流订阅凭据。*/
+    private Disposable disposable = null;
+
+    /** 上一次采集语句摘要的时间戳（只有采样线程读写）。*/
+    private long lastDigestSampleMillis = 0L;
+
+    /** 采样间隔控制器（未启用自适应采样时间隔保持不变）。*/
+    private AdaptiveIntervalController intervalController;
+
+    /** 把配置的间隔限定为不小于 MIN_SAMPLE_INTERVAL_MS。*/
+    private static long atLeastMinSampleInterval(@NotNull Duration interval) {
+        return Math.max(MIN_SAMPLE_INTERVAL_MS, interval.toMillis());
+    }
+
+    /** 当前实际使用的采样间隔（不小于 MIN_SAMPLE_INTERVAL_MS）。*/
+    private @NotNull Duration getSampleInterval() {
+        return Duration.ofMillis(this.intervalController.getIntervalMillis());
+    }
+
+    /** 让缓存有效期跟随当前采样间隔。*/
+    private void updateCacheTtl(long intervalMillis)
+    {
+        final Duration ttl
+            = Duration.ofMillis(
+                (long) (intervalMillis * this.samplerProperties.getAdaptive().getTtlFactor())
+            );
+
+        this.cacheTtlHolder.update(ttl);
+    }
+
+    /** 在采样器构建完毕后开始循环采样。*/
+    @PostConstruct
+    private void startSampling()
+    {
+        final IndicatorSamplerProperties.Adaptive adaptive
+            = this.samplerProperties.getAdaptive();
+
+        final long initialInterval
+            = atLeastMinSampleInterval(this.samplerProperties.getInterval());
+
+        this.intervalController
+            = adaptive.isEnabled()
+                ? new AdaptiveIntervalController(
+                    initialInterval,
+                    atLeastMinSampleInterval(adaptive.getMinInterval()),
+                    atLeastMinSampleInterval(adaptive.getMaxInterval()),
+                    adaptive.getVolatilityThreshold(),
+                    adaptive.getStableRounds())
+                : new AdaptiveIntervalController(
+                    initialInterval, initialInterval, initialInterval,
+                    Double.MAX_VALUE, Integer.MAX_VALUE);
+
+        if (!this.samplerProperties.isEnabled())
+        {
+            log.info("Indicator sampler disabled, indicators will be computed on demand.");
+            return;
+        }
+
+        if (adaptive.isEnabled()) {
+            this.updateCacheTtl(this.intervalController.getIntervalMillis());
+        }
+
+        log.info(
+            "Starting indicator sampler, interval: {}, adaptive: {}",
+            this.getSampleInterval(), adaptive.isEnabled()
+        );
+
+        this.disposable
+            = Mono.defer(this::sampleRound)
+                  // 关闭期间不再开始新的一轮
+                  .repeat(() -> !this.isShuttingDown.get())
+                  .subscribe();
+    }
+
+    /**
+     * 执行一轮采样，再等到本轮开始后的一个采样间隔
+     *（采样本身耗时超过间隔时立即开始下一轮）。
+     */
+    private @NotNull Mono<Void> sampleRound()
+    {
+        final long roundStart = System.nanoTime();
+
+        return
+        this.sampleOnce()
+            .then(Mono.defer(() -> {
+                final long elapsedMillis
+                    = Duration.ofNanos(System.nanoTime() - roundStart).toMillis();
+
+                final long delayMillis
+                    = Math.max(0L, this.intervalController.getIntervalMillis() - elapsedMillis);
+
+                return
+                Mono.delay(Duration.ofMillis(delayMillis)).then();
+            }));
+    }
+
+    /** 用本轮的 QPS 与网络流量调整采样间隔，间隔变化时同步更新缓存有效期。*/
+    private void adjustInterval()
+    {
+        if (!this.samplerProperties.getAdaptive().isEnabled()) {
+            return;
+        }
+
+        final double qps
+            = (this.latestIndicators.get(QPSResultKey) instanceof QPSResult result
+                && result.isValid() && !result.isError())
+                ? result.getQps().doubleValue()
+                : Double.NaN;
+
+        final double traffic
+            = (this.latestIndicators.get(NetWorkTrafficKey) instanceof NetWorkTraffic result
+                && result.isValid() && !result.isError())
+                ? result.getSentPerSec().doubleValue() + result.getReceivePerSec().doubleValue()
+                : Double.NaN;
+
+        final long previousInterval = this.intervalController.getIntervalMillis();
+
+        if (this.intervalController.onSample(qps, traffic))
+        {
+            final long currentInterval = this.intervalController.getIntervalMillis();
+
+            this.updateCacheTtl(currentInterval);
+
+            log.info(
+                "Sampling interval changed {} ms -> {} ms (volatility: {}).",
+                previousInterval, currentInterval,
+                this.intervalController.getVolatility()
+            );
+        }
+    }
+
+    /** 在 Spring 关闭上下文的时候停止采样。*/
+    @Override
+    public void
+    onApplicationEvent(@NotNull ContextClosedEvent event)
+    {
+        log.info("Application context closed, stopping indicator sampler...");
+
+        this.isShuttingDown.set(true);
+
+        if (Objects.nonNull(this.disposable) && !this.disposable.isDisposed())
+        {
+            this.disposable.dispose();
+            this.disposable = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning()
+    {
+        return
+        Objects.nonNull(this.disposable) &&
+        !this.disposable.isDisposed();
+    }
+
+    /** 采样单个指标：记录到内存（最新值与历史），之后与同一轮的其他指标一起写入缓存。*/
+    private <T extends ResponseBase<T>>
+    @NotNull Mono<TickIndicator<?>>
+    sample(
+        IndicatorKeyNames keyNames, long timestampMillis,
+        @NotNull Mono<T> indicator, Class<T> type
+    )
+    {
+        return
+        indicator
+            .doOnNext((data) -> {
+                this.latestIndicators.put(keyNames, data);
+                this.indicatorHistory.record(keyNames, timestampMillis, data);
+            })
+            .<TickIndicator<?>>map((data) -> new TickIndicator<>(keyNames, data, type))
+            // 单个指标失败不影响同一轮的其他指标
+            .onErrorResume((exception) -> {
+                log.error(
+                    "Sample indicator {} failed. Caused by: {}",
+                    keyNames.getKeyName(), exception.getMessage()
+                );
+
+                return Mono.empty();
+            });
+    }
+
+    /** 本轮是否需要采集语句摘要（按自己的间隔进行，不必每轮都读）？*/
+    private boolean isDigestSampleDue(long timestampMillis)
+    {
+        if (!this.digestProperties.isEnabled() ||
+            timestampMillis - this.lastDigestSampleMillis < this.digestProperties.getInterval().toMillis())
+        {
+            return false;
+        }
+
+        this.lastDigestSampleMillis = timestampMillis;
+
+        return true;
+    }
+
+    /** 用同一张全局状态快照计算所有指标。*/
+    private @NotNull Mono<Void>
+    sampleAll(@NotNull GlobalStatusSnapshot snapshot)
+    {
+        final long timestampMillis = snapshot.getTimestamp().toEpochMilli();
+
+        final List<Mono<TickIndicator<?>>> samples = new ArrayList<>(List.of(
+            this.sample(
+                QPSResultKey, timestampMillis,
+                this.qpsCounter.calculateQPS(snapshot),
+                QPSResult.class
+            ),
+            this.sample(
+                NetWorkTrafficKey, timestampMillis,
+                this.netWorkTrafficCounter
+                    .calculateNetWorkTraffic(snapshot),
+                NetWorkTraffic.class
+            ),
+            this.sample(
+                ConnectionUsageKey, timestampMillis,
+                this.connectionUsageCounter.getConnectionUsage(snapshot),
+                ConnectionUsage.class
+            ),
+            this.sample(
+                InnodbBufferCacheHitRateKey, timestampMillis,
+                this.innoDBCacheHitCounter.calculateBufferCacheHitRate(snapshot),
+                InnodbBufferCacheHitRate.class
+            ),
+            this.sample(
+                CounterRatesKey, timestampMillis,
+                this.counterRateEngine.calculateRates(snapshot),
+                CounterRates.class
+            )
+        ));
+
+        if (this.isDigestSampleDue(timestampMillis))
+        {
+            samples.add(
+                this.sample(
+                    StatementDigestKey, timestampMillis,
+                    this.statementDigestCounter.calculateTopDigests(),
+                    StatementDigestTopN.class
+                )
+            );
+        }
+
+        // 本轮所有指标在一次脚本调用中写入缓存，版本号即快照时间戳
+        return
+        Flux.merge(samples)
+            .collectList()
+            .flatMap((indicators) ->
+                this.indicatorCacher
+                    .cacheTickIndicators(timestampMillis, indicators)
+                    // 每轮只渲染一次响应体，热点端点的请求直接写出这份字节
+                    .then(this.renderedResponseCache.render(indicators)));
+    }
+
+    @Override
+    public Mono<Void> sampleOnce()
+    {
+        return
+        this.statusSnapshotEngine
+            .fetchSnapshot()
+            .flatMap(this::sampleAll)
+            .doOnSuccess((ignore) -> {
+                this.firstSampled.tryEmitEmpty();
+                this.adjustInterval();
+            })
+            .onErrorResume((exception) -> {
+                log.error(
+                    "Indicator sampling failed. Caused by: {}",
+                    exception.getMessage(), exception
+                );
+
+                return Mono.empty();
+            });
+    }
+
+    @Override
+    public <T extends ResponseBase<T>>
+    Mono<T> getLatest(IndicatorKeyNames keyNames, Class<T> type)
+    {
+        return
+        this.firstSampled.asMono()
+            .timeout(this.getSampleInterval().multipliedBy(2L), Mono.empty())
+            .then(Mono.fromSupplier(() -> this.latestIndicators.get(keyNames)))
+            .flatMap((indicator) ->
+                CacheDataConverter.safeIndicatorTypeCast(indicator, type));
+    }
+
+    @Override
+    public SamplingState getSamplingState()
+    {
+        final IndicatorSamplerProperties.Adaptive adaptive
+            = this.samplerProperties.getAdaptive();
+
+        final long intervalMillis = this.intervalController.getIntervalMillis();
+
+        return
+        SamplingState.builder()
+            .running(this.isRunning())
+            .adaptive(adaptive.isEnabled())
+            .intervalMs(intervalMillis)
+            .minIntervalMs(
+                adaptive.isEnabled()
+                    ? atLeastMinSampleInterval(adaptive.getMinInterval())
+                    : intervalMillis)
+            .maxIntervalMs(
+                adaptive.isEnabled()
+                    ? atLeastMinSampleInterval(adaptive.getMaxInterval())
+                    : intervalMillis)
+            .volatility(this.intervalController.getVolatility())
+            .cacheTtlMs(this.cacheTtlHolder.getTtl().toMillis())
+            .build();
+    }
+}
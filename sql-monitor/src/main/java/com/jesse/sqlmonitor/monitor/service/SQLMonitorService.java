@@ -39,7 +39,27 @@ public interface SQLMonitorService
     Mono<ServerResponse>
     getInnodbBufferCacheHitRate(ServerRequest request);
 
+    /** 获取各累计计数器每秒速率的服务接口。*/
+    Mono<ServerResponse>
+    getCounterRates(ServerRequest request);
+
+    /** 获取最近一个周期内增长最多的语句摘要的服务接口。*/
+    Mono<ServerResponse>
+    getStatementDigestTopN(ServerRequest request);
+
+    /** 一次获取所有实时指标（允许部分缺失）的服务接口。*/
+    Mono<ServerResponse>
+    getLiveIndicators(ServerRequest request);
+
+    /** 查询后台采样器当前状态的服务接口。*/
+    Mono<ServerResponse>
+    getSamplingState(ServerRequest request);
+
     /** 查询服务器运行时间服务的接口。*/
     Mono<ServerResponse>
     getServerUpTime(ServerRequest request);
+
+    /** 查询本节点内存中指标最近一段时间历史数据的接口。*/
+    Mono<ServerResponse>
+    getIndicatorHistory(ServerRequest request);
 }
\ No newline at end of file
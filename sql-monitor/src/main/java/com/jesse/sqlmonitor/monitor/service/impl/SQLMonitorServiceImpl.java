@@ -1,5 +1,9 @@
 package com.jesse.sqlmonitor.monitor.service.impl;
 
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.RenderedResponseCache;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.properties.IndicatorSamplerProperties;
+import com.jesse.sqlmonitor.properties.IndicatorHistoryProperties;
 import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
 import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
 import com.jesse.sqlmonitor.monitor.MySQLIndicatorsRepository;
@@ -33,6 +37,18 @@ public class SQLMonitorServiceImpl implements SQLMonitorService
     private final
     MySQLIndicatorsRepository mySQLIndicatorsRepository;
 
+    /** 内存指标历史属性。*/
+    private final
+    IndicatorHistoryProperties historyProperties;
+
+    /** 后台采样器属性。*/
+    private final
+    IndicatorSamplerProperties samplerProperties;
+
+    /** 预先渲染好的热点端点响应体缓存。*/
+    private final
+    RenderedResponseCache renderedResponseCache;
+
     /** 在遇到未知错误时的通用异常实例。*/
     private final static
     RuntimeException unknowException = new RuntimeException("Unknow exception");
@@ -77,10 +93,13 @@ public class SQLMonitorServiceImpl implements SQLMonitorService
     getQPS(ServerRequest request)
     {
         return
-        this.mySQLIndicatorsRepository
-            .getQPS()
-            .flatMap((qpsResult) ->
-                ReactiveResponseBuilder.OK(qpsResult, null))
+        this.renderedResponseCache
+            .respond(IndicatorKeyNames.QPSResultKey)
+            .switchIfEmpty(Mono.defer(() ->
+                this.mySQLIndicatorsRepository
+                    .getQPS()
+                    .flatMap((qpsResult) ->
+                        ReactiveResponseBuilder.OK(qpsResult, null))))
             .onErrorResume(this::genericErrorHandle);
     }
 
@@ -96,11 +115,16 @@ public class SQLMonitorServiceImpl implements SQLMonitorService
                 return SizeUnit.valueOf(param);
             })
             .flatMap((unit) ->
-                this.mySQLIndicatorsRepository
-                    .getNetWorkTraffic(unit)
-                    .flatMap((networkTraffic) ->
-                        ReactiveResponseBuilder.OK(networkTraffic, null)
-                    )
+                // 只有采样时使用的计量单位才有预渲染的响应体
+                ((unit == this.samplerProperties.getTrafficUnit())
+                    ? this.renderedResponseCache.respond(IndicatorKeyNames.NetWorkTrafficKey)
+                    : Mono.<ServerResponse>empty())
+                .switchIfEmpty(Mono.defer(() ->
+                    this.mySQLIndicatorsRepository
+                        .getNetWorkTraffic(unit)
+                        .flatMap((networkTraffic) ->
+                            ReactiveResponseBuilder.OK(networkTraffic, null)
+                        )))
             )
             .onErrorResume(this::genericErrorHandle);
     }
@@ -125,11 +149,14 @@ public class SQLMonitorServiceImpl implements SQLMonitorService
     getConnectionUsage(ServerRequest request)
     {
         return
-        this.mySQLIndicatorsRepository
-            .getConnectionUsage()
-            .flatMap((connectionUsage) ->
-               ReactiveResponseBuilder.OK(connectionUsage, null)
-            )
+        this.renderedResponseCache
+            .respond(IndicatorKeyNames.ConnectionUsageKey)
+            .switchIfEmpty(Mono.defer(() ->
+                this.mySQLIndicatorsRepository
+                    .getConnectionUsage()
+                    .flatMap((connectionUsage) ->
+                       ReactiveResponseBuilder.OK(connectionUsage, null)
+                    )))
             .onErrorResume(this::genericErrorHandle);
     }
 
@@ -178,12 +205,78 @@ public class SQLMonitorServiceImpl implements SQLMonitorService
     /** 查询 InnoDB 缓存命中率服务的接口。*/
     public Mono<ServerResponse>
     getInnodbBufferCacheHitRate(ServerRequest request)
+    {
+        return
+        this.renderedResponseCache
+            .respond(IndicatorKeyNames.InnodbBufferCacheHitRateKey)
+            .switchIfEmpty(Mono.defer(() ->
+                this.mySQLIndicatorsRepository
+                    .getInnodbBufferCacheHitRate()
+                    .flatMap((innodbBufferCacheHitRate) ->
+                            ReactiveResponseBuilder.OK(innodbBufferCacheHitRate, null))))
+            .onErrorResume(this::genericErrorHandle);
+    }
+
+    /** 获取各累计计数器每秒速率的服务接口。*/
+    @Override
+    public Mono<ServerResponse>
+    getCounterRates(ServerRequest request)
+    {
+        return
+        this.renderedResponseCache
+            .respond(IndicatorKeyNames.CounterRatesKey)
+            .switchIfEmpty(Mono.defer(() ->
+                this.mySQLIndicatorsRepository
+                    .getCounterRates()
+                    .flatMap((counterRates) ->
+                        ReactiveResponseBuilder.OK(counterRates, null))))
+            .onErrorResume(this::genericErrorHandle);
+    }
+
+    /** 获取最近一个周期内增长最多的语句摘要的服务接口。*/
+    @Override
+    public Mono<ServerResponse>
+    getStatementDigestTopN(ServerRequest request)
     {
         return
         this.mySQLIndicatorsRepository
-            .getInnodbBufferCacheHitRate()
-            .flatMap((innodbBufferCacheHitRate) ->
-                    ReactiveResponseBuilder.OK(innodbBufferCacheHitRate, null))
+            .getStatementDigestTopN()
+            .flatMap((digestTopN) ->
+                ReactiveResponseBuilder.OK(digestTopN, null))
+            .onErrorResume(this::genericErrorHandle);
+    }
+
+    /** 一次获取所有实时指标（允许部分缺失）的服务接口。*/
+    @Override
+    public Mono<ServerResponse>
+    getLiveIndicators(ServerRequest request)
+    {
+        return
+        praseRequestParam(request, "sizeUnit")
+            .map((param) -> {
+                if (isEmptyParam(param)) { return SizeUnit.KB; }
+                return SizeUnit.valueOf(param);
+            })
+            .flatMap((unit) ->
+                this.mySQLIndicatorsRepository
+                    .getLiveIndicators(unit)
+                    .flatMap((liveIndicators) ->
+                        ReactiveResponseBuilder.OK(liveIndicators, null)
+                    )
+            )
+            .onErrorResume(this::genericErrorHandle);
+    }
+
+    /** 查询后台采样器当前状态的服务接口。*/
+    @Override
+    public Mono<ServerResponse>
+    getSamplingState(ServerRequest request)
+    {
+        return
+        this.mySQLIndicatorsRepository
+            .getSamplingState()
+            .flatMap((samplingState) ->
+                ReactiveResponseBuilder.OK(samplingState, null))
             .onErrorResume(this::genericErrorHandle);
     }
 
@@ -210,4 +303,46 @@ public class SQLMonitorServiceImpl implements SQLMonitorService
                 ReactiveResponseBuilder.OK(runtimeArray, null);
             }).onErrorResume(this::genericErrorHandle);
     }
+
+    /** 查询本节点内存中指标最近一段时间历史数据的接口。*/
+    @Override
+    public Mono<ServerResponse>
+    getIndicatorHistory(ServerRequest request)
+    {
+        return
+        Mono.zip(
+            praseRequestParam(request, "indicator"),
+            praseRequestParam(request, "minutes")
+        )
+        .flatMap((params) -> {
+            final IndicatorKeyNames keyNames
+                = IndicatorKeyNames.fromKeyName(params.getT1());
+
+            final Duration retention
+                = this.historyProperties.getRetention();
+
+            final Duration window
+                = isEmptyParam(params.getT2())
+                    ? this.historyProperties.getDefaultWindow()
+                    : Duration.ofMinutes(Long.parseLong(params.getT2()));
+
+            if (window.isNegative() || window.isZero())
+            {
+                return
+                Mono.error(
+                    new IllegalArgumentException("Param minutes must be positive!")
+                );
+            }
+
+            return
+            this.mySQLIndicatorsRepository
+                .getIndicatorHistory(
+                    keyNames,
+                    (window.compareTo(retention) > 0) ? retention : window
+                );
+        })
+        .flatMap((history) ->
+            ReactiveResponseBuilder.OK(history, null))
+        .onErrorResume(this::genericErrorHandle);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.jesse.sqlmonitor.monitor.snapshot;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+
+/**
+ * 数据库全局状态快照，
+ * 由一次 performance_schema.global_status 查询得到，
+ * 同一轮采样中的所有指标计算器共享这一张不可变快照（包括时间戳）。
+ */
+@Getter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class GlobalStatusSnapshot extends SnapshotBase<GlobalStatusSnapshot>
+{
+    /** 以枚举下标存放的状态值（构建完成后只读）。*/
+    private final GlobalStatusValues statusValues;
+
+    private GlobalStatusSnapshot(GlobalStatusValues statusValues) {
+        this.statusValues = statusValues;
+    }
+
+    private GlobalStatusSnapshot(Instant timestamp, GlobalStatusValues statusValues)
+    {
+        super(timestamp);
+        this.statusValues = statusValues;
+    }
+
+    /** 构造一个空快照。*/
+    @Contract(" -> new")
+    public static @NotNull GlobalStatusSnapshot empty() {
+        return new GlobalStatusSnapshot(new GlobalStatusValues());
+    }
+
+    /** 用查询结果构造快照（之后不可再修改 statusValues）。*/
+    @Contract("_ -> new")
+    public static @NotNull GlobalStatusSnapshot
+    of(@NotNull GlobalStatusValues statusValues) {
+        return new GlobalStatusSnapshot(statusValues);
+    }
+
+    /** 用查询结果与指定的时间戳构造快照。*/
+    @Contract("_, _ -> new")
+    public static @NotNull GlobalStatusSnapshot
+    of(@NotNull Instant timestamp, @NotNull GlobalStatusValues statusValues) {
+        return new GlobalStatusSnapshot(timestamp, statusValues);
+    }
+
+    /** 快照中是否包含指定的状态？*/
+    public boolean contains(@NotNull GlobalStatusName statusName) {
+        return this.statusValues.contains(statusName);
+    }
+
+    /**
+     * 获取指定状态的值。
+     *
+     * @throws IllegalStateException 快照中不存在该状态（通常是计算器忘记登记了）
+     */
+    public long getValue(@NotNull GlobalStatusName statusName) {
+        return this.statusValues.getLong(statusName);
+    }
+
+    /** 是否为空快照。*/
+    @Override
+    public boolean isEmpty() {
+        return this.statusValues.isEmpty();
+    }
+
+    /**
+     * 比较前后两次快照，检查服务器是否重启过（Uptime 变小），
+     * 各项计数器的重置由具体的计算器自行判断。
+     */
+    @Override
+    public boolean
+    isReset(@NotNull GlobalStatusSnapshot current)
+    {
+        return
+        this.contains(GlobalStatusName.UPTIME)    &&
+        current.contains(GlobalStatusName.UPTIME) &&
+        current.getValue(GlobalStatusName.UPTIME) < this.getValue(GlobalStatusName.UPTIME);
+    }
+}
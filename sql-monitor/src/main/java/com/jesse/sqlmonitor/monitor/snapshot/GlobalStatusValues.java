@@ -0,0 +1,152 @@
+package com.jesse.sqlmonitor.monitor.snapshot;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.utils.StatusValueParser;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 以 {@link GlobalStatusName#ordinal()} 为下标的全局状态值容器，
+ * 整数和小数分别存放在 long[] / double[] 槽位中，读取时既不装箱也不做字符串哈希。
+ *
+ * <p>只在查询结果构建期间写入，构建完成后视为只读。</p>
+ */
+@ToString
+public final class GlobalStatusValues
+{
+    /** 缓存一份枚举数组，避免每次 values() 都拷贝。*/
+    private static final
+    GlobalStatusName[] STATUS_NAMES = GlobalStatusName.values();
+
+    /** 槽位为空。*/
+    private static final byte ABSENT = 0;
+
+    /** 槽位为整数。*/
+    private static final byte LONG_SLOT = 1;
+
+    /** 槽位为小数。*/
+    private static final byte DOUBLE_SLOT = 2;
+
+    /** 整数槽位。*/
+    private final long[] longValues = new long[STATUS_NAMES.length];
+
+    /** 小数槽位。*/
+    private final double[] doubleValues = new double[STATUS_NAMES.length];
+
+    /** 各槽位的类型。*/
+    private final byte[] slotTypes = new byte[STATUS_NAMES.length];
+
+    /** 已填充的槽位数。*/
+    private int size = 0;
+
+    /** 通过下标获取状态名（下标不合法时返回 null）。*/
+    public static GlobalStatusName statusAt(int ordinal)
+    {
+        return
+        (ordinal >= 0 && ordinal < STATUS_NAMES.length)
+            ? STATUS_NAMES[ordinal]
+            : null;
+    }
+
+    /** 写入一个整数状态值（仅在构建期间调用）。*/
+    public void putLong(@NotNull GlobalStatusName statusName, long value)
+    {
+        final int slot = statusName.ordinal();
+
+        if (this.slotTypes[slot] == ABSENT) { ++this.size; }
+
+        this.longValues[slot] = value;
+        this.slotTypes[slot]  = LONG_SLOT;
+    }
+
+    /** 写入一个小数状态值（仅在构建期间调用）。*/
+    public void putDouble(@NotNull GlobalStatusName statusName, double value)
+    {
+        final int slot = statusName.ordinal();
+
+        if (this.slotTypes[slot] == ABSENT) { ++this.size; }
+
+        this.doubleValues[slot] = value;
+        this.slotTypes[slot]    = DOUBLE_SLOT;
+    }
+
+    /**
+     * 按预先登记的类型解析原始的状态值并写入对应的槽位（仅在构建期间调用）。
+     *
+     * @return 值是文本类型、没有写入时返回 false
+     */
+    public boolean putParsed(@NotNull GlobalStatusName statusName, String value)
+    {
+        switch (StatusValueParser.typeOf(statusName.getStatusName(), value))
+        {
+            case LONG   -> this.putLong(statusName, StatusValueParser.parseLong(value));
+            case DOUBLE -> this.putDouble(statusName, StatusValueParser.parseDouble(value));
+            case TEXT   -> { return false; }
+        }
+
+        return true;
+    }
+
+    /** 是否包含指定状态？*/
+    public boolean contains(@NotNull GlobalStatusName statusName) {
+        return this.slotTypes[statusName.ordinal()] != ABSENT;
+    }
+
+    /** 已填充的状态数。*/
+    public int size() {
+        return this.size;
+    }
+
+    /** 是否一个状态都没有？*/
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * 以整数形式读取状态值（小数会被截断）。
+     *
+     * @throws IllegalStateException 不存在该状态
+     */
+    public long getLong(@NotNull GlobalStatusName statusName)
+    {
+        final int slot = statusName.ordinal();
+
+        return
+        switch (this.slotTypes[slot])
+        {
+            case LONG_SLOT   -> this.longValues[slot];
+            case DOUBLE_SLOT -> (long) this.doubleValues[slot];
+            default          -> throw absent(statusName);
+        };
+    }
+
+    /**
+     * 以小数形式读取状态值。
+     *
+     * @throws IllegalStateException 不存在该状态
+     */
+    public double getDouble(@NotNull GlobalStatusName statusName)
+    {
+        final int slot = statusName.ordinal();
+
+        return
+        switch (this.slotTypes[slot])
+        {
+            case LONG_SLOT   -> this.longValues[slot];
+            case DOUBLE_SLOT -> this.doubleValues[slot];
+            default          -> throw absent(statusName);
+        };
+    }
+
+    private static @NotNull IllegalStateException
+    absent(@NotNull GlobalStatusName statusName)
+    {
+        return new
+        IllegalStateException(
+            String.format(
+                "Status %s not present, is it registered?",
+                statusName.getStatusName()
+            )
+        );
+    }
+}
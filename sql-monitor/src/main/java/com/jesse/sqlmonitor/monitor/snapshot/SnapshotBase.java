@@ -10,11 +10,23 @@ import java.time.Instant;
 @Getter
 @ToString
 @EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
 public abstract class SnapshotBase<T extends SnapshotBase<T>>
 {
     /** 快照创建时间戳 */
-    private final Instant timestamp = Instant.now();
+    private final Instant timestamp;
+
+    /** 使用当前时刻作为快照时间戳。*/
+    public SnapshotBase() {
+        this(Instant.now());
+    }
+
+    /**
+     * 使用指定的时间戳构造快照，
+     * 从同一张 {@link GlobalStatusSnapshot} 派生出的快照共享它的时间戳。
+     */
+    public SnapshotBase(@NotNull Instant timestamp) {
+        this.timestamp = timestamp;
+    }
 
     /** 是否为空快照。*/
     public abstract  boolean isEmpty();
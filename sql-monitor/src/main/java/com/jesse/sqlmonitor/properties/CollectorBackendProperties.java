@@ -0,0 +1,38 @@
+package com.jesse.sqlmonitor.properties;
+
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 采样查询后端相关属性类。*/
+@Data
+@ToString
+@Component
+@ConfigurationProperties(prefix = "app.collector")
+public class CollectorBackendProperties
+{
+    /**
+     * 采样查询（全局状态快照、系统变量）使用的后端：
+     * r2dbc（默认，走采样隔舱的 R2DBC 连接池）或 jdbc（虚拟线程 + 长连接 + 服务端预处理语句）。
+     */
+    private String backend = "r2dbc";
+
+    /** JDBC 后端的配置。*/
+    private Jdbc jdbc = new Jdbc();
+
+    @Data
+    public static class Jdbc
+    {
+        /** 长连接数量（采样查询都很轻，几个连接就足够了）。*/
+        private int connections = 2;
+
+        /** 等待空闲连接的期限时间。*/
+        private Duration acquireTimeout = Duration.ofSeconds(5L);
+
+        /** 单次查询的超时时间（秒）。*/
+        private int queryTimeoutSeconds = 5;
+    }
+}
@@ -0,0 +1,32 @@
+package com.jesse.sqlmonitor.properties;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jesse.sqlmonitor.monitor.constants.GlobalStatusName.*;
+
+/** 通用计数器速率引擎相关属性类。*/
+@Data
+@ToString
+@Component
+@ConfigurationProperties(prefix = "app.counter-rate")
+public class CounterRateProperties
+{
+    /**
+     * 需要计算每秒速率的累计计数器（{@link GlobalStatusName} 的枚举名），
+     * 非累计类型的状态（如 Threads_connected）会被忽略。
+     */
+    private List<GlobalStatusName> counters = new ArrayList<>(List.of(
+        COM_SELECT, COM_INSERT, COM_UPDATE, COM_DELETE,
+        SLOW_QUERY_COUNT, CREATED_TMP_DISK_TABLES, SELECT_FULL_JOIN,
+        INNODB_ROWS_READ, INNODB_ROWS_INSERTED,
+        INNODB_ROWS_UPDATED, INNODB_ROWS_DELETED,
+        TABLE_LOCKS_WAITED
+    ));
+}
@@ -0,0 +1,22 @@
+package com.jesse.sqlmonitor.properties;
+
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 内存指标历史（环形缓冲区）相关属性类。*/
+@Data
+@ToString
+@Component
+@ConfigurationProperties(prefix = "app.indicator-history")
+public class IndicatorHistoryProperties
+{
+    /** 每个指标在内存中保留多长时间的历史数据。*/
+    private Duration retention = Duration.ofMinutes(30L);
+
+    /** 查询时未指定时间窗口，默认返回最近多长时间的数据。*/
+    private Duration defaultWindow = Duration.ofMinutes(5L);
+}
@@ -0,0 +1,85 @@
+package com.jesse.sqlmonitor.properties;
+
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 后台指标采样器相关属性类。*/
+@Data
+@ToString
+@Component
+@ConfigurationProperties(prefix = "app.indicator-sampler")
+public class IndicatorSamplerProperties
+{
+    /**
+     * 是否启用后台采样器？
+     * 启用后 HTTP 请求只读缓存，不再访问被监测的数据库和分布式锁。
+     */
+    private boolean enabled = true;
+
+    /**
+     * 采样间隔（不可小于 MIN_SAMPLE_INTERVAL_MS，
+     * 同时应小于缓存的有效期，保证缓存始终有数据可读）。
+     * 启用自适应采样时作为初始间隔。
+     */
+    private Duration interval = Duration.ofSeconds(1L);
+
+    /**
+     * 网络流量预渲染响应体与内存历史数据使用的计量单位
+     *（缓存、消息队列与数据库中统一存放 B/s，其他单位的请求在读取时换算）。
+     */
+    private SizeUnit trafficUnit = SizeUnit.KB;
+
+    /**
+     * 是否在每轮采样后预先渲染热点端点（QPS、网络流量等）的 JSON 响应体？
+     * 启用后这些端点在有效期内直接写出渲染好的字节。
+     */
+    private boolean renderResponses = true;
+
+    /** 自适应采样间隔相关属性。*/
+    private Adaptive adaptive = new Adaptive();
+
+    /** 采样器可能使用的最短间隔（用于估算内存历史的容量）。*/
+    public Duration shortestInterval()
+    {
+        return
+        (this.adaptive.isEnabled() && this.adaptive.getMinInterval().compareTo(this.interval) < 0)
+            ? this.adaptive.getMinInterval()
+            : this.interval;
+    }
+
+    /** 自适应采样间隔相关属性类。*/
+    @Data
+    @ToString
+    public static class Adaptive
+    {
+        /** 是否根据指标的波动程度自动调整采样间隔？*/
+        private boolean enabled = false;
+
+        /** 采样间隔下限（不可小于 MIN_SAMPLE_INTERVAL_MS）。*/
+        private Duration minInterval = Duration.ofSeconds(1L);
+
+        /** 采样间隔上限。*/
+        private Duration maxInterval = Duration.ofSeconds(5L);
+
+        /**
+         * 波动阈值：QPS 或网络流量前后两次采样的相对变化超过该值时，采样间隔减半。
+         */
+        private double volatilityThreshold = 0.2;
+
+        /**
+         * 相对变化连续多少轮都低于阈值的一半（曲线平稳）时，采样间隔翻倍。
+         */
+        private int stableRounds = 5;
+
+        /**
+         * 缓存有效期与当前采样间隔的倍数，
+         * 采样间隔变化时缓存实际使用的有效期随之更新（配置的 ttl 只作为初始值）。
+         */
+        private double ttlFactor = 2.5;
+    }
+}
@@ -1,11 +1,15 @@
 package com.jesse.sqlmonitor.properties;
 
 // import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /** 来自配置文件的 R2DBC 主数据库属性类。*/
 @Data
 @ToString
@@ -19,6 +23,33 @@ public class R2dbcMasterProperties
     private String password;
     private String defaultSchema;
 
+    /** 采样隔舱：后台采样器的轻量查询（全局状态快照、系统变量、语句摘要）。*/
+    private Bulkhead sampling
+        = new Bulkhead(5, Duration.ofSeconds(5L), 4);
+
+    /** 诊断隔舱：按需发起的重查询（所有全局状态、库名、库表大小）。*/
+    private Bulkhead diagnostic
+        = new Bulkhead(10, Duration.ofSeconds(30L), 10);
+
+    /**
+     * 隔舱配置，每个隔舱拥有独立的连接池和调度器，
+     * 诊断查询把自己的连接池占满也不会影响采样。
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bulkhead
+    {
+        /** 连接池最大连接数。*/
+        private int maxSize;
+
+        /** 获取连接的期限时间。*/
+        private Duration maxAcquireTime;
+
+        /** 配套调度器的最大线程数。*/
+        private int schedulerThreads;
+    }
+
 //    @PostConstruct
 //    private void showProperties() {
 //        System.out.println(this);
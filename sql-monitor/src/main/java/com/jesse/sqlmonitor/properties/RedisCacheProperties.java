@@ -20,6 +20,8 @@ public class RedisCacheProperties
     /**
      * 缓存的有效期（为前端的最短查询间隔 - 500 毫秒的冗余）
      * 确保正确的触发缓存更新，避免读到旧数据。
+     * 启用自适应采样时这里只是初始值，运行期间实际使用的有效期见
+     * {@link com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder}。
      */
     private Duration ttl;
 
@@ -31,4 +33,105 @@ public class RedisCacheProperties
 
     /** 分布式锁有效期。*/
     private long lockLeaseTime;
-}
\ No newline at end of file
+
+    /**
+     * 缓存数据的编码方式：
+     * HASH（默认，逐字段 JSON 存入 Hash）或 BLOB（整块 Smile 二进制数据存入普通键）。
+     */
+    private CacheCodec codec = CacheCodec.HASH;
+
+    /** 缓存数据的编码方式。*/
+    public enum CacheCodec {
+        HASH, BLOB
+    }
+
+    /** 节点本地（L1）指标缓存配置。*/
+    private LocalCache localCache = new LocalCache();
+
+    @Data
+    public static class LocalCache
+    {
+        /**
+         * 是否在 Redis 之前启用节点本地缓存？
+         *（本地缓存的有效期与 Redis 中的缓存一致，取 CacheTtlHolder 中的当前值，Redis 作为各节点共享的 L2）
+         */
+        private boolean enabled = true;
+    }
+
+    /** stale-while-revalidate 模式配置。*/
+    private StaleWhileRevalidate staleWhileRevalidate = new StaleWhileRevalidate();
+
+    /**
+     * stale-while-revalidate 模式：
+     * ttl 作为软有效期，超过软有效期的数据立即返回给调用者，同时只由一个调用者在后台刷新，
+     * 超过硬有效期（ttl * hardTtlFactor）数据才真正从 Redis 中消失，此时调用者才需要加锁等待。
+     */
+    @Data
+    public static class StaleWhileRevalidate
+    {
+        /** 是否启用？*/
+        private boolean enabled = false;
+
+        /** 硬有效期是软有效期（ttl）的多少倍。*/
+        private double hardTtlFactor = 4.0;
+    }
+
+    /** 跨节点广播配置。*/
+    private Broadcast broadcast = new Broadcast();
+
+    @Data
+    public static class Broadcast
+    {
+        /**
+         * 是否通过 Redis Pub/Sub 把新计算出的指标广播给其他节点？
+         *（收到的节点直接更新本地缓存、预渲染的响应体与预热状态）
+         */
+        private boolean enabled = false;
+    }
+
+    /** 缓存预热配置。*/
+    private WarmUp warmUp = new WarmUp();
+
+    @Data
+    public static class WarmUp
+    {
+        /**
+         * 两次预热写入之间的最短间隔，
+         *（每一类指标最多只有一个待执行的预热，Redis 恢复时的大量冷请求不会变成大量的写入）
+         */
+        private Duration writeInterval = Duration.ofMillis(100L);
+    }
+
+    /** Redis 熔断器配置。*/
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Redis 熔断器：
+     * 按最近若干次真实缓存操作的耗时与失败情况判断 Redis 是否降级，
+     * 降级（熔断打开）期间请求直接跳过 Redis，经过 openDuration 后进入半开状态，只放行少量探测请求。
+     */
+    @Data
+    public static class CircuitBreaker
+    {
+        /** 是否启用？*/
+        private boolean enabled = true;
+
+        /** 滑动窗口大小（最近多少次缓存操作）。*/
+        private int windowSize = 100;
+
+        /** 窗口内至少有多少次操作才开始判断。*/
+        private int minimumCalls = 20;
+
+        /** 窗口内耗时的 p99 达到该值时熔断。*/
+        private Duration slowCallP99Threshold = Duration.ofMillis(100L);
+
+        /** 窗口内失败（包括超时）的比例达到该值时熔断。*/
+        private double failureRateThreshold = 0.5;
+
+        /** 熔断打开后保持多久再进入半开状态。*/
+        private Duration openDuration = Duration.ofSeconds(5L);
+
+        /** 半开状态下放行的探测请求数（全部成功且不慢才关闭熔断）。*/
+        private int halfOpenProbes = 3;
+    }
+}
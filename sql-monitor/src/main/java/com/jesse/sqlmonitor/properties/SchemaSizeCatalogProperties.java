@@ -0,0 +1,25 @@
+package com.jesse.sqlmonitor.properties;
+
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 数据库大小目录相关属性类。*/
+@Data
+@ToString
+@Component
+@ConfigurationProperties(prefix = "app.schema-size-catalog")
+public class SchemaSizeCatalogProperties
+{
+    /**
+     * 后台刷新间隔（每轮只重新统计指纹发生变化的库，
+     * 库和表的大小变化很慢，不需要频繁刷新）。
+     */
+    private Duration refreshInterval = Duration.ofMinutes(10L);
+
+    /** 单次查询 information_schema 的超时时间。*/
+    private Duration queryTimeout = Duration.ofMinutes(1L);
+}
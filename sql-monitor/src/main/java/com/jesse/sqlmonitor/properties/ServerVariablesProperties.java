@@ -0,0 +1,22 @@
+package com.jesse.sqlmonitor.properties;
+
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 系统变量缓存相关属性类。*/
+@Data
+@ToString
+@Component
+@ConfigurationProperties(prefix = "app.server-variables")
+public class ServerVariablesProperties
+{
+    /**
+     * 刷新 global_variables 的间隔
+     *（max_connections 这类变量几乎不会变化，不需要频繁刷新）。
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5L);
+}
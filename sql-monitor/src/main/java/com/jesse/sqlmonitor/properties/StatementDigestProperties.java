@@ -0,0 +1,37 @@
+package com.jesse.sqlmonitor.properties;
+
+import lombok.Data;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 语句摘要 Top-N 指标相关属性类。*/
+@Data
+@ToString
+@Component
+@ConfigurationProperties(prefix = "app.statement-digest")
+public class StatementDigestProperties
+{
+    /** 是否由后台采样器定期采集语句摘要？*/
+    private boolean enabled = true;
+
+    /**
+     * 采集间隔（events_statements_summary_by_digest 可能有上万行，
+     * 不必像 QPS 那样每轮都读，取采样间隔的整数倍即可）。
+     */
+    private Duration interval = Duration.ofSeconds(10L);
+
+    /** 每个排行榜（延迟、扫描行数、执行次数）保留多少条摘要。*/
+    private int topN = 10;
+
+    /** 摘要文本的最大长度（超出部分在查询时截断）。*/
+    private int maxDigestTextLength = 256;
+
+    /**
+     * 每采集多少次，对照摘要表清理一次内存中跟踪的摘要
+     *（摘要表写满被截断或者被 TRUNCATE 后，消失的摘要不会再出现在增量读取的结果中）。
+     */
+    private int pruneEveryRounds = 30;
+}
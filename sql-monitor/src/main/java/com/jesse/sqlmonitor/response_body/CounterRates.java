@@ -0,0 +1,110 @@
+package com.jesse.sqlmonitor.response_body;
+
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/** 数据库累计计数器速率监控数据响应。*/
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(
+    description = "数据库累计计数器（Com_select、Slow_queries 等）速率监控数据",
+    requiredProperties = {
+        "rates",
+        "timeDiffMs",
+        "resetDetected",
+        "error"
+    }
+)
+public class CounterRates extends ResponseBase<CounterRates>
+{
+    private final static
+    CounterRates EMPTY_RATES = buildZeroRates();
+
+    @Schema(description = "各计数器的速率，键为全局状态名（如 Com_select），顺序与配置一致")
+    @Builder.Default
+    private Map<String, CounterRate> rates = Map.of();
+
+    @Schema(description = "与上一次快照的时间间隔（单位：毫秒）")
+    private long timeDiffMs;
+
+    @Schema(description = "服务器是否重启过（所有计数器被重置）？")
+    @Builder.Default
+    private boolean resetDetected = false;
+
+    @Schema(description = "在统计速率的过程中出错？")
+    @Builder.Default
+    private boolean error = false;
+
+    @Override
+    public boolean isValid() {
+        return !this.equals(EMPTY_RATES);
+    }
+
+    public static @NotNull
+    CounterRates buildZeroRates()
+    {
+        return
+        CounterRates.builder()
+            .rates(Map.of())
+            .timeDiffMs(0L)
+            .resetDetected(false)
+            .error(false)
+            .build();
+    }
+
+    /** 构造一个表述服务器重启的结果实例。*/
+    public static @NotNull CounterRates onReset()
+    {
+        return
+        CounterRates.builder()
+            .rates(Map.of())
+            .timeDiffMs(0L)
+            .resetDetected(true)
+            .error(false)
+            .build();
+    }
+
+    /** 构造一个表述错误结果的实例。*/
+    public static @NotNull CounterRates onError()
+    {
+        return
+        CounterRates.builder()
+            .rates(Map.of())
+            .timeDiffMs(0L)
+            .resetDetected(false)
+            .error(true)
+            .build();
+    }
+
+    /** 单个计数器的速率。*/
+    @Getter
+    @Builder
+    @ToString
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Schema(description = "单个累计计数器的速率")
+    public static class CounterRate
+    {
+        @Schema(description = "每秒速率")
+        private BigDecimal perSecond;
+
+        @Schema(description = "计数器当前值")
+        private long current;
+
+        @Schema(description = "与上一次快照的差值")
+        private long diff;
+
+        @Schema(description = "本计数器是否被单独重置（如 FLUSH STATUS）？")
+        private boolean resetDetected;
+    }
+}
@@ -4,6 +4,7 @@ import com.jesse.sqlmonitor.response_body.base.ResponseBase;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -35,6 +36,12 @@ public class DatabaseSize extends ResponseBase<DatabaseSize>
     @Schema(description = "该数据库下所有表的大小（单位：MB）")
     private Map<String, Double> tableSizes = new LinkedHashMap<>();
 
+    @Schema(description = "这份数据的统计时刻（数据来自后台维护的大小目录）")
+    private LocalDateTime refreshedAt;
+
+    @Schema(description = "距统计时刻过去了多少毫秒")
+    private long stalenessMs;
+
     @Override
     public boolean isValid() {
         return !this.equals(EMPTY_DATABASE_SIZE);
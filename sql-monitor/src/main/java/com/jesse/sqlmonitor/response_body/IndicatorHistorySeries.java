@@ -0,0 +1,36 @@
+package com.jesse.sqlmonitor.response_body;
+
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 内存中某个指标最近一段时间的历史数据响应。*/
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(
+    description = "指标最近一段时间的历史数据",
+    requiredProperties = {
+        "indicator", "timestamps", "values"
+    }
+)
+public class IndicatorHistorySeries
+{
+    @Schema(description = "指标名", example = "qps")
+    private String indicator;
+
+    @Schema(description = "网络流量的计量单位（其他指标为 null）")
+    private SizeUnit sizeUnit;
+
+    @Schema(description = "采样时间戳（epoch millis，升序）")
+    private long[] timestamps;
+
+    @Builder.Default
+    @Schema(description = "通道名 -> 与 timestamps 一一对应的值")
+    private Map<String, double[]> values = new LinkedHashMap<>();
+}
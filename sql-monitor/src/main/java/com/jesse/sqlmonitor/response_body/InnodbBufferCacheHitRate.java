@@ -8,6 +8,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
 
+import static com.jesse.sqlmonitor.utils.RateMath.RATE_SCALE;
+import static com.jesse.sqlmonitor.utils.RateMath.toDecimal;
+
 /** InnoDB 缓存命中率监控数据响应。*/
 @Getter
 @Builder(builderClassName = "Builder")
@@ -76,7 +79,7 @@ public class InnodbBufferCacheHitRate extends ResponseBase<InnodbBufferCacheHitR
     {
         return
         InnodbBufferCacheHitRate.builder()
-            .cacheHitRate(cacheHitRate.getCacheHitRate())
+            .cacheHitRate(toDecimal(cacheHitRate.getCacheHitRate(), RATE_SCALE))
             .queryDiff(cacheHitRate.getQueryDiff())
             .usedPreviousResult(cacheHitRate.isUsedPreviousResult())
             .resetDetected(cacheHitRate.isResetDetected())
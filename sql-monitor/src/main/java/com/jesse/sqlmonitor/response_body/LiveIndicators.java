@@ -0,0 +1,59 @@
+package com.jesse.sqlmonitor.response_body;
+
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 所有实时指标的组合响应（一次请求代替 QPS、网络流量、连接使用率、InnoDB 缓存命中率四个请求），
+ * 缓存中缺失的指标为 null，并在 missing 中列出，已经陈旧的指标仍然返回，并在 stale 中列出。
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(
+    description = "所有实时指标的组合响应（允许部分缺失）",
+    requiredProperties = { "missing", "stale" }
+)
+public class LiveIndicators extends ResponseBase<LiveIndicators>
+{
+    @Schema(description = "缓存中最近一轮采样的版本号（采样快照的时间戳，缓存中没有时为 null）")
+    private Long tickVersion;
+
+    @Schema(description = "QPS（缺失时为 null）")
+    private QPSResult qps;
+
+    @Schema(description = "网络流量（缺失时为 null）")
+    private NetWorkTraffic networkTraffic;
+
+    @Schema(description = "连接使用率（缺失时为 null）")
+    private ConnectionUsage connectionUsage;
+
+    @Schema(description = "InnoDB 缓存命中率（缺失时为 null）")
+    private InnodbBufferCacheHitRate innodbBufferCacheHitRate;
+
+    @Schema(description = "缺失的指标名列表", example = "[\"connection-usage\"]")
+    @Builder.Default
+    private List<String> missing = List.of();
+
+    @Schema(description = "已经陈旧（超过缓存软有效期）的指标名列表", example = "[\"qps\"]")
+    @Builder.Default
+    private List<String> stale = List.of();
+
+    /** 至少有一项指标时才算有效。*/
+    @Override
+    public boolean isValid()
+    {
+        return
+        Objects.nonNull(this.qps)             ||
+        Objects.nonNull(this.networkTraffic)  ||
+        Objects.nonNull(this.connectionUsage) ||
+        Objects.nonNull(this.innodbBufferCacheHitRate);
+    }
+}
@@ -4,11 +4,16 @@ import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
 import com.jesse.sqlmonitor.monitor.impl.network_traffic.impl.TrafficRateCalculator;
 import com.jesse.sqlmonitor.monitor.impl.network_traffic.impl.TrafficStateSnapshot;
 import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import com.jesse.sqlmonitor.utils.RateMath;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
+import java.util.Objects;
+
+import static com.jesse.sqlmonitor.utils.RateMath.TRAFFIC_SCALE;
+import static com.jesse.sqlmonitor.utils.RateMath.toDecimalRate;
 
 /** 数据库网络流量监控数据响应。*/
 @Getter
@@ -67,6 +72,38 @@ public class NetWorkTraffic extends ResponseBase<NetWorkTraffic>
         return !this.equals(EMPTY_TRAFFIC);
     }
 
+    /**
+     * 将速率换算到另一个计量单位（结果保留 {@link RateMath#TRAFFIC_SCALE} 位小数且四舍五入），
+     * 总字节数等其他字段保持不变。
+     * 缓存中存放的是 B/s，因此同一份缓存数据可以服务所有计量单位的请求，
+     * 换算只是一次 BigDecimal 除法（换算到更小的单位时为乘法），见 {@link RateMath#convertUnit(BigDecimal, SizeUnit, SizeUnit, int)}。
+     */
+    public NetWorkTraffic
+    convertTo(@NotNull SizeUnit unit)
+    {
+        if (Objects.isNull(this.sizeUnit) || this.sizeUnit == unit) {
+            return this;
+        }
+
+        return
+        NetWorkTraffic.builder()
+            .totalBytesSent(this.totalBytesSent)
+            .totalBytesReceive(this.totalBytesReceive)
+            .sentPerSec(rescale(this.sentPerSec, this.sizeUnit, unit))
+            .receivePerSec(rescale(this.receivePerSec, this.sizeUnit, unit))
+            .queryDiff(this.queryDiff)
+            .sizeUnit(unit)
+            .resetDetected(this.resetDetected)
+            .error(this.error)
+            .build();
+    }
+
+    /** 按 1024 的幂次换算速率。*/
+    private static @NotNull BigDecimal
+    rescale(@NotNull BigDecimal rate, @NotNull SizeUnit from, @NotNull SizeUnit to) {
+        return RateMath.convertUnit(rate, from, to, TRAFFIC_SCALE);
+    }
+
     /** 构建零速率结果。*/
     public static NetWorkTraffic
     buildZeroRate()
@@ -83,7 +120,7 @@ public class NetWorkTraffic extends ResponseBase<NetWorkTraffic>
             .build();
     }
 
-    /** 构建流量统计结果。*/
+    /** 构建流量统计结果（单位：B/s）。*/
     public static NetWorkTraffic
     buildTrafficResult(
         @NotNull TrafficStateSnapshot currentState,
@@ -94,10 +131,10 @@ public class NetWorkTraffic extends ResponseBase<NetWorkTraffic>
         NetWorkTraffic.builder()
             .totalBytesSent(currentState.getTotalBytesSent())
             .totalBytesReceive(currentState.getTotalBytesReceive())
-            .sentPerSec(rate.getSentKBytesPerSec())
-            .receivePerSec(rate.getReceiveKBytesPerSec())
+            .sentPerSec(toDecimalRate(rate.getSentBytesDiff(), rate.getQueryDiff(), TRAFFIC_SCALE))
+            .receivePerSec(toDecimalRate(rate.getReceiveBytesDiff(), rate.getQueryDiff(), TRAFFIC_SCALE))
             .queryDiff(rate.getQueryDiff())
-            .sizeUnit(rate.getSizeUnit())
+            .sizeUnit(SizeUnit.B)
             .resetDetected(rate.isResetDetected())
             .build();
     }
@@ -8,6 +8,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
 
+import static com.jesse.sqlmonitor.utils.RateMath.RATE_SCALE;
+import static com.jesse.sqlmonitor.utils.RateMath.toDecimalRate;
+
 /** 数据库 QPS 监控数据响应。*/
 @Getter
 @Builder
@@ -75,7 +78,7 @@ public class QPSResult extends ResponseBase<QPSResult>
     {
         return
         QPSResult.builder()
-            .qps(qps.getQps())
+            .qps(toDecimalRate(qps.getQueryDiff(), qps.getTimeDiffMs(), RATE_SCALE))
             .currentQueries(qps.getCurrentQuires())
             .queryDiff(qps.getQueryDiff())
             .timeDiffMs(qps.getTimeDiffMs())
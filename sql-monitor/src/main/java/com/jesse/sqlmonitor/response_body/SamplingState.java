@@ -0,0 +1,54 @@
+package com.jesse.sqlmonitor.response_body;
+
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/** 后台采样器当前状态响应。*/
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(
+    description = "后台采样器当前状态",
+    requiredProperties = {
+        "running",
+        "adaptive",
+        "intervalMs",
+        "minIntervalMs",
+        "maxIntervalMs",
+        "volatility",
+        "cacheTtlMs"
+    }
+)
+public class SamplingState extends ResponseBase<SamplingState>
+{
+    @Schema(description = "采样器是否正在运行？")
+    private boolean running;
+
+    @Schema(description = "是否启用了自适应采样间隔？")
+    private boolean adaptive;
+
+    @Schema(description = "当前实际使用的采样间隔（单位：毫秒）", example = "1000")
+    private long intervalMs;
+
+    @Schema(description = "采样间隔下限（单位：毫秒）", example = "500")
+    private long minIntervalMs;
+
+    @Schema(description = "采样间隔上限（单位：毫秒）", example = "5000")
+    private long maxIntervalMs;
+
+    @Schema(description = "最近一轮 QPS / 网络流量的相对变化", example = "0.05")
+    private double volatility;
+
+    @Schema(description = "当前的缓存有效期（单位：毫秒）", example = "2500")
+    private long cacheTtlMs;
+
+    /** 本指标响应数据是否有效？（所有子类必须实现）*/
+    @Override
+    public boolean isValid() {
+        return this.intervalMs > 0L;
+    }
+}
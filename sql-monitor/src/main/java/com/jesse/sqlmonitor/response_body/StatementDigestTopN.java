@@ -0,0 +1,117 @@
+package com.jesse.sqlmonitor.response_body;
+
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/** 语句摘要 Top-N 监控数据响应（只包含本周期内发生变化的摘要）。*/
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(
+    description = "本周期内增长最多的语句摘要",
+    requiredProperties = {
+        "intervalMs",
+        "changedDigests",
+        "trackedDigests",
+        "topByLatency",
+        "topByRowsExamined",
+        "topByExecutions",
+        "error"
+    }
+)
+public class StatementDigestTopN extends ResponseBase<StatementDigestTopN>
+{
+    @Schema(description = "与上一次读取的时间间隔（单位：毫秒）")
+    private long intervalMs;
+
+    @Schema(description = "本周期内发生变化的摘要数")
+    private int changedDigests;
+
+    @Schema(description = "内存中跟踪的摘要总数")
+    private int trackedDigests;
+
+    @Schema(description = "按延迟增量排序的 Top-N")
+    @Builder.Default
+    private List<DigestDelta> topByLatency = List.of();
+
+    @Schema(description = "按扫描行数增量排序的 Top-N")
+    @Builder.Default
+    private List<DigestDelta> topByRowsExamined = List.of();
+
+    @Schema(description = "按执行次数增量排序的 Top-N")
+    @Builder.Default
+    private List<DigestDelta> topByExecutions = List.of();
+
+    @Schema(description = "在统计的过程中出错？")
+    @Builder.Default
+    private boolean error = false;
+
+    /** 只有包含变化的摘要且没有出错的结果才需要缓存和发送。*/
+    @Override
+    public boolean isValid() {
+        return this.changedDigests > 0 && !this.error;
+    }
+
+    /** 构造一个空结果（第一次读取只建立基线，或本周期没有变化）。*/
+    public static @NotNull StatementDigestTopN buildEmpty()
+    {
+        return
+        StatementDigestTopN.builder()
+            .intervalMs(0L)
+            .changedDigests(0)
+            .trackedDigests(0)
+            .error(false)
+            .build();
+    }
+
+    /** 构造一个表述错误结果的实例。*/
+    public static @NotNull StatementDigestTopN onError()
+    {
+        return
+        StatementDigestTopN.builder()
+            .intervalMs(0L)
+            .changedDigests(0)
+            .trackedDigests(0)
+            .error(true)
+            .build();
+    }
+
+    /** 单条语句摘要在本周期内的增量。*/
+    @Getter
+    @Builder
+    @ToString
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Schema(description = "单条语句摘要在本周期内的增量")
+    public static class DigestDelta
+    {
+        @Schema(description = "所属数据库（可能为 null）")
+        private String schemaName;
+
+        @Schema(description = "摘要哈希")
+        private String digest;
+
+        @Schema(description = "摘要文本（可能被截断）")
+        private String digestText;
+
+        @Schema(description = "执行次数增量")
+        private long executions;
+
+        @Schema(description = "总延迟增量（单位：毫秒）")
+        private double latencyMs;
+
+        @Schema(description = "平均每次执行的延迟（单位：毫秒）")
+        private double avgLatencyMs;
+
+        @Schema(description = "扫描行数增量")
+        private long rowsExamined;
+    }
+}
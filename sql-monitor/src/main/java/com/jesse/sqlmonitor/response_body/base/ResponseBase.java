@@ -18,6 +18,10 @@ import lombok.*;
     @JsonSubTypes.Type(value = InnodbBufferCacheHitRate.class, name = "innodbBufferCacheHitRate"),
     @JsonSubTypes.Type(value = NetWorkTraffic.class, name = "networkTraffic"),
     @JsonSubTypes.Type(value = QPSResult.class,      name = "qps"),
+    @JsonSubTypes.Type(value = CounterRates.class,   name = "counterRates"),
+    @JsonSubTypes.Type(value = SamplingState.class,  name = "samplingState"),
+    @JsonSubTypes.Type(value = LiveIndicators.class, name = "liveIndicators"),
+    @JsonSubTypes.Type(value = StatementDigestTopN.class, name = "statementDigestTopN"),
     @JsonSubTypes.Type(value = ExtremeQPS.class,     name = "extreme-qps"),
     @JsonSubTypes.Type(value = StandingDeviationQPS.class, name = "stddev-qps")
 })
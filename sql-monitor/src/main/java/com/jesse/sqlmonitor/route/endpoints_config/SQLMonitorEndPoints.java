@@ -33,4 +33,19 @@ public class SQLMonitorEndPoints
     public static final
     String INNODB_BUFFER_CACHE_HIT_RATE_QUERY
         = "/cache-hit-rate";
+
+    public static final
+    String INDICATOR_HISTORY_QUERY  = "/indicator-history";
+
+    public static final
+    String COUNTER_RATES_QUERY      = "/counter-rates";
+
+    public static final
+    String SAMPLING_STATE_QUERY     = "/sampling-state";
+
+    public static final
+    String STATEMENT_DIGEST_QUERY   = "/statement-digest";
+
+    public static final
+    String LIVE_INDICATORS_QUERY    = "/live-indicators";
 }
\ No newline at end of file
@@ -269,6 +269,137 @@ public class SQLMonitorRouterFunctionConfiguration
                         )
                     }
                 )
+            ),
+            @RouterOperation(
+                path = SQLMonitorEndPoints.ROOT + COUNTER_RATES_QUERY,
+                operation = @Operation(
+                    operationId = "getCounterRates",
+                    summary     = "获取本数据库各累计计数器此刻的每秒速率",
+                    description = "计算哪些计数器（如 Com_select、Slow_queries）由配置项 app.counter-rate.counters 决定",
+                    tags        = {"数据库计数器速率监控"},
+                    responses   = {
+                        @ApiResponse(
+                            responseCode = "200",
+                            description  = "成功",
+                            content      = @Content(
+                                mediaType = APPLICATION_JSON_VALUE,
+                                schema    = @Schema(implementation = CounterRates.class)
+                            )
+                        ),
+                        @ApiResponse(
+                            responseCode = "500",
+                            description  = "数据库断连或其他未知错误"
+                        )
+                    }
+                )
+            ),
+            @RouterOperation(
+                path = SQLMonitorEndPoints.ROOT + STATEMENT_DIGEST_QUERY,
+                operation = @Operation(
+                    operationId = "getStatementDigestTopN",
+                    summary     = "获取最近一个周期内增长最多的语句摘要",
+                    description = "按延迟、扫描行数、执行次数的增量分别排序，只包含本周期内发生变化的摘要",
+                    tags        = {"数据库语句摘要监控"},
+                    responses   = {
+                        @ApiResponse(
+                            responseCode = "200",
+                            description  = "成功",
+                            content      = @Content(
+                                mediaType = APPLICATION_JSON_VALUE,
+                                schema    = @Schema(implementation = StatementDigestTopN.class)
+                            )
+                        ),
+                        @ApiResponse(
+                            responseCode = "500",
+                            description  = "数据库断连或其他未知错误"
+                        )
+                    }
+                )
+            ),
+            @RouterOperation(
+                path = SQLMonitorEndPoints.ROOT + LIVE_INDICATORS_QUERY,
+                operation = @Operation(
+                    operationId = "getLiveIndicators",
+                    summary     = "一次获取所有实时指标（QPS、网络流量、连接使用率、InnoDB 缓存命中率）",
+                    description = "所有指标缓存在一次 Redis 往返中读出，缺失的指标为 null 并列在 missing 中，陈旧的指标列在 stale 中",
+                    tags        = {"实时指标组合获取"},
+                    parameters  = {
+                        @Parameter(
+                            name        = "sizeUnit",
+                            description = "网络流量的计量单位，可选值：B, KB, MB, GB（不填默认为 KB）",
+                            schema      = @Schema(implementation = SizeUnit.class)
+                        )
+                    },
+                    responses   = {
+                        @ApiResponse(
+                            responseCode = "200",
+                            description  = "成功（可能只包含部分指标）",
+                            content      = @Content(
+                                mediaType = APPLICATION_JSON_VALUE,
+                                schema    = @Schema(implementation = LiveIndicators.class)
+                            )
+                        ),
+                        @ApiResponse(
+                            responseCode = "400",
+                            description  = "计量单位参数非法"
+                        )
+                    }
+                )
+            ),
+            @RouterOperation(
+                path = SQLMonitorEndPoints.ROOT + SAMPLING_STATE_QUERY,
+                operation = @Operation(
+                    operationId = "getSamplingState",
+                    summary     = "获取后台采样器当前的状态",
+                    description = "包括当前实际使用的采样间隔（启用自适应采样时会随指标波动变化）与缓存有效期",
+                    tags        = {"后台采样器状态获取"},
+                    responses   = {
+                        @ApiResponse(
+                            responseCode = "200",
+                            description  = "成功",
+                            content      = @Content(
+                                mediaType = APPLICATION_JSON_VALUE,
+                                schema    = @Schema(implementation = SamplingState.class)
+                            )
+                        )
+                    }
+                )
+            ),
+            @RouterOperation(
+                path = SQLMonitorEndPoints.ROOT + INDICATOR_HISTORY_QUERY,
+                operation = @Operation(
+                    operationId = "getIndicatorHistory",
+                    summary     = "查询本节点内存中指标最近一段时间的历史数据",
+                    description = "数据来自后台采样器写入的内存环形缓冲区，不访问数据库和 Redis",
+                    tags        = {"指标内存历史数据获取"},
+                    parameters  = {
+                        @Parameter(
+                            name        = "indicator",
+                            description = "指标名，可选值：qps, network-traffic, connection-usage, innodb-buffer-cache-rate",
+                            example     = "qps",
+                            required    = true
+                        ),
+                        @Parameter(
+                            name        = "minutes",
+                            description = "最近多少分钟（不填使用默认窗口，超过保留时长时按保留时长返回）",
+                            example     = "5"
+                        )
+                    },
+                    responses = {
+                        @ApiResponse(
+                            responseCode = "200",
+                            description  = "成功",
+                            content      = @Content(
+                                mediaType = APPLICATION_JSON_VALUE,
+                                schema    = @Schema(implementation = IndicatorHistorySeries.class)
+                            )
+                        ),
+                        @ApiResponse(
+                            responseCode = "400",
+                            description  = "指标名或时间窗口参数非法"
+                        )
+                    }
+                )
             )
         }
     )
@@ -292,6 +423,11 @@ public class SQLMonitorRouterFunctionConfiguration
                 .GET(DATABASE_SIZE_QUERY,      sqlMonitorService::getDatabaseSize)
                 .GET(INNODB_BUFFER_CACHE_HIT_RATE_QUERY, sqlMonitorService::getInnodbBufferCacheHitRate)
                 .GET(SERVER_UPTIME_QUERY, sqlMonitorService::getServerUpTime)
+                .GET(INDICATOR_HISTORY_QUERY, sqlMonitorService::getIndicatorHistory)
+                .GET(COUNTER_RATES_QUERY,     sqlMonitorService::getCounterRates)
+                .GET(SAMPLING_STATE_QUERY,    sqlMonitorService::getSamplingState)
+                .GET(STATEMENT_DIGEST_QUERY,  sqlMonitorService::getStatementDigestTopN)
+                .GET(LIVE_INDICATORS_QUERY,   sqlMonitorService::getLiveIndicators)
                 .filter(MonitoringFilter::doFilter)
                 .build()
         );
@@ -0,0 +1,119 @@
+package com.jesse.sqlmonitor.utils;
+
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 基本类型的速率计算工具，
+ * 快照中的计数器本来就是 long，采样过程中速率只以 long 的差值与时间差（分子 / 分母）保存，不做任何对象分配，
+ * 只在构造响应体时通过 {@link #toDecimalRate(long, long, int)} 由这两个 long 精确地构造指定精度的 {@link BigDecimal}
+ *（double 只有 15 ~ 16 位有效数字，百万级 B/s 的流量保留 10 位小数需要 17 位，因此不经过 double）。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final public class RateMath
+{
+    /** QPS、缓存命中率等指标保留的小数位数。*/
+    public static final int RATE_SCALE = 8;
+
+    /** 网络流量保留的小数位数。*/
+    public static final int TRAFFIC_SCALE = 10;
+
+    /** 下标为 {@link SizeUnit#getExponent()}，值为 1024 ^ exponent。*/
+    private static final
+    double[] BYTES_PER_UNIT = { 1.0, 1024.0, 1024.0 * 1024.0, 1024.0 * 1024.0 * 1024.0 };
+
+    /** 1 KB = 1024 Bytes */
+    private static final
+    BigDecimal BYTES_PER_KB = BigDecimal.valueOf(1024L);
+
+    /**
+     * 将字节速率从一个计量单位换算到另一个计量单位。
+     * <pre>公式：value * (1024 ^ from) / (1024 ^ to)</pre>
+     */
+    public static double
+    convertUnit(double value, @NotNull SizeUnit from, @NotNull SizeUnit to)
+    {
+        return
+        (from == to)
+            ? value
+            : value * (BYTES_PER_UNIT[from.getExponent()] / BYTES_PER_UNIT[to.getExponent()]);
+    }
+
+    /**
+     * 将字节速率从一个计量单位换算到另一个计量单位（结果保留 scale 位小数且四舍五入），
+     * 换算到更大的单位时只做一次除法，与原先先算出 B/s 再除以 1024 ^ exponent 的结果完全一致。
+     */
+    public static @NotNull BigDecimal
+    convertUnit(@NotNull BigDecimal value, @NotNull SizeUnit from, @NotNull SizeUnit to, int scale)
+    {
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        final int exponentDiff = to.getExponent() - from.getExponent();
+
+        return
+        (exponentDiff >= 0)
+            ? value.divide(BYTES_PER_KB.pow(exponentDiff), scale, RoundingMode.HALF_UP)
+            : value.multiply(BYTES_PER_KB.pow(-exponentDiff)).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 计算命中率（结果限定在 [0, 1] 范围内）。
+     * <pre>公式：1 - missDiff / requestDiff</pre>
+     *
+     * @return requestDiff 不为正数时返回 0
+     */
+    public static double
+    hitRate(long missDiff, long requestDiff)
+    {
+        if (requestDiff <= 0L) {
+            return 0.0;
+        }
+
+        final double rate = 1.0 - (double) missDiff / requestDiff;
+
+        return Math.min(1.0, Math.max(0.0, rate));
+    }
+
+    /**
+     * 在响应体边界上，由差值与时间差两个 long 精确地构造每秒速率（保留 scale 位小数且四舍五入），
+     * 结果与原先全程使用 {@link BigDecimal} 计算的结果完全一致。
+     * <pre>公式：diff * 1000 / timeDiffMs</pre>
+     *
+     * @return 差值为 0 或者时间差不为正数时返回 {@link BigDecimal#ZERO}
+     */
+    public static @NotNull BigDecimal
+    toDecimalRate(long diff, long timeDiffMs, int scale)
+    {
+        if (diff == 0L || timeDiffMs <= 0L) {
+            return BigDecimal.ZERO;
+        }
+
+        // unscaledValue = diff，scale = -3 即 diff * 1000（不会溢出 long）
+        return
+        BigDecimal.valueOf(diff, -3)
+                  .divide(BigDecimal.valueOf(timeDiffMs), scale, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 在响应体边界上，把计算结果转换成指定小数位数（四舍五入）的 {@link BigDecimal}，
+     * 0 统一转换成 {@link BigDecimal#ZERO}（各响应体靠它与空结果做比较）。
+     */
+    public static @NotNull BigDecimal
+    toDecimal(double value, int scale)
+    {
+        if (value == 0.0) {
+            return BigDecimal.ZERO;
+        }
+
+        return
+        BigDecimal.valueOf(value)
+                  .setScale(scale, RoundingMode.HALF_UP);
+    }
+}
@@ -21,27 +21,20 @@ final public class SQLMonitorUtils
     private static final
     Pattern LEGAL_SCHEMA_REGEX = Pattern.compile("^[a-zA-Z_$][a-zA-Z0-9_$-]{0,63}$");
 
-    /** 尝试对全局状态值做数值转换，失败则使用字符串类型。*/
+    /**
+     * 尝试对全局状态值做数值转换，失败则使用字符串类型
+     *（先由 {@link StatusValueParser#classify(String)} 判断格式，不再依赖异常）。
+     */
     public static @Nullable
     Object tryGetNumericValue(String valueStr)
     {
-        Object value;
-
-        try {
-            value = Long.parseLong(valueStr);
-        }
-        catch (NumberFormatException exception1)
+        return
+        switch (StatusValueParser.classify(valueStr))
         {
-            try {
-                value = Double.parseDouble(valueStr);
-            }
-            catch (NumberFormatException exception2)
-            {
-                value = valueStr;
-            }
-        }
-
-        return value;
+            case LONG   -> StatusValueParser.parseLong(valueStr);
+            case DOUBLE -> StatusValueParser.parseDouble(valueStr);
+            case TEXT   -> valueStr;
+        };
     }
 
     /**
@@ -0,0 +1,212 @@
+package com.jesse.sqlmonitor.utils;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.StatusValueType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.jesse.sqlmonitor.monitor.constants.StatusValueType.*;
+
+/**
+ * 全局状态值解析器，
+ * 内置一张状态名 -> 值类型的注册表（{@link GlobalStatusName} 中的状态都是整数，另有一批已知的文本 / 小数状态），
+ * 注册表中没有的状态名在第一次出现非空值时扫描一遍值来确定类型并记下来。
+ * 注册表中的类型优先，值本身的格式达不到时才降级（整数 -> 小数 -> 文本），保证后续的解析不会出错。
+ * 整个解析过程不依赖异常：先逐字符判断格式，格式合法才去转换。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final public class StatusValueParser
+{
+    /** 已知的文本类型状态。*/
+    private static final
+    List<String> KNOWN_TEXT_STATUS = List.of(
+        "Compression_algorithm",
+        "Current_tls_ca", "Current_tls_capath", "Current_tls_cert",
+        "Current_tls_cipher", "Current_tls_ciphersuites", "Current_tls_crl",
+        "Current_tls_crlpath", "Current_tls_key", "Current_tls_version",
+        "Caching_sha2_password_rsa_public_key", "Rsa_public_key",
+        "Innodb_buffer_pool_dump_status", "Innodb_buffer_pool_load_status",
+        "Innodb_buffer_pool_resize_status", "Innodb_have_atomic_builtins",
+        "Innodb_redo_log_enabled", "Innodb_redo_log_read_only",
+        "Innodb_redo_log_resize_status", "Innodb_undo_tablespaces_active",
+        "Mysqlx_address", "Mysqlx_socket",
+        "Resource_group_supported",
+        "Ssl_cipher", "Ssl_cipher_list", "Ssl_server_not_after",
+        "Ssl_server_not_before", "Ssl_session_cache_mode", "Ssl_version",
+        "Tls_library_version", "Tls_sni_server_name"
+    );
+
+    /** 已知的小数类型状态。*/
+    private static final
+    List<String> KNOWN_DOUBLE_STATUS = List.of("Last_query_cost");
+
+    /** 状态名（统一大写）-> 值类型。*/
+    private static final
+    Map<String, StatusValueType> TYPE_REGISTRY = new ConcurrentHashMap<>();
+
+    static
+    {
+        for (GlobalStatusName statusName : GlobalStatusName.values())
+        {
+            if (!statusName.isWildcard()) {
+                TYPE_REGISTRY.put(normalize(statusName.getStatusName()), LONG);
+            }
+        }
+
+        KNOWN_TEXT_STATUS.forEach((name) -> TYPE_REGISTRY.put(normalize(name), TEXT));
+        KNOWN_DOUBLE_STATUS.forEach((name) -> TYPE_REGISTRY.put(normalize(name), DOUBLE));
+    }
+
+    /** long 最多 19 位，超过 18 位的整数按小数处理以避免溢出。*/
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    private static @NotNull String normalize(@NotNull String statusName) {
+        return statusName.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 逐字符判断值的格式（不抛异常）：
+     * 可选的正负号 + 数字 为整数，带一个小数点为小数，其他都是文本。
+     */
+    public static @NotNull StatusValueType
+    classify(@Nullable String value)
+    {
+        if (value == null || value.isEmpty()) {
+            return TEXT;
+        }
+
+        final int length = value.length();
+
+        int     index     = (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        int     digits    = 0;
+        boolean seenPoint = false;
+
+        for (; index < length; ++index)
+        {
+            final char ch = value.charAt(index);
+
+            if (ch >= '0' && ch <= '9') {
+                ++digits;
+            }
+            else if (ch == '.' && !seenPoint) {
+                seenPoint = true;
+            }
+            else {
+                return TEXT;
+            }
+        }
+
+        if (digits == 0) {
+            return TEXT;
+        }
+
+        return
+        (seenPoint || digits > MAX_SAFE_LONG_DIGITS) ? DOUBLE : LONG;
+    }
+
+    /**
+     * 确定某个状态这一次的值类型：
+     * 注册为文本的状态直接返回 TEXT，其他已注册的状态以注册的类型为准；
+     * 未注册的状态名把第一次非空值的扫描结果记入注册表（空值不足以判断类型，不记录）。
+     */
+    public static @NotNull StatusValueType
+    typeOf(@NotNull String statusName, @Nullable String value)
+    {
+        final String key = normalize(statusName);
+        StatusValueType registered = TYPE_REGISTRY.get(key);
+
+        if (registered == TEXT) {
+            return TEXT;
+        }
+
+        final StatusValueType actual = classify(value);
+
+        if (registered == null)
+        {
+            if (value == null || value.isEmpty()) {
+                return actual;
+            }
+
+            registered = TYPE_REGISTRY.putIfAbsent(key, actual);
+
+            if (registered == null) {
+                return actual;
+            }
+        }
+
+        return conform(registered, actual);
+    }
+
+    /**
+     * 以注册的类型为准，值本身的格式达不到时降级：
+     * 不是数字的值只能是 TEXT，注册为 LONG 的状态遇到小数（或者过长的整数）时按 DOUBLE 解析。
+     */
+    private static @NotNull StatusValueType
+    conform(@NotNull StatusValueType registered, @NotNull StatusValueType actual)
+    {
+        if (registered == TEXT || actual == TEXT) {
+            return TEXT;
+        }
+
+        return
+        (registered == DOUBLE || actual == DOUBLE) ? DOUBLE : LONG;
+    }
+
+    /**
+     * 解析一个已经确认为 {@link StatusValueType#LONG} 格式的值（不做格式检查）。
+     */
+    public static long
+    parseLong(@NotNull String value)
+    {
+        final int length = value.length();
+
+        boolean negative = false;
+        int     index    = 0;
+
+        if (value.charAt(0) == '-' || value.charAt(0) == '+')
+        {
+            negative = value.charAt(0) == '-';
+            index    = 1;
+        }
+
+        long result = 0L;
+
+        for (; index < length; ++index) {
+            result = result * 10L + (value.charAt(index) - '0');
+        }
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * 解析一个已经确认为 {@link StatusValueType#DOUBLE} 格式的值
+     *（classify() 保证了格式合法，Double.parseDouble 不会抛异常）。
+     */
+    public static double
+    parseDouble(@NotNull String value) {
+        return Double.parseDouble(value);
+    }
+
+    /**
+     * 把状态值转换成 Long / Double / String 之一，
+     * 供需要以 Map 形式输出全部状态的场景使用。
+     */
+    public static @Nullable Object
+    parseToObject(@NotNull String statusName, @Nullable String value)
+    {
+        return
+        switch (typeOf(statusName, value))
+        {
+            case LONG   -> parseLong(value);
+            case DOUBLE -> parseDouble(value);
+            case TEXT   -> value;
+        };
+    }
+}
@@ -4,6 +4,10 @@
     cacheKey   缓存键名
     cacheData  缓存数据，最初是 JSON，被 cjson 解析成一个 table
     cacheTTL   缓存有效期，数字类型（单位：毫秒）
+
+    以下两个参数可选（启用 stale-while-revalidate 时传入）：
+    freshKey   新鲜标记键名（KEYS[2]），过期后缓存数据视为陈旧但仍可读取
+    softTTL    新鲜标记有效期，数字类型（单位：毫秒），此时 cacheTTL 为硬有效期
 ]]
 
 -- 获取当前时间戳
@@ -17,6 +21,8 @@ end
 local cacheKey  = KEYS[1]
 local cacheData = cjson.decode(ARGV[1])
 local cacheTTL  = tonumber(ARGV[2])
+local freshKey  = KEYS[2]
+local softTTL   = tonumber(ARGV[3])
 
 -- TTL 不得为负值
 if cacheTTL < 0 then
@@ -48,6 +54,10 @@ local success, err = pcall(
             end
 
             redis.pcall('PEXPIRE', cacheKey, cacheTTL)
+
+            if freshKey ~= nil and softTTL ~= nil and softTTL > 0 then
+                redis.pcall('SET', freshKey, '1', 'PX', softTTL)
+            end
         end
 )
 
@@ -0,0 +1,112 @@
+--[[
+    在一次调用中原子地写入同一轮采样的所有指标数据，并记录这一轮的版本号。
+
+    KEYS[1]                 本轮版本号键名
+    KEYS[2 .. n + 1]        各指标缓存键名
+    KEYS[n + 2 .. 2n + 1]   各指标新鲜标记键名（启用 stale-while-revalidate 时使用）
+
+    codec        ARGV[1]，缓存数据编码方式：hash（JSON 对象，逐字段写入 Hash）或 blob（二进制数据，写入普通键）
+    cacheTTL     ARGV[2]，缓存有效期，数字类型（单位：毫秒）
+    softTTL      ARGV[3]，新鲜标记有效期，数字类型（单位：毫秒），不为正数时不写新鲜标记
+    tickVersion  ARGV[4]，本轮版本号（采样快照的时间戳）
+    ARGV[5 .. n + 4]      各指标的缓存数据，顺序与 KEYS 一致
+]]
+
+-- 获取当前时间戳
+local function getTimestamp()
+    local redisTime = redis.call('TIME')
+
+    return tonumber(redisTime[1]) * 1000 +
+           math.floor(tonumber(redisTime[2]) / 1000)
+end
+
+local tickKey     = KEYS[1]
+local codec       = ARGV[1]
+local cacheTTL    = tonumber(ARGV[2])
+local softTTL     = tonumber(ARGV[3])
+local tickVersion = ARGV[4]
+local count       = #ARGV - 4
+
+-- TTL 不得为负值
+if cacheTTL == nil or cacheTTL < 0 then
+    return cjson.encode({
+        status    = "NEGATIVE_CACHE_TTL",
+        message   = "Negative cacheTTL detected! (which is " .. tostring(ARGV[2]) .. ")",
+        timestamp = getTimestamp()
+    })
+end
+
+-- 键与数据的数量必须对得上
+if count < 1 or #KEYS ~= 2 * count + 1 then
+    return cjson.encode({
+        status    = "KEY_COUNT_MISMATCH",
+        message   = "Expect " .. (2 * count + 1) .. " keys for " .. count .. " indicators, got " .. #KEYS,
+        timestamp = getTimestamp()
+    })
+end
+
+local success, err = pcall(
+        function()
+            -- 先把所有 JSON 解析出来，有一项非法就什么都不写
+            local cacheDatas = {}
+
+            if codec == 'hash' then
+                for index = 1, count do
+                    cacheDatas[index] = cjson.decode(ARGV[index + 4])
+
+                    for field, _ in pairs(cacheDatas[index]) do
+                        if type(field) ~= "string" then
+                            error(cjson.encode({
+                                status    = "INVALID_FILED_TYPE",
+                                message   = "Field name must be strings",
+                                timestamp = getTimestamp()
+                            }))
+                        end
+                    end
+                end
+            end
+
+            for index = 1, count do
+                local cacheKey = KEYS[index + 1]
+                local freshKey = KEYS[index + count + 1]
+
+                if codec == 'hash' then
+                    -- 整个替换掉上一轮的数据，不残留旧字段
+                    redis.call('DEL', cacheKey)
+
+                    for field, value in pairs(cacheDatas[index]) do
+                        local valueString
+                            = (value == nil or value == cjson.null)
+                                and ""
+                                or cjson.encode(value)
+
+                        redis.call('HSET', cacheKey, field, valueString)
+                    end
+
+                    redis.call('PEXPIRE', cacheKey, cacheTTL)
+                else
+                    redis.call('SET', cacheKey, ARGV[index + 4], 'PX', cacheTTL)
+                end
+
+                if softTTL ~= nil and softTTL > 0 then
+                    redis.call('SET', freshKey, '1', 'PX', softTTL)
+                end
+            end
+
+            redis.call('SET', tickKey, tickVersion, 'PX', cacheTTL)
+        end
+)
+
+if not success then
+    return cjson.encode({
+        status    = "ERROR",
+        message   = err,
+        timestamp = getTimestamp()
+    })
+else
+    return cjson.encode({
+        status    = "SUCCESS",
+        message   = nil,
+        timestamp = getTimestamp()
+    })
+end
@@ -8,14 +8,14 @@
 CREATE TABLE `monitor_log` (
   `log_id` bigint NOT NULL,
   `datetime` datetime NOT NULL,
-  `indicator` varchar(255) NOT NULL,
+  `indicator` text NOT NULL,
   `server_ip` int unsigned NOT NULL,
-  `indicator_type` enum('ConnectionUsage','DatabaseSize','InnodbBufferCacheHitRate','NetWorkTraffic','QPSResult') NOT NULL,
+  `indicator_type` enum('ConnectionUsage','DatabaseSize','InnodbBufferCacheHitRate','NetWorkTraffic','QPSResult','CounterRates','StatementDigestTopN') NOT NULL,
   `qps_value` decimal(15,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'qps') then cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.qps')) as decimal(15,8)) end)) VIRTUAL,
   `current_connections` int GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'connectionUsage') then cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.currentConnections')) as unsigned) end)) VIRTUAL,
   `cacheHitRate` decimal(15,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'innodbBufferCacheHitRate') then cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.cacheHitRate')) as decimal(15,8)) end)) VIRTUAL,
-  `receivePerSec` decimal(15,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'networkTraffic') then cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.receivePerSec')) as decimal(15,8)) end)) VIRTUAL,
-  `sentPerSec` decimal(15,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'networkTraffic') then cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.sentPerSec')) as decimal(15,8)) end)) VIRTUAL,
+  `receivePerSec` decimal(20,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'networkTraffic') then (cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.receivePerSec')) as decimal(20,8)) * (case json_unquote(json_extract(`indicator`,_utf8mb4'$.sizeUnit')) when _utf8mb4'KB' then 1024 when _utf8mb4'MB' then 1048576 when _utf8mb4'GB' then 1073741824 else 1 end)) end)) VIRTUAL,
+  `sentPerSec` decimal(20,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'networkTraffic') then (cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.sentPerSec')) as decimal(20,8)) * (case json_unquote(json_extract(`indicator`,_utf8mb4'$.sizeUnit')) when _utf8mb4'KB' then 1024 when _utf8mb4'MB' then 1048576 when _utf8mb4'GB' then 1073741824 else 1 end)) end)) VIRTUAL,
   PRIMARY KEY (`log_id`),
   KEY `idx_ip_type_datetime` (`server_ip`,`indicator_type`,`datetime`),
   KEY `datetime_idx` (`datetime`),
@@ -23,4 +23,14 @@ CREATE TABLE `monitor_log` (
   KEY `idx_current_connections` (`current_connections`),
   KEY `idx_cache_hitrate` (`cacheHitRate`),
   KEY `idx_network_traffic` (`receivePerSec`,`sentPerSec`)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 已有的表升级（计数器速率、语句摘要等指标的 JSON 超过了 255 个字符）：
+-- ALTER TABLE `monitor_log`
+--   MODIFY `indicator` text NOT NULL,
+--   MODIFY `indicator_type` enum('ConnectionUsage','DatabaseSize','InnodbBufferCacheHitRate','NetWorkTraffic','QPSResult','CounterRates','StatementDigestTopN') NOT NULL;
+
+-- 已有的表升级（网络流量速率统一换算成 B/s：新数据以 B/s 存储，旧数据按 sizeUnit 换算）：
+-- ALTER TABLE `monitor_log`
+--   MODIFY `receivePerSec` decimal(20,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'networkTraffic') then (cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.receivePerSec')) as decimal(20,8)) * (case json_unquote(json_extract(`indicator`,_utf8mb4'$.sizeUnit')) when _utf8mb4'KB' then 1024 when _utf8mb4'MB' then 1048576 when _utf8mb4'GB' then 1073741824 else 1 end)) end)) VIRTUAL,
+--   MODIFY `sentPerSec` decimal(20,8) GENERATED ALWAYS AS ((case when (json_unquote(json_extract(`indicator`,_utf8mb4'$.type')) = _utf8mb4'networkTraffic') then (cast(json_unquote(json_extract(`indicator`,_utf8mb4'$.sentPerSec')) as decimal(20,8)) * (case json_unquote(json_extract(`indicator`,_utf8mb4'$.sizeUnit')) when _utf8mb4'KB' then 1024 when _utf8mb4'MB' then 1048576 when _utf8mb4'GB' then 1073741824 else 1 end)) end)) VIRTUAL;
@@ -111,7 +111,7 @@ WHERE
 
 
 -- 查询并计算
--- 指定 IP 指定时间段内的 数据库网络流量 平均值（单位：Kb/s）。
+-- 指定 IP 指定时间段内的 数据库网络流量 平均值（单位：B/s，由应用换算成 KB/s 返回）。
 SELECT
       AVG(`sentPerSec`)    AS average_sent,
       AVG(`receivePerSec`) AS average_receive
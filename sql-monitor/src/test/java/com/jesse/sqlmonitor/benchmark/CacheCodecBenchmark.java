@@ -0,0 +1,156 @@
+package com.jesse.sqlmonitor.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorBlobCodec;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorCodec;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorCodecRegistry;
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.CacheDataConverter;
+import com.jesse.sqlmonitor.response_body.CounterRates;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 原先的 Hash + 逐字段 JSON 缓存编码、{@link IndicatorCodecRegistry} 的按类型编解码
+ * 与 {@link IndicatorBlobCodec} 的对比基准测试
+ *（只比较客户端的编解码开销，不包括 Lua 脚本中的 cjson 编解码与网络往返）。
+ *
+ * <p>运行方式：直接执行 {@link #main(String[])}，建议加上 -prof gc 观察每次操作的分配量。</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark
+{
+    private ObjectMapper objectMapper;
+
+    private GenericJackson2JsonRedisSerializer hashValueSerializer;
+
+    private IndicatorBlobCodec blobCodec;
+
+    private IndicatorCodec<CounterRates> registryCodec;
+
+    private CounterRates indicator;
+
+    /** Redis Hash 中各字段序列化后的值。*/
+    private Map<String, byte[]> encodedHash;
+
+    private byte[] encodedBlob;
+
+    /** 以原始字节读取 Redis Hash 时得到的各字段。*/
+    private List<Map.Entry<String, byte[]>> encodedFields;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException
+    {
+        this.objectMapper        = new ObjectMapper().findAndRegisterModules();
+        this.hashValueSerializer = new GenericJackson2JsonRedisSerializer(this.objectMapper);
+        this.blobCodec           = new IndicatorBlobCodec(this.objectMapper);
+        this.registryCodec
+            = new IndicatorCodecRegistry(this.objectMapper).codecFor(CounterRates.class);
+
+        // 与默认登记的 12 个累计计数器规模相当
+        Map<String, CounterRates.CounterRate> rates = new LinkedHashMap<>();
+
+        for (int index = 0; index < 12; ++index)
+        {
+            rates.put(
+                "Counter_" + index,
+                CounterRates.CounterRate.builder()
+                    .perSecond(BigDecimal.valueOf(index * 1234.5678))
+                    .current(1_000_000L * index)
+                    .diff(1_000L * index)
+                    .build()
+            );
+        }
+
+        this.indicator
+            = CounterRates.builder()
+                .rates(rates)
+                .timeDiffMs(1_000L)
+                .build();
+
+        this.encodedHash = this.hashEncode();
+        this.encodedBlob = this.blobEncode();
+
+        this.encodedFields = new ArrayList<>(this.encodedHash.entrySet());
+    }
+
+    @Benchmark
+    public Map<String, byte[]> hashEncode()
+    {
+        Map<String, Object> indicatorMap
+            = CacheDataConverter
+                .makeCacheDataFromIndicator(this.indicator, CounterRates.class, this.objectMapper)
+                .block();
+
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Object> field : indicatorMap.entrySet()) {
+            encoded.put(field.getKey(), this.hashValueSerializer.serialize(field.getValue()));
+        }
+
+        return encoded;
+    }
+
+    @Benchmark
+    public CounterRates hashDecode()
+    {
+        Map<String, Object> indicatorMap = new LinkedHashMap<>();
+
+        for (Map.Entry<String, byte[]> field : this.encodedHash.entrySet()) {
+            indicatorMap.put(field.getKey(), this.hashValueSerializer.deserialize(field.getValue()));
+        }
+
+        return
+        CacheDataConverter
+            .restoreIndicatorMapToInstance(indicatorMap, CounterRates.class, this.objectMapper)
+            .block();
+    }
+
+    /** 写入 hash 编码缓存时，由专用写出器一次得到整个 JSON（交给 Lua 脚本拆成各字段）。*/
+    @Benchmark
+    public byte[] registryHashEncode() throws IOException {
+        return this.registryCodec.write(this.indicator);
+    }
+
+    /** 一次缓存命中：各字段的原始 JSON 直接拼接后交给专用读取器。*/
+    @Benchmark
+    public CounterRates registryHashDecode() throws IOException {
+        return this.registryCodec.readHash(this.encodedFields);
+    }
+
+    @Benchmark
+    public byte[] blobEncode() throws IOException {
+        return this.blobCodec.encode(this.indicator);
+    }
+
+    @Benchmark
+    public CounterRates blobDecode() throws IOException {
+        return this.blobCodec.decode(this.encodedBlob, CounterRates.class);
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options options
+            = new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
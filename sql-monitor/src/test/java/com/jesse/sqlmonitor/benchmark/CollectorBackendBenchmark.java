@@ -0,0 +1,185 @@
+package com.jesse.sqlmonitor.benchmark;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.impl.collector.StatusCollector;
+import com.jesse.sqlmonitor.monitor.impl.collector.impl.JdbcStatusCollector;
+import com.jesse.sqlmonitor.monitor.impl.collector.impl.R2dbcStatusCollector;
+import com.jesse.sqlmonitor.properties.CollectorBackendProperties;
+import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.management.ManagementFactory;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * R2DBC 与 JDBC（虚拟线程）两种采样查询后端的对比基准测试，
+ * 每次操作模拟 targets 个采样目标同时查询一次全局状态快照。
+ *
+ * <p>
+ *     需要一个真实的 MySQL，连接信息通过系统属性传入：
+ *     -Dbench.host、-Dbench.port、-Dbench.user、-Dbench.password，
+ *     每轮迭代结束时会打印每次采样平均消耗的 CPU 时间。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectorBackendBenchmark
+{
+    /** 与一轮正常采样登记的状态数量相当。*/
+    private static final Set<GlobalStatusName> SAMPLED_STATUS
+        = EnumSet.of(
+            GlobalStatusName.UPTIME,
+            GlobalStatusName.QUERIES,
+            GlobalStatusName.BYTES_SENT,
+            GlobalStatusName.BYTES_RECEIVED,
+            GlobalStatusName.CURRENT_THREADS_CONNECTED,
+            GlobalStatusName.INNODB_BUFFER_POOL_READ_REQUESTS,
+            GlobalStatusName.INNODB_BUFFER_POOL_READS
+        );
+
+    @Param({"r2dbc", "jdbc"})
+    private String backend;
+
+    /** 同时采样的目标数量。*/
+    @Param({"1", "16", "64"})
+    private int targets;
+
+    private StatusCollector collector;
+
+    private ConnectionPool connectionPool;
+
+    private Scheduler scheduler;
+
+    private final AtomicLong samples = new AtomicLong();
+
+    private long cpuTimeAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        final R2dbcMasterProperties masterProperties = new R2dbcMasterProperties();
+        masterProperties.setHost(System.getProperty("bench.host", "localhost"));
+        masterProperties.setPort(Integer.getInteger("bench.port", 3306));
+        masterProperties.setUser(System.getProperty("bench.user", "root"));
+        masterProperties.setPassword(System.getProperty("bench.password", ""));
+        masterProperties.setDefaultSchema("");
+
+        if ("jdbc".equals(this.backend))
+        {
+            this.collector
+                = new JdbcStatusCollector(masterProperties, new CollectorBackendProperties());
+        }
+        else
+        {
+            final String connectionURL
+                = String.format(
+                    "r2dbc:mysql://%s:%s@%s:%d/?allowPublicKeyRetrieval=true&sslMode=preferred",
+                    masterProperties.getUser(),
+                    URLEncoder.encode(masterProperties.getPassword(), StandardCharsets.UTF_8),
+                    masterProperties.getHost(),
+                    masterProperties.getPort()
+                );
+
+            // 与采样隔舱的默认配置保持一致
+            this.connectionPool
+                = new ConnectionPool(
+                    ConnectionPoolConfiguration.builder()
+                        .connectionFactory(ConnectionFactories.get(connectionURL))
+                        .maxSize(masterProperties.getSampling().getMaxSize())
+                        .build()
+                );
+
+            this.scheduler
+                = Schedulers.newBoundedElastic(
+                    masterProperties.getSampling().getSchedulerThreads(),
+                    1024, "bench-sampling"
+                );
+
+            this.collector
+                = new R2dbcStatusCollector(DatabaseClient.create(this.connectionPool), this.scheduler);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration()
+    {
+        this.samples.set(0L);
+        this.cpuTimeAtStart = this.processCpuTime();
+    }
+
+    @Benchmark
+    public void sampleTargets()
+    {
+        Flux.range(0, this.targets)
+            .flatMap((target) -> this.collector.getGlobalStatus(SAMPLED_STATUS))
+            .doOnNext((values) -> this.samples.incrementAndGet())
+            .blockLast();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCpuTime()
+    {
+        final long sampleCount = Math.max(1L, this.samples.get());
+        final long cpuNanos    = this.processCpuTime() - this.cpuTimeAtStart;
+
+        System.out.printf(
+            "%n[%s, targets=%d] CPU per sample: %.2f us (%d samples)%n",
+            this.backend, this.targets, cpuNanos / 1000.0 / sampleCount, sampleCount
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        if (this.collector instanceof JdbcStatusCollector jdbcCollector) {
+            jdbcCollector.close();
+        }
+
+        if (this.connectionPool != null) {
+            this.connectionPool.dispose();
+        }
+
+        if (this.scheduler != null) {
+            this.scheduler.dispose();
+        }
+    }
+
+    /** 本进程消耗的 CPU 时间。*/
+    private long processCpuTime()
+    {
+        final com.sun.management.OperatingSystemMXBean osBean
+            = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        return osBean.getProcessCpuTime();
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options options
+            = new OptionsBuilder()
+                .include(CollectorBackendBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.jesse.sqlmonitor.benchmark;
+
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import com.jesse.sqlmonitor.utils.RateMath;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 原先基于 {@link BigDecimal} 的速率计算与 {@link RateMath} 的对比基准测试，
+ * 每一组的两个基准产出相同的结果（见 RateMathTest），只比较计算过程本身的开销。
+ *
+ * <p>运行方式：直接执行 {@link #main(String[])}，建议加上 -prof gc 观察每次操作的分配量。</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateMathBenchmark
+{
+    /** 1 KB = 1024 Bytes */
+    private static final
+    BigDecimal BYTES_PER_KB = BigDecimal.valueOf(1024);
+
+    private long queriesDiff;
+    private long bytesSentDiff;
+    private long bytesReceiveDiff;
+    private long timeDiffMs;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.queriesDiff      = 123_456L;
+        this.bytesSentDiff    = 987_654_321L;
+        this.bytesReceiveDiff = 123_456_789L;
+        this.timeDiffMs       = 1003L;
+    }
+
+    /** 原 QPSCounterImpl.calculate() 的计算方式。*/
+    @Benchmark
+    public BigDecimal legacyQPS()
+    {
+        return
+        BigDecimal.valueOf(this.queriesDiff)
+            .divide(
+                BigDecimal.valueOf(this.timeDiffMs / 1000.00),
+                8, RoundingMode.HALF_UP
+            );
+    }
+
+    /** 采样时只保存 long 差值，在响应体边界上一次性构造 BigDecimal（结果与 {@link #legacyQPS()} 相同）。*/
+    @Benchmark
+    public BigDecimal primitiveQPS() {
+        return RateMath.toDecimalRate(this.queriesDiff, this.timeDiffMs, RateMath.RATE_SCALE);
+    }
+
+    /** 原 TrafficRateCalculator.calculateSingleRate() 的计算方式（发送 + 接收两个方向）。*/
+    @Benchmark
+    public void legacyTraffic(Blackhole blackhole)
+    {
+        blackhole.consume(legacySingleRate(BigDecimal.valueOf(this.bytesSentDiff), this.timeDiffMs, SizeUnit.KB));
+        blackhole.consume(legacySingleRate(BigDecimal.valueOf(this.bytesReceiveDiff), this.timeDiffMs, SizeUnit.KB));
+    }
+
+    /** 与 {@link #legacyTraffic(Blackhole)} 产出相同的结果（两个方向都换算成 KB/s 的 BigDecimal）。*/
+    @Benchmark
+    public void primitiveTraffic(Blackhole blackhole)
+    {
+        blackhole.consume(primitiveSingleRate(this.bytesSentDiff, this.timeDiffMs, SizeUnit.KB));
+        blackhole.consume(primitiveSingleRate(this.bytesReceiveDiff, this.timeDiffMs, SizeUnit.KB));
+    }
+
+    private static BigDecimal
+    legacySingleRate(BigDecimal bytesDiff, long timeDiffMs, SizeUnit unit)
+    {
+        BigDecimal timeDiffSeconds
+            = BigDecimal.valueOf(timeDiffMs)
+                .divide(BigDecimal.valueOf(1000L), 10, RoundingMode.HALF_UP);
+
+        return
+        bytesDiff.divide(timeDiffSeconds, 10, RoundingMode.HALF_UP)
+                 .divide(BYTES_PER_KB.pow(unit.getExponent()), 10, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal
+    primitiveSingleRate(long bytesDiff, long timeDiffMs, SizeUnit unit)
+    {
+        return
+        RateMath.convertUnit(
+            RateMath.toDecimalRate(bytesDiff, timeDiffMs, RateMath.TRAFFIC_SCALE),
+            SizeUnit.B, unit, RateMath.TRAFFIC_SCALE
+        );
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options options
+            = new OptionsBuilder()
+                .include(RateMathBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorBlobCodec;
+import com.jesse.sqlmonitor.response_body.CounterRates;
+import com.jesse.sqlmonitor.response_body.DatabaseSize;
+import com.jesse.sqlmonitor.response_body.QPSResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** {@link IndicatorBlobCodec} 编解码往返测试。*/
+public class IndicatorBlobCodecTest
+{
+    private final IndicatorBlobCodec codec
+        = new IndicatorBlobCodec(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    public void qpsRoundTripTest() throws IOException
+    {
+        QPSResult qps
+            = QPSResult.builder()
+                .qps(new BigDecimal("1234.56789012"))
+                .currentQueries(987_654_321L)
+                .queryDiff(1_235L)
+                .timeDiffMs(1_001L)
+                .build();
+
+        Assertions.assertEquals(qps, this.codec.decode(this.codec.encode(qps), QPSResult.class));
+    }
+
+    /** 嵌套对象、Map 与时间类型。*/
+    @Test
+    public void nestedRoundTripTest() throws IOException
+    {
+        Map<String, CounterRates.CounterRate> rates = new LinkedHashMap<>();
+
+        rates.put(
+            "Com_select",
+            CounterRates.CounterRate.builder()
+                .perSecond(new BigDecimal("12.50000000"))
+                .current(10_000L).diff(25L)
+                .build()
+        );
+
+        rates.put(
+            "Slow_queries",
+            CounterRates.CounterRate.builder()
+                .perSecond(BigDecimal.ZERO)
+                .current(3L).diff(0L)
+                .resetDetected(true)
+                .build()
+        );
+
+        CounterRates counterRates
+            = CounterRates.builder()
+                .rates(rates)
+                .timeDiffMs(2_000L)
+                .build();
+
+        Assertions.assertEquals(
+            counterRates,
+            this.codec.decode(this.codec.encode(counterRates), CounterRates.class)
+        );
+
+        DatabaseSize databaseSize
+            = DatabaseSize.builder()
+                .sizeBytes(1_048_576L)
+                .sizeMBytes(1.0)
+                .tableSizes(new LinkedHashMap<>(Map.of("monitor_log", 1.0)))
+                .refreshedAt(LocalDateTime.of(2025, 1, 1, 8, 0))
+                .stalenessMs(1_500L)
+                .build();
+
+        Assertions.assertEquals(
+            databaseSize,
+            this.codec.decode(this.codec.encode(databaseSize), DatabaseSize.class)
+        );
+    }
+
+    /** 版本不符、类型不符、数据损坏都应当报错（调用方视为缓存未命中）。*/
+    @Test
+    public void invalidBlobTest() throws IOException
+    {
+        byte[] blob = this.codec.encode(QPSResult.buildZeroQPS());
+
+        Assertions.assertThrows(IOException.class, () -> this.codec.decode(blob, CounterRates.class));
+
+        byte[] otherVersion = blob.clone();
+        otherVersion[1] = (byte) (IndicatorBlobCodec.VERSION + 1);
+
+        Assertions.assertThrows(IOException.class, () -> this.codec.decode(otherVersion, QPSResult.class));
+        Assertions.assertThrows(IOException.class, () -> this.codec.decode(new byte[] { 1, 2, 3 }, QPSResult.class));
+    }
+}
@@ -0,0 +1,189 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.cacher.CachedIndicator;
+import com.jesse.sqlmonitor.monitor.cacher.impl.IndicatorCacherImpl;
+import com.jesse.sqlmonitor.monitor.cacher.impl.breaker.RedisCircuitBreaker;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.LocalIndicatorCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.metrics.IndicatorCacheMetrics;
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
+import com.jesse.sqlmonitor.monitor.cacher.impl.warm_up.CacherWarmUpEventPublisher;
+import com.jesse.sqlmonitor.monitor.cacher.impl.warm_up.health.RedisHealthChecker;
+import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import com.jesse.sqlmonitor.response_body.QPSResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.QPSResultKey;
+
+/**
+ * 本地缓存命中的请求不应占用 Redis 熔断器的探测名额
+ *（命中本地缓存时不会访问 Redis，Redis 相关的依赖都传入 null）。
+ */
+public class IndicatorCacherBreakerPermitTest
+{
+    private final RedisCacheProperties redisCacheProperties = makeRedisCacheProperties();
+
+    private final CacheTtlHolder cacheTtlHolder = new CacheTtlHolder(this.redisCacheProperties);
+
+    private final RedisCircuitBreaker breaker = new RedisCircuitBreaker(this.redisCacheProperties);
+
+    private final LocalIndicatorCache localIndicatorCache
+        = new LocalIndicatorCache(this.redisCacheProperties, this.cacheTtlHolder, new SimpleMeterRegistry());
+
+    private final IndicatorCacheMetrics cacheMetrics
+        = new IndicatorCacheMetrics(new SimpleMeterRegistry());
+
+    private final CacherWarmUpEventPublisher warmUpEventPublisher
+        = new CacherWarmUpEventPublisher((event) -> {}, this.cacheMetrics);
+
+    /** 始终健康的 Redis，确保请求真正走到熔断器这一步。*/
+    private final RedisHealthChecker healthChecker
+        = new RedisHealthChecker(null, this.warmUpEventPublisher, null)
+        {
+            @Override
+            public boolean isHealthy() {
+                return true;
+            }
+        };
+
+    private final IndicatorCacherImpl indicatorCacher
+        = new IndicatorCacherImpl(
+            new R2dbcMasterProperties(), this.redisCacheProperties,
+            null, null, null, null, null,
+            this.warmUpEventPublisher, this.healthChecker, this.breaker, this.cacheMetrics,
+            null, null, null,
+            this.localIndicatorCache, this.cacheTtlHolder, null, null
+        );
+
+    private static RedisCacheProperties makeRedisCacheProperties()
+    {
+        final RedisCacheProperties properties = new RedisCacheProperties();
+
+        properties.setTtl(Duration.ofMinutes(1L));
+        properties.getCircuitBreaker().setWindowSize(10);
+        properties.getCircuitBreaker().setMinimumCalls(5);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(100L));
+        properties.getCircuitBreaker().setHalfOpenProbes(2);
+
+        return properties;
+    }
+
+    private static QPSResult makeQPS(long currentQueries)
+    {
+        return
+        QPSResult.builder()
+            .qps(BigDecimal.valueOf(currentQueries))
+            .currentQueries(currentQueries)
+            .queryDiff(currentQueries)
+            .timeDiffMs(1000L)
+            .build();
+    }
+
+    /** 让熔断器进入半开状态，返回时还剩一个探测名额。*/
+    private void openThenHalfOpen() throws InterruptedException
+    {
+        for (int index = 0; index < 5; ++index)
+        {
+            this.breaker.measure(Mono.error(new IllegalStateException("redis down")))
+                        .onErrorResume((exception) -> Mono.empty())
+                        .block();
+        }
+
+        Thread.sleep(150L);
+
+        Assertions.assertTrue(this.breaker.allowRequest());
+        Assertions.assertEquals(RedisCircuitBreaker.State.HALF_OPEN, this.breaker.getState());
+    }
+
+    /** 剩下的探测名额依然只有一个。*/
+    private void assertOneProbeLeft()
+    {
+        Assertions.assertTrue(this.breaker.allowRequest());
+        Assertions.assertFalse(this.breaker.allowRequest());
+    }
+
+    /** 半开状态下由本地缓存返回的请求（普通读取与批量读取）不消耗探测名额。*/
+    @Test
+    public void localHitKeepsProbePermitTest() throws InterruptedException
+    {
+        final QPSResult qps = makeQPS(1L);
+
+        this.localIndicatorCache.put(QPSResultKey, qps);
+        this.openThenHalfOpen();
+
+        for (int index = 0; index < 5; ++index)
+        {
+            Assertions.assertSame(
+                qps,
+                this.indicatorCacher
+                    .getIndicatorCacheOrElse(
+                        QPSResultKey,
+                        Mono.<QPSResult>fromSupplier(() -> Assertions.fail("local hit must not fall back")),
+                        QPSResult.class
+                    ).block()
+            );
+        }
+
+        final List<CachedIndicator<?>> founds
+            = this.indicatorCacher
+                  .getIndicatorCaches(List.of(CachedIndicator.of(QPSResultKey, QPSResult.class)))
+                  .block();
+
+        Assertions.assertNotNull(founds);
+        Assertions.assertSame(qps, founds.getFirst().indicator());
+
+        this.assertOneProbeLeft();
+    }
+
+    /** 加锁读取（包括 stale-while-revalidate 模式）由本地缓存返回时同样不消耗探测名额。*/
+    @Test
+    public void localHitWithLockKeepsProbePermitTest() throws InterruptedException
+    {
+        final QPSResult qps = makeQPS(1L);
+
+        this.localIndicatorCache.put(QPSResultKey, qps);
+        this.warmUpEventPublisher.markAsWarnUp(QPSResultKey);
+        this.openThenHalfOpen();
+
+        for (boolean staleWhileRevalidate : new boolean[] { false, true })
+        {
+            this.redisCacheProperties.getStaleWhileRevalidate().setEnabled(staleWhileRevalidate);
+
+            Assertions.assertSame(
+                qps,
+                this.indicatorCacher
+                    .getIndicatorCacheWithLock(
+                        QPSResultKey,
+                        Mono.<QPSResult>fromSupplier(() -> Assertions.fail("local hit must not fall back")),
+                        QPSResult.class
+                    ).block()
+            );
+        }
+
+        this.assertOneProbeLeft();
+    }
+
+    /** 熔断期间本地缓存没有命中时回退，不访问 Redis。*/
+    @Test
+    public void openBreakerFallsBackTest() throws InterruptedException
+    {
+        this.openThenHalfOpen();
+        this.assertOneProbeLeft();
+
+        final QPSResult fallback = makeQPS(2L);
+
+        Assertions.assertSame(
+            fallback,
+            this.indicatorCacher
+                .getIndicatorCacheOrElse(QPSResultKey, Mono.just(fallback), QPSResult.class)
+                .block()
+        );
+    }
+}
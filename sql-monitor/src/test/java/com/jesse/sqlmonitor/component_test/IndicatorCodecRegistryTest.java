@@ -0,0 +1,83 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorCodec;
+import com.jesse.sqlmonitor.monitor.cacher.impl.codec.IndicatorCodecRegistry;
+import com.jesse.sqlmonitor.response_body.QPSResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/** {@link IndicatorCodecRegistry} 按类型编解码测试。*/
+public class IndicatorCodecRegistryTest
+{
+    /** 与 Spring Boot 默认的 ObjectMapper 一致，忽略未知属性（比如 valid）。*/
+    private final ObjectMapper objectMapper
+        = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final IndicatorCodecRegistry registry
+        = new IndicatorCodecRegistry(this.objectMapper);
+
+    /** 写出的 JSON 按 Lua 脚本的方式拆成 Hash 字段后，应当能还原成原来的指标数据。*/
+    @Test
+    public void hashRoundTripTest() throws IOException
+    {
+        QPSResult qps
+            = QPSResult.builder()
+                .qps(new BigDecimal("1234.56789012"))
+                .currentQueries(987_654_321L)
+                .queryDiff(1_235L)
+                .timeDiffMs(1_001L)
+                .build();
+
+        IndicatorCodec<QPSResult> codec = this.registry.codecFor(QPSResult.class);
+
+        JsonNode written = this.objectMapper.readTree(codec.write(qps));
+
+        Assertions.assertEquals("qps", written.get("type").asText());
+
+        List<Map.Entry<String, byte[]>> fields = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> iterator = written.fields();
+
+        while (iterator.hasNext())
+        {
+            Map.Entry<String, JsonNode> field = iterator.next();
+
+            fields.add(
+                new AbstractMap.SimpleEntry<>(
+                    field.getKey(), this.objectMapper.writeValueAsBytes(field.getValue())
+                )
+            );
+        }
+
+        Assertions.assertEquals(qps, codec.readHash(fields));
+    }
+
+    /** Lua 脚本把 null 存成空字符串，还原时应当视为 null。*/
+    @Test
+    public void emptyFieldTest() throws IOException
+    {
+        List<Map.Entry<String, byte[]>> fields
+            = List.of(
+                new AbstractMap.SimpleEntry<>("type", "\"qps\"".getBytes()),
+                new AbstractMap.SimpleEntry<>("qps", new byte[0]),
+                new AbstractMap.SimpleEntry<>("queryDiff", "3".getBytes())
+            );
+
+        QPSResult qps = this.registry.codecFor(QPSResult.class).readHash(fields);
+
+        Assertions.assertNull(qps.getQps());
+        Assertions.assertEquals(3L, qps.getQueryDiff());
+    }
+}
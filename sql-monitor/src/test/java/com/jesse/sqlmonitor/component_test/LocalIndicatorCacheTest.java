@@ -0,0 +1,164 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.LocalIndicatorCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import com.jesse.sqlmonitor.response_body.NetWorkTraffic;
+import com.jesse.sqlmonitor.response_body.QPSResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.NetWorkTrafficKey;
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.QPSResultKey;
+
+/** {@link LocalIndicatorCache} 有效期、命中统计与按下标存放测试。*/
+public class LocalIndicatorCacheTest
+{
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RedisCacheProperties redisCacheProperties = new RedisCacheProperties();
+
+    private CacheTtlHolder cacheTtlHolder;
+
+    private LocalIndicatorCache makeCache(Duration ttl)
+    {
+        this.redisCacheProperties.setTtl(ttl);
+        this.cacheTtlHolder = new CacheTtlHolder(this.redisCacheProperties);
+
+        return
+        new LocalIndicatorCache(this.redisCacheProperties, this.cacheTtlHolder, this.meterRegistry);
+    }
+
+    private double count(IndicatorKeyNames keyNames, String result)
+    {
+        return
+        this.meterRegistry
+            .get(LocalIndicatorCache.CACHE_METRIC)
+            .tag("key", keyNames.getKeyName())
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    private static QPSResult makeQPS(long currentQueries)
+    {
+        return
+        QPSResult.builder()
+            .qps(BigDecimal.valueOf(currentQueries))
+            .currentQueries(currentQueries)
+            .queryDiff(currentQueries)
+            .timeDiffMs(1000L)
+            .build();
+    }
+
+    private static NetWorkTraffic makeTraffic()
+    {
+        return
+        NetWorkTraffic.builder()
+            .totalBytesSent(4096L)
+            .totalBytesReceive(2048L)
+            .sentPerSec(new BigDecimal("2048"))
+            .receivePerSec(new BigDecimal("512"))
+            .queryDiff(1000L)
+            .sizeUnit(SizeUnit.B)
+            .build();
+    }
+
+    /** 条目在有效期内命中，过期后视为未命中。*/
+    @Test
+    public void ttlExpiryTest() throws InterruptedException
+    {
+        final LocalIndicatorCache cache = makeCache(Duration.ofMillis(50L));
+        final QPSResult qps = makeQPS(1L);
+
+        cache.put(QPSResultKey, qps);
+        Assertions.assertSame(qps, cache.get(QPSResultKey, QPSResult.class));
+
+        Thread.sleep(100L);
+
+        Assertions.assertNull(cache.get(QPSResultKey, QPSResult.class));
+        Assertions.assertEquals(1.0, count(QPSResultKey, "hit"));
+        Assertions.assertEquals(1.0, count(QPSResultKey, "miss"));
+    }
+
+    /** 有效期取写入时 CacheTtlHolder 中的值（自适应采样会在运行期间修改它）。*/
+    @Test
+    public void ttlFollowsHolderTest() throws InterruptedException
+    {
+        final LocalIndicatorCache cache = makeCache(Duration.ofMinutes(1L));
+
+        this.cacheTtlHolder.update(Duration.ofMillis(50L));
+        cache.put(QPSResultKey, makeQPS(1L));
+
+        Thread.sleep(100L);
+        Assertions.assertNull(cache.get(QPSResultKey, QPSResult.class));
+
+        this.cacheTtlHolder.update(Duration.ofMinutes(1L));
+        cache.put(QPSResultKey, makeQPS(2L));
+
+        Thread.sleep(100L);
+        Assertions.assertNotNull(cache.get(QPSResultKey, QPSResult.class));
+
+        // 配置类本身不受影响
+        Assertions.assertEquals(Duration.ofMinutes(1L), this.redisCacheProperties.getTtl());
+    }
+
+    /** 各指标按下标分别存放，命中与未命中按指标分别计数。*/
+    @Test
+    public void perKeySlotsAndCountersTest()
+    {
+        final LocalIndicatorCache cache = makeCache(Duration.ofMinutes(1L));
+        final QPSResult      qps     = makeQPS(1L);
+        final NetWorkTraffic traffic = makeTraffic();
+
+        Assertions.assertNull(cache.get(QPSResultKey, QPSResult.class));
+
+        cache.put(QPSResultKey, qps);
+        cache.put(NetWorkTrafficKey, traffic);
+
+        Assertions.assertSame(qps, cache.get(QPSResultKey, QPSResult.class));
+        Assertions.assertSame(qps, cache.get(QPSResultKey, QPSResult.class));
+        Assertions.assertSame(traffic, cache.get(NetWorkTrafficKey, NetWorkTraffic.class));
+
+        cache.evict(QPSResultKey);
+
+        Assertions.assertNull(cache.get(QPSResultKey, QPSResult.class));
+        Assertions.assertSame(traffic, cache.get(NetWorkTrafficKey, NetWorkTraffic.class));
+
+        Assertions.assertEquals(2.0, count(QPSResultKey, "hit"));
+        Assertions.assertEquals(2.0, count(QPSResultKey, "miss"));
+        Assertions.assertEquals(2.0, count(NetWorkTrafficKey, "hit"));
+        Assertions.assertEquals(0.0, count(NetWorkTrafficKey, "miss"));
+    }
+
+    /** 请求的类型与缓存的实例不符时视为未命中。*/
+    @Test
+    public void typeMismatchIsMissTest()
+    {
+        final LocalIndicatorCache cache = makeCache(Duration.ofMinutes(1L));
+
+        cache.put(QPSResultKey, makeQPS(1L));
+
+        Assertions.assertNull(cache.get(QPSResultKey, NetWorkTraffic.class));
+        Assertions.assertEquals(1.0, count(QPSResultKey, "miss"));
+    }
+
+    /** 关闭本地缓存后既不写入也不读取。*/
+    @Test
+    public void disabledCacheTest()
+    {
+        final LocalIndicatorCache cache = makeCache(Duration.ofMinutes(1L));
+
+        this.redisCacheProperties.getLocalCache().setEnabled(false);
+        cache.put(QPSResultKey, makeQPS(1L));
+
+        this.redisCacheProperties.getLocalCache().setEnabled(true);
+        Assertions.assertNull(cache.get(QPSResultKey, QPSResult.class));
+    }
+}
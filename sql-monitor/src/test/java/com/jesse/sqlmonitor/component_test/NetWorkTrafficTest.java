@@ -0,0 +1,108 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import com.jesse.sqlmonitor.response_body.NetWorkTraffic;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static com.jesse.sqlmonitor.utils.RateMath.TRAFFIC_SCALE;
+
+/** {@link NetWorkTraffic#convertTo(SizeUnit)} 计量单位换算测试。*/
+public class NetWorkTrafficTest
+{
+    private static NetWorkTraffic
+    makeTraffic(String sentPerSec, String receivePerSec)
+    {
+        return
+        NetWorkTraffic.builder()
+            .totalBytesSent(987_654_321L)
+            .totalBytesReceive(123_456_789L)
+            .sentPerSec(new BigDecimal(sentPerSec))
+            .receivePerSec(new BigDecimal(receivePerSec))
+            .queryDiff(1003L)
+            .sizeUnit(SizeUnit.B)
+            .resetDetected(true)
+            .build();
+    }
+
+    /** B -> KB -> MB 再换算回来：每一步都保留 TRAFFIC_SCALE 位小数，整 MB 的速率可以精确还原。*/
+    @Test
+    public void roundTripTest()
+    {
+        final NetWorkTraffic bytes = makeTraffic("3145728", "1048576.0000000000");
+
+        final NetWorkTraffic kilo = bytes.convertTo(SizeUnit.KB);
+        final NetWorkTraffic mega = kilo.convertTo(SizeUnit.MB);
+        final NetWorkTraffic back = mega.convertTo(SizeUnit.KB).convertTo(SizeUnit.B);
+
+        Assertions.assertEquals(new BigDecimal("3072.0000000000"), kilo.getSentPerSec());
+        Assertions.assertEquals(new BigDecimal("3.0000000000"), mega.getSentPerSec());
+        Assertions.assertEquals(new BigDecimal("1.0000000000"), mega.getReceivePerSec());
+
+        for (NetWorkTraffic traffic : new NetWorkTraffic[] { kilo, mega, back })
+        {
+            Assertions.assertEquals(TRAFFIC_SCALE, traffic.getSentPerSec().scale());
+            Assertions.assertEquals(TRAFFIC_SCALE, traffic.getReceivePerSec().scale());
+        }
+
+        Assertions.assertEquals(SizeUnit.B, back.getSizeUnit());
+        Assertions.assertEquals(0, bytes.getSentPerSec().compareTo(back.getSentPerSec()));
+        Assertions.assertEquals(0, bytes.getReceivePerSec().compareTo(back.getReceivePerSec()));
+
+        // 其余字段原样保留
+        Assertions.assertEquals(bytes.getTotalBytesSent(), mega.getTotalBytesSent());
+        Assertions.assertEquals(bytes.getTotalBytesReceive(), mega.getTotalBytesReceive());
+        Assertions.assertEquals(bytes.getQueryDiff(), mega.getQueryDiff());
+        Assertions.assertTrue(mega.isResetDetected());
+    }
+
+    /** 不能整除的速率换算到更大的单位再换算回来，误差不超过大单位下最后一位小数的一半。*/
+    @Test
+    public void lossyRoundTripBoundedTest()
+    {
+        final NetWorkTraffic bytes = makeTraffic("1230875265.2043868395", "0.0000000001");
+        final NetWorkTraffic back  = bytes.convertTo(SizeUnit.GB).convertTo(SizeUnit.B);
+
+        final BigDecimal maxError
+            = new BigDecimal("0.5E-10").multiply(BigDecimal.valueOf(1024L).pow(3));
+
+        Assertions.assertTrue(
+            bytes.getSentPerSec().subtract(back.getSentPerSec()).abs().compareTo(maxError) <= 0
+        );
+
+        // 小于大单位最后一位的速率换算后变为 0
+        Assertions.assertEquals(0, bytes.convertTo(SizeUnit.GB).getReceivePerSec().signum());
+    }
+
+    /** 零速率换算到任何单位都是 BigDecimal.ZERO（各响应体靠它判断空结果），并且可以换算回来。*/
+    @Test
+    public void zeroRateTest()
+    {
+        final NetWorkTraffic idle = makeTraffic("0", "0");
+
+        for (SizeUnit unit : new SizeUnit[] { SizeUnit.KB, SizeUnit.MB, SizeUnit.GB })
+        {
+            final NetWorkTraffic converted = idle.convertTo(unit);
+
+            Assertions.assertSame(BigDecimal.ZERO, converted.getSentPerSec());
+            Assertions.assertSame(BigDecimal.ZERO, converted.getReceivePerSec());
+            Assertions.assertSame(BigDecimal.ZERO, converted.convertTo(SizeUnit.B).getSentPerSec());
+        }
+    }
+
+    /** 相同单位或者没有单位（零速率、错误结果）时原样返回。*/
+    @Test
+    public void sameOrMissingUnitTest()
+    {
+        final NetWorkTraffic bytes = makeTraffic("1024", "2048");
+
+        Assertions.assertSame(bytes, bytes.convertTo(SizeUnit.B));
+
+        final NetWorkTraffic zero = NetWorkTraffic.buildZeroRate();
+
+        Assertions.assertSame(zero, zero.convertTo(SizeUnit.MB));
+        Assertions.assertFalse(zero.isValid());
+    }
+}
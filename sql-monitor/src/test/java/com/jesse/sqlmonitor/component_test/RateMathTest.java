@@ -0,0 +1,181 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import com.jesse.sqlmonitor.utils.RateMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static com.jesse.sqlmonitor.utils.RateMath.RATE_SCALE;
+import static com.jesse.sqlmonitor.utils.RateMath.TRAFFIC_SCALE;
+
+/** {@link RateMath} 计算结果与原先全程使用 BigDecimal 计算的结果对比测试。*/
+public class RateMathTest
+{
+    /** 大字节数（百万级乃至更大的 B/s）。*/
+    private static final
+    long[] DIFFS = { 1L, 7L, 123_456L, 987_654_321L, 1_234_567_891L, 987_654_321_987L, 9_007_199_254_740_993L };
+
+    /** 各种不能整除的时间差。*/
+    private static final
+    long[] TIME_DIFFS_MS = { 1L, 333L, 997L, 1000L, 1003L, 1777L, 59_999L };
+
+    /** 原 QPSCounterImpl.calculate() 的计算方式。*/
+    private static BigDecimal
+    legacyQPS(long queriesDiff, long timeDiffMs)
+    {
+        return
+        BigDecimal.valueOf(queriesDiff)
+            .divide(
+                BigDecimal.valueOf(timeDiffMs / 1000.00),
+                RATE_SCALE, RoundingMode.HALF_UP
+            );
+    }
+
+    /** 原 TrafficRateCalculator.calculateSingleRate() 的计算方式。*/
+    private static BigDecimal
+    legacyTraffic(long bytesDiff, long timeDiffMs, SizeUnit unit)
+    {
+        final BigDecimal timeDiffSeconds
+            = BigDecimal.valueOf(timeDiffMs)
+                .divide(BigDecimal.valueOf(1000L), 10, RoundingMode.HALF_UP);
+
+        return
+        BigDecimal.valueOf(bytesDiff)
+            .divide(timeDiffSeconds, 10, RoundingMode.HALF_UP)
+            .divide(BigDecimal.valueOf(1024L).pow(unit.getExponent()), 10, RoundingMode.HALF_UP);
+    }
+
+    /** QPS 与原先的结果逐位相同（包括小数位数）。*/
+    @Test
+    public void qpsEqualsLegacyTest()
+    {
+        for (long diff : DIFFS)
+        {
+            for (long timeDiffMs : TIME_DIFFS_MS)
+            {
+                Assertions.assertEquals(
+                    legacyQPS(diff, timeDiffMs),
+                    RateMath.toDecimalRate(diff, timeDiffMs, RATE_SCALE),
+                    diff + " / " + timeDiffMs + "ms"
+                );
+            }
+        }
+    }
+
+    /** 网络流量（字节速率与各个计量单位的换算）与原先的结果逐位相同。*/
+    @Test
+    public void trafficEqualsLegacyTest()
+    {
+        for (SizeUnit unit : SizeUnit.values())
+        {
+            for (long diff : DIFFS)
+            {
+                for (long timeDiffMs : TIME_DIFFS_MS)
+                {
+                    final BigDecimal bytesPerSecond
+                        = RateMath.toDecimalRate(diff, timeDiffMs, TRAFFIC_SCALE);
+
+                    Assertions.assertEquals(
+                        legacyTraffic(diff, timeDiffMs, unit),
+                        RateMath.convertUnit(bytesPerSecond, SizeUnit.B, unit, TRAFFIC_SCALE),
+                        diff + " B / " + timeDiffMs + "ms in " + unit
+                    );
+                }
+            }
+        }
+    }
+
+    /** 百万级 B/s 保留 10 位小数需要 17 位有效数字，double 已经表示不了。*/
+    @Test
+    public void largeRateKeepsAllDigitsTest()
+    {
+        final BigDecimal rate = RateMath.toDecimalRate(1_234_567_891L, 1003L, TRAFFIC_SCALE);
+
+        Assertions.assertEquals(new BigDecimal("1230875265.2043868395"), rate);
+        Assertions.assertTrue(
+            BigDecimal.valueOf(1_234_567_891L * 1000.0 / 1003L)
+                      .setScale(TRAFFIC_SCALE, RoundingMode.HALF_UP)
+                      .compareTo(rate) != 0
+        );
+    }
+
+    /** 差值为 0 或时间差不为正数时统一返回 BigDecimal.ZERO（各响应体靠它判断空结果）。*/
+    @Test
+    public void zeroRateTest()
+    {
+        Assertions.assertSame(BigDecimal.ZERO, RateMath.toDecimalRate(0L, 1000L, RATE_SCALE));
+        Assertions.assertSame(BigDecimal.ZERO, RateMath.toDecimalRate(100L, 0L, RATE_SCALE));
+        Assertions.assertSame(BigDecimal.ZERO, RateMath.toDecimalRate(100L, -1L, RATE_SCALE));
+        Assertions.assertSame(BigDecimal.ZERO, RateMath.toDecimal(0.0, RATE_SCALE));
+    }
+
+    /** 命中率限定在 [0, 1] 范围内，请求数不为正数时为 0。*/
+    @Test
+    public void hitRateTest()
+    {
+        Assertions.assertEquals(0.75, RateMath.hitRate(25L, 100L));
+        Assertions.assertEquals(0.0, RateMath.hitRate(10L, 0L));
+        Assertions.assertEquals(0.0, RateMath.hitRate(200L, 100L));
+        Assertions.assertEquals(1.0, RateMath.hitRate(-5L, 100L));
+    }
+
+    /** 精确换算：换算到更大的单位做除法，换算到更小的单位做乘法，都保留 scale 位小数。*/
+    @Test
+    public void convertUnitTest()
+    {
+        final BigDecimal bytes = BigDecimal.valueOf(5L * 1024L * 1024L * 1024L);
+
+        Assertions.assertEquals(
+            new BigDecimal("5242880.0000000000"),
+            RateMath.convertUnit(bytes, SizeUnit.B, SizeUnit.KB, TRAFFIC_SCALE));
+        Assertions.assertEquals(
+            new BigDecimal("5120.0000000000"),
+            RateMath.convertUnit(bytes, SizeUnit.B, SizeUnit.MB, TRAFFIC_SCALE));
+        Assertions.assertEquals(
+            new BigDecimal("5.0000000000"),
+            RateMath.convertUnit(bytes, SizeUnit.B, SizeUnit.GB, TRAFFIC_SCALE));
+
+        // 不能整除时四舍五入
+        Assertions.assertEquals(
+            new BigDecimal("0.0009765625"),
+            RateMath.convertUnit(BigDecimal.ONE, SizeUnit.B, SizeUnit.KB, TRAFFIC_SCALE));
+        Assertions.assertEquals(
+            new BigDecimal("0.0000009537"),
+            RateMath.convertUnit(BigDecimal.ONE, SizeUnit.B, SizeUnit.MB, TRAFFIC_SCALE));
+
+        // 换算到更小的单位
+        Assertions.assertEquals(
+            new BigDecimal("3145728.0000000000"),
+            RateMath.convertUnit(new BigDecimal("3"), SizeUnit.MB, SizeUnit.B, TRAFFIC_SCALE));
+        Assertions.assertEquals(
+            new BigDecimal("1536.0000000000"),
+            RateMath.convertUnit(new BigDecimal("1.5"), SizeUnit.GB, SizeUnit.MB, TRAFFIC_SCALE));
+
+        // 相同单位只调整精度
+        Assertions.assertEquals(
+            new BigDecimal("12.3457"),
+            RateMath.convertUnit(new BigDecimal("12.345678"), SizeUnit.KB, SizeUnit.KB, 4));
+
+        // 零值直接返回 BigDecimal.ZERO
+        Assertions.assertSame(
+            BigDecimal.ZERO,
+            RateMath.convertUnit(new BigDecimal("0.000"), SizeUnit.B, SizeUnit.GB, TRAFFIC_SCALE));
+        Assertions.assertSame(
+            BigDecimal.ZERO,
+            RateMath.convertUnit(BigDecimal.ZERO, SizeUnit.GB, SizeUnit.B, TRAFFIC_SCALE));
+    }
+
+    /** 浮点换算（用于内部的数值计算）。*/
+    @Test
+    public void convertUnitDoubleTest()
+    {
+        Assertions.assertEquals(1.0, RateMath.convertUnit(1024.0, SizeUnit.B, SizeUnit.KB));
+        Assertions.assertEquals(2.5, RateMath.convertUnit(2.5 * 1024.0 * 1024.0 * 1024.0, SizeUnit.B, SizeUnit.GB));
+        Assertions.assertEquals(1024.0, RateMath.convertUnit(1.0, SizeUnit.MB, SizeUnit.KB));
+        Assertions.assertEquals(123.456, RateMath.convertUnit(123.456, SizeUnit.MB, SizeUnit.MB));
+        Assertions.assertEquals(0.0, RateMath.convertUnit(0.0, SizeUnit.B, SizeUnit.GB));
+    }
+}
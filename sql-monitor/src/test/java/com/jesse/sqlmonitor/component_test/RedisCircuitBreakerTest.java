@@ -0,0 +1,70 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.cacher.impl.breaker.RedisCircuitBreaker;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/** {@link RedisCircuitBreaker} 状态切换测试。*/
+public class RedisCircuitBreakerTest
+{
+    private static RedisCircuitBreaker
+    makeBreaker(Duration openDuration)
+    {
+        final RedisCacheProperties properties = new RedisCacheProperties();
+
+        properties.getCircuitBreaker().setWindowSize(10);
+        properties.getCircuitBreaker().setMinimumCalls(5);
+        properties.getCircuitBreaker().setSlowCallP99Threshold(Duration.ofMillis(50L));
+        properties.getCircuitBreaker().setOpenDuration(openDuration);
+        properties.getCircuitBreaker().setHalfOpenProbes(2);
+
+        return new RedisCircuitBreaker(properties);
+    }
+
+    /** 操作虽然成功但是很慢（p99 超过阈值），同样应当熔断。*/
+    @Test
+    public void slowCallsTripBreakerTest()
+    {
+        final RedisCircuitBreaker breaker = makeBreaker(Duration.ofMinutes(1L));
+
+        for (int index = 0; index < 5; ++index) {
+            breaker.measure(Mono.just(index).delayElement(Duration.ofMillis(60L))).block();
+        }
+
+        Assertions.assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.allowRequest());
+    }
+
+    /** 失败率达到阈值时熔断，经过 openDuration 后只放行少量探测请求，探测成功则关闭。*/
+    @Test
+    public void halfOpenProbeTest() throws InterruptedException
+    {
+        final RedisCircuitBreaker breaker = makeBreaker(Duration.ofMillis(100L));
+
+        for (int index = 0; index < 5; ++index)
+        {
+            breaker.measure(Mono.error(new IllegalStateException("redis down")))
+                   .onErrorResume((exception) -> Mono.empty())
+                   .block();
+        }
+
+        Assertions.assertEquals(RedisCircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(150L);
+
+        Assertions.assertTrue(breaker.allowRequest());
+        Assertions.assertEquals(RedisCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        Assertions.assertTrue(breaker.allowRequest());
+        Assertions.assertFalse(breaker.allowRequest());
+
+        breaker.measure(Mono.just("PONG")).block();
+        breaker.measure(Mono.just("PONG")).block();
+
+        Assertions.assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.getState());
+        Assertions.assertTrue(breaker.allowRequest());
+    }
+}
@@ -0,0 +1,199 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.monitor.cacher.TickIndicator;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.RenderedResponseCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
+import com.jesse.sqlmonitor.monitor.constants.SizeUnit;
+import com.jesse.sqlmonitor.properties.IndicatorSamplerProperties;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import com.jesse.sqlmonitor.response_body.NetWorkTraffic;
+import com.jesse.sqlmonitor.response_body.QPSResult;
+import io.github.jessez332623.reactive_response_builder.ReactiveResponseBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.NetWorkTrafficKey;
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.QPSResultKey;
+
+/** {@link RenderedResponseCache} 测试。*/
+public class RenderedResponseCacheTest
+{
+    private final ObjectMapper objectMapper
+        = Jackson2ObjectMapperBuilder.json().build();
+
+    /** 写出响应时与预渲染使用同一个 ObjectMapper。*/
+    private final HandlerStrategies strategies
+        = HandlerStrategies.builder()
+              .codecs((configurer) ->
+                  configurer.defaultCodecs()
+                            .jackson2JsonEncoder(new Jackson2JsonEncoder(this.objectMapper)))
+              .build();
+
+    private final ServerResponse.Context context
+        = new ServerResponse.Context()
+        {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return strategies.messageWriters();
+            }
+
+            @Override
+            public List<ViewResolver> viewResolvers() {
+                return strategies.viewResolvers();
+            }
+        };
+
+    private RenderedResponseCache
+    makeCache(Duration ttl, SizeUnit trafficUnit)
+    {
+        final RedisCacheProperties redisCacheProperties = new RedisCacheProperties();
+        redisCacheProperties.setTtl(ttl);
+
+        final IndicatorSamplerProperties samplerProperties = new IndicatorSamplerProperties();
+        samplerProperties.setTrafficUnit(trafficUnit);
+
+        return new
+        RenderedResponseCache(
+            this.objectMapper, samplerProperties,
+            new CacheTtlHolder(redisCacheProperties)
+        );
+    }
+
+    /** 把响应写进模拟的请求交换，取出响应体。*/
+    private JsonNode writeBody(ServerResponse response) throws Exception
+    {
+        final MockServerWebExchange exchange
+            = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+
+        response.writeTo(exchange, this.context).block();
+
+        return
+        this.objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+    }
+
+    private static QPSResult makeQPS(String qps, long currentQueries)
+    {
+        return
+        QPSResult.builder()
+            .qps(new BigDecimal(qps))
+            .currentQueries(currentQueries)
+            .queryDiff(25L)
+            .timeDiffMs(1000L)
+            .build();
+    }
+
+    /** 预渲染的响应体与 ReactiveResponseBuilder.OK() 原本写出的内容一致，并且可以被多次写出。*/
+    @Test
+    public void renderedBodyMatchesBuilderTest() throws Exception
+    {
+        final RenderedResponseCache cache = makeCache(Duration.ofMinutes(1L), SizeUnit.KB);
+        final QPSResult qps = makeQPS("12.5", 1000L);
+
+        cache.render(List.<TickIndicator<?>>of(new TickIndicator<>(QPSResultKey, qps, QPSResult.class))).block();
+
+        final ServerResponse expected = ReactiveResponseBuilder.OK(qps, null).block();
+        final ServerResponse rendered = cache.respond(QPSResultKey).block();
+
+        Assertions.assertNotNull(expected);
+        Assertions.assertNotNull(rendered);
+        Assertions.assertEquals(expected.statusCode(), rendered.statusCode());
+        Assertions.assertEquals(this.writeBody(expected), this.writeBody(rendered));
+
+        // 每次请求写出的都是完整的响应体
+        final ServerResponse again = cache.respond(QPSResultKey).block();
+
+        Assertions.assertNotNull(again);
+        Assertions.assertEquals(this.writeBody(expected), this.writeBody(again));
+    }
+
+    /** 新一轮的渲染替换掉上一轮的条目。*/
+    @Test
+    public void tickReplacesEntryTest() throws Exception
+    {
+        final RenderedResponseCache cache = makeCache(Duration.ofMinutes(1L), SizeUnit.KB);
+
+        cache.render(List.<TickIndicator<?>>of(new TickIndicator<>(QPSResultKey, makeQPS("1.0", 100L), QPSResult.class))).block();
+
+        final QPSResult latest = makeQPS("42.0", 142L);
+
+        cache.render(List.<TickIndicator<?>>of(new TickIndicator<>(QPSResultKey, latest, QPSResult.class))).block();
+
+        final ServerResponse rendered = cache.respond(QPSResultKey).block();
+
+        Assertions.assertNotNull(rendered);
+        Assertions.assertEquals(
+            this.writeBody(ReactiveResponseBuilder.OK(latest, null).block()),
+            this.writeBody(rendered)
+        );
+    }
+
+    /** 缓存中的网络流量是 B/s，预渲染时换算成配置的计量单位。*/
+    @Test
+    public void trafficUnitConvertedTest() throws Exception
+    {
+        final RenderedResponseCache cache = makeCache(Duration.ofMinutes(1L), SizeUnit.KB);
+
+        final NetWorkTraffic traffic
+            = NetWorkTraffic.builder()
+                .totalBytesSent(4096L)
+                .totalBytesReceive(2048L)
+                .sentPerSec(new BigDecimal("2048"))
+                .receivePerSec(new BigDecimal("512"))
+                .queryDiff(1000L)
+                .sizeUnit(SizeUnit.B)
+                .build();
+
+        cache.render(List.<TickIndicator<?>>of(new TickIndicator<>(NetWorkTrafficKey, traffic, NetWorkTraffic.class))).block();
+
+        final ServerResponse rendered = cache.respond(NetWorkTrafficKey).block();
+
+        Assertions.assertNotNull(rendered);
+
+        final JsonNode body = this.writeBody(rendered);
+
+        Assertions.assertEquals("KB", body.findValue("sizeUnit").asText());
+        Assertions.assertEquals(0, new BigDecimal("2").compareTo(body.findValue("sentPerSec").decimalValue()));
+        Assertions.assertEquals(0, new BigDecimal("0.5").compareTo(body.findValue("receivePerSec").decimalValue()));
+        Assertions.assertEquals(4096L, body.findValue("totalBytesSent").asLong());
+
+        Assertions.assertEquals(
+            this.writeBody(ReactiveResponseBuilder.OK(traffic.convertTo(SizeUnit.KB), null).block()),
+            body
+        );
+    }
+
+    /** 过期或者被删除的条目不再返回。*/
+    @Test
+    public void expiredOrEvictedEntryTest() throws InterruptedException
+    {
+        final RenderedResponseCache shortLived = makeCache(Duration.ofMillis(50L), SizeUnit.KB);
+
+        shortLived.render(List.<TickIndicator<?>>of(new TickIndicator<>(QPSResultKey, makeQPS("1.0", 1L), QPSResult.class))).block();
+        Assertions.assertNotNull(shortLived.respond(QPSResultKey).block());
+
+        Thread.sleep(100L);
+        Assertions.assertNull(shortLived.respond(QPSResultKey).block());
+
+        final RenderedResponseCache cache = makeCache(Duration.ofMinutes(1L), SizeUnit.KB);
+
+        cache.render(List.<TickIndicator<?>>of(new TickIndicator<>(QPSResultKey, makeQPS("1.0", 1L), QPSResult.class))).block();
+        cache.evict(QPSResultKey);
+
+        Assertions.assertNull(cache.respond(QPSResultKey).block());
+        Assertions.assertNull(cache.respond(NetWorkTrafficKey).block());
+    }
+}
@@ -0,0 +1,292 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.luascript_reader.LuaScriptReader;
+import com.jesse.sqlmonitor.luascript_reader.impl.LuaOperatorResult;
+import com.jesse.sqlmonitor.luascript_reader.impl.LuaScriptOperatorType;
+import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量写入脚本 saveTickIndicatorsToCache.lua 的测试：
+ * 键与参数的排列方式、参数校验，以及有一项数据非法时整批都不写入。
+ */
+@SpringBootTest
+public class SaveTickIndicatorsScriptTest
+{
+    private static final
+    String SAVE_TICK_SCRIPT = "saveTickIndicatorsToCache.lua";
+
+    /** 与 IndicatorCacherImpl 一致，参数原样以字节传给 Redis。*/
+    private static final
+    RedisElementWriter<byte[]> RAW_ARGS_WRITER
+        = RedisElementWriter.from(RedisSerializer.byteArray());
+
+    @Autowired
+    private R2dbcMasterProperties masterProperties;
+
+    @Autowired
+    private RedisCacheProperties cacheProperties;
+
+    @Autowired
+    private LuaScriptReader luaScriptReader;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, LuaOperatorResult> scriptTemplate;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, byte[]> redisBlobTemplate;
+
+    private String tickKey;
+
+    private List<String> cacheKeys;
+
+    private List<String> freshKeys;
+
+    @BeforeEach
+    public void prepareKeys()
+    {
+        final String prefix
+            = this.cacheProperties.getKeyPrefix() + this.masterProperties.getHost() + ":lua-test:";
+
+        this.tickKey   = prefix + "tick";
+        this.cacheKeys = List.of(prefix + "qps", prefix + "traffic");
+        this.freshKeys = List.of(prefix + "qps:fresh", prefix + "traffic:fresh");
+
+        this.deleteKeys();
+    }
+
+    @AfterEach
+    public void deleteKeys()
+    {
+        this.redisBlobTemplate
+            .delete(this.tickKey, this.cacheKeys.get(0), this.cacheKeys.get(1),
+                    this.freshKeys.get(0), this.freshKeys.get(1))
+            .block();
+    }
+
+    /** KEYS = [版本号键, 各缓存键..., 各新鲜标记键...]，ARGV = [codec, cacheTTL, softTTL, tickVersion, 各数据...]。*/
+    private @NotNull LuaOperatorResult
+    execute(@NotNull List<String> keys, String... args)
+    {
+        final List<byte[]> rawArgs
+            = Arrays.stream(args)
+                    .map((arg) -> arg.getBytes(StandardCharsets.UTF_8))
+                    .toList();
+
+        return
+        this.luaScriptReader
+            .read(LuaScriptOperatorType.INDICATOR_CACHER, SAVE_TICK_SCRIPT)
+            .flatMap((script) ->
+                this.scriptTemplate
+                    .execute(
+                        script, keys, rawArgs, RAW_ARGS_WRITER,
+                        this.scriptTemplate
+                            .getSerializationContext()
+                            .getValueSerializationPair()
+                            .getReader()
+                    )
+                    .timeout(Duration.ofSeconds(1L))
+                    .next())
+            .blockOptional()
+            .orElseThrow();
+    }
+
+    private List<String>
+    allKeys()
+    {
+        return List.of(
+            this.tickKey,
+            this.cacheKeys.get(0), this.cacheKeys.get(1),
+            this.freshKeys.get(0), this.freshKeys.get(1)
+        );
+    }
+
+    private boolean
+    exists(String key) {
+        return Boolean.TRUE.equals(this.redisBlobTemplate.hasKey(key).block());
+    }
+
+    private void
+    assertNothingWritten()
+    {
+        for (String key : this.allKeys()) {
+            Assertions.assertFalse(this.exists(key), key);
+        }
+    }
+
+    /** hash 编码：逐字段写入 Hash，并写入新鲜标记与本轮版本号，TTL 各自生效。*/
+    @Test
+    public void hashLayoutTest()
+    {
+        final LuaOperatorResult result
+            = this.execute(
+                this.allKeys(),
+                "hash", "60000", "5000", "1735689600000",
+                "{\"qps\":\"12.5\",\"resetDetected\":false}",
+                "{\"sentPerSec\":\"1024\",\"error\":null}"
+            );
+
+        Assertions.assertEquals("SUCCESS", result.getStatus());
+
+        final Map<String, byte[]> qps
+            = this.redisBlobTemplate.<String, byte[]>opsForHash()
+                  .entries(this.cacheKeys.get(0))
+                  .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                  .block();
+
+        Assertions.assertNotNull(qps);
+        Assertions.assertEquals("\"12.5\"", new String(qps.get("qps"), StandardCharsets.UTF_8));
+        Assertions.assertEquals("false", new String(qps.get("resetDetected"), StandardCharsets.UTF_8));
+
+        // JSON null 写成空字符串
+        final byte[] error
+            = this.redisBlobTemplate.<String, byte[]>opsForHash()
+                  .get(this.cacheKeys.get(1), "error")
+                  .block();
+
+        Assertions.assertArrayEquals(new byte[0], error);
+
+        Assertions.assertEquals(
+            "1735689600000",
+            new String(this.redisBlobTemplate.opsForValue().get(this.tickKey).block(), StandardCharsets.UTF_8)
+        );
+
+        for (String freshKey : this.freshKeys) {
+            Assertions.assertTrue(this.exists(freshKey), freshKey);
+        }
+
+        final Duration cacheTTL = this.redisBlobTemplate.getExpire(this.cacheKeys.get(0)).block();
+        final Duration freshTTL = this.redisBlobTemplate.getExpire(this.freshKeys.get(0)).block();
+
+        Assertions.assertNotNull(cacheTTL);
+        Assertions.assertNotNull(freshTTL);
+        Assertions.assertTrue(cacheTTL.compareTo(Duration.ofSeconds(5L)) > 0);
+        Assertions.assertTrue(freshTTL.compareTo(Duration.ofSeconds(5L)) <= 0);
+    }
+
+    /** 新一轮 hash 数据整个替换掉上一轮的数据，不残留旧字段；softTTL 不为正数时不写新鲜标记。*/
+    @Test
+    public void hashReplacesPreviousRoundTest()
+    {
+        this.execute(
+            this.allKeys(), "hash", "60000", "-1", "1",
+            "{\"qps\":\"1\",\"stale\":\"x\"}", "{\"sentPerSec\":\"1\"}"
+        );
+
+        this.execute(
+            this.allKeys(), "hash", "60000", "-1", "2",
+            "{\"qps\":\"2\"}", "{\"sentPerSec\":\"2\"}"
+        );
+
+        Assertions.assertEquals(
+            List.of("qps"),
+            this.redisBlobTemplate.<String, byte[]>opsForHash()
+                .keys(this.cacheKeys.get(0))
+                .collectList()
+                .block()
+        );
+
+        for (String freshKey : this.freshKeys) {
+            Assertions.assertFalse(this.exists(freshKey), freshKey);
+        }
+    }
+
+    /** blob 编码：数据原样写入普通键。*/
+    @Test
+    public void blobLayoutTest()
+    {
+        final LuaOperatorResult result
+            = this.execute(this.allKeys(), "blob", "60000", "5000", "7", "qps-bytes", "traffic-bytes");
+
+        Assertions.assertEquals("SUCCESS", result.getStatus());
+        Assertions.assertEquals(
+            "qps-bytes",
+            new String(this.redisBlobTemplate.opsForValue().get(this.cacheKeys.get(0)).block(), StandardCharsets.UTF_8)
+        );
+        Assertions.assertEquals(
+            "traffic-bytes",
+            new String(this.redisBlobTemplate.opsForValue().get(this.cacheKeys.get(1)).block(), StandardCharsets.UTF_8)
+        );
+    }
+
+    /** 键的数量必须是 2 * 数据项数 + 1，否则什么都不写。*/
+    @Test
+    public void keyCountMismatchTest()
+    {
+        // 少了新鲜标记键
+        final LuaOperatorResult missingFreshKeys
+            = this.execute(
+                List.of(this.tickKey, this.cacheKeys.get(0), this.cacheKeys.get(1)),
+                "blob", "60000", "5000", "1", "a", "b"
+            );
+
+        Assertions.assertEquals("KEY_COUNT_MISMATCH", missingFreshKeys.getStatus());
+
+        // 没有任何数据项
+        final LuaOperatorResult noIndicators
+            = this.execute(List.of(this.tickKey), "blob", "60000", "5000", "1");
+
+        Assertions.assertEquals("KEY_COUNT_MISMATCH", noIndicators.getStatus());
+
+        this.assertNothingWritten();
+    }
+
+    /** cacheTTL 为负数或者不是数字时拒绝写入。*/
+    @Test
+    public void negativeCacheTtlTest()
+    {
+        for (String cacheTTL : new String[] { "-1", "not-a-number" })
+        {
+            final LuaOperatorResult result
+                = this.execute(this.allKeys(), "blob", cacheTTL, "5000", "1", "a", "b");
+
+            Assertions.assertEquals("NEGATIVE_CACHE_TTL", result.getStatus());
+            Assertions.assertNotNull(result.getMessage());
+            Assertions.assertTrue(result.getMessage().contains(cacheTTL));
+        }
+
+        this.assertNothingWritten();
+    }
+
+    /** hash 编码时所有 JSON 先全部解析，只要有一项非法整批都不写入（包括排在前面的合法数据与版本号）。*/
+    @Test
+    public void rejectedPayloadWritesNothingTest()
+    {
+        final LuaOperatorResult malformed
+            = this.execute(
+                this.allKeys(), "hash", "60000", "5000", "1",
+                "{\"qps\":\"1\"}", "{\"sentPerSec\":"
+            );
+
+        Assertions.assertEquals("ERROR", malformed.getStatus());
+        this.assertNothingWritten();
+
+        // 字段名不是字符串（JSON 数组）
+        final LuaOperatorResult arrayPayload
+            = this.execute(
+                this.allKeys(), "hash", "60000", "5000", "1",
+                "{\"qps\":\"1\"}", "[1, 2, 3]"
+            );
+
+        Assertions.assertEquals("ERROR", arrayPayload.getStatus());
+        Assertions.assertNotNull(arrayPayload.getMessage());
+        Assertions.assertTrue(arrayPayload.getMessage().contains("INVALID_FILED_TYPE"));
+        this.assertNothingWritten();
+    }
+}
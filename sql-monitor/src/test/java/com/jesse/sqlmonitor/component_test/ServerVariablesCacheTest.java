@@ -0,0 +1,144 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.cacher.CachedIndicator;
+import com.jesse.sqlmonitor.monitor.cacher.IndicatorCacher;
+import com.jesse.sqlmonitor.monitor.cacher.TickIndicator;
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames;
+import com.jesse.sqlmonitor.monitor.constants.ServerVariableName;
+import com.jesse.sqlmonitor.monitor.impl.GlobalStatusQuery;
+import com.jesse.sqlmonitor.monitor.impl.collector.StatusCollector;
+import com.jesse.sqlmonitor.monitor.impl.server_variables.impl.ServerVariablesCacheImpl;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusValues;
+import com.jesse.sqlmonitor.properties.ServerVariablesProperties;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.ConnectionUsageKey;
+
+/** {@link ServerVariablesCacheImpl} 变量变化时让依赖指标的缓存失效的测试。*/
+public class ServerVariablesCacheTest
+{
+    /** 返回当前设定的系统变量。*/
+    private static final class FakeStatusCollector implements StatusCollector
+    {
+        private final Map<ServerVariableName, String> variables
+            = new EnumMap<>(ServerVariableName.class);
+
+        @Override
+        public Mono<GlobalStatusValues>
+        getGlobalStatus(Collection<GlobalStatusName> statusNames) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Map<ServerVariableName, String>>
+        getGlobalVariables(Collection<ServerVariableName> variableNames) {
+            return Mono.fromSupplier(() -> Map.copyOf(this.variables));
+        }
+    }
+
+    /** 只记录被删除的指标缓存。*/
+    private static final class RecordingCacher implements IndicatorCacher
+    {
+        private final Queue<IndicatorKeyNames> evicted = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public <T extends ResponseBase<T>> @NotNull Mono<ResponseBase<T>>
+        cacheIndicatorData(IndicatorKeyNames keyNames, ResponseBase<T> indicator, Class<T> type) {
+            return Mono.just(indicator);
+        }
+
+        @Override
+        public @NotNull Mono<Void>
+        cacheTickIndicators(long tickVersion, @NotNull List<TickIndicator<?>> indicators) {
+            return Mono.empty();
+        }
+
+        @Override
+        public @NotNull Mono<Long> getCacheTickVersion() {
+            return Mono.empty();
+        }
+
+        @Override
+        public @NotNull Mono<List<CachedIndicator<?>>>
+        getIndicatorCaches(@NotNull List<CachedIndicator<?>> requests) {
+            return Mono.just(requests);
+        }
+
+        @Override
+        public <T extends ResponseBase<T>> @NotNull Mono<T>
+        getIndicatorCacheWithLock(@NotNull IndicatorKeyNames keyNames, Mono<T> indicatorSupplier, Class<T> indicatorType) {
+            return indicatorSupplier;
+        }
+
+        @Override
+        public <T extends ResponseBase<T>> @NotNull Mono<T>
+        getIndicatorCacheOrElse(@NotNull IndicatorKeyNames keyNames, Mono<T> fallback, Class<T> indicatorType) {
+            return fallback;
+        }
+
+        @Override
+        public @NotNull Mono<Void>
+        evictIndicatorCache(@NotNull IndicatorKeyNames keyNames) {
+            return Mono.fromRunnable(() -> this.evicted.add(keyNames));
+        }
+    }
+
+    private final FakeStatusCollector statusCollector = new FakeStatusCollector();
+
+    private final RecordingCacher indicatorCacher = new RecordingCacher();
+
+    private final ServerVariablesCacheImpl serverVariablesCache
+        = new ServerVariablesCacheImpl(
+            new GlobalStatusQuery(this.statusCollector, null, null),
+            this.indicatorCacher, new ServerVariablesProperties()
+        );
+
+    /** max_connections 变化后连接使用率的缓存被删除，新值立即生效。*/
+    @Test
+    public void maxConnectionsChangeEvictsConnectionUsageTest()
+    {
+        this.statusCollector.variables.put(ServerVariableName.MAX_CONNECTIONS, "151");
+        this.statusCollector.variables.put(ServerVariableName.THREAD_CACHE_SIZE, "9");
+
+        // 首次加载不算变化
+        Assertions.assertEquals(151L, this.serverVariablesCache.getLong(ServerVariableName.MAX_CONNECTIONS).block());
+        Assertions.assertTrue(this.indicatorCacher.evicted.isEmpty());
+
+        // 没有变化时不删除任何缓存
+        this.serverVariablesCache.refresh().block();
+        Assertions.assertTrue(this.indicatorCacher.evicted.isEmpty());
+
+        this.statusCollector.variables.put(ServerVariableName.MAX_CONNECTIONS, "500");
+        this.serverVariablesCache.refresh().block();
+
+        Assertions.assertEquals(List.of(ConnectionUsageKey), List.copyOf(this.indicatorCacher.evicted));
+        Assertions.assertEquals(500L, this.serverVariablesCache.getLong(ServerVariableName.MAX_CONNECTIONS).block());
+    }
+
+    /** 没有依赖指标的变量发生变化时不删除任何缓存。*/
+    @Test
+    public void variableWithoutDependentsTest()
+    {
+        this.statusCollector.variables.put(ServerVariableName.MAX_CONNECTIONS, "151");
+        this.statusCollector.variables.put(ServerVariableName.THREAD_CACHE_SIZE, "9");
+        this.serverVariablesCache.refresh().block();
+
+        this.statusCollector.variables.put(ServerVariableName.THREAD_CACHE_SIZE, "16");
+        this.serverVariablesCache.refresh().block();
+
+        Assertions.assertTrue(this.indicatorCacher.evicted.isEmpty());
+        Assertions.assertEquals("16", this.serverVariablesCache.getCachedVariables().get(ServerVariableName.THREAD_CACHE_SIZE));
+    }
+}
@@ -0,0 +1,52 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.SingleFlight;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** {@link SingleFlight} 测试。*/
+public class SingleFlightTest
+{
+    /** 同一个键上并发的调用者只触发一次计算，并拿到同一个结果。*/
+    @Test
+    public void concurrentCallersShareOneComputationTest()
+    {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+        final AtomicInteger invocations = new AtomicInteger();
+
+        List<Integer> results
+            = Flux.range(0, 16)
+                  .flatMap((index) ->
+                      singleFlight.execute("qps", () ->
+                          Mono.fromSupplier(invocations::incrementAndGet)
+                              .delayElement(Duration.ofMillis(100L))))
+                  .collectList()
+                  .block();
+
+        Assertions.assertNotNull(results);
+        Assertions.assertEquals(16, results.size());
+        Assertions.assertEquals(1, invocations.get());
+        Assertions.assertTrue(results.stream().allMatch((result) -> result == 1));
+        Assertions.assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    /** 计算结束后，下一次调用会重新发起计算；不同的键互不影响。*/
+    @Test
+    public void completedComputationIsNotReusedTest()
+    {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+        final AtomicInteger invocations = new AtomicInteger();
+
+        singleFlight.execute("qps", () -> Mono.fromSupplier(invocations::incrementAndGet)).block();
+        singleFlight.execute("qps", () -> Mono.fromSupplier(invocations::incrementAndGet)).block();
+        singleFlight.execute("network-traffic", () -> Mono.fromSupplier(invocations::incrementAndGet)).block();
+
+        Assertions.assertEquals(3, invocations.get());
+    }
+}
@@ -0,0 +1,176 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.StaleWhileRevalidate;
+import com.jesse.sqlmonitor.monitor.cacher.impl.util.StaleWhileRevalidate.Outcome;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** {@link StaleWhileRevalidate} 读取与后台刷新测试。*/
+public class StaleWhileRevalidateTest
+{
+    /** 用 putIfAbsent 模拟 SET NX 的刷新占位。*/
+    private static final class MapGuard implements StaleWhileRevalidate.RevalidateGuard<String>
+    {
+        private final Map<String, Boolean> holders = new ConcurrentHashMap<>();
+
+        private final AtomicInteger releases = new AtomicInteger();
+
+        private volatile boolean broken = false;
+
+        @Override
+        public @NotNull Mono<Boolean> tryAcquire(@NotNull String key)
+        {
+            return
+            (this.broken)
+                ? Mono.error(new IllegalStateException("redis down"))
+                : Mono.fromSupplier(() -> this.holders.putIfAbsent(key, Boolean.TRUE) == null);
+        }
+
+        @Override
+        public @NotNull Mono<Void> release(@NotNull String key)
+        {
+            return
+            Mono.fromRunnable(() -> {
+                this.releases.incrementAndGet();
+                this.holders.remove(key);
+            });
+        }
+    }
+
+    private final MapGuard guard = new MapGuard();
+
+    private final Queue<Outcome> outcomes = new ConcurrentLinkedQueue<>();
+
+    private final StaleWhileRevalidate<String> staleWhileRevalidate
+        = new StaleWhileRevalidate<>(this.guard, (key, outcome) -> this.outcomes.add(outcome));
+
+    /** 数据新鲜时直接返回，不触发刷新。*/
+    @Test
+    public void freshReadTest()
+    {
+        final AtomicInteger refreshes = new AtomicInteger();
+        final AtomicInteger onFresh   = new AtomicInteger();
+
+        final String value
+            = this.staleWhileRevalidate.read(
+                "qps", Mono.just("cached"), Mono.just(true),
+                (ignore) -> onFresh.incrementAndGet(),
+                Mono.fromRunnable(refreshes::incrementAndGet),
+                Mono.just("database")
+            ).block();
+
+        Assertions.assertEquals("cached", value);
+        Assertions.assertEquals(1, onFresh.get());
+        Assertions.assertEquals(0, refreshes.get());
+        Assertions.assertTrue(this.outcomes.isEmpty());
+    }
+
+    /** 并发读到陈旧数据时都立即拿到陈旧数据，占位保证只有一次后台刷新。*/
+    @Test
+    public void staleReadRevalidatesOnceTest() throws InterruptedException
+    {
+        final AtomicInteger refreshes = new AtomicInteger();
+
+        final Mono<Void> refresh
+            = Mono.delay(Duration.ofMillis(200L))
+                  .doOnSubscribe((ignore) -> refreshes.incrementAndGet())
+                  .then();
+
+        final List<String> values
+            = Flux.range(0, 8)
+                  .flatMap((index) ->
+                      this.staleWhileRevalidate.read(
+                          "qps", Mono.just("stale"), Mono.just(false),
+                          (ignore) -> Assertions.fail("stale data must not be treated as fresh"),
+                          refresh, Mono.just("database")
+                      ))
+                  .collectList()
+                  .block(Duration.ofMillis(100L));
+
+        Assertions.assertNotNull(values);
+        Assertions.assertEquals(8, values.size());
+        Assertions.assertTrue(values.stream().allMatch("stale"::equals));
+
+        Thread.sleep(400L);
+
+        Assertions.assertEquals(1, refreshes.get());
+        Assertions.assertEquals(1, this.guard.releases.get());
+        Assertions.assertTrue(this.guard.holders.isEmpty());
+        Assertions.assertEquals(1, this.outcomes.stream().filter(Outcome.SUCCESS::equals).count());
+        Assertions.assertEquals(7, this.outcomes.stream().filter(Outcome.SKIPPED::equals).count());
+    }
+
+    /** 超过硬有效期（缓存中已经没有数据）时走原先的读取路径，不触发后台刷新。*/
+    @Test
+    public void hardTtlExpiredFallsBackTest()
+    {
+        final AtomicInteger refreshes = new AtomicInteger();
+
+        final String value
+            = this.staleWhileRevalidate.read(
+                "qps", Mono.<String>empty(), Mono.just(false),
+                (ignore) -> Assertions.fail("missing data must not be treated as fresh"),
+                Mono.fromRunnable(refreshes::incrementAndGet),
+                Mono.just("database")
+            ).block();
+
+        Assertions.assertEquals("database", value);
+        Assertions.assertEquals(0, refreshes.get());
+        Assertions.assertTrue(this.guard.holders.isEmpty());
+        Assertions.assertTrue(this.outcomes.isEmpty());
+    }
+
+    /** 刷新失败时调用者仍然拿到陈旧数据，占位被释放，下一次陈旧读取可以重新刷新。*/
+    @Test
+    public void revalidationFailureTest()
+    {
+        final String value
+            = this.staleWhileRevalidate.read(
+                "qps", Mono.just("stale"), Mono.just(false),
+                (ignore) -> {},
+                Mono.error(new IllegalStateException("database down")),
+                Mono.just("database")
+            ).block();
+
+        Assertions.assertEquals("stale", value);
+        Assertions.assertEquals(List.of(Outcome.FAILURE), List.copyOf(this.outcomes));
+        Assertions.assertEquals(1, this.guard.releases.get());
+        Assertions.assertTrue(this.guard.holders.isEmpty());
+
+        Assertions.assertEquals(
+            Outcome.SUCCESS,
+            this.staleWhileRevalidate.revalidate("qps", Mono.empty()).block()
+        );
+    }
+
+    /** 占位本身出错（Redis 不可用）时不刷新，也不会向外抛出异常。*/
+    @Test
+    public void guardFailureTest()
+    {
+        final AtomicInteger refreshes = new AtomicInteger();
+
+        this.guard.broken = true;
+
+        Assertions.assertEquals(
+            Outcome.FAILURE,
+            this.staleWhileRevalidate
+                .revalidate("qps", Mono.fromRunnable(refreshes::incrementAndGet))
+                .block()
+        );
+
+        Assertions.assertEquals(0, refreshes.get());
+        Assertions.assertEquals(0, this.guard.releases.get());
+        Assertions.assertEquals(List.of(Outcome.FAILURE), List.copyOf(this.outcomes));
+    }
+}
@@ -0,0 +1,74 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/** {@link StatusSnapshotEngine} 测试。*/
+@Slf4j
+@SpringBootTest
+public class StatusSnapshotEngineTest
+{
+    @Autowired
+    private StatusSnapshotEngine statusSnapshotEngine;
+
+    /** 各计算器登记的状态应在一次查询中全部取回。*/
+    @Test
+    public void fetchRegisteredStatusTest()
+    {
+        GlobalStatusSnapshot snapshot
+            = this.statusSnapshotEngine.fetchSnapshot().block();
+
+        Assertions.assertNotNull(snapshot);
+
+        log.info("{}", snapshot);
+
+        for (GlobalStatusName statusName : List.of(
+            GlobalStatusName.QUERIES,
+            GlobalStatusName.BYTES_SENT,
+            GlobalStatusName.BYTES_RECEIVED,
+            GlobalStatusName.INNODB_BUFFER_POOL_READ_AHEAD,
+            GlobalStatusName.INNODB_BUFFER_POOL_READ_REQUESTS,
+            GlobalStatusName.INNODB_BUFFER_POOL_READS,
+            GlobalStatusName.CURRENT_THREADS_CONNECTED,
+            GlobalStatusName.UPTIME))
+        {
+            Assertions.assertTrue(snapshot.contains(statusName));
+        }
+    }
+
+    /** 并发获取的调用者应当拿到同一张快照。*/
+    @Test
+    public void sharedSnapshotTest()
+    {
+        List<GlobalStatusSnapshot> snapshots
+            = Flux.range(0, 8)
+                  .flatMap((index) -> this.statusSnapshotEngine.currentSnapshot())
+                  .collectList()
+                  .block();
+
+        Assertions.assertNotNull(snapshots);
+
+        GlobalStatusSnapshot first = snapshots.getFirst();
+
+        snapshots.forEach((snapshot) -> Assertions.assertSame(first, snapshot));
+    }
+
+    /** 通配符状态名不允许登记。*/
+    @Test
+    public void registerWildcardTest()
+    {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> this.statusSnapshotEngine.register(GlobalStatusName.INNODB_STATUS)
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.jesse.sqlmonitor.component_test;
+
+import com.jesse.sqlmonitor.utils.StatusValueParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static com.jesse.sqlmonitor.monitor.constants.StatusValueType.*;
+
+/** {@link StatusValueParser} 格式判断、解析与类型注册表测试。*/
+public class StatusValueParserTest
+{
+    /** 只有符号、只有小数点或者空串的值都是文本。*/
+    @Test
+    public void classifyMalformedValuesTest()
+    {
+        Assertions.assertEquals(TEXT, StatusValueParser.classify(null));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify(""));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify("-"));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify("+"));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify("."));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify("-."));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify("1.2.3"));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify("1e5"));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify("ON"));
+        Assertions.assertEquals(TEXT, StatusValueParser.classify(" 1"));
+    }
+
+    /** 带小数点的数字是小数（包括 "1." 与 ".5" 这样的写法）。*/
+    @Test
+    public void classifyDecimalValuesTest()
+    {
+        Assertions.assertEquals(DOUBLE, StatusValueParser.classify("1."));
+        Assertions.assertEquals(DOUBLE, StatusValueParser.classify(".5"));
+        Assertions.assertEquals(DOUBLE, StatusValueParser.classify("-0.25"));
+
+        Assertions.assertEquals(1.0,   StatusValueParser.parseDouble("1."));
+        Assertions.assertEquals(0.5,   StatusValueParser.parseDouble(".5"));
+        Assertions.assertEquals(-0.25, StatusValueParser.parseDouble("-0.25"));
+    }
+
+    /** 不超过 18 位的整数按 long 解析，19 位及以上（可能溢出）按小数处理。*/
+    @Test
+    public void classifyLongBoundaryTest()
+    {
+        final String digits18 = "999999999999999999";
+        final String digits19 = "1000000000000000000";
+        final String longMax  = String.valueOf(Long.MAX_VALUE);
+        final String overflow = "9223372036854775808";
+        final String digits25 = "1234567890123456789012345";
+
+        Assertions.assertEquals(LONG, StatusValueParser.classify("0"));
+        Assertions.assertEquals(LONG, StatusValueParser.classify("+42"));
+        Assertions.assertEquals(LONG, StatusValueParser.classify(digits18));
+        Assertions.assertEquals(LONG, StatusValueParser.classify("-" + digits18));
+
+        Assertions.assertEquals(0L,   StatusValueParser.parseLong("0"));
+        Assertions.assertEquals(42L,  StatusValueParser.parseLong("+42"));
+        Assertions.assertEquals(-42L, StatusValueParser.parseLong("-42"));
+        Assertions.assertEquals(7L,   StatusValueParser.parseLong("007"));
+        Assertions.assertEquals(999_999_999_999_999_999L, StatusValueParser.parseLong(digits18));
+        Assertions.assertEquals(-999_999_999_999_999_999L, StatusValueParser.parseLong("-" + digits18));
+
+        Assertions.assertEquals(DOUBLE, StatusValueParser.classify(digits19));
+        Assertions.assertEquals(DOUBLE, StatusValueParser.classify(longMax));
+        Assertions.assertEquals(DOUBLE, StatusValueParser.classify(overflow));
+        Assertions.assertEquals(DOUBLE, StatusValueParser.classify(digits25));
+
+        Assertions.assertEquals(1.0E18, StatusValueParser.parseDouble(digits19));
+        Assertions.assertEquals(9.223372036854775808E18, StatusValueParser.parseDouble(overflow));
+    }
+
+    /** 注册表中的类型优先，值的格式达不到时降级。*/
+    @Test
+    public void registeredTypeIsAuthorityTest()
+    {
+        // GlobalStatusName 中的状态注册为 LONG
+        Assertions.assertEquals(LONG,   StatusValueParser.typeOf("Questions", "123"));
+        Assertions.assertEquals(DOUBLE, StatusValueParser.typeOf("Questions", "1.5"));
+        Assertions.assertEquals(TEXT,   StatusValueParser.typeOf("Questions", ""));
+
+        // 已知的文本状态即使值像数字也是文本
+        Assertions.assertEquals(TEXT, StatusValueParser.typeOf("Innodb_redo_log_enabled", "1"));
+
+        // 已知的小数状态遇到整数也按小数解析
+        Assertions.assertEquals(DOUBLE, StatusValueParser.typeOf("Last_query_cost", "10"));
+        Assertions.assertEquals(10.0,   StatusValueParser.parseToObject("Last_query_cost", "10"));
+    }
+
+    /** 未注册的状态名只根据非空值学习类型，第一次出现空值不会被钉成文本。*/
+    @Test
+    public void unknownStatusLearnsFromNonEmptyValueTest()
+    {
+        Assertions.assertEquals(TEXT, StatusValueParser.typeOf("Test_unknown_counter", ""));
+        Assertions.assertEquals(LONG, StatusValueParser.typeOf("Test_unknown_counter", "42"));
+        Assertions.assertEquals(42L,  StatusValueParser.parseToObject("Test_unknown_counter", "42"));
+
+        // 学习到的整数类型遇到小数时按小数解析
+        Assertions.assertEquals(DOUBLE, StatusValueParser.typeOf("Test_unknown_counter", "4.2"));
+
+        // 第一次非空值是文本的状态之后一直是文本
+        Assertions.assertEquals(TEXT, StatusValueParser.typeOf("Test_unknown_switch", "ON"));
+        Assertions.assertEquals(TEXT, StatusValueParser.typeOf("Test_unknown_switch", "1"));
+    }
+}
@@ -278,4 +278,131 @@ public class MonitorEndPointsTest
             Mono.delay(Duration.ofSeconds(3L)).block();
         }
     }
+
+    /**
+     * 测试 {@link SQLMonitorService#getCounterRates(ServerRequest)}
+     * 查询各累计计数器每秒速率的接口。
+     */
+    @Test
+    public void getCounterRatesTest()
+    {
+        for (int index = 0; index < INDICATOR_TESTS; ++index)
+        {
+            webTestClient
+                .get()
+                .uri(SQLMonitorEndPoints.ROOT + COUNTER_RATES_QUERY)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value((json) ->
+                    System.out.println(getPrettyFormatJSON(json)));
+
+            Mono.delay(Duration.ofSeconds(3L)).block();
+        }
+    }
+
+    /**
+     * 测试 {@link SQLMonitorService#getStatementDigestTopN(ServerRequest)}
+     * 查询语句摘要 Top-N 的接口。
+     */
+    @Test
+    public void getStatementDigestTopNTest()
+    {
+        for (int index = 0; index < INDICATOR_TESTS; ++index)
+        {
+            webTestClient
+                .get()
+                .uri(SQLMonitorEndPoints.ROOT + STATEMENT_DIGEST_QUERY)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value((json) ->
+                    System.out.println(getPrettyFormatJSON(json)));
+
+            Mono.delay(Duration.ofSeconds(3L)).block();
+        }
+    }
+
+    /**
+     * 测试 {@link SQLMonitorService#getLiveIndicators(ServerRequest)}
+     * 一次获取所有实时指标的接口（缺失和陈旧的指标分别列在 missing / stale 中）。
+     */
+    @Test
+    public void getLiveIndicatorsTest()
+    {
+        for (int index = 0; index < INDICATOR_TESTS; ++index)
+        {
+            webTestClient
+                .get()
+                .uri((uriBuilder) ->
+                    uriBuilder.path(SQLMonitorEndPoints.ROOT + LIVE_INDICATORS_QUERY)
+                        .queryParam("sizeUnit", "KB")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value((json) ->
+                    System.out.println(getPrettyFormatJSON(json)));
+
+            Mono.delay(Duration.ofSeconds(3L)).block();
+        }
+    }
+
+    /**
+     * 测试 {@link SQLMonitorService#getSamplingState(ServerRequest)}
+     * 查询后台采样器当前状态的接口。
+     */
+    @Test
+    public void getSamplingStateTest()
+    {
+        webTestClient
+            .get()
+            .uri(SQLMonitorEndPoints.ROOT + SAMPLING_STATE_QUERY)
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .value((json) ->
+                System.out.println(getPrettyFormatJSON(json)));
+    }
+
+    /**
+     * 测试 {@link SQLMonitorService#getIndicatorHistory(ServerRequest)}
+     * 查询本节点内存中指标历史数据的接口。
+     */
+    @Test
+    public void getIndicatorHistoryTest()
+    {
+        // 等后台采样器积累几条数据
+        Mono.delay(Duration.ofSeconds(5L)).block();
+
+        webTestClient
+            .get()
+            .uri((uriBuilder) ->
+                uriBuilder.path(SQLMonitorEndPoints.ROOT + INDICATOR_HISTORY_QUERY)
+                    .queryParam("indicator", "qps")
+                    .queryParam("minutes", "1")
+                    .build()
+            )
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .value((json) ->
+                System.out.println(getPrettyFormatJSON(json)));
+
+        webTestClient
+            .get()
+            .uri((uriBuilder) ->
+                uriBuilder.path(SQLMonitorEndPoints.ROOT + INDICATOR_HISTORY_QUERY)
+                    .queryParam("indicator", "unknown")
+                    .build()
+            )
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.BAD_REQUEST);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.jesse.sqlmonitor.monitor.cacher.impl.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.LocalIndicatorCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.local.RenderedResponseCache;
+import com.jesse.sqlmonitor.monitor.cacher.impl.metrics.IndicatorCacheMetrics;
+import com.jesse.sqlmonitor.monitor.cacher.impl.ttl.CacheTtlHolder;
+import com.jesse.sqlmonitor.monitor.cacher.impl.warm_up.CacherWarmUpEventPublisher;
+import com.jesse.sqlmonitor.properties.IndicatorSamplerProperties;
+import com.jesse.sqlmonitor.properties.R2dbcMasterProperties;
+import com.jesse.sqlmonitor.properties.RedisCacheProperties;
+import com.jesse.sqlmonitor.response_body.QPSResult;
+import com.jesse.sqlmonitor.response_body.base.ResponseBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.jesse.sqlmonitor.monitor.constants.IndicatorKeyNames.QPSResultKey;
+
+/**
+ * {@link IndicatorBroadcaster} 收到广播消息后的处理测试
+ *（直接调用包私有的 onMessage()，不需要 Redis）。
+ */
+public class IndicatorBroadcasterTest
+{
+    private final ObjectMapper objectMapper
+        = Jackson2ObjectMapperBuilder.json().build();
+
+    private final RedisCacheProperties redisCacheProperties = makeRedisCacheProperties();
+
+    private final CacheTtlHolder cacheTtlHolder = new CacheTtlHolder(this.redisCacheProperties);
+
+    private final LocalIndicatorCache localIndicatorCache
+        = new LocalIndicatorCache(this.redisCacheProperties, this.cacheTtlHolder, new SimpleMeterRegistry());
+
+    private final CacherWarmUpEventPublisher warmUpEventPublisher
+        = new CacherWarmUpEventPublisher((event) -> {}, new IndicatorCacheMetrics(new SimpleMeterRegistry()));
+
+    private final RenderedResponseCache renderedResponseCache
+        = new RenderedResponseCache(this.objectMapper, new IndicatorSamplerProperties(), this.cacheTtlHolder);
+
+    private final IndicatorBroadcaster broadcaster
+        = new IndicatorBroadcaster(
+            this.objectMapper, new R2dbcMasterProperties(), this.redisCacheProperties,
+            null, this.localIndicatorCache, this.warmUpEventPublisher, this.renderedResponseCache
+        );
+
+    private static RedisCacheProperties makeRedisCacheProperties()
+    {
+        final RedisCacheProperties properties = new RedisCacheProperties();
+
+        properties.setTtl(Duration.ofMinutes(1L));
+        properties.getBroadcast().setEnabled(true);
+
+        return properties;
+    }
+
+    private static QPSResult makeQPS(long currentQueries)
+    {
+        return
+        QPSResult.builder()
+            .qps(BigDecimal.valueOf(currentQueries))
+            .currentQueries(currentQueries)
+            .queryDiff(currentQueries)
+            .timeDiffMs(1000L)
+            .build();
+    }
+
+    private byte[]
+    makeMessage(String nodeId, long tickVersion, QPSResult qps) throws JsonProcessingException
+    {
+        final Map<String, ResponseBase<?>> indicators = Map.of(QPSResultKey.getKeyName(), qps);
+
+        return
+        this.objectMapper.writeValueAsBytes(new IndicatorBroadcast(nodeId, tickVersion, indicators));
+    }
+
+    private QPSResult cached() {
+        return this.localIndicatorCache.get(QPSResultKey, QPSResult.class);
+    }
+
+    /** 本节点自己发布的消息直接忽略。*/
+    @Test
+    public void ownMessageIgnoredTest() throws JsonProcessingException
+    {
+        this.broadcaster.onMessage(makeMessage(this.broadcaster.getNodeId(), 100L, makeQPS(1L))).block();
+
+        Assertions.assertNull(this.cached());
+        Assertions.assertFalse(this.warmUpEventPublisher.isWarmUp(QPSResultKey));
+        Assertions.assertNull(this.renderedResponseCache.respond(QPSResultKey).block());
+        Assertions.assertEquals(0L, this.broadcaster.getAppliedVersions().get(QPSResultKey.ordinal()));
+    }
+
+    /** 只接受不比已应用版本更旧的数据，乱序到达的旧版本被丢弃。*/
+    @Test
+    public void versionOrderingTest() throws JsonProcessingException
+    {
+        final QPSResult version200 = makeQPS(200L);
+
+        this.broadcaster.onMessage(makeMessage("remote-a", 200L, version200)).block();
+
+        Assertions.assertEquals(version200, this.cached());
+        Assertions.assertTrue(this.warmUpEventPublisher.isWarmUp(QPSResultKey));
+        Assertions.assertNotNull(this.renderedResponseCache.respond(QPSResultKey).block());
+        Assertions.assertEquals(200L, this.broadcaster.getAppliedVersions().get(QPSResultKey.ordinal()));
+
+        // 更旧的版本（乱序到达）
+        this.broadcaster.onMessage(makeMessage("remote-b", 100L, makeQPS(100L))).block();
+
+        Assertions.assertEquals(version200, this.cached());
+        Assertions.assertEquals(200L, this.broadcaster.getAppliedVersions().get(QPSResultKey.ordinal()));
+
+        // 相同版本（另一个节点在同一轮按需计算的结果）照常接受
+        final QPSResult sameVersion = makeQPS(201L);
+
+        this.broadcaster.onMessage(makeMessage("remote-b", 200L, sameVersion)).block();
+        Assertions.assertEquals(sameVersion, this.cached());
+
+        final QPSResult version300 = makeQPS(300L);
+
+        this.broadcaster.onMessage(makeMessage("remote-a", 300L, version300)).block();
+
+        Assertions.assertEquals(version300, this.cached());
+        Assertions.assertEquals(300L, this.broadcaster.getAppliedVersions().get(QPSResultKey.ordinal()));
+    }
+
+    /** 无法解析的消息只记录日志，不会让订阅出错中断。*/
+    @Test
+    public void malformedMessageIgnoredTest()
+    {
+        Assertions.assertDoesNotThrow(() ->
+            this.broadcaster.onMessage("not a broadcast".getBytes(StandardCharsets.UTF_8)).block());
+
+        Assertions.assertNull(this.cached());
+        Assertions.assertEquals(0L, this.broadcaster.getAppliedVersions().get(QPSResultKey.ordinal()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.jesse.sqlmonitor.monitor.history.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link PrimitiveRingSeries} 环绕覆盖与读取窗口测试
+ *（该类是包私有的，因此测试放在同名包下）。
+ */
+public class PrimitiveRingSeriesTest
+{
+    /** 追加时间戳为 [from, to) 的数据，值等于时间戳。*/
+    private static void
+    appendRange(PrimitiveRingSeries series, long from, long to)
+    {
+        for (long timestamp = from; timestamp < to; ++timestamp) {
+            series.append(timestamp, (double) timestamp);
+        }
+    }
+
+    private static void
+    assertWindow(PrimitiveRingSeries.Window window, long... expectedTimestamps)
+    {
+        Assertions.assertArrayEquals(expectedTimestamps, window.timestamps());
+
+        for (int index = 0; index < expectedTimestamps.length; ++index) {
+            Assertions.assertEquals((double) expectedTimestamps[index], window.values()[0][index]);
+        }
+    }
+
+    /** 还没有写满时按写入顺序返回所有数据，空序列返回空窗口。*/
+    @Test
+    public void beforeWraparoundTest()
+    {
+        final PrimitiveRingSeries series = new PrimitiveRingSeries(8, 1);
+
+        assertWindow(series.readSince(0L));
+
+        appendRange(series, 100L, 104L);
+
+        assertWindow(series.readSince(0L), 100L, 101L, 102L, 103L);
+        assertWindow(series.readSince(102L), 102L, 103L);
+        assertWindow(series.readSince(200L));
+    }
+
+    /** 写满之后旧数据被覆盖，最多只保留 capacity - 1 条（写者下一次要写的槽位不读）。*/
+    @Test
+    public void wraparoundKeepsNewestTest()
+    {
+        final PrimitiveRingSeries series = new PrimitiveRingSeries(4, 1);
+
+        appendRange(series, 0L, 10L);
+
+        assertWindow(series.readSince(0L), 7L, 8L, 9L);
+
+        // 恰好写满一圈的边界
+        final PrimitiveRingSeries exact = new PrimitiveRingSeries(4, 1);
+
+        appendRange(exact, 0L, 4L);
+
+        assertWindow(exact.readSince(0L), 1L, 2L, 3L);
+    }
+
+    /** 读取的窗口跨过了数组末尾（槽位从 capacity - 1 绕回 0），数据依然按时间升序。*/
+    @Test
+    public void windowAcrossOverwriteBoundaryTest()
+    {
+        final PrimitiveRingSeries series = new PrimitiveRingSeries(5, 1);
+
+        // 时间戳 5、6 分别写在槽位 0、1，覆盖了时间戳 0、1
+        appendRange(series, 0L, 7L);
+
+        assertWindow(series.readSince(3L), 3L, 4L, 5L, 6L);
+        assertWindow(series.readSince(4L), 4L, 5L, 6L);
+
+        // 起始时刻早于保留下来的最旧数据时，只返回还没有被覆盖的部分
+        assertWindow(series.readSince(0L), 3L, 4L, 5L, 6L);
+    }
+
+    /** 双通道数据在环绕之后依然与时间戳一一对应。*/
+    @Test
+    public void twoChannelsTest()
+    {
+        final PrimitiveRingSeries series = new PrimitiveRingSeries(3, 2);
+
+        for (long timestamp = 0L; timestamp < 5L; ++timestamp) {
+            series.append(timestamp, timestamp * 10.0, -timestamp);
+        }
+
+        final PrimitiveRingSeries.Window window = series.readSince(0L);
+
+        Assertions.assertEquals(2, series.channels());
+        Assertions.assertArrayEquals(new long[] { 3L, 4L }, window.timestamps());
+        Assertions.assertArrayEquals(new double[] { 30.0, 40.0 }, window.values()[0]);
+        Assertions.assertArrayEquals(new double[] { -3.0, -4.0 }, window.values()[1]);
+    }
+
+    /** 写者不断覆盖时，读者拿到的窗口中不会有被覆盖了一半的槽位（时间戳连续，值与时间戳一致）。*/
+    @Test
+    public void concurrentReadNeverTornTest() throws InterruptedException
+    {
+        final PrimitiveRingSeries series = new PrimitiveRingSeries(16, 2);
+
+        final AtomicBoolean           running = new AtomicBoolean(true);
+        final AtomicReference<String> failure = new AtomicReference<>();
+
+        final Thread writer = new Thread(() -> {
+            long timestamp = 0L;
+
+            while (running.get())
+            {
+                series.append(timestamp, timestamp, -timestamp);
+                ++timestamp;
+            }
+        });
+
+        writer.start();
+
+        try
+        {
+            for (int round = 0; round < 200_000 && failure.get() == null; ++round)
+            {
+                final PrimitiveRingSeries.Window window = series.readSince(0L);
+                final long[] timestamps = window.timestamps();
+
+                for (int index = 0; index < timestamps.length; ++index)
+                {
+                    if ((index > 0 && timestamps[index] != timestamps[index - 1] + 1L) ||
+                        window.values()[0][index] != timestamps[index] ||
+                        window.values()[1][index] != -timestamps[index])
+                    {
+                        failure.set("torn window at " + index + ": " + Arrays.toString(timestamps));
+                        break;
+                    }
+                }
+            }
+        }
+        finally
+        {
+            running.set(false);
+            writer.join();
+        }
+
+        Assertions.assertNull(failure.get());
+    }
+}
@@ -0,0 +1,190 @@
+package com.jesse.sqlmonitor.monitor.impl.counter_rate.impl;
+
+import com.jesse.sqlmonitor.monitor.constants.GlobalStatusName;
+import com.jesse.sqlmonitor.monitor.impl.status_snapshot.StatusSnapshotEngine;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusSnapshot;
+import com.jesse.sqlmonitor.monitor.snapshot.GlobalStatusValues;
+import com.jesse.sqlmonitor.properties.CounterRateProperties;
+import com.jesse.sqlmonitor.response_body.CounterRates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jesse.sqlmonitor.monitor.constants.GlobalStatusName.*;
+import static com.jesse.sqlmonitor.monitor.constants.MonitorConstants.IGNORE_SNAPSHOTS;
+
+/**
+ * {@link CounterRateEngineImpl} 速率计算测试
+ *（直接喂入构造好的快照，因此测试放在同名包下以便调用登记方法）。
+ */
+public class CounterRateEngineImplTest
+{
+    private static final Instant BASE_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
+    /** 登记的状态不需要真正查询，测试直接传入快照。*/
+    private static final StatusSnapshotEngine NO_OP_ENGINE = new StatusSnapshotEngine()
+    {
+        @Override
+        public void register(GlobalStatusName... statusNames) {}
+
+        @Override
+        public Mono<GlobalStatusSnapshot> currentSnapshot() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<GlobalStatusSnapshot> fetchSnapshot() {
+            return Mono.empty();
+        }
+    };
+
+    private static CounterRateEngineImpl
+    makeEngine(GlobalStatusName... counters)
+    {
+        final CounterRateProperties properties = new CounterRateProperties();
+        properties.setCounters(new ArrayList<>(List.of(counters)));
+
+        final CounterRateEngineImpl engine
+            = new CounterRateEngineImpl(NO_OP_ENGINE, properties);
+
+        engine.registerRequiredStatus();
+
+        return engine;
+    }
+
+    private static GlobalStatusSnapshot
+    snapshot(long offsetMillis, long uptime, long select, long insert)
+    {
+        final GlobalStatusValues values = new GlobalStatusValues();
+
+        values.putLong(UPTIME, uptime);
+        values.putLong(COM_SELECT, select);
+        values.putLong(COM_INSERT, insert);
+
+        return GlobalStatusSnapshot.of(BASE_TIME.plusMillis(offsetMillis), values);
+    }
+
+    private static CounterRates
+    feed(CounterRateEngineImpl engine, GlobalStatusSnapshot snapshot)
+    {
+        final CounterRates rates = engine.calculateRates(snapshot).block();
+
+        Assertions.assertNotNull(rates);
+
+        return rates;
+    }
+
+    /** 跳过开头的快照，让引擎进入正常计算的状态。*/
+    private static void
+    warmUp(CounterRateEngineImpl engine)
+    {
+        for (int index = 0; index < IGNORE_SNAPSHOTS; ++index)
+        {
+            Assertions.assertFalse(
+                feed(engine, snapshot(index * 1000L, 100L + index, 100L, 50L)).isValid()
+            );
+        }
+    }
+
+    private static void
+    assertRate(CounterRates.CounterRate rate, String perSecond, long current, long diff, boolean reset)
+    {
+        Assertions.assertEquals(0, new BigDecimal(perSecond).compareTo(rate.getPerSecond()));
+        Assertions.assertEquals(current, rate.getCurrent());
+        Assertions.assertEquals(diff, rate.getDiff());
+        Assertions.assertEquals(reset, rate.isResetDetected());
+    }
+
+    /** 非累计计数器在登记时被过滤掉。*/
+    @Test
+    public void nonCumulativeCountersIgnoredTest()
+    {
+        final CounterRateEngineImpl engine
+            = makeEngine(COM_SELECT, THREADS_RUNNING, COM_INSERT, COM_SELECT, UPTIME);
+
+        Assertions.assertEquals(List.of(COM_SELECT, COM_INSERT), engine.getCounters());
+
+        Assertions.assertTrue(BYTES_SENT.isCumulative());
+        Assertions.assertFalse(CURRENT_THREADS_CONNECTED.isCumulative());
+        Assertions.assertFalse(INNODB_ROW_LOCK_TIME_AVG.isCumulative());
+        Assertions.assertFalse(INNODB_STATUS.isCumulative());
+    }
+
+    /** 每个计数器分别与上一张快照做差，再除以时间差。*/
+    @Test
+    public void perCounterDiffTest()
+    {
+        final CounterRateEngineImpl engine = makeEngine(COM_SELECT, COM_INSERT);
+
+        warmUp(engine);
+
+        // 上一张快照：select = 100，insert = 50（时刻 1000 ms）
+        final CounterRates rates = feed(engine, snapshot(3000L, 110L, 500L, 60L));
+
+        Assertions.assertTrue(rates.isValid());
+        Assertions.assertFalse(rates.isResetDetected());
+        Assertions.assertEquals(2000L, rates.getTimeDiffMs());
+        Assertions.assertEquals(List.of("Com_select", "Com_insert"), List.copyOf(rates.getRates().keySet()));
+
+        assertRate(rates.getRates().get("Com_select"), "200", 500L, 400L, false);
+        assertRate(rates.getRates().get("Com_insert"), "5", 60L, 10L, false);
+    }
+
+    /** 单个计数器变小（FLUSH STATUS）时只把它标记为重置，其他计数器照常计算。*/
+    @Test
+    public void negativeDeltaResetsSingleCounterTest()
+    {
+        final CounterRateEngineImpl engine = makeEngine(COM_SELECT, COM_INSERT);
+
+        warmUp(engine);
+
+        final CounterRates rates = feed(engine, snapshot(2000L, 110L, 7L, 80L));
+
+        Assertions.assertFalse(rates.isResetDetected());
+
+        assertRate(rates.getRates().get("Com_select"), "0", 7L, 0L, true);
+        assertRate(rates.getRates().get("Com_insert"), "30", 80L, 30L, false);
+
+        // 下一轮从被重置后的值重新开始计算
+        final CounterRates next = feed(engine, snapshot(3000L, 111L, 17L, 80L));
+
+        assertRate(next.getRates().get("Com_select"), "10", 17L, 10L, false);
+        assertRate(next.getRates().get("Com_insert"), "0", 80L, 0L, false);
+    }
+
+    /** Uptime 变小说明服务器重启过，本轮不计算，下一轮以重启后的快照为基准。*/
+    @Test
+    public void uptimeWentBackwardsResetsAllTest()
+    {
+        final CounterRateEngineImpl engine = makeEngine(COM_SELECT, COM_INSERT);
+
+        warmUp(engine);
+
+        final CounterRates reset = feed(engine, snapshot(2000L, 3L, 5L, 1L));
+
+        Assertions.assertTrue(reset.isResetDetected());
+        Assertions.assertTrue(reset.getRates().isEmpty());
+
+        final CounterRates next = feed(engine, snapshot(3000L, 4L, 25L, 3L));
+
+        Assertions.assertFalse(next.isResetDetected());
+        assertRate(next.getRates().get("Com_select"), "20", 25L, 20L, false);
+        assertRate(next.getRates().get("Com_insert"), "2", 3L, 2L, false);
+    }
+
+    /** 与上一张快照的间隔太短时返回空结果。*/
+    @Test
+    public void tooCloseSnapshotsYieldZeroRatesTest()
+    {
+        final CounterRateEngineImpl engine = makeEngine(COM_SELECT, COM_INSERT);
+
+        warmUp(engine);
+
+        Assertions.assertFalse(feed(engine, snapshot(1100L, 101L, 200L, 60L)).isValid());
+    }
+}
@@ -0,0 +1,131 @@
+package com.jesse.sqlmonitor.monitor.impl.database_size.impl;
+
+import com.jesse.sqlmonitor.constants.QueryOrder;
+import com.jesse.sqlmonitor.properties.SchemaSizeCatalogProperties;
+import com.jesse.sqlmonitor.response_body.DatabaseSize;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link SchemaSizeCatalogImpl} 指纹比对、跳过与不存在的库的测试
+ *（数据库客户端传入 null，需要查询数据库时测试会直接失败，因此测试放在同名包下直接调用包私有方法）。
+ */
+public class SchemaSizeCatalogImplTest
+{
+    private final SchemaSizeCatalogImpl catalog
+        = new SchemaSizeCatalogImpl(null, null, new SchemaSizeCatalogProperties());
+
+    private static List<String>
+    schemaNames(List<Map.Entry<String, String>> fingerprints)
+    {
+        return
+        fingerprints.stream()
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .toList();
+    }
+
+    /** 第一轮所有库都需要统计，之后只统计指纹发生变化或者新出现的库。*/
+    @Test
+    public void onlyChangedFingerprintsRefreshedTest()
+    {
+        Assertions.assertEquals(
+            List.of("orders", "users"),
+            schemaNames(this.catalog.acceptFingerprints(Map.of("orders", "3|a|100", "users", "1|b|10")))
+        );
+
+        this.catalog.storeTables("orders", "3|a|100", List.of(Map.entry("order_item", 100L)));
+        this.catalog.storeTables("users", "1|b|10", List.of(Map.entry("user", 10L)));
+
+        // 指纹没有变化的库被跳过
+        Assertions.assertEquals(
+            List.of(),
+            this.catalog.acceptFingerprints(Map.of("orders", "3|a|100", "users", "1|b|10"))
+        );
+
+        // orders 有写入，新增了 logs 库
+        Assertions.assertEquals(
+            List.of("logs", "orders"),
+            schemaNames(this.catalog.acceptFingerprints(
+                Map.of("orders", "3|c|120", "users", "1|b|10", "logs", "1|d|5")))
+        );
+    }
+
+    /** 已经被删除的库从目录中移除。*/
+    @Test
+    public void droppedSchemaRemovedTest()
+    {
+        this.catalog.acceptFingerprints(Map.of("orders", "3|a|100", "users", "1|b|10"));
+        this.catalog.storeTables("orders", "3|a|100", List.of(Map.entry("order_item", 100L)));
+        this.catalog.storeTables("users", "1|b|10", List.of(Map.entry("user", 10L)));
+
+        this.catalog.acceptFingerprints(Map.of("users", "1|b|10"));
+
+        Assertions.assertTrue(this.catalog.lookup("orders", QueryOrder.DESC).isEmpty());
+        Assertions.assertTrue(this.catalog.lookup("users", QueryOrder.DESC).isPresent());
+    }
+
+    /** 按需统计时使用最近一轮的真实指纹，下一轮刷新不会因为指纹缺失而重复统计。*/
+    @Test
+    public void onDemandEntryKeepsFingerprintTest()
+    {
+        this.catalog.acceptFingerprints(Map.of("orders", "3|a|100"));
+
+        // 模拟 refreshSchema("orders") 按需统计的结果写入
+        this.catalog.storeTables("orders", "3|a|100", List.of(Map.entry("order_item", 100L)));
+
+        Assertions.assertEquals(
+            List.of(),
+            this.catalog.acceptFingerprints(Map.of("orders", "3|a|100"))
+        );
+    }
+
+    /** 最近一轮刷新中不存在的库，按需统计时直接返回，不查询数据库。*/
+    @Test
+    public void absentSchemaNotQueriedTest()
+    {
+        this.catalog.acceptFingerprints(Map.of("orders", "3|a|100"));
+
+        for (int index = 0; index < 3; ++index)
+        {
+            Assertions.assertDoesNotThrow(() ->
+                this.catalog.refreshSchema("no_such_schema").block());
+        }
+
+        Assertions.assertTrue(this.catalog.lookup("no_such_schema", QueryOrder.DESC).isEmpty());
+    }
+
+    /** 表按大小降序保存，库的大小为所有表之和，升序时倒序返回。*/
+    @Test
+    public void lookupOrderTest()
+    {
+        this.catalog.storeTables(
+            "orders", "3|a|100",
+            List.of(
+                Map.entry("small", 1024L),
+                Map.entry("large", 3L * 1024L * 1024L),
+                Map.entry("medium", 1024L * 1024L)
+            )
+        );
+
+        final Optional<DatabaseSize> descending = this.catalog.lookup("orders", QueryOrder.DESC);
+        final Optional<DatabaseSize> ascending  = this.catalog.lookup("orders", QueryOrder.ASC);
+
+        Assertions.assertTrue(descending.isPresent());
+        Assertions.assertTrue(ascending.isPresent());
+
+        Assertions.assertEquals(
+            List.of("large", "medium", "small"),
+            List.copyOf(descending.get().getTableSizes().keySet())
+        );
+        Assertions.assertEquals(
+            List.of("small", "medium", "large"),
+            List.copyOf(ascending.get().getTableSizes().keySet())
+        );
+        Assertions.assertEquals(4L * 1024L * 1024L + 1024L, descending.get().getSizeBytes());
+    }
+}
@@ -0,0 +1,163 @@
+package com.jesse.sqlmonitor.monitor.impl.statement_digest.impl;
+
+import com.jesse.sqlmonitor.properties.StatementDigestProperties;
+import com.jesse.sqlmonitor.response_body.StatementDigestTopN;
+import com.jesse.sqlmonitor.response_body.StatementDigestTopN.DigestDelta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link StatementDigestCounterImpl} 差值计算与 Top-N 测试
+ *（直接喂入构造好的摘要行，因此测试放在同名包下调用包私有的 diffAndRank()）。
+ */
+public class StatementDigestCounterImplTest
+{
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    /** 1 ms = 10^9 ps */
+    private static final long PICOS_PER_MILLI = 1_000_000_000L;
+
+    private final StatementDigestProperties properties = new StatementDigestProperties();
+
+    private final StatementDigestCounterImpl counter
+        = new StatementDigestCounterImpl(null, this.properties, null);
+
+    private static StatementDigestCounterImpl.DigestRow
+    row(String digest, long countStar, long sumTimerWaitMs, long sumRowsExamined, int lastSeenSeconds)
+    {
+        return new
+        StatementDigestCounterImpl.DigestRow(
+            "orders", digest, "SELECT ... /* " + digest + " */",
+            countStar, sumTimerWaitMs * PICOS_PER_MILLI, sumRowsExamined,
+            BASE_TIME.plusSeconds(lastSeenSeconds)
+        );
+    }
+
+    private static List<String> digests(List<DigestDelta> deltas) {
+        return deltas.stream().map(DigestDelta::getDigest).toList();
+    }
+
+    /** 第一次读取只建立基线，即使有数据也不产生结果。*/
+    @Test
+    public void firstRoundIsBaselineTest()
+    {
+        final StatementDigestTopN baseline
+            = this.counter.diffAndRank(List.of(row("a", 10L, 100L, 1000L, 1)), 1_000L);
+
+        Assertions.assertEquals(StatementDigestTopN.buildEmpty(), baseline);
+        Assertions.assertFalse(baseline.isValid());
+
+        final StatementDigestTopN next
+            = this.counter.diffAndRank(List.of(row("a", 15L, 150L, 1500L, 2)), 11_000L);
+
+        Assertions.assertTrue(next.isValid());
+        Assertions.assertEquals(10_000L, next.getIntervalMs());
+        Assertions.assertEquals(1, next.getChangedDigests());
+
+        final DigestDelta delta = next.getTopByExecutions().getFirst();
+
+        Assertions.assertEquals(5L, delta.getExecutions());
+        Assertions.assertEquals(50.0, delta.getLatencyMs());
+        Assertions.assertEquals(10.0, delta.getAvgLatencyMs());
+        Assertions.assertEquals(500L, delta.getRowsExamined());
+    }
+
+    /** 计数没有变化的摘要（LAST_SEEN 相同而被重新读到）不出现在结果中。*/
+    @Test
+    public void unchangedDigestsExcludedTest()
+    {
+        this.counter.diffAndRank(
+            List.of(row("a", 10L, 100L, 1000L, 1), row("b", 20L, 200L, 2000L, 1)), 1_000L);
+
+        final StatementDigestTopN result
+            = this.counter.diffAndRank(
+                List.of(row("a", 10L, 100L, 1000L, 1), row("b", 21L, 230L, 2100L, 2)), 2_000L);
+
+        Assertions.assertEquals(1, result.getChangedDigests());
+        Assertions.assertEquals(2, result.getTrackedDigests());
+        Assertions.assertEquals(List.of("b"), digests(result.getTopByLatency()));
+        Assertions.assertEquals(List.of("b"), digests(result.getTopByRowsExamined()));
+        Assertions.assertEquals(List.of("b"), digests(result.getTopByExecutions()));
+
+        // 只有未变化的摘要时结果无效，不需要缓存
+        Assertions.assertFalse(
+            this.counter.diffAndRank(List.of(row("b", 21L, 230L, 2100L, 2)), 3_000L).isValid());
+    }
+
+    /** 计数变小（摘要表被 TRUNCATE 过）时，本次读到的值就是增量，不会出现负数。*/
+    @Test
+    public void counterResetTest()
+    {
+        this.counter.diffAndRank(List.of(row("a", 1000L, 5000L, 90_000L, 1)), 1_000L);
+
+        final StatementDigestTopN result
+            = this.counter.diffAndRank(List.of(row("a", 3L, 6L, 30L, 2)), 2_000L);
+
+        final DigestDelta delta = result.getTopByExecutions().getFirst();
+
+        Assertions.assertEquals(3L, delta.getExecutions());
+        Assertions.assertEquals(6.0, delta.getLatencyMs());
+        Assertions.assertEquals(30L, delta.getRowsExamined());
+
+        // 之后以重置后的值为基准继续做差
+        final DigestDelta after
+            = this.counter.diffAndRank(List.of(row("a", 5L, 10L, 50L, 3)), 3_000L)
+                  .getTopByExecutions().getFirst();
+
+        Assertions.assertEquals(2L, after.getExecutions());
+        Assertions.assertEquals(4.0, after.getLatencyMs());
+        Assertions.assertEquals(20L, after.getRowsExamined());
+    }
+
+    /** 已经不在摘要表中的摘要被清理，之后重新出现时按新摘要计算。*/
+    @Test
+    public void vanishedDigestsPrunedTest()
+    {
+        this.counter.diffAndRank(
+            List.of(row("a", 10L, 100L, 1000L, 1), row("b", 20L, 200L, 2000L, 1)), 1_000L);
+
+        this.counter.pruneTrackedDigests(Set.of(row("b", 0L, 0L, 0L, 0).key()));
+
+        final StatementDigestTopN result
+            = this.counter.diffAndRank(List.of(row("b", 22L, 220L, 2200L, 2)), 2_000L);
+
+        Assertions.assertEquals(1, result.getTrackedDigests());
+        Assertions.assertEquals(2L, result.getTopByExecutions().getFirst().getExecutions());
+
+        // 被清理的摘要重新出现时（摘要表从 0 开始重新计数），读到的计数全部算作增量
+        final StatementDigestTopN reappeared
+            = this.counter.diffAndRank(List.of(row("a", 4L, 40L, 400L, 3)), 3_000L);
+
+        Assertions.assertEquals(2, reappeared.getTrackedDigests());
+        Assertions.assertEquals(4L, reappeared.getTopByExecutions().getFirst().getExecutions());
+    }
+
+    /** 每个维度只保留增量最大的 topN 条，降序排列。*/
+    @Test
+    public void topNOrderingTest()
+    {
+        this.properties.setTopN(2);
+
+        this.counter.diffAndRank(
+            List.of(row("a", 0L, 0L, 0L, 1), row("b", 0L, 0L, 0L, 1), row("c", 0L, 0L, 0L, 1)), 1_000L);
+
+        final StatementDigestTopN result
+            = this.counter.diffAndRank(
+                List.of(
+                    row("a", 1L, 300L, 10L, 2),
+                    row("b", 3L, 200L, 30L, 2),
+                    row("c", 2L, 100L, 20L, 2)
+                ),
+                2_000L
+            );
+
+        Assertions.assertEquals(3, result.getChangedDigests());
+        Assertions.assertEquals(List.of("a", "b"), digests(result.getTopByLatency()));
+        Assertions.assertEquals(List.of("b", "c"), digests(result.getTopByRowsExamined()));
+        Assertions.assertEquals(List.of("b", "c"), digests(result.getTopByExecutions()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.jesse.sqlmonitor.monitor.sampler.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link AdaptiveIntervalController} 测试
+ *（该类为包私有，因此测试放在同名包下）。
+ */
+public class AdaptiveIntervalControllerTest
+{
+    private static AdaptiveIntervalController
+    makeController(long initialIntervalMillis)
+    {
+        return new
+        AdaptiveIntervalController(
+            initialIntervalMillis, 1000L, 4000L, 0.2, 3
+        );
+    }
+
+    /** 初始间隔被限定在 [min, max] 之间。*/
+    @Test
+    public void initialIntervalClampTest()
+    {
+        Assertions.assertEquals(1000L, makeController(100L).getIntervalMillis());
+        Assertions.assertEquals(4000L, makeController(60_000L).getIntervalMillis());
+        Assertions.assertEquals(2000L, makeController(2000L).getIntervalMillis());
+    }
+
+    /** 波动超过阈值时间隔减半，但不会低于下限。*/
+    @Test
+    public void spikeHalvesIntervalTest()
+    {
+        final AdaptiveIntervalController controller = makeController(4000L);
+
+        // 第一轮没有可比较的数据
+        Assertions.assertFalse(controller.onSample(100.0, 100.0));
+
+        Assertions.assertTrue(controller.onSample(200.0, 100.0));
+        Assertions.assertEquals(2000L, controller.getIntervalMillis());
+        Assertions.assertEquals(1.0, controller.getVolatility(), 1E-9);
+
+        Assertions.assertTrue(controller.onSample(400.0, 100.0));
+        Assertions.assertEquals(1000L, controller.getIntervalMillis());
+
+        Assertions.assertFalse(controller.onSample(800.0, 100.0));
+        Assertions.assertEquals(1000L, controller.getIntervalMillis());
+    }
+
+    /** 连续 stableRounds 轮平稳后间隔翻倍，但不会超过上限。*/
+    @Test
+    public void stableRoundsDoubleIntervalTest()
+    {
+        final AdaptiveIntervalController controller = makeController(1000L);
+
+        controller.onSample(100.0, 100.0);
+
+        Assertions.assertFalse(controller.onSample(101.0, 100.0));
+        Assertions.assertFalse(controller.onSample(100.0, 101.0));
+        Assertions.assertTrue(controller.onSample(100.0, 100.0));
+        Assertions.assertEquals(2000L, controller.getIntervalMillis());
+
+        for (int round = 0; round < 3; ++round) {
+            controller.onSample(100.0, 100.0);
+        }
+
+        Assertions.assertEquals(4000L, controller.getIntervalMillis());
+
+        for (int round = 0; round < 3; ++round) {
+            Assertions.assertFalse(controller.onSample(100.0, 100.0));
+        }
+
+        Assertions.assertEquals(4000L, controller.getIntervalMillis());
+    }
+
+    /** 波动介于阈值的一半与阈值之间时，平稳计数清零。*/
+    @Test
+    public void moderateChangeResetsStableRoundsTest()
+    {
+        final AdaptiveIntervalController controller = makeController(1000L);
+
+        controller.onSample(100.0, 100.0);
+        controller.onSample(100.0, 100.0);
+        controller.onSample(100.0, 100.0);
+
+        // 15% 的变化：既不收紧也不计入平稳轮数
+        Assertions.assertFalse(controller.onSample(115.0, 100.0));
+
+        Assertions.assertFalse(controller.onSample(115.0, 100.0));
+        Assertions.assertFalse(controller.onSample(115.0, 100.0));
+        Assertions.assertTrue(controller.onSample(115.0, 100.0));
+        Assertions.assertEquals(2000L, controller.getIntervalMillis());
+    }
+
+    /** 出现 NaN 时本轮不调整，并丢弃上一轮的数据，下一轮不会把跳变当作尖峰。*/
+    @Test
+    public void nanResetsPreviousSampleTest()
+    {
+        final AdaptiveIntervalController controller = makeController(2000L);
+
+        controller.onSample(100.0, 100.0);
+
+        Assertions.assertFalse(controller.onSample(Double.NaN, 100.0));
+        Assertions.assertFalse(controller.onSample(10_000.0, 100.0));
+        Assertions.assertEquals(2000L, controller.getIntervalMillis());
+
+        Assertions.assertFalse(controller.onSample(10_000.0, Double.NaN));
+        Assertions.assertFalse(controller.onSample(100.0, 100.0));
+        Assertions.assertEquals(2000L, controller.getIntervalMillis());
+
+        // 恢复后正常比较
+        Assertions.assertTrue(controller.onSample(1000.0, 100.0));
+        Assertions.assertEquals(1000L, controller.getIntervalMillis());
+    }
+}